@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -20,10 +21,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UndoHistoryStore;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUndoHistoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -45,6 +47,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected UndoHistoryStore undoHistoryStore;
 
     @Override
     public void init() throws Exception {
@@ -57,12 +60,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookStorageFormat(), userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
@@ -90,7 +94,11 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        undoHistoryStore = new JsonUndoHistoryStorage(
+                JsonUndoHistoryStorage.getHistoryFilePath(storage.getAddressBookFilePath()));
+        modelManager.setUndoHistoryStore(undoHistoryStore);
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -177,10 +185,37 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        // Every command has saved its changes once it completes, so the data is only flushed after they all have
+        logic.shutdown();
+        try {
+            undoHistoryStore.close();
+        } catch (IOException e) {
+            logger.warning("Failed to delete the undo history file " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flushAddressBook();
+            saveToConvertedDataFile();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Saves the latest data to the data file in the user prefs if it was changed while the app was running,
+     * so that changes made after converting the data to another format are not lost on the next launch.
+     */
+    private void saveToConvertedDataFile() throws IOException {
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        if (userPrefs.getAddressBookFilePath().equals(storage.getAddressBookFilePath())) {
+            return;
+        }
+        logger.info("Saving data to converted data file " + userPrefs.getAddressBookFilePath());
+        storage.convertAddressBook(model.getAddressBook(), userPrefs.getAddressBookStorageFormat(),
+                userPrefs.getAddressBookFilePath());
+    }
 }
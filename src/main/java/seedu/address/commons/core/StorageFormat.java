@@ -0,0 +1,58 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * Represents the file formats the address book data can be stored in.
+ */
+public enum StorageFormat {
+    JSON("json", ".json"),
+    BINARY("binary", ".bin");
+
+    private final String keyword;
+    private final String fileExtension;
+
+    StorageFormat(String keyword, String fileExtension) {
+        this.keyword = keyword;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format with the given keyword, ignoring case, or null if there is no such format.
+     */
+    public static StorageFormat fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (StorageFormat format : values()) {
+            if (format.keyword.equalsIgnoreCase(keyword.trim())) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by the extension of this format.
+     * The extension is appended if {@code filePath} does not end with the extension of any format.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        for (StorageFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                fileName = fileName.substring(0, fileName.length() - format.fileExtension.length());
+                break;
+            }
+        }
+        return filePath.resolveSibling(fileName + fileExtension);
+    }
+}
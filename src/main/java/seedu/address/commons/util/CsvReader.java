@@ -0,0 +1,142 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads comma-separated values one record at a time, following RFC 4180.
+ * <p>
+ * Fields may be enclosed in double quotes, in which case they can contain commas, line breaks and
+ * doubled double quotes ({@code ""}) standing for a single double quote. Records may end with
+ * {@code \n}, {@code \r\n} or {@code \r}. Only the current record is held in memory, so files of
+ * any size can be read.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field starting on line %1$d is not closed";
+
+    private static final int END_OF_STREAM = -1;
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+    private int pushedBack = END_OF_STREAM;
+    private boolean hasPushedBack = false;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the line on which the record last returned by {@link #readRecord()} starts, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The fields of the record, or null if there are no more records.
+     * @throws IOException if the underlying reader fails.
+     * @throws IllegalValueException if a quoted field is never closed.
+     */
+    public List<String> readRecord() throws IOException, IllegalValueException {
+        int c = read();
+        if (c == END_OF_STREAM) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_STREAM) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordLineNumber));
+                } else if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        isQuoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    appendQuoted(c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == END_OF_STREAM) {
+                endLine(c);
+                fields.add(field.toString());
+                return fields;
+            } else {
+                // Stray quotes inside unquoted fields are kept as they are
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void appendQuoted(int c) throws IOException {
+        if (c == '\n' || c == '\r') {
+            endLine(c);
+            field.append('\n');
+        } else {
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Consumes the rest of a line break that starts with {@code c}, which treats {@code \r\n} as a single break.
+     */
+    private void endLine(int c) throws IOException {
+        if (c == END_OF_STREAM) {
+            return;
+        }
+        lineNumber++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                unread(next);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (hasPushedBack) {
+            hasPushedBack = false;
+            return pushedBack;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+        hasPushedBack = true;
+    }
+}
@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +15,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +48,16 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jsonFile))) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile))) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -93,6 +105,57 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes a JSON file incrementally through a {@code JsonGenerator}, without building the whole document
+     * in memory. Objects can be written with {@link JsonGenerator#writeObject(Object)}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param filePath cannot be null
+     * @param writer   writes the content of the file to the given generator
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFileIncrementally(Path filePath, JsonFileWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            writer.writeTo(generator);
+        }
+    }
+
+    /**
+     * Reads a JSON file incrementally through a {@code JsonParser}, without loading the whole document
+     * in memory. Objects can be read with {@link JsonParser#readValueAs(Class)}.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @param filePath cannot be null
+     * @param reader   reads the content of the file from the given parser
+     * @throws DataLoadingException if the file is not valid JSON or its content is rejected by {@code reader}.
+     */
+    public static <T> Optional<T> readJsonFileIncrementally(Path filePath, JsonFileReader<T> reader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(reader.readFrom(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      *
@@ -114,6 +177,36 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON string, without any pretty printing.
+     * Suitable for line-oriented files where each line holds one JSON record.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes the content of a JSON file to a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface JsonFileWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads the content of a JSON file from a {@code JsonParser}.
+     *
+     * @param <T> The type of the object read from the file
+     */
+    @FunctionalInterface
+    public interface JsonFileReader<T> {
+        T readFrom(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
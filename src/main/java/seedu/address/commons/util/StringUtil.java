@@ -93,4 +93,60 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, the least number of single
+     * character insertions, deletions and substitutions that turn one into the other, if it is at most
+     * {@code limit}, or {@code limit + 1} otherwise. Only the cells of the distance table within {@code limit} of
+     * its diagonal are worked out, so the cost grows with {@code limit} rather than with the length of the strings.
+     * <br>examples:<pre>
+     *       getEditDistance("jonh", "john", 2) == 2
+     *       getEditDistance("jonathan", "jon", 2) == 3
+     *       </pre>
+     *
+     * @param limit cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int limit) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(limit >= 0, "Limit parameter cannot be negative");
+        if (Math.abs(first.length() - second.length()) > limit) {
+            return limit + 1;
+        }
+
+        // No distance is longer than the longer string, and a smaller band cannot overflow
+        int band = Math.min(limit, Math.max(first.length(), second.length()));
+        int outOfLimit = band + 1;
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, outOfLimit);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - band);
+            int to = Math.min(second.length(), i + band);
+            current[0] = Math.min(i, outOfLimit);
+            if (from > 1) {
+                current[from - 1] = outOfLimit;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = j <= i - 1 + band ? previous[j] + 1 : outOfLimit;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(outOfLimit, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = outOfLimit;
+            }
+            if (rowMinimum > band) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], limit + 1);
+    }
 }
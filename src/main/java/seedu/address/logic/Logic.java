@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,15 +10,19 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoHistoryFootprint;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.Project;
 
 /**
  * API of the Logic component
  */
 public interface Logic {
     /**
-     * Executes the command and returns the result.
+     * Executes the command and waits for the result, and for the lists returned by this {@code Logic} to show the
+     * changes made by the command.
      *
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
@@ -25,6 +31,28 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background thread, one command at a time in the order they are given, without
+     * waiting for it to complete. The result is completed after the lists returned by this {@code Logic} show the
+     * changes made by the command, on the thread those lists are updated on.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException}
+     *     or a {@code ParseException} if an error occurs during command execution or parsing.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops accepting commands, and waits for the commands already given to complete.
+     */
+    void shutdown();
+
+    /**
+     * Sets the handler that receives an error message when saving the data fails after the command that
+     * changed it has already completed. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -39,7 +67,21 @@ public interface Logic {
 
     ObservableList<Client> getFilteredClientList();
 
-    ObservableList<seedu.address.model.project.Project> getFilteredProjectList();
+    ObservableList<Project> getFilteredProjectList();
+
+    /**
+     * Returns an unmodifiable view of the filtered list of deadlines of {@code project}, which is updated together
+     * with the lists above. The list is empty if {@code project} is not in the filtered list of projects.
+     */
+    ObservableList<Deadline> getFilteredDeadlineList(Project project);
+
+    /**
+     * Returns the size of the undo history after the last command whose changes are shown in the lists returned by
+     * this {@code Logic}.
+     *
+     * @see seedu.address.model.Model#getUndoHistoryFootprint()
+     */
+    UndoHistoryFootprint getUndoHistoryFootprint();
 
     /**
      * Returns the user prefs' address book file path.
@@ -1,8 +1,20 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,10 +26,14 @@ import seedu.address.logic.commands.LockCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoHistoryFootprint;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.Project;
 import seedu.address.storage.Storage;
 
 /**
@@ -29,73 +45,269 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long UNSAVED_VERSION = -1;
+    private static final long SHUTDOWN_TIMEOUT_MINUTES = 5;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private volatile long savedAddressBookVersion;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
+    // Every command runs on this thread, so the model is only ever changed by one thread
+    private final ExecutorService commandWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor uiExecutor;
+    private final MirroredList<Developer> developerList;
+    private final MirroredList<Client> clientList;
+    private final MirroredList<Project> projectList;
+    private final MirroredDeadlines projectDeadlines;
+    // Taken on the command writer thread after each command, and only read once the command's changes are published
+    private volatile UndoHistoryFootprint undoHistoryFootprint;
+    private volatile Path addressBookFilePath;
+    // Changed by the UI at once, while the model's copy is only changed on the command writer thread
+    private volatile GuiSettings guiSettings;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which updates the lists it
+     * returns on the thread completing each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which updates the lists it
+     * returns and completes the results of {@link #executeAsync(String)} on {@code uiExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
+        requireNonNull(uiExecutor);
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.uiExecutor = uiExecutor;
+        addressBookParser = new AddressBookParser(storage);
+        savedAddressBookVersion = model.getAddressBookVersion();
+        storage.setSaveFailureHandler(this::handleDeferredSaveFailure);
         new LockCommand().execute(model);
+        developerList = new MirroredList<>(model.getFilteredDeveloperList());
+        clientList = new MirroredList<>(model.getFilteredClientList());
+        projectList = new MirroredList<>(model.getFilteredProjectList());
+        projectDeadlines = new MirroredDeadlines(model.getFilteredProjectList());
+        undoHistoryFootprint = model.getUndoHistoryFootprint();
+        addressBookFilePath = model.getAddressBookFilePath();
+        guiSettings = model.getGuiSettings();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is only returned once the changes made by the command are published on the UI executor, so this
+     * must not be called on a thread that runs the tasks given to the UI executor, or it would wait forever.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAsync(commandText).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException("Interrupted while waiting for the command to complete.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandWriter.execute(() -> {
+            try {
+                CommandResult commandResult = runCommand(commandText);
+                publish(() -> result.complete(commandResult));
+            } catch (Throwable t) {
+                // Any failure must complete the result, or the command box would wait for it forever
+                publish(() -> result.completeExceptionally(t));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Parses and executes {@code commandText}, and saves the address book if the command may have changed it.
+     * Must be called on the command writer thread.
+     */
+    private CommandResult runCommand(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (!command.isReadOnly()) {
+            saveAddressBookIfChanged();
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Takes the changes the last command made to each list and the size of the undo history after it, and applies
+     * them all in one task on the UI executor before running {@code then}. Must be called on the command writer
+     * thread.
+     */
+    private void publish(Runnable then) {
+        List<Runnable> updates = new ArrayList<>();
+        // Applied before the projects change, so that a project shown for the first time finds its deadlines
+        Runnable deadlinesUpdate = projectDeadlines.takeSnapshot();
+        if (deadlinesUpdate != null) {
+            updates.add(deadlinesUpdate);
+        }
+        for (MirroredList<?> list : List.of(developerList, clientList, projectList)) {
+            Runnable update = list.takeSnapshot();
+            if (update != null) {
+                updates.add(update);
+            }
+        }
+        UndoHistoryFootprint footprint = model.getUndoHistoryFootprint();
+        Path filePath = model.getAddressBookFilePath();
+        uiExecutor.execute(() -> {
+            updates.forEach(Runnable::run);
+            undoHistoryFootprint = footprint;
+            addressBookFilePath = filePath;
+            then.run();
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        commandWriter.shutdown();
+        try {
+            if (!commandWriter.awaitTermination(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                logger.severe("Commands still running after " + SHUTDOWN_TIMEOUT_MINUTES
+                        + " minutes were abandoned on shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for commands to complete on shutdown");
+        }
+    }
+
+    /**
+     * Saves the address book data if it has been modified since it was last saved.
+     *
+     * @throws CommandException if the data could not be saved.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long currentVersion = model.getAddressBookVersion();
+        if (currentVersion == savedAddressBookVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
+        // Recorded before saving, so that a deferred failure reported in the meantime is not overwritten
+        savedAddressBookVersion = currentVersion;
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedAddressBookVersion = UNSAVED_VERSION;
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Reports a save that failed after its command completed, and makes the next modifying command save again.
+     */
+    private void handleDeferredSaveFailure(IOException ioe) {
+        savedAddressBookVersion = UNSAVED_VERSION;
+        saveFailureHandler.accept(getSaveFailureMessage(ioe));
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits for the commands already given to complete, and returns a snapshot of the address book taken on the
+     * command writer thread, so the model is never read while a command changes it.
+     */
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return model.getAddressBook();
+        try {
+            return CompletableFuture.supplyAsync(() -> new AddressBookSnapshot(model.getAddressBook()), commandWriter)
+                    .join();
+        } catch (RejectedExecutionException e) {
+            // No command runs once shut down, so the model can be read here
+            return new AddressBookSnapshot(model.getAddressBook());
+        }
     }
 
     @Override
     public ObservableList<Developer> getFilteredDeveloperList() {
-        return model.getFilteredDeveloperList();
+        return developerList.getCopy();
     }
 
     @Override
     public ObservableList<Client> getFilteredClientList() {
-        return model.getFilteredClientList();
+        return clientList.getCopy();
     }
 
     @Override
-    public ObservableList<seedu.address.model.project.Project> getFilteredProjectList() {
-        return model.getFilteredProjectList();
+    public ObservableList<Project> getFilteredProjectList() {
+        return projectList.getCopy();
+    }
+
+    @Override
+    public ObservableList<Deadline> getFilteredDeadlineList(Project project) {
+        return projectDeadlines.getCopy(project);
     }
 
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return addressBookFilePath;
+    }
+
+    @Override
+    public UndoHistoryFootprint getUndoHistoryFootprint() {
+        return undoHistoryFootprint;
     }
 
     @Override
     public GuiSettings getGuiSettings() {
-        return model.getGuiSettings();
+        return guiSettings;
     }
 
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        requireNonNull(guiSettings);
+        this.guiSettings = guiSettings;
+        try {
+            commandWriter.execute(() -> model.setGuiSettings(guiSettings));
+        } catch (RejectedExecutionException e) {
+            // No command runs once shut down, so the model can be changed here
+            model.setGuiSettings(guiSettings);
+        }
     }
 }
@@ -73,6 +73,23 @@ public class Messages {
         }
     }
 
+    /**
+     * Returns the number of each type of item found by a search of every list.
+     */
+    public static String getMessageAllListedOverview(int developerCount, int clientCount, int projectCount,
+                                                     int deadlineCount) {
+        if (developerCount + clientCount + projectCount + deadlineCount == 0) {
+            return "There is nothing with matching information.";
+        }
+        return String.format("Found %s, %s, %s and %s with matching information.",
+                countOf(developerCount, "developer"), countOf(clientCount, "client"),
+                countOf(projectCount, "project"), countOf(deadlineCount, "deadline"));
+    }
+
+    private static String countOf(int count, String item) {
+        return count + " " + item + (count == 1 ? "" : "s");
+    }
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
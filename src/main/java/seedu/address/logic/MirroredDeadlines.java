@@ -0,0 +1,88 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.Project;
+
+/**
+ * A copy of the filtered deadlines of each project in an {@code ObservableList} of projects, which are filtered on
+ * one thread and read on another.
+ * <p>
+ * Commands change the filter of the deadlines of each project on the thread running them. The copies are only
+ * changed by replaying the deadlines taken after a command on the thread reading them, like {@link MirroredList},
+ * so the thread reading them never touches a list the commands change.
+ */
+class MirroredDeadlines {
+
+    private final ObservableList<Project> projects;
+    // The deadlines last taken for each project, only used on the thread running commands
+    private Map<Project, List<Deadline>> takenDeadlines = new IdentityHashMap<>();
+    // The copy of the deadlines of each project, only used on the thread reading them
+    private final Map<Project, ObservableList<Deadline>> copies = new IdentityHashMap<>();
+
+    /**
+     * Creates copies of the filtered deadlines of each project in {@code projects}, which are only updated by
+     * replaying the snapshots taken of them.
+     */
+    MirroredDeadlines(ObservableList<Project> projects) {
+        requireNonNull(projects);
+        this.projects = projects;
+        Runnable update = takeSnapshot();
+        if (update != null) {
+            update.run();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy of the filtered deadlines of {@code project}, which is empty if the
+     * project was not in the list when the last snapshot was replayed.
+     */
+    ObservableList<Deadline> getCopy(Project project) {
+        requireNonNull(project);
+        ObservableList<Deadline> copy = copies.get(project);
+        return copy == null
+                ? FXCollections.emptyObservableList()
+                : FXCollections.unmodifiableObservableList(copy);
+    }
+
+    /**
+     * Takes the filtered deadlines of every project in the list, and returns the task that replays those that
+     * changed since the last snapshot on the copies, or null if none did. Must be called on the thread running
+     * commands.
+     */
+    Runnable takeSnapshot() {
+        Map<Project, List<Deadline>> deadlines = new IdentityHashMap<>();
+        Map<Project, List<Deadline>> changedDeadlines = new IdentityHashMap<>();
+        for (Project project : projects) {
+            List<Deadline> filteredDeadlines = new ArrayList<>(project.getProjectFilteredDeadlines());
+            deadlines.put(project, filteredDeadlines);
+            if (!filteredDeadlines.equals(takenDeadlines.get(project))) {
+                changedDeadlines.put(project, filteredDeadlines);
+            }
+        }
+        boolean isProjectRemoved = !deadlines.keySet().containsAll(takenDeadlines.keySet());
+        takenDeadlines = deadlines;
+        if (changedDeadlines.isEmpty() && !isProjectRemoved) {
+            return null;
+        }
+
+        Set<Project> currentProjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentProjects.addAll(deadlines.keySet());
+        return () -> {
+            copies.keySet().retainAll(currentProjects);
+            changedDeadlines.forEach((project, filteredDeadlines) -> copies
+                    .computeIfAbsent(project, unused -> FXCollections.observableArrayList())
+                    .setAll(filteredDeadlines));
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is changed on one thread and read on another.
+ * <p>
+ * The source list is only changed on the thread running commands, where its changes are recorded as they happen.
+ * The copy is only changed by replaying the changes recorded during a command on the thread reading it, all in one
+ * change event, so a command that changes the source list many times changes the copy once, and the copy is never
+ * seen half way through a command.
+ */
+class MirroredList<T> {
+
+    private final ObservableList<T> source;
+    private final Copy<T> copy;
+    private final ObservableList<T> unmodifiableCopy;
+    private List<Consumer<ObservableList<T>>> pendingChanges = new ArrayList<>();
+    // The number of elements held by the pending changes, which are replaced by a copy of the source list once
+    // they hold more elements than it does
+    private int pendingElementCount = 0;
+
+    /**
+     * Creates a copy of {@code source} that is only updated by replaying the changes recorded on it.
+     */
+    MirroredList(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.copy = new Copy<>(source);
+        this.unmodifiableCopy = FXCollections.unmodifiableObservableList(copy);
+        source.addListener((ListChangeListener<T>) this::record);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy.
+     */
+    ObservableList<T> getCopy() {
+        return unmodifiableCopy;
+    }
+
+    /**
+     * Takes the changes made to the source list since they were last taken, and returns the task that replays them
+     * on the copy as a single change, or null if there were none. Must be called on the thread that changes the
+     * source list.
+     */
+    Runnable takeSnapshot() {
+        if (pendingChanges.isEmpty()) {
+            return null;
+        }
+        List<Consumer<ObservableList<T>>> changes = pendingChanges;
+        if (pendingElementCount > source.size()) {
+            List<T> snapshot = new ArrayList<>(source);
+            changes = List.of(list -> list.setAll(snapshot));
+        }
+        pendingChanges = new ArrayList<>();
+        pendingElementCount = 0;
+        List<Consumer<ObservableList<T>>> changesToReplay = changes;
+        return () -> copy.replay(changesToReplay);
+    }
+
+    /**
+     * Records each part of {@code change}, in order, as a change to replay on the copy. Every index in a part refers
+     * to the list after the parts before it were made, so replaying them in order makes the copy equal to the source.
+     */
+    private void record(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] newIndexes = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    newIndexes[i - from] = change.getPermutation(i) - from;
+                }
+                pendingChanges.add(list -> permute(list, from, newIndexes));
+            } else if (change.wasUpdated()) {
+                List<T> updated = new ArrayList<>(source.subList(from, to));
+                pendingElementCount += updated.size();
+                pendingChanges.add(list -> {
+                    for (int i = 0; i < updated.size(); i++) {
+                        list.set(from + i, updated.get(i));
+                    }
+                });
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                pendingElementCount += added.size();
+                pendingChanges.add(list -> {
+                    if (removedSize > 0) {
+                        list.remove(from, from + removedSize);
+                    }
+                    if (!added.isEmpty()) {
+                        list.addAll(from, added);
+                    }
+                });
+            }
+        }
+    }
+
+    private static <T> void permute(List<T> list, int from, int[] newIndexes) {
+        List<T> elements = new ArrayList<>(list.subList(from, from + newIndexes.length));
+        for (int i = 0; i < newIndexes.length; i++) {
+            list.set(from + newIndexes[i], elements.get(i));
+        }
+    }
+
+    /**
+     * The list the changes to the source list are replayed on.
+     */
+    private static class Copy<T> extends ModifiableObservableListBase<T> {
+        private final List<T> elements;
+
+        private Copy(List<T> source) {
+            elements = new ArrayList<>(source);
+        }
+
+        /**
+         * Replays {@code changes} in order, notifying listeners of all of them in one change event.
+         */
+        private void replay(List<Consumer<ObservableList<T>>> changes) {
+            beginChange();
+            try {
+                changes.forEach(change -> change.accept(this));
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public T get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        // Elements are added and removed a range at a time rather than one by one, so that replaying a change to
+        // many elements does not shift the rest of the list once per element
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> elementsToAdd) {
+            beginChange();
+            try {
+                elements.addAll(index, elementsToAdd);
+                nextAdd(index, index + elementsToAdd.size());
+            } finally {
+                endChange();
+            }
+            return !elementsToAdd.isEmpty();
+        }
+
+        @Override
+        public void remove(int from, int to) {
+            removeRange(from, to);
+        }
+
+        @Override
+        protected void removeRange(int from, int to) {
+            beginChange();
+            try {
+                List<T> range = elements.subList(from, to);
+                nextRemove(from, new ArrayList<>(range));
+                range.clear();
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        protected void doAdd(int index, T element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected T doSet(int index, T element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected T doRemove(int index) {
+            return elements.remove(index);
+        }
+    }
+}
@@ -40,4 +40,9 @@ public class ChangePasswordCommand extends Command {
         String result = Password.changePassword(currentPw, newPw);
         return new CommandResult(result, TabIndex.Developer);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never modifies the address book data.
+     * The data is not saved after a read-only command is executed.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookConverter;
+
+/**
+ * Converts the data file to another storage format.
+ * The converted file is used from the next time the app is started.
+ */
+public class ConvertDataCommand extends Command {
+    public static final String COMMAND_WORD = "convert-data";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts the data file to another format. "
+            + "The converted file is used from the next time the app is started.\n"
+            + "Parameters: FORMAT (json or binary)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+    public static final String MESSAGE_SUCCESS = "Data converted to %1$s format and saved to %2$s.\n"
+            + "Restart the app to start using it.";
+    public static final String MESSAGE_SAME_FORMAT = "Data is already stored in %1$s format.";
+    public static final String MESSAGE_CONVERSION_FAILED = "Could not convert data due to the following error: %1$s";
+
+    private final StorageFormat targetFormat;
+    private final AddressBookConverter converter;
+
+    /**
+     * Creates a ConvertDataCommand to convert the data file to {@code targetFormat} with {@code converter}.
+     */
+    public ConvertDataCommand(StorageFormat targetFormat, AddressBookConverter converter) {
+        requireNonNull(targetFormat);
+        requireNonNull(converter);
+        this.targetFormat = targetFormat;
+        this.converter = converter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        if (userPrefs.getAddressBookStorageFormat() == targetFormat) {
+            throw new CommandException(String.format(MESSAGE_SAME_FORMAT, targetFormat.getKeyword()));
+        }
+
+        Path targetFilePath = targetFormat.toFilePath(userPrefs.getAddressBookFilePath());
+        try {
+            converter.convertAddressBook(model.getAddressBook(), targetFormat, targetFilePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CONVERSION_FAILED, ioe.getMessage()), ioe);
+        }
+
+        userPrefs.setAddressBookStorageFormat(targetFormat);
+        userPrefs.setAddressBookFilePath(targetFilePath);
+        model.setUserPrefs(userPrefs);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targetFormat.getKeyword(), targetFilePath),
+                TabIndex.Developer);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ConvertDataCommand)) {
+            return false;
+        }
+
+        ConvertDataCommand otherConvertDataCommand = (ConvertDataCommand) other;
+        return targetFormat == otherConvertDataCommand.targetFormat
+                && converter == otherConvertDataCommand.converter;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetFormat", targetFormat)
+                .toString();
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.QueryCache;
+
+/**
+ * Reports how well the app is answering searches, such as how often they are answered from the query cache.
+ */
+public class DiagnosticsCommand extends Command {
+
+    public static final String COMMAND_WORD = "diagnostics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how often searches were answered from the "
+            + "results of an identical earlier search.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_QUERY_CACHE = "Query cache: %1$d hits and %2$d misses out of %3$d searches "
+            + "(%4$.1f%% hit rate), %5$d of %6$d entries in use.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryCache.Statistics statistics = model.getQueryCacheStatistics();
+        return new CommandResult(String.format(MESSAGE_QUERY_CACHE, statistics.getHitCount(),
+                statistics.getMissCount(), statistics.getHitCount() + statistics.getMissCount(),
+                statistics.getHitRate() * 100, statistics.getSize(), statistics.getCapacity()), TabIndex.Developer);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
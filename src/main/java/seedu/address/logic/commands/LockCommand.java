@@ -27,4 +27,9 @@ public class LockCommand extends Command {
         AddressBookParser.lock();
         return new CommandResult(MESSAGE_SUCCESS, TabIndex.Developer);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
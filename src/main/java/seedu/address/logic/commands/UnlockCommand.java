@@ -51,4 +51,9 @@ public class UnlockCommand extends Command {
         }
         return new CommandResult(String.format(MESSAGE_FAILURE, Password.MESSAGE_CONSTRAINTS), TabIndex.Developer);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands.find;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.getMessageAllListedOverview;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TabIndex;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.Project;
+
+/**
+ * Finds the developers, clients, projects and deadlines matching the same keywords in one search, and filters every
+ * list to show them.
+ */
+public class FindAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds developers, clients, projects and deadlines "
+            + "with any field containing any of the keywords.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alex google";
+
+    private final Predicate<Developer> developerPredicate;
+    private final Predicate<Client> clientPredicate;
+    private final Predicate<Project> projectPredicate;
+    private final Predicate<Deadline> deadlinePredicate;
+
+    /**
+     * Creates a FindAllCommand that filters each list with its predicate.
+     */
+    public FindAllCommand(Predicate<Developer> developerPredicate, Predicate<Client> clientPredicate,
+                          Predicate<Project> projectPredicate, Predicate<Deadline> deadlinePredicate) {
+        requireAllNonNull(developerPredicate, clientPredicate, projectPredicate, deadlinePredicate);
+        this.developerPredicate = developerPredicate;
+        this.clientPredicate = clientPredicate;
+        this.projectPredicate = projectPredicate;
+        this.deadlinePredicate = deadlinePredicate;
+    }
+
+    /**
+     * Executes the search of every list, and shows the first tab with any results.
+     *
+     * @param model The model to execute the command on.
+     * @return A CommandResult with the number of each type of item found.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredLists(developerPredicate, clientPredicate, projectPredicate, deadlinePredicate);
+
+        int developerCount = model.getFilteredDeveloperList().size();
+        int clientCount = model.getFilteredClientList().size();
+        int projectCount = model.getFilteredProjectList().size();
+        int deadlineCount = model.getFilteredProjectList().stream()
+                .mapToInt(project -> project.getProjectFilteredDeadlines().size()).sum();
+        String message = getMessageAllListedOverview(developerCount, clientCount, projectCount, deadlineCount);
+
+        TabIndex tab = TabIndex.Developer;
+        if (developerCount == 0 && clientCount > 0) {
+            tab = TabIndex.Client;
+        } else if (developerCount == 0 && clientCount == 0 && projectCount > 0) {
+            tab = TabIndex.Project;
+        }
+        return new CommandResult(message, tab);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FindAllCommand)) {
+            return false;
+        }
+
+        FindAllCommand otherFindAllCommand = (FindAllCommand) other;
+        return developerPredicate.equals(otherFindAllCommand.developerPredicate)
+                && clientPredicate.equals(otherFindAllCommand.clientPredicate)
+                && projectPredicate.equals(otherFindAllCommand.projectPredicate)
+                && deadlinePredicate.equals(otherFindAllCommand.deadlinePredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("developerPredicate", developerPredicate)
+                .add("clientPredicate", clientPredicate)
+                .add("projectPredicate", projectPredicate)
+                .add("deadlinePredicate", deadlinePredicate)
+                .toString();
+    }
+}
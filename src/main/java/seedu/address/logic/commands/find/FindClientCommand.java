@@ -5,12 +5,18 @@ import static seedu.address.logic.Messages.getMessageClientsListedOverview;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCUMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -19,6 +25,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.TabIndex;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
+import seedu.address.model.person.QueryResult;
+import seedu.address.model.person.RelevanceRanker;
 
 /**
  * Represents a command to find clients based on various attributes.
@@ -35,10 +43,26 @@ public class FindClientCommand extends Command {
             + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
             + "[" + PREFIX_PROJECT + "PROJECT_KEYWORDS] "
             + "[" + PREFIX_DOCUMENT + "DOCUMENT_KEYWORDS] "
-            + "[" + PREFIX_ORGANISATION + "ORGANISATION_KEYWORDS]\n"
-            + "Example: " + COMMAND_WORD + " n/John r/client\n";
+            + "[" + PREFIX_ORGANISATION + "ORGANISATION_KEYWORDS] "
+            + "[" + PREFIX_QUERY + "QUERY] "
+            + "[" + PREFIX_EXPLAIN + "] "
+            + "[" + PREFIX_RANK + "[COUNT]] "
+            + "[" + PREFIX_FUZZY + "[MISTAKES]] "
+            + "[" + PREFIX_SOUNDS_LIKE + "]\n"
+            + "QUERY combines field:value and field:\"phrase\" terms with AND, OR, NOT and parentheses.\n"
+            + "Add " + PREFIX_EXPLAIN + " to also show how the search was run and how long it took.\n"
+            + "Add " + PREFIX_RANK + " to list the best matches first, keeping only the first COUNT if given.\n"
+            + "Add " + PREFIX_FUZZY + " to also match names with up to MISTAKES (default 1) misspelt letters.\n"
+            + "Add " + PREFIX_SOUNDS_LIKE + " to also match names that sound like the names given.\n"
+            + "Example: " + COMMAND_WORD + " n/John r/client\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_QUERY + "o:google OR o:\"jane street\"\n";
+
+    public static final String MESSAGE_RANKED = "Results are ranked by relevance, best match first.";
+    public static final String MESSAGE_NOT_PLANNED = "This search was run without a query plan.";
 
     private Predicate<Client> predicate;
+    private final boolean isExplaining;
+    private final OptionalInt rankLimit;
 
     /**
      * Creates a FindClientCommand with the specified predicate.
@@ -46,7 +70,26 @@ public class FindClientCommand extends Command {
      * @param predicate The predicate used to filter the list of clients.
      */
     public FindClientCommand(Predicate<Client> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindClientCommand with the specified predicate, which also describes the plan used to run the
+     * search if {@code isExplaining} is true.
+     */
+    public FindClientCommand(Predicate<Client> predicate, boolean isExplaining) {
+        this(predicate, isExplaining, OptionalInt.empty());
+    }
+
+    /**
+     * Creates a FindClientCommand with the specified predicate, which also describes the plan used to run the
+     * search if {@code isExplaining} is true, and ranks the clients found by relevance, keeping the first
+     * {@code rankLimit}, if {@code rankLimit} is present.
+     */
+    public FindClientCommand(Predicate<Client> predicate, boolean isExplaining, OptionalInt rankLimit) {
         this.predicate = predicate;
+        this.isExplaining = isExplaining;
+        this.rankLimit = rankLimit;
     }
 
     /**
@@ -59,13 +102,31 @@ public class FindClientCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredClientList(predicate);
+        // Ranking replaces the filter, so the plan that found the clients is described first
+        String explanation = isExplaining
+                ? model.getClientQueryResult().map(QueryResult::explain).orElse(MESSAGE_NOT_PLANNED)
+                : "";
+        if (rankLimit.isPresent()) {
+            model.rankFilteredClientList(RelevanceRanker.keywordsOf(predicate), rankLimit.getAsInt());
+        }
 
         int resultCount = model.getFilteredClientList().size();
         String message = getMessageClientsListedOverview(resultCount);
+        if (rankLimit.isPresent()) {
+            message += "\n" + MESSAGE_RANKED;
+        }
+        if (isExplaining) {
+            message += "\n" + explanation;
+        }
 
         return new CommandResult(message, TabIndex.Client);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * Checks if this FindClientCommand is equal to another object.
      *
@@ -83,7 +144,9 @@ public class FindClientCommand extends Command {
         }
 
         FindClientCommand otherFindClientCommand = (FindClientCommand) other;
-        return predicate.equals(otherFindClientCommand.predicate);
+        return predicate.equals(otherFindClientCommand.predicate)
+                && isExplaining == otherFindClientCommand.isExplaining
+                && rankLimit.equals(otherFindClientCommand.rankLimit);
     }
 
     /**
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.getMessageDeadlinesListedOverview;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATEJOINED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 
 import java.util.function.Predicate;
 
@@ -25,7 +26,9 @@ public class FindDeadlineCommand extends Command {
             + "Parameters: "
             + PREFIX_DATEJOINED + "DATE (Shows deadlines before this date) \n"
             + "[" + PREFIX_PRIORITY + "[HIGH/MEDIUM/LOW] (Shows deadlines based on priority)\n"
-            + "Example: " + COMMAND_WORD + " d/28-12-2021 pri/HIGH\n";
+            + "[" + PREFIX_QUERY + "QUERY] (Combines d:DATE and pri:PRIORITY terms with AND, OR, NOT and parentheses)\n"
+            + "Example: " + COMMAND_WORD + " d/28-12-2021 pri/HIGH\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_QUERY + "pri:HIGH OR pri:MEDIUM\n";
 
     private final Predicate<Deadline> predicate;
 
@@ -59,6 +62,11 @@ public class FindDeadlineCommand extends Command {
         return new CommandResult(message, TabIndex.Project);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * Checks if this FindDeadlineCommand is equal to another object.
      *
@@ -5,14 +5,20 @@ import static seedu.address.logic.Messages.getMessageDevelopersListedOverview;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATEJOINED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUBID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -21,6 +27,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.TabIndex;
 import seedu.address.model.Model;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.person.QueryResult;
+import seedu.address.model.person.RelevanceRanker;
 
 /**
  * Represents a command to find developers in the address book based on various attributes.
@@ -41,10 +49,28 @@ public class FindDeveloperCommand extends Command {
             + "[" + PREFIX_PROJECT + "PROJECT_KEYWORDS] "
             + "[" + PREFIX_SALARY + "SALARY_KEYWORDS] "
             + "[" + PREFIX_RATING + "RATING_KEYWORDS] "
-            + "[" + PREFIX_GITHUBID + "GITHUBID_KEYWORDS]\n"
-            + "Example: " + COMMAND_WORD + " n/John r/developer\n";
+            + "[" + PREFIX_GITHUBID + "GITHUBID_KEYWORDS] "
+            + "[" + PREFIX_QUERY + "QUERY] "
+            + "[" + PREFIX_EXPLAIN + "] "
+            + "[" + PREFIX_RANK + "[COUNT]] "
+            + "[" + PREFIX_FUZZY + "[MISTAKES]] "
+            + "[" + PREFIX_SOUNDS_LIKE + "]\n"
+            + "Date joined, salary and rating also accept a range MIN..MAX, where either end can be left out.\n"
+            + "QUERY combines field:value and field:\"phrase\" terms with AND, OR, NOT and parentheses.\n"
+            + "Add " + PREFIX_EXPLAIN + " to also show how the search was run and how long it took.\n"
+            + "Add " + PREFIX_RANK + " to list the best matches first, keeping only the first COUNT if given.\n"
+            + "Add " + PREFIX_FUZZY + " to also match names with up to MISTAKES (default 1) misspelt letters.\n"
+            + "Add " + PREFIX_SOUNDS_LIKE + " to also match names that sound like the names given.\n"
+            + "Example: " + COMMAND_WORD + " n/John r/developer\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SALARY + "5000..8000 " + PREFIX_DATEJOINED + "01-01-2022..\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_QUERY + "(r:developer OR r:manager) NOT a:\"jurong west\"\n";
+
+    public static final String MESSAGE_RANKED = "Results are ranked by relevance, best match first.";
+    public static final String MESSAGE_NOT_PLANNED = "This search was run without a query plan.";
 
     private Predicate<Developer> predicate;
+    private final boolean isExplaining;
+    private final OptionalInt rankLimit;
 
     /**
      * Creates a FindDeveloperCommand with the specified predicate for filtering developers.
@@ -52,7 +78,26 @@ public class FindDeveloperCommand extends Command {
      * @param predicate The predicate used to filter developers based on attributes.
      */
     public FindDeveloperCommand(Predicate<Developer> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindDeveloperCommand with the specified predicate, which also describes the plan used to run the
+     * search if {@code isExplaining} is true.
+     */
+    public FindDeveloperCommand(Predicate<Developer> predicate, boolean isExplaining) {
+        this(predicate, isExplaining, OptionalInt.empty());
+    }
+
+    /**
+     * Creates a FindDeveloperCommand with the specified predicate, which also describes the plan used to run the
+     * search if {@code isExplaining} is true, and ranks the developers found by relevance, keeping the first
+     * {@code rankLimit}, if {@code rankLimit} is present.
+     */
+    public FindDeveloperCommand(Predicate<Developer> predicate, boolean isExplaining, OptionalInt rankLimit) {
         this.predicate = predicate;
+        this.isExplaining = isExplaining;
+        this.rankLimit = rankLimit;
     }
 
     /**
@@ -65,13 +110,31 @@ public class FindDeveloperCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredDeveloperList(predicate);
+        // Ranking replaces the filter, so the plan that found the developers is described first
+        String explanation = isExplaining
+                ? model.getDeveloperQueryResult().map(QueryResult::explain).orElse(MESSAGE_NOT_PLANNED)
+                : "";
+        if (rankLimit.isPresent()) {
+            model.rankFilteredDeveloperList(RelevanceRanker.keywordsOf(predicate), rankLimit.getAsInt());
+        }
 
         int resultCount = model.getFilteredDeveloperList().size();
         String message = getMessageDevelopersListedOverview(resultCount);
+        if (rankLimit.isPresent()) {
+            message += "\n" + MESSAGE_RANKED;
+        }
+        if (isExplaining) {
+            message += "\n" + explanation;
+        }
 
         return new CommandResult(message, TabIndex.Developer);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * Checks if this FindDeveloperCommand is equal to another object.
      *
@@ -89,7 +152,9 @@ public class FindDeveloperCommand extends Command {
         }
 
         FindDeveloperCommand otherFindDeveloperCommand = (FindDeveloperCommand) other;
-        return predicate.equals(otherFindDeveloperCommand.predicate);
+        return predicate.equals(otherFindDeveloperCommand.predicate)
+                && isExplaining == otherFindDeveloperCommand.isExplaining
+                && rankLimit.equals(otherFindDeveloperCommand.rankLimit);
     }
 
     /**
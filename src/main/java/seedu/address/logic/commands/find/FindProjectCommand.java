@@ -5,6 +5,7 @@ import static seedu.address.logic.Messages.getMessageProjectsListedOverview;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 
 import java.util.function.Predicate;
 
@@ -27,8 +28,11 @@ public class FindProjectCommand extends Command {
             + "Parameters: "
             + "[" + PREFIX_PROJECT + "PROJECT_NAME_KEYWORDS] "
             + "[" + PREFIX_DESCRIPTION + "DESCRIPTION_KEYWORDS] "
-            + "[" + PREFIX_DEADLINE + "DEADLINE_KEYWORDS]\n"
-            + "Example: " + COMMAND_WORD + " pr/MyProject\n";
+            + "[" + PREFIX_DEADLINE + "DEADLINE_KEYWORDS] "
+            + "[" + PREFIX_QUERY + "QUERY]\n"
+            + "QUERY combines field:value and field:\"phrase\" terms with AND, OR, NOT and parentheses.\n"
+            + "Example: " + COMMAND_WORD + " pr/MyProject\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_QUERY + "dr:\"mobile app\" NOT pr:prototype\n";
 
     private Predicate<Project> predicate;
 
@@ -47,6 +51,11 @@ public class FindProjectCommand extends Command {
         return new CommandResult(message, TabIndex.Project);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands.find;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TabIndex;
+import seedu.address.model.Model;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineQuery;
+
+/**
+ * Lists the deadlines that are not done and are due within a number of days from today, soonest first.
+ */
+public class UpcomingCommand extends Command {
+    public static final String COMMAND_WORD = "upcoming";
+
+    public static final int DEFAULT_DAYS = 7;
+    public static final int MAX_LISTED = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the deadlines that are not done and are due "
+            + "from today to the given number of days from today, soonest first.\n"
+            + "Parameters: [DAYS] (" + DEFAULT_DAYS + " if not given) "
+            + "[" + PREFIX_PRIORITY + "[HIGH/MEDIUM/LOW]]\n"
+            + "Example: " + COMMAND_WORD + " 14 " + PREFIX_PRIORITY + "HIGH";
+
+    public static final String MESSAGE_INVALID_DAYS = "The number of days is not a non-zero unsigned integer.";
+    public static final String MESSAGE_NO_UPCOMING = "There are no deadlines due in the next %1$d days.";
+    public static final String MESSAGE_UPCOMING = "%1$d deadline(s) due in the next %2$d days:";
+    public static final String MESSAGE_MORE = "...and %1$d more.";
+
+    private final int days;
+    private final DeadlineQuery query;
+    private final Clock clock;
+
+    /**
+     * Creates an UpcomingCommand to list the deadlines matching {@code query} that are not done and are due from
+     * today to {@code days} days from today.
+     */
+    public UpcomingCommand(int days, DeadlineQuery query) {
+        this(days, query, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an UpcomingCommand that takes the date today from {@code clock}.
+     */
+    UpcomingCommand(int days, DeadlineQuery query, Clock clock) {
+        requireNonNull(query);
+        requireNonNull(clock);
+        checkArgument(days > 0, MESSAGE_INVALID_DAYS);
+        this.days = days;
+        this.query = query.and(DeadlineQuery.withStatus(false));
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        long today = LocalDate.now(clock).toEpochDay();
+        DeadlineQuery upcomingQuery = query.dueBetween(today, today + days);
+        model.updateFilteredProjectDeadlineList(upcomingQuery);
+
+        List<Deadline> upcoming = model.findDeadlines(upcomingQuery, Integer.MAX_VALUE);
+        if (upcoming.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_UPCOMING, days), TabIndex.Project);
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_UPCOMING, upcoming.size(), days));
+        for (int i = 0; i < Math.min(upcoming.size(), MAX_LISTED); i++) {
+            Deadline deadline = upcoming.get(i);
+            message.append("\n").append(i + 1).append(". ").append(deadline.getDate())
+                    .append(" ").append(deadline.getDescription())
+                    .append(" (").append(model.getProjectOf(deadline).getName())
+                    .append(", ").append(deadline.getPriority()).append(")");
+        }
+        if (upcoming.size() > MAX_LISTED) {
+            message.append("\n").append(String.format(MESSAGE_MORE, upcoming.size() - MAX_LISTED));
+        }
+        return new CommandResult(message.toString(), TabIndex.Project);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingCommand)) {
+            return false;
+        }
+
+        UpcomingCommand otherUpcomingCommand = (UpcomingCommand) other;
+        return days == otherUpcomingCommand.days
+                && query.equals(otherUpcomingCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .add("query", query)
+                .toString();
+    }
+}
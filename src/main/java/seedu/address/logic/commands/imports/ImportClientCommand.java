@@ -2,14 +2,23 @@ package seedu.address.logic.commands.imports;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.TabIndex;
 import seedu.address.logic.commands.add.AddClientCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.imports.CsvImport;
+import seedu.address.logic.parser.imports.CsvImport.Row;
+import seedu.address.logic.parser.imports.CsvImport.RowError;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 
@@ -22,39 +31,94 @@ public class ImportClientCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports clients from a CSV file.\n"
             + "Column titles should follow this format strictly:\n"
             + "Name, Contact Number, Email, Address, Role, Organisation, Document, Projects";
-    public static final String MESSAGE_SUCCESS = "New client added: %1$s";
+    public static final String MESSAGE_SUCCESS = "%1$d clients imported.";
 
-    private final ArrayList<Client> toAddList;
+    private final CsvImport<Client> csvImport;
 
     /**
-     * Creates an ImportClientCommand to import the specified list of clients.
+     * Creates an ImportClientCommand to import the clients in the CSV file read by {@code csvImport}.
      *
-     * @param clientList The list of clients to be imported.
+     * @param csvImport The CSV file to import clients from.
      */
-    public ImportClientCommand(ArrayList<Client> clientList) {
-        requireNonNull(clientList);
-        for (Client i : clientList) {
-            requireNonNull(i);
-        }
-        toAddList = clientList;
+    public ImportClientCommand(CsvImport<Client> csvImport) {
+        requireNonNull(csvImport);
+        this.csvImport = csvImport;
     }
 
     /**
      * Executes the import operation by adding clients from the CSV file to the address book.
+     * The file is read a chunk of rows at a time, and the clients of each chunk are added before the next chunk is
+     * read. Every row that cannot be parsed or added is skipped and reported with its line number. All the clients
+     * added are committed together, as a single step that can be undone.
      *
      * @param model The model in which to import the clients.
-     * @return A CommandResult indicating the success of the import operation.
-     * @throws CommandException If an error occurs during the import operation.
+     * @return A CommandResult with the number of clients imported and the rows that were skipped.
+     * @throws CommandException If the file could not be read, or if none of its rows could be imported.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        String output = "";
-        for (Client toAdd : toAddList) {
-            CommandResult result = new AddClientCommand(toAdd).execute(model);
-            output += result.getFeedbackToUser() + "\n";
+        AtomicInteger importedCount = new AtomicInteger();
+        List<RowError> errors = new ArrayList<>();
+        String readFailure = null;
+        try {
+            csvImport.read((rows, rowErrors) -> {
+                List<Client> toAdd = new ArrayList<>(rows.size());
+                Set<String> namesToAdd = new HashSet<>();
+                for (Row<Client> row : rows) {
+                    String error = checkCanAdd(model, row.getValue(), namesToAdd);
+                    if (error != null) {
+                        rowErrors.add(new RowError(row.getLineNumber(), error));
+                        continue;
+                    }
+                    toAdd.add(row.getValue());
+                }
+                // Earlier chunks are already in the model, so later rows are checked against them too
+                if (!toAdd.isEmpty()) {
+                    model.addClients(toAdd);
+                    importedCount.addAndGet(toAdd.size());
+                }
+            }, errors);
+        } catch (IOException e) {
+            readFailure = String.format(CsvImport.MESSAGE_READ_FAILED, csvImport.getFilePath(), e.getMessage());
+            if (importedCount.get() == 0) {
+                throw new CommandException(readFailure, e);
+            }
+        }
+
+        if (importedCount.get() == 0 && !errors.isEmpty()) {
+            throw new CommandException(CsvImport.formatErrors(errors));
+        }
+        StringBuilder output = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount.get()));
+        if (importedCount.get() > 0) {
+            model.commitAddressBook(model, output.toString(), TabIndex.Client);
+        }
+        if (readFailure != null) {
+            output.append("\n").append(readFailure);
+        }
+        if (!errors.isEmpty()) {
+            output.append("\n").append(CsvImport.formatErrors(errors));
+        }
+        return new CommandResult(output.toString(), TabIndex.Client);
+    }
+
+    /**
+     * Returns why {@code client} cannot be added to {@code model} along with the clients named in
+     * {@code namesToAdd}, or null if it can. If it can, its name is added to {@code namesToAdd}.
+     */
+    private static String checkCanAdd(Model model, Client client, Set<String> namesToAdd) {
+        if (model.hasClient(client)) {
+            return AddClientCommand.MESSAGE_DUPLICATE_CLIENT;
+        }
+        String nonexistentProject = model.areProjectsValid(client);
+        if (nonexistentProject != null) {
+            return String.format(Messages.MESSAGE_NONEXISTENT_PROJECT, nonexistentProject);
+        }
+        // Names are compared the same way as in Client#isSameClient
+        if (!namesToAdd.add(client.getName().fullName.toLowerCase())) {
+            return AddClientCommand.MESSAGE_DUPLICATE_CLIENT;
         }
-        return new CommandResult(output, TabIndex.Client);
+        return null;
     }
 
     /**
@@ -74,7 +138,7 @@ public class ImportClientCommand extends Command {
         }
 
         ImportClientCommand otherImportCommand = (ImportClientCommand) other;
-        return toAddList.equals(otherImportCommand.toAddList);
+        return csvImport.getFilePath().equals(otherImportCommand.csvImport.getFilePath());
     }
 
     /**
@@ -85,7 +149,7 @@ public class ImportClientCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("toAddList", toAddList)
+                .add("filePath", csvImport.getFilePath())
                 .toString();
     }
 }
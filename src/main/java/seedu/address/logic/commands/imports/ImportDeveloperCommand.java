@@ -2,14 +2,23 @@ package seedu.address.logic.commands.imports;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.TabIndex;
 import seedu.address.logic.commands.add.AddDeveloperCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.imports.CsvImport;
+import seedu.address.logic.parser.imports.CsvImport.Row;
+import seedu.address.logic.parser.imports.CsvImport.RowError;
 import seedu.address.model.Model;
 import seedu.address.model.developer.Developer;
 /**
@@ -21,39 +30,94 @@ public class ImportDeveloperCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports developers from a CSV file.\n"
             + "Column titles should follow this format strictly:\n"
             + "Name, Contact Number, Email, Address, Date Joined, Role, Salary, GithubId, Rating, Projects";
-    public static final String MESSAGE_SUCCESS = "New developer added: %1$s";
+    public static final String MESSAGE_SUCCESS = "%1$d developers imported.";
 
-    private final ArrayList<Developer> toAddList;
+    private final CsvImport<Developer> csvImport;
 
     /**
-     * Creates an ImportDeveloperCommand to import the specified list of developers.
+     * Creates an ImportDeveloperCommand to import the developers in the CSV file read by {@code csvImport}.
      *
-     * @param developerList The list of developers to be imported.
+     * @param csvImport The CSV file to import developers from.
      */
-    public ImportDeveloperCommand(ArrayList<Developer> developerList) {
-        requireNonNull(developerList);
-        for (Developer i : developerList) {
-            requireNonNull(i);
-        }
-        toAddList = developerList;
+    public ImportDeveloperCommand(CsvImport<Developer> csvImport) {
+        requireNonNull(csvImport);
+        this.csvImport = csvImport;
     }
 
     /**
      * Executes the import operation by adding developers from the CSV file to the address book.
+     * The file is read a chunk of rows at a time, and the developers of each chunk are added before the next chunk is
+     * read. Every row that cannot be parsed or added is skipped and reported with its line number. All the developers
+     * added are committed together, as a single step that can be undone.
      *
      * @param model The model in which to import the developers.
-     * @return A CommandResult indicating the success of the import operation.
-     * @throws CommandException If an error occurs during the import operation.
+     * @return A CommandResult with the number of developers imported and the rows that were skipped.
+     * @throws CommandException If the file could not be read, or if none of its rows could be imported.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        String output = "";
-        for (Developer toAdd : toAddList) {
-            CommandResult result = new AddDeveloperCommand(toAdd).execute(model);
-            output += result.getFeedbackToUser() + "\n";
+        AtomicInteger importedCount = new AtomicInteger();
+        List<RowError> errors = new ArrayList<>();
+        String readFailure = null;
+        try {
+            csvImport.read((rows, rowErrors) -> {
+                List<Developer> toAdd = new ArrayList<>(rows.size());
+                Set<String> namesToAdd = new HashSet<>();
+                for (Row<Developer> row : rows) {
+                    String error = checkCanAdd(model, row.getValue(), namesToAdd);
+                    if (error != null) {
+                        rowErrors.add(new RowError(row.getLineNumber(), error));
+                        continue;
+                    }
+                    toAdd.add(row.getValue());
+                }
+                // Earlier chunks are already in the model, so later rows are checked against them too
+                if (!toAdd.isEmpty()) {
+                    model.addDevelopers(toAdd);
+                    importedCount.addAndGet(toAdd.size());
+                }
+            }, errors);
+        } catch (IOException e) {
+            readFailure = String.format(CsvImport.MESSAGE_READ_FAILED, csvImport.getFilePath(), e.getMessage());
+            if (importedCount.get() == 0) {
+                throw new CommandException(readFailure, e);
+            }
+        }
+
+        if (importedCount.get() == 0 && !errors.isEmpty()) {
+            throw new CommandException(CsvImport.formatErrors(errors));
+        }
+        StringBuilder output = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount.get()));
+        if (importedCount.get() > 0) {
+            model.commitAddressBook(model, output.toString(), TabIndex.Developer);
+        }
+        if (readFailure != null) {
+            output.append("\n").append(readFailure);
+        }
+        if (!errors.isEmpty()) {
+            output.append("\n").append(CsvImport.formatErrors(errors));
+        }
+        return new CommandResult(output.toString(), TabIndex.Developer);
+    }
+
+    /**
+     * Returns why {@code developer} cannot be added to {@code model} along with the developers named in
+     * {@code namesToAdd}, or null if it can. If it can, its name is added to {@code namesToAdd}.
+     */
+    private static String checkCanAdd(Model model, Developer developer, Set<String> namesToAdd) {
+        if (model.hasDeveloper(developer)) {
+            return AddDeveloperCommand.MESSAGE_DUPLICATE_DEVELOPER;
+        }
+        String nonexistentProject = model.areProjectsValid(developer);
+        if (nonexistentProject != null) {
+            return String.format(Messages.MESSAGE_NONEXISTENT_PROJECT, nonexistentProject);
+        }
+        // Names are compared the same way as in Developer#isSameDeveloper
+        if (!namesToAdd.add(developer.getName().fullName.toLowerCase())) {
+            return AddDeveloperCommand.MESSAGE_DUPLICATE_DEVELOPER;
         }
-        return new CommandResult(output, TabIndex.Developer);
+        return null;
     }
 
     /**
@@ -73,7 +137,7 @@ public class ImportDeveloperCommand extends Command {
         }
 
         ImportDeveloperCommand otherImportCommand = (ImportDeveloperCommand) other;
-        return toAddList.equals(otherImportCommand.toAddList);
+        return csvImport.getFilePath().equals(otherImportCommand.csvImport.getFilePath());
     }
 
     /**
@@ -84,7 +148,7 @@ public class ImportDeveloperCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("toAddList", toAddList)
+                .add("filePath", csvImport.getFilePath())
                 .toString();
     }
 }
@@ -25,4 +25,9 @@ public class ListClientCommand extends Command {
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
         return new CommandResult(MESSAGE_SUCCESS, TabIndex.Client);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
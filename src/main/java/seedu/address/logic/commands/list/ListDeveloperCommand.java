@@ -25,4 +25,9 @@ public class ListDeveloperCommand extends Command {
         model.updateFilteredDeveloperList(PREDICATE_SHOW_ALL_DEVELOPERS);
         return new CommandResult(MESSAGE_SUCCESS, TabIndex.Developer);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.list;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DEADLINES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
 
 import seedu.address.logic.commands.Command;
@@ -23,7 +24,12 @@ public class ListProjectCommand extends Command {
         assert model != null : "Model cannot be null";
         requireNonNull(model);
         model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
-        model.updateFilteredProjectDeadlineList(unused -> true);
+        model.updateFilteredProjectDeadlineList(PREDICATE_SHOW_ALL_DEADLINES);
         return new CommandResult(MESSAGE_SUCCESS, TabIndex.Project);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_VALID_LOCKED_COMMANDS;
@@ -13,6 +14,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.ChangePasswordCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertDataCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LockCommand;
@@ -32,10 +35,12 @@ import seedu.address.logic.commands.deleteroles.DeleteDeveloperRoleCommand;
 import seedu.address.logic.commands.edit.EditClientCommand;
 import seedu.address.logic.commands.edit.EditDeveloperCommand;
 import seedu.address.logic.commands.edit.EditProjectCommand;
+import seedu.address.logic.commands.find.FindAllCommand;
 import seedu.address.logic.commands.find.FindClientCommand;
 import seedu.address.logic.commands.find.FindDeadlineCommand;
 import seedu.address.logic.commands.find.FindDeveloperCommand;
 import seedu.address.logic.commands.find.FindProjectCommand;
+import seedu.address.logic.commands.find.UpcomingCommand;
 import seedu.address.logic.commands.imports.ImportClientCommand;
 import seedu.address.logic.commands.imports.ImportDeveloperCommand;
 import seedu.address.logic.commands.list.ListClientCommand;
@@ -57,14 +62,17 @@ import seedu.address.logic.parser.edit.EditClientCommandParser;
 import seedu.address.logic.parser.edit.EditDeveloperCommandParser;
 import seedu.address.logic.parser.edit.EditProjectCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.find.FindAllCommandParser;
 import seedu.address.logic.parser.find.FindClientCommandParser;
 import seedu.address.logic.parser.find.FindDeadlineCommandParser;
 import seedu.address.logic.parser.find.FindDeveloperCommandParser;
 import seedu.address.logic.parser.find.FindProjectCommandParser;
+import seedu.address.logic.parser.find.UpcomingCommandParser;
 import seedu.address.logic.parser.imports.ImportClientCommandParser;
 import seedu.address.logic.parser.imports.ImportDeveloperCommandParser;
 import seedu.address.logic.parser.mark.MarkDeadlineCommandParser;
 import seedu.address.logic.parser.mark.UnmarkDeadlineCommandParser;
+import seedu.address.storage.AddressBookConverter;
 
 /**
  * Parses user input.
@@ -78,6 +86,16 @@ public class AddressBookParser {
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
     private static boolean isLocked = true;
 
+    private final AddressBookConverter converter;
+
+    /**
+     * Creates an AddressBookParser whose commands convert the data file with {@code converter}.
+     */
+    public AddressBookParser(AddressBookConverter converter) {
+        requireNonNull(converter);
+        this.converter = converter;
+    }
+
     public static void lock() {
         isLocked = true;
     }
@@ -130,6 +148,8 @@ public class AddressBookParser {
                 return new ImportClientCommandParser().parse(arguments);
             case FindDeadlineCommand.COMMAND_WORD:
                 return new FindDeadlineCommandParser().parse(arguments);
+            case UpcomingCommand.COMMAND_WORD:
+                return new UpcomingCommandParser().parse(arguments);
 
             case EditDeveloperCommand.COMMAND_WORD:
                 return new EditDeveloperCommandParser().parse(arguments);
@@ -167,6 +187,9 @@ public class AddressBookParser {
             case FindProjectCommand.COMMAND_WORD:
                 return new FindProjectCommandParser().parse(arguments);
 
+            case FindAllCommand.COMMAND_WORD:
+                return new FindAllCommandParser().parse(arguments);
+
             case ListClientCommand.COMMAND_WORD:
                 return new ListClientCommand();
 
@@ -200,6 +223,12 @@ public class AddressBookParser {
             case ChangePasswordCommand.COMMAND_WORD:
                 return new ChangePasswordCommandParser().parse(arguments);
 
+            case ConvertDataCommand.COMMAND_WORD:
+                return new ConvertDataCommandParser(converter).parse(arguments);
+
+            case DiagnosticsCommand.COMMAND_WORD:
+                return new DiagnosticsCommand();
+
             default:
                 logger.finer("This user input caused a ParseException: " + userInput);
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND + "\n" + MESSAGE_VALID_UNLOCKED_COMMANDS);
@@ -23,6 +23,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_PASSWORD = new Prefix("pw/");
     public static final Prefix PREFIX_NEW_PASSWORD = new Prefix("npw/");
     public static final Prefix PREFIX_PRIORITY = new Prefix("pri/");
+    public static final Prefix PREFIX_EXPLAIN = new Prefix("ex/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
+    public static final Prefix PREFIX_RANK = new Prefix("rk/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fz/");
+    public static final Prefix PREFIX_SOUNDS_LIKE = new Prefix("sl/");
 
 
 }
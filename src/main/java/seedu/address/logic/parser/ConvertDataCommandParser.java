@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.logic.commands.ConvertDataCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.AddressBookConverter;
+
+/**
+ * Parses the user input to create a ConvertDataCommand.
+ */
+public class ConvertDataCommandParser implements Parser<ConvertDataCommand> {
+
+    private final AddressBookConverter converter;
+
+    /**
+     * Creates a ConvertDataCommandParser for commands that convert the data file with {@code converter}.
+     */
+    public ConvertDataCommandParser(AddressBookConverter converter) {
+        requireNonNull(converter);
+        this.converter = converter;
+    }
+
+    /**
+     * Parses the given {@code args} and returns a ConvertDataCommand.
+     *
+     * @param args User input arguments.
+     * @return A ConvertDataCommand for converting the data file to the given format.
+     * @throws ParseException If the user input is not a known storage format.
+     */
+    @Override
+    public ConvertDataCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        StorageFormat targetFormat = StorageFormat.fromKeyword(args);
+        if (targetFormat == null) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertDataCommand.MESSAGE_USAGE));
+        }
+        return new ConvertDataCommand(targetFormat, converter);
+    }
+}
@@ -35,6 +35,12 @@ import seedu.address.model.project.Project;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RANK_LIMIT = "The number of ranked results is not a non-zero unsigned "
+            + "integer.";
+    public static final int DEFAULT_FUZZY_DISTANCE = 1;
+    public static final int MAX_FUZZY_DISTANCE = 3;
+    public static final String MESSAGE_INVALID_FUZZY_DISTANCE = "The number of spelling mistakes allowed in a name "
+            + "must be from 1 to " + MAX_FUZZY_DISTANCE + ".";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -50,6 +56,42 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code limit}, the number of results to keep when ranking find results, and returns it. An empty
+     * {@code limit} keeps every result. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified limit is not empty and not a non-zero unsigned integer.
+     */
+    public static int parseRankLimit(String limit) throws ParseException {
+        String trimmedLimit = limit.trim();
+        if (trimmedLimit.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_RANK_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
+    /**
+     * Parses {@code distance}, the number of single letter insertions, deletions or substitutions allowed when
+     * matching names, and returns it. An empty {@code distance} allows {@code DEFAULT_FUZZY_DISTANCE}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified distance is not empty and not from 1 to {@code MAX_FUZZY_DISTANCE}.
+     */
+    public static int parseFuzzyDistance(String distance) throws ParseException {
+        String trimmedDistance = distance.trim();
+        if (trimmedDistance.isEmpty()) {
+            return DEFAULT_FUZZY_DISTANCE;
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDistance)
+                || Integer.parseInt(trimmedDistance) > MAX_FUZZY_DISTANCE) {
+            throw new ParseException(MESSAGE_INVALID_FUZZY_DISTANCE);
+        }
+        return Integer.parseInt(trimmedDistance);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,88 @@
+package seedu.address.logic.parser.find;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.find.FindAllCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.AddressClientContainsKeywordsPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.DocumentContainsKeywordsPredicate;
+import seedu.address.model.client.EmailClientContainsKeywordsPredicate;
+import seedu.address.model.client.NameClientContainsKeywordsPredicate;
+import seedu.address.model.client.OrganisationContainsKeywordsPredicate;
+import seedu.address.model.client.PhoneClientContainsKeywordsPredicate;
+import seedu.address.model.client.ProjectClientContainsKeywordsPredicate;
+import seedu.address.model.client.RoleClientContainsKeywordsPredicate;
+import seedu.address.model.developer.AddressDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.DateJoinedContainsKeywordsPredicate;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.EmailDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.GithubIdContainsKeywordsPredicate;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.PhoneDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.ProjectDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.RatingContainsKeywordsPredicate;
+import seedu.address.model.developer.RoleDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.SalaryContainsKeywordsPredicate;
+import seedu.address.model.person.AnyOfPredicate;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineContainsKeywordsPredicate;
+import seedu.address.model.project.DeadlineDescriptionContainsKeywordsPredicate;
+import seedu.address.model.project.DescriptionContainsKeywordsPredicate;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectNameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindAllCommand object.
+ * Each list is searched with the keyword predicates of its own find command, one for every field that command can
+ * search, and an item matches if any of them does.
+ */
+public class FindAllCommandParser implements Parser<FindAllCommand> {
+
+    /**
+     * Parses the given {@code String} of keywords in the context of the FindAllCommand
+     * and returns a FindAllCommand object for execution.
+     *
+     * @throws ParseException if no keywords are given.
+     */
+    public FindAllCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAllCommand.MESSAGE_USAGE));
+        }
+
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        Predicate<Developer> developerPredicate = new AnyOfPredicate<>(Arrays.asList(
+                new NameDeveloperContainsKeywordsPredicate(keywords),
+                new RoleDeveloperContainsKeywordsPredicate(keywords),
+                new AddressDeveloperContainsKeywordsPredicate(keywords),
+                new DateJoinedContainsKeywordsPredicate(keywords),
+                new EmailDeveloperContainsKeywordsPredicate(keywords),
+                new PhoneDeveloperContainsKeywordsPredicate(keywords),
+                new ProjectDeveloperContainsKeywordsPredicate(keywords),
+                new SalaryContainsKeywordsPredicate(keywords),
+                new RatingContainsKeywordsPredicate(keywords),
+                new GithubIdContainsKeywordsPredicate(keywords)));
+        Predicate<Client> clientPredicate = new AnyOfPredicate<>(Arrays.asList(
+                new NameClientContainsKeywordsPredicate(keywords),
+                new RoleClientContainsKeywordsPredicate(keywords),
+                new AddressClientContainsKeywordsPredicate(keywords),
+                new EmailClientContainsKeywordsPredicate(keywords),
+                new PhoneClientContainsKeywordsPredicate(keywords),
+                new ProjectClientContainsKeywordsPredicate(keywords),
+                new DocumentContainsKeywordsPredicate(keywords),
+                new OrganisationContainsKeywordsPredicate(keywords)));
+        Predicate<Project> projectPredicate = new AnyOfPredicate<>(Arrays.asList(
+                new ProjectNameContainsKeywordsPredicate(keywords),
+                new DescriptionContainsKeywordsPredicate(keywords),
+                new DeadlineContainsKeywordsPredicate(keywords)));
+        Predicate<Deadline> deadlinePredicate = new DeadlineDescriptionContainsKeywordsPredicate(keywords);
+
+        return new FindAllCommand(developerPredicate, clientPredicate, projectPredicate, deadlinePredicate);
+    }
+}
@@ -4,23 +4,33 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCUMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.find.FindClientCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.AddressClientContainsKeywordsPredicate;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientField;
 import seedu.address.model.client.DocumentContainsKeywordsPredicate;
 import seedu.address.model.client.EmailClientContainsKeywordsPredicate;
 import seedu.address.model.client.NameClientContainsKeywordsPredicate;
@@ -28,11 +38,26 @@ import seedu.address.model.client.OrganisationContainsKeywordsPredicate;
 import seedu.address.model.client.PhoneClientContainsKeywordsPredicate;
 import seedu.address.model.client.ProjectClientContainsKeywordsPredicate;
 import seedu.address.model.client.RoleClientContainsKeywordsPredicate;
+import seedu.address.model.person.AnyOfPredicate;
+import seedu.address.model.person.CombinedKeywordPredicate;
+import seedu.address.model.person.FuzzyKeywordPredicate;
+import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.PhoneticKeywordPredicate;
 
 /**
  * Parses input arguments and creates a new FindClientCommand object
  */
 public class FindClientCommandParser implements Parser<FindClientCommand> {
+
+    public static final String MESSAGE_FUZZY_WITHOUT_NAME = "Spelling mistakes can only be allowed in names: "
+            + "fz/ must be given with n/.";
+    public static final String MESSAGE_SOUNDS_LIKE_WITHOUT_NAME = "Only names can be matched by how they sound: "
+            + "sl/ must be given with n/.";
+
+    // The prefixes of the criteria, in the order their predicates are built
+    private static final List<Prefix> CRITERIA_PREFIXES = Arrays.asList(PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS,
+            PREFIX_EMAIL, PREFIX_PHONE, PREFIX_PROJECT, PREFIX_DOCUMENT, PREFIX_ORGANISATION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindClientCommand
      * and returns a FindClientCommand object for execution.
@@ -47,10 +72,11 @@ public class FindClientCommandParser implements Parser<FindClientCommand> {
         }
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS,
-                PREFIX_EMAIL, PREFIX_PHONE, PREFIX_PROJECT, PREFIX_DOCUMENT, PREFIX_ORGANISATION);
+                PREFIX_EMAIL, PREFIX_PHONE, PREFIX_PROJECT, PREFIX_DOCUMENT, PREFIX_ORGANISATION, PREFIX_QUERY,
+                PREFIX_EXPLAIN, PREFIX_RANK, PREFIX_FUZZY, PREFIX_SOUNDS_LIKE);
 
         for (Prefix prefix : Arrays.asList(PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS,
-                PREFIX_EMAIL, PREFIX_PHONE, PREFIX_PROJECT, PREFIX_DOCUMENT, PREFIX_ORGANISATION)) {
+                PREFIX_EMAIL, PREFIX_PHONE, PREFIX_PROJECT, PREFIX_DOCUMENT, PREFIX_ORGANISATION, PREFIX_QUERY)) {
             if (argMultimap.getValue(prefix).isPresent() && argMultimap.getValue(prefix).get().isEmpty()) {
                 throw new ParseException("Please input a value after the prefix.");
             }
@@ -61,57 +87,148 @@ public class FindClientCommandParser implements Parser<FindClientCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
         }
 
-        Predicate<Client> finalPredicate = buildPredicate(argMultimap);
+        boolean isExplaining = argMultimap.getValue(PREFIX_EXPLAIN).isPresent();
+        if (isExplaining && !argMultimap.getValue(PREFIX_EXPLAIN).get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindClientCommand.MESSAGE_USAGE));
+        }
 
-        return new FindClientCommand(finalPredicate);
-    }
+        List<Predicate<Client>> predicates = buildPredicates(argMultimap);
+        if (predicates.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindClientCommand.MESSAGE_USAGE));
+        }
 
-    private Predicate<Client> buildPredicate(ArgumentMultimap argMultimap) {
-        Predicate<Client> finalPredicate = client -> true;
+        OptionalInt rankLimit = argMultimap.getValue(PREFIX_RANK).isPresent()
+                ? OptionalInt.of(ParserUtil.parseRankLimit(argMultimap.getValue(PREFIX_RANK).get()))
+                : OptionalInt.empty();
 
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String[] nameKeywords = argMultimap.getValue(PREFIX_NAME).get().split("\\s+");
-            finalPredicate = finalPredicate.and(new NameClientContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        }
+        return new FindClientCommand(new CombinedKeywordPredicate<>(predicates), isExplaining, rankLimit);
+    }
 
-        if (argMultimap.getValue(PREFIX_ROLE).isPresent()) {
-            String[] roleKeywords = argMultimap.getValue(PREFIX_ROLE).get().split("\\s+");
-            finalPredicate = finalPredicate.and(new RoleClientContainsKeywordsPredicate(Arrays.asList(roleKeywords)));
+    /**
+     * Builds the predicates for filtering clients based on the criteria provided in the user input.
+     *
+     * @param argMultimap Argument multimap containing user input arguments.
+     * @return A predicate for each criterion provided, all of which a client must match.
+     * @throws ParseException If the query given is not valid.
+     */
+    private List<Predicate<Client>> buildPredicates(ArgumentMultimap argMultimap) throws ParseException {
+        List<Predicate<Client>> predicates = new ArrayList<>();
+
+        OptionalInt fuzzyDistance = parseFuzzyDistance(argMultimap);
+        boolean isSoundingLike = parseSoundingLike(argMultimap);
+        for (Prefix prefix : CRITERIA_PREFIXES) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                List<String> keywords = Arrays.asList(argMultimap.getValue(prefix).get().split("\\s+"));
+                predicates.add(prefix.equals(PREFIX_NAME) && (fuzzyDistance.isPresent() || isSoundingLike)
+                        ? createNamePredicate(keywords, fuzzyDistance, isSoundingLike)
+                        : createKeywordPredicate(prefix, keywords));
+            }
         }
 
-        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
-            String[] addressKeywords = argMultimap.getValue(PREFIX_ADDRESS).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new AddressClientContainsKeywordsPredicate(Arrays.asList(addressKeywords)));
+        if (argMultimap.getValue(PREFIX_QUERY).isPresent()) {
+            Predicate<Client> queryPredicate = QueryParser.compile(argMultimap.getValue(PREFIX_QUERY).get(),
+                    FindClientCommandParser::compileTerm);
+            // A conjunction joins the other criteria, so that the planner can order all of them together
+            if (queryPredicate instanceof CombinedKeywordPredicate) {
+                predicates.addAll(((CombinedKeywordPredicate<Client>) queryPredicate).getPredicates());
+            } else {
+                predicates.add(queryPredicate);
+            }
         }
 
-        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
-            String[] emailKeywords = argMultimap.getValue(PREFIX_EMAIL).get().split("\\s+");
-            finalPredicate = finalPredicate.and(new EmailClientContainsKeywordsPredicate(Arrays.asList(emailKeywords)));
+        return predicates;
+    }
+
+    /**
+     * Returns the number of spelling mistakes allowed in the names searched for, if {@code fz/} is given.
+     *
+     * @throws ParseException If the number given is not valid, or no names are searched for.
+     */
+    private static OptionalInt parseFuzzyDistance(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getValue(PREFIX_FUZZY).isPresent()) {
+            return OptionalInt.empty();
         }
+        if (!argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            throw new ParseException(MESSAGE_FUZZY_WITHOUT_NAME);
+        }
+        return OptionalInt.of(ParserUtil.parseFuzzyDistance(argMultimap.getValue(PREFIX_FUZZY).get()));
+    }
 
-        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            String[] phoneKeywords = argMultimap.getValue(PREFIX_PHONE).get().split("\\s+");
-            finalPredicate = finalPredicate.and(new PhoneClientContainsKeywordsPredicate(Arrays.asList(phoneKeywords)));
+    /**
+     * Returns true if names that sound like the names searched for should also match, that is, if {@code sl/} is
+     * given.
+     *
+     * @throws ParseException If {@code sl/} is given a value, or no names are searched for.
+     */
+    private static boolean parseSoundingLike(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getValue(PREFIX_SOUNDS_LIKE).isPresent()) {
+            return false;
         }
+        if (!argMultimap.getValue(PREFIX_SOUNDS_LIKE).get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindClientCommand.MESSAGE_USAGE));
+        }
+        if (!argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            throw new ParseException(MESSAGE_SOUNDS_LIKE_WITHOUT_NAME);
+        }
+        return true;
+    }
 
-        if (argMultimap.getValue(PREFIX_PROJECT).isPresent()) {
-            String[] projectKeywords = argMultimap.getValue(PREFIX_PROJECT).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new ProjectClientContainsKeywordsPredicate(Arrays.asList(projectKeywords)));
+    /**
+     * Returns the predicate matching clients with a name like any of {@code keywords}, allowing the spelling
+     * mistakes in {@code fuzzyDistance} if present, and names that sound like a keyword if {@code isSoundingLike}.
+     */
+    private static Predicate<Client> createNamePredicate(List<String> keywords, OptionalInt fuzzyDistance,
+                                                         boolean isSoundingLike) {
+        List<Predicate<Client>> predicates = new ArrayList<>();
+        if (fuzzyDistance.isPresent()) {
+            predicates.add(new FuzzyKeywordPredicate<>(ClientField.NAME, keywords, fuzzyDistance.getAsInt()));
+        }
+        if (isSoundingLike) {
+            predicates.add(new PhoneticKeywordPredicate<>(ClientField.NAME, keywords));
         }
+        return predicates.size() == 1 ? predicates.get(0) : new AnyOfPredicate<>(predicates);
+    }
 
-        if (argMultimap.getValue(PREFIX_DOCUMENT).isPresent()) {
-            String[] documentKeywords = argMultimap.getValue(PREFIX_DOCUMENT).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new DocumentContainsKeywordsPredicate(Arrays.asList(documentKeywords)));
+    /**
+     * Returns the predicate for the term {@code field:value} of a query.
+     */
+    private static Predicate<Client> compileTerm(String field, String value, boolean isPhrase)
+            throws ParseException {
+        Prefix prefix = new Prefix(field + "/");
+        if (!CRITERIA_PREFIXES.contains(prefix)) {
+            throw new ParseException(String.format(QueryParser.MESSAGE_INVALID_QUERY,
+                    String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, field)));
         }
+        if (isPhrase) {
+            return QueryParser.compilePhrase(value, keywords -> createKeywordPredicate(prefix, keywords));
+        }
+        return createKeywordPredicate(prefix, Arrays.asList(value.split("\\s+")));
+    }
 
-        if (argMultimap.getValue(PREFIX_ORGANISATION).isPresent()) {
-            String[] organisationKeywords = argMultimap.getValue(PREFIX_ORGANISATION).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new OrganisationContainsKeywordsPredicate(Arrays.asList(organisationKeywords)));
+    /**
+     * Returns the predicate matching clients with any of {@code keywords} in the field of {@code prefix}.
+     */
+    private static KeywordPredicate<Client> createKeywordPredicate(Prefix prefix, List<String> keywords) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameClientContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ROLE)) {
+            return new RoleClientContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return new AddressClientContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailClientContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneClientContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PROJECT)) {
+            return new ProjectClientContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_DOCUMENT)) {
+            return new DocumentContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ORGANISATION)) {
+            return new OrganisationContainsKeywordsPredicate(keywords);
         }
-        return finalPredicate;
+        throw new AssertionError("Unknown prefix: " + prefix);
     }
 }
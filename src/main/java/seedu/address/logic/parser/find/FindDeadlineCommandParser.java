@@ -3,6 +3,7 @@ package seedu.address.logic.parser.find;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATEJOINED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 
 import java.util.Arrays;
 import java.util.function.Predicate;
@@ -16,6 +17,7 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.commons.Date;
 import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineQuery;
 import seedu.address.model.project.Priority;
 
 /**
@@ -38,9 +40,10 @@ public class FindDeadlineCommandParser implements Parser<FindDeadlineCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDeadlineCommand.MESSAGE_USAGE));
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATEJOINED, PREFIX_PRIORITY);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_DATEJOINED, PREFIX_PRIORITY, PREFIX_QUERY);
 
-        for (Prefix prefix : Arrays.asList(PREFIX_DATEJOINED, PREFIX_PRIORITY)) {
+        for (Prefix prefix : Arrays.asList(PREFIX_DATEJOINED, PREFIX_PRIORITY, PREFIX_QUERY)) {
             if (argMultimap.getValue(prefix).isPresent() && argMultimap.getValue(prefix).get().isEmpty()) {
                 throw new ParseException("Please input a value after the prefix.");
             }
@@ -63,23 +66,45 @@ public class FindDeadlineCommandParser implements Parser<FindDeadlineCommand> {
      * @return A predicate for filtering deadlines.
      */
     private Predicate<Deadline> buildPredicate(ArgumentMultimap argMultimap) throws ParseException {
-        Predicate<Deadline> finalPredicate = deadline -> true;
+        DeadlineQuery deadlineQuery = DeadlineQuery.ALL;
 
         if (argMultimap.getValue(PREFIX_DATEJOINED).isPresent()) {
             String dateKeywords = argMultimap.getValue(PREFIX_DATEJOINED).get();
             Date input = ParserUtil.parseDateDeadline(dateKeywords);
-            finalPredicate =
-                    finalPredicate.and(d -> !d.getDate().value.after(input.value));
-            // Replace with your DateJoinedPredicate
+            deadlineQuery = deadlineQuery.and(DeadlineQuery.dueBy(input));
         }
 
         if (argMultimap.getValue(PREFIX_PRIORITY).isPresent()) {
             String priorityKeywords = argMultimap.getValue(PREFIX_PRIORITY).get();
             Priority input = ParserUtil.parsePriority(priorityKeywords);
-            finalPredicate = finalPredicate.and(d -> d.getPriority().equals(input));
-            // Replace with your PriorityPredicate
+            deadlineQuery = deadlineQuery.and(DeadlineQuery.withPriority(input));
         }
 
-        return finalPredicate;
+        if (!argMultimap.getValue(PREFIX_QUERY).isPresent()) {
+            return deadlineQuery;
+        }
+        Predicate<Deadline> queryPredicate = QueryParser.compile(argMultimap.getValue(PREFIX_QUERY).get(),
+                FindDeadlineCommandParser::compileTerm);
+        // A query of a single term can still be answered from the deadline index
+        if (queryPredicate instanceof DeadlineQuery) {
+            return deadlineQuery.and((DeadlineQuery) queryPredicate);
+        }
+        return deadlineQuery.and(queryPredicate);
+    }
+
+    /**
+     * Returns the predicate for the term {@code field:value} of a query. A quoted value is read as it is, since
+     * dates and priorities are single words.
+     */
+    private static Predicate<Deadline> compileTerm(String field, String value, boolean isPhrase)
+            throws ParseException {
+        Prefix prefix = new Prefix(field + "/");
+        if (prefix.equals(PREFIX_DATEJOINED)) {
+            return DeadlineQuery.dueBy(ParserUtil.parseDateDeadline(value));
+        } else if (prefix.equals(PREFIX_PRIORITY)) {
+            return DeadlineQuery.withPriority(ParserUtil.parsePriority(value));
+        }
+        throw new ParseException(String.format(QueryParser.MESSAGE_INVALID_QUERY,
+                String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, field)));
     }
 }
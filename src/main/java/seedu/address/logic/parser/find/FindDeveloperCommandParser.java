@@ -4,34 +4,54 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATEJOINED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUBID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.find.FindDeveloperCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.commons.Date;
 import seedu.address.model.developer.AddressDeveloperContainsKeywordsPredicate;
 import seedu.address.model.developer.DateJoinedContainsKeywordsPredicate;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.DeveloperRangeField;
 import seedu.address.model.developer.EmailDeveloperContainsKeywordsPredicate;
 import seedu.address.model.developer.GithubIdContainsKeywordsPredicate;
 import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
 import seedu.address.model.developer.PhoneDeveloperContainsKeywordsPredicate;
 import seedu.address.model.developer.ProjectDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.Rating;
 import seedu.address.model.developer.RatingContainsKeywordsPredicate;
 import seedu.address.model.developer.RoleDeveloperContainsKeywordsPredicate;
 import seedu.address.model.developer.SalaryContainsKeywordsPredicate;
+import seedu.address.model.person.AnyOfPredicate;
+import seedu.address.model.person.CombinedKeywordPredicate;
+import seedu.address.model.person.FuzzyKeywordPredicate;
+import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.PhoneticKeywordPredicate;
+import seedu.address.model.person.RangePredicate;
 
 /**
  * Parser to handle user input and create a {@link FindDeveloperCommand}.
@@ -40,6 +60,26 @@ import seedu.address.model.developer.SalaryContainsKeywordsPredicate;
  * projects, phone number, salary, rating, and GitHub ID.
  */
 public class FindDeveloperCommandParser implements Parser<FindDeveloperCommand> {
+
+    public static final String RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_FUZZY_WITHOUT_NAME = "Spelling mistakes can only be allowed in names: "
+            + "fz/ must be given with n/.";
+    public static final String MESSAGE_SOUNDS_LIKE_WITHOUT_NAME = "Only names can be matched by how they sound: "
+            + "sl/ must be given with n/.";
+    public static final String MESSAGE_INVALID_RANGE = "Invalid range: %1$s\n"
+            + "Salary, rating and date joined ranges are written as MIN..MAX, where either end can be left out, "
+            + "e.g. s/5000..8000 or d/01-01-2022..";
+
+    // The prefixes of the criteria, in the order their predicates are built
+    private static final List<Prefix> CRITERIA_PREFIXES = Arrays.asList(PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS,
+            PREFIX_DATEJOINED, PREFIX_EMAIL, PREFIX_PHONE, PREFIX_PROJECT, PREFIX_SALARY, PREFIX_RATING,
+            PREFIX_GITHUBID);
+    private static final Map<Prefix, DeveloperRangeField> RANGE_FIELDS = Map.of(
+            PREFIX_DATEJOINED, DeveloperRangeField.DATE_JOINED,
+            PREFIX_SALARY, DeveloperRangeField.SALARY,
+            PREFIX_RATING, DeveloperRangeField.RATING);
+
     /**
      * Parses user input and creates a {@link FindDeveloperCommand} based on the provided criteria.
      *
@@ -56,11 +96,12 @@ public class FindDeveloperCommandParser implements Parser<FindDeveloperCommand>
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS,
                 PREFIX_EMAIL, PREFIX_GITHUBID, PREFIX_DATEJOINED,
-                PREFIX_PROJECT, PREFIX_PHONE, PREFIX_SALARY, PREFIX_RATING);
+                PREFIX_PROJECT, PREFIX_PHONE, PREFIX_SALARY, PREFIX_RATING, PREFIX_QUERY, PREFIX_EXPLAIN,
+                PREFIX_RANK, PREFIX_FUZZY, PREFIX_SOUNDS_LIKE);
 
         for (Prefix prefix : Arrays.asList(PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS,
                 PREFIX_EMAIL, PREFIX_GITHUBID, PREFIX_DATEJOINED,
-                PREFIX_PROJECT, PREFIX_PHONE, PREFIX_SALARY, PREFIX_RATING)) {
+                PREFIX_PROJECT, PREFIX_PHONE, PREFIX_SALARY, PREFIX_RATING, PREFIX_QUERY)) {
             if (argMultimap.getValue(prefix).isPresent() && argMultimap.getValue(prefix).get().isEmpty()) {
                 throw new ParseException("Please input a value after the prefix.");
             }
@@ -71,80 +112,213 @@ public class FindDeveloperCommandParser implements Parser<FindDeveloperCommand>
                     FindDeveloperCommand.MESSAGE_USAGE));
         }
 
-        Predicate<Developer> finalPredicate = buildPredicate(argMultimap);
+        boolean isExplaining = argMultimap.getValue(PREFIX_EXPLAIN).isPresent();
+        if (isExplaining && !argMultimap.getValue(PREFIX_EXPLAIN).get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindDeveloperCommand.MESSAGE_USAGE));
+        }
+
+        List<Predicate<Developer>> predicates = buildPredicates(argMultimap);
+        if (predicates.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindDeveloperCommand.MESSAGE_USAGE));
+        }
 
-        return new FindDeveloperCommand(finalPredicate);
+        OptionalInt rankLimit = argMultimap.getValue(PREFIX_RANK).isPresent()
+                ? OptionalInt.of(ParserUtil.parseRankLimit(argMultimap.getValue(PREFIX_RANK).get()))
+                : OptionalInt.empty();
+
+        return new FindDeveloperCommand(new CombinedKeywordPredicate<>(predicates), isExplaining, rankLimit);
     }
 
     /**
-     * Builds a predicate for filtering developers based on the criteria provided in the user input.
+     * Builds the predicates for filtering developers based on the criteria provided in the user input.
      *
      * @param argMultimap Argument multimap containing user input arguments.
-     * @return A predicate for filtering developers.
+     * @return A predicate for each criterion provided, all of which a developer must match.
+     * @throws ParseException If a range or query given is not valid.
      */
-    private Predicate<Developer> buildPredicate(ArgumentMultimap argMultimap) {
-        Predicate<Developer> finalPredicate = developer -> true;
+    private List<Predicate<Developer>> buildPredicates(ArgumentMultimap argMultimap) throws ParseException {
+        List<Predicate<Developer>> predicates = new ArrayList<>();
 
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String[] nameKeywords = argMultimap.getValue(PREFIX_NAME).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new NameDeveloperContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        OptionalInt fuzzyDistance = parseFuzzyDistance(argMultimap);
+        boolean isSoundingLike = parseSoundingLike(argMultimap);
+        for (Prefix prefix : CRITERIA_PREFIXES) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                String args = argMultimap.getValue(prefix).get();
+                predicates.add(prefix.equals(PREFIX_NAME) && (fuzzyDistance.isPresent() || isSoundingLike)
+                        ? createNamePredicate(Arrays.asList(args.split("\\s+")), fuzzyDistance, isSoundingLike)
+                        : createPredicate(prefix, args));
+            }
         }
 
-        if (argMultimap.getValue(PREFIX_ROLE).isPresent()) {
-            String[] roleKeywords = argMultimap.getValue(PREFIX_ROLE).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new RoleDeveloperContainsKeywordsPredicate(Arrays.asList(roleKeywords)));
+        if (argMultimap.getValue(PREFIX_QUERY).isPresent()) {
+            Predicate<Developer> queryPredicate = QueryParser.compile(argMultimap.getValue(PREFIX_QUERY).get(),
+                    FindDeveloperCommandParser::compileTerm);
+            // A conjunction joins the other criteria, so that the planner can order all of them together
+            if (queryPredicate instanceof CombinedKeywordPredicate) {
+                predicates.addAll(((CombinedKeywordPredicate<Developer>) queryPredicate).getPredicates());
+            } else {
+                predicates.add(queryPredicate);
+            }
         }
 
-        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
-            String[] addressKeywords = argMultimap.getValue(PREFIX_ADDRESS).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new AddressDeveloperContainsKeywordsPredicate(Arrays.asList(addressKeywords)));
+        return predicates;
+    }
+
+    /**
+     * Returns the number of spelling mistakes allowed in the names searched for, if {@code fz/} is given.
+     *
+     * @throws ParseException If the number given is not valid, or no names are searched for.
+     */
+    private static OptionalInt parseFuzzyDistance(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getValue(PREFIX_FUZZY).isPresent()) {
+            return OptionalInt.empty();
+        }
+        if (!argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            throw new ParseException(MESSAGE_FUZZY_WITHOUT_NAME);
         }
+        return OptionalInt.of(ParserUtil.parseFuzzyDistance(argMultimap.getValue(PREFIX_FUZZY).get()));
+    }
 
-        if (argMultimap.getValue(PREFIX_DATEJOINED).isPresent()) {
-            String[] dateJoinedKeywords = argMultimap.getValue(PREFIX_DATEJOINED).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new DateJoinedContainsKeywordsPredicate(Arrays.asList(dateJoinedKeywords)));
+    /**
+     * Returns true if names that sound like the names searched for should also match, that is, if {@code sl/} is
+     * given.
+     *
+     * @throws ParseException If {@code sl/} is given a value, or no names are searched for.
+     */
+    private static boolean parseSoundingLike(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getValue(PREFIX_SOUNDS_LIKE).isPresent()) {
+            return false;
+        }
+        if (!argMultimap.getValue(PREFIX_SOUNDS_LIKE).get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindDeveloperCommand.MESSAGE_USAGE));
         }
+        if (!argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            throw new ParseException(MESSAGE_SOUNDS_LIKE_WITHOUT_NAME);
+        }
+        return true;
+    }
 
-        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
-            String[] emailKeywords = argMultimap.getValue(PREFIX_EMAIL).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new EmailDeveloperContainsKeywordsPredicate(Arrays.asList(emailKeywords)));
+    /**
+     * Returns the predicate matching developers with a name like any of {@code keywords}, allowing the spelling
+     * mistakes in {@code fuzzyDistance} if present, and names that sound like a keyword if {@code isSoundingLike}.
+     */
+    private static Predicate<Developer> createNamePredicate(List<String> keywords, OptionalInt fuzzyDistance,
+                                                            boolean isSoundingLike) {
+        List<Predicate<Developer>> predicates = new ArrayList<>();
+        if (fuzzyDistance.isPresent()) {
+            predicates.add(new FuzzyKeywordPredicate<>(DeveloperField.NAME, keywords, fuzzyDistance.getAsInt()));
         }
+        if (isSoundingLike) {
+            predicates.add(new PhoneticKeywordPredicate<>(DeveloperField.NAME, keywords));
+        }
+        return predicates.size() == 1 ? predicates.get(0) : new AnyOfPredicate<>(predicates);
+    }
 
-        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            String[] phoneKeywords = argMultimap.getValue(PREFIX_PHONE).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new PhoneDeveloperContainsKeywordsPredicate(Arrays.asList(phoneKeywords)));
+    /**
+     * Returns the predicate for the term {@code field:value} of a query.
+     */
+    private static Predicate<Developer> compileTerm(String field, String value, boolean isPhrase)
+            throws ParseException {
+        Prefix prefix = new Prefix(field + "/");
+        if (!CRITERIA_PREFIXES.contains(prefix)) {
+            throw new ParseException(String.format(QueryParser.MESSAGE_INVALID_QUERY,
+                    String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, field)));
+        }
+        if (isPhrase) {
+            return QueryParser.compilePhrase(value, keywords -> createKeywordPredicate(prefix, keywords));
         }
+        return createPredicate(prefix, value);
+    }
 
-        if (argMultimap.getValue(PREFIX_PROJECT).isPresent()) {
-            String[] projectKeywords = argMultimap.getValue(PREFIX_PROJECT).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new ProjectDeveloperContainsKeywordsPredicate(Arrays.asList(projectKeywords)));
+    /**
+     * Returns the predicate for the criterion {@code args} given after {@code prefix}, which is either a range or a
+     * list of keywords.
+     */
+    private static Predicate<Developer> createPredicate(Prefix prefix, String args) throws ParseException {
+        if (args.contains(RANGE_SEPARATOR) && RANGE_FIELDS.containsKey(prefix)) {
+            return parseRange(args, RANGE_FIELDS.get(prefix));
         }
+        return createKeywordPredicate(prefix, Arrays.asList(args.split("\\s+")));
+    }
 
-        if (argMultimap.getValue(PREFIX_SALARY).isPresent()) {
-            String[] salaryKeywords = argMultimap.getValue(PREFIX_SALARY).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new SalaryContainsKeywordsPredicate(Arrays.asList(salaryKeywords)));
+    /**
+     * Returns the predicate matching developers with any of {@code keywords} in the field of {@code prefix}.
+     */
+    private static KeywordPredicate<Developer> createKeywordPredicate(Prefix prefix, List<String> keywords) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameDeveloperContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ROLE)) {
+            return new RoleDeveloperContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return new AddressDeveloperContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_DATEJOINED)) {
+            return new DateJoinedContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailDeveloperContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneDeveloperContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PROJECT)) {
+            return new ProjectDeveloperContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_SALARY)) {
+            return new SalaryContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_RATING)) {
+            return new RatingContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_GITHUBID)) {
+            return new GithubIdContainsKeywordsPredicate(keywords);
         }
+        throw new AssertionError("Unknown prefix: " + prefix);
+    }
 
-        if (argMultimap.getValue(PREFIX_RATING).isPresent()) {
-            String[] ratingKeywords = argMultimap.getValue(PREFIX_RATING).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new RatingContainsKeywordsPredicate(Arrays.asList(ratingKeywords)));
+    /**
+     * Parses a range of the form {@code MIN..MAX} of {@code field}, where either end can be left out.
+     *
+     * @throws ParseException If the range or either of its ends is not valid.
+     */
+    private static RangePredicate<Developer> parseRange(String args, DeveloperRangeField field)
+            throws ParseException {
+        String trimmedArgs = args.trim();
+        int separatorIndex = trimmedArgs.indexOf(RANGE_SEPARATOR);
+        String min = trimmedArgs.substring(0, separatorIndex).trim();
+        String max = trimmedArgs.substring(separatorIndex + RANGE_SEPARATOR.length()).trim();
+        if (min.isEmpty() && max.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE, trimmedArgs));
         }
 
-        if (argMultimap.getValue(PREFIX_GITHUBID).isPresent()) {
-            String[] githubKeywords = argMultimap.getValue(PREFIX_GITHUBID).get().split("\\s+");
-            finalPredicate =
-                    finalPredicate.and(new GithubIdContainsKeywordsPredicate(Arrays.asList(githubKeywords)));
+        double minValue = min.isEmpty() ? Double.NEGATIVE_INFINITY : parseRangeBound(min, field, trimmedArgs);
+        double maxValue = max.isEmpty() ? Double.POSITIVE_INFINITY : parseRangeBound(max, field, trimmedArgs);
+        if (minValue > maxValue) {
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE, trimmedArgs));
         }
+        return new RangePredicate<>(field, minValue, maxValue);
+    }
 
-        return finalPredicate;
+    /**
+     * Parses one end of a range of {@code field} into the value it is compared by.
+     */
+    private static double parseRangeBound(String bound, DeveloperRangeField field, String range)
+            throws ParseException {
+        switch (field) {
+        case SALARY:
+            if (bound.matches("\\d+")) {
+                return Double.parseDouble(bound);
+            }
+            break;
+        case RATING:
+            if (Rating.isValidRating(bound)) {
+                return Double.parseDouble(bound);
+            }
+            break;
+        case DATE_JOINED:
+            if (Date.isValidDate(bound, true)) {
+                return new Date(bound, true).toEpochDay();
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown range field: " + field);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_RANGE, range));
     }
 }
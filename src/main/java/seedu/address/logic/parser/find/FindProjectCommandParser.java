@@ -4,8 +4,11 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.find.FindProjectCommand;
@@ -14,6 +17,7 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.KeywordPredicate;
 import seedu.address.model.project.DeadlineContainsKeywordsPredicate;
 import seedu.address.model.project.DescriptionContainsKeywordsPredicate;
 import seedu.address.model.project.Project;
@@ -41,9 +45,9 @@ public class FindProjectCommandParser implements Parser<FindProjectCommand> {
         }
 
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DEADLINE, PREFIX_DESCRIPTION, PREFIX_PROJECT);
+                ArgumentTokenizer.tokenize(args, PREFIX_DEADLINE, PREFIX_DESCRIPTION, PREFIX_PROJECT, PREFIX_QUERY);
 
-        for (Prefix prefix : Arrays.asList(PREFIX_DEADLINE, PREFIX_DESCRIPTION, PREFIX_PROJECT)) {
+        for (Prefix prefix : Arrays.asList(PREFIX_DEADLINE, PREFIX_DESCRIPTION, PREFIX_PROJECT, PREFIX_QUERY)) {
             if (argMultimap.getValue(prefix).isPresent() && argMultimap.getValue(prefix).get().isEmpty()) {
                 throw new ParseException("Please input a value after the prefix.");
             }
@@ -64,8 +68,9 @@ public class FindProjectCommandParser implements Parser<FindProjectCommand> {
      *
      * @param argMultimap Argument multimap containing user input arguments.
      * @return A predicate for filtering projects.
+     * @throws ParseException If the query given is not valid.
      */
-    private Predicate<Project> buildPredicate(ArgumentMultimap argMultimap) {
+    private Predicate<Project> buildPredicate(ArgumentMultimap argMultimap) throws ParseException {
         Predicate<Project> finalPredicate = project -> true;
 
         if (argMultimap.getValue(PREFIX_PROJECT).isPresent()) {
@@ -86,6 +91,35 @@ public class FindProjectCommandParser implements Parser<FindProjectCommand> {
                     finalPredicate.and(new DeadlineContainsKeywordsPredicate(Arrays.asList(deadlineKeywords)));
         }
 
+        if (argMultimap.getValue(PREFIX_QUERY).isPresent()) {
+            finalPredicate = finalPredicate.and(QueryParser.compile(argMultimap.getValue(PREFIX_QUERY).get(),
+                    FindProjectCommandParser::compileTerm));
+        }
+
         return finalPredicate;
     }
+
+    /**
+     * Returns the predicate for the term {@code field:value} of a query.
+     */
+    private static Predicate<Project> compileTerm(String field, String value, boolean isPhrase)
+            throws ParseException {
+        Prefix prefix = new Prefix(field + "/");
+        Function<List<String>, KeywordPredicate<Project>> keywordPredicate;
+        if (prefix.equals(PREFIX_PROJECT)) {
+            keywordPredicate = ProjectNameContainsKeywordsPredicate::new;
+        } else if (prefix.equals(PREFIX_DESCRIPTION)) {
+            keywordPredicate = DescriptionContainsKeywordsPredicate::new;
+        } else if (prefix.equals(PREFIX_DEADLINE)) {
+            keywordPredicate = DeadlineContainsKeywordsPredicate::new;
+        } else {
+            throw new ParseException(String.format(QueryParser.MESSAGE_INVALID_QUERY,
+                    String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, field)));
+        }
+
+        if (isPhrase) {
+            return QueryParser.compilePhrase(value, keywordPredicate);
+        }
+        return keywordPredicate.apply(Arrays.asList(value.split("\\s+")));
+    }
 }
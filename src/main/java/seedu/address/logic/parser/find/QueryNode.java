@@ -0,0 +1,217 @@
+package seedu.address.logic.parser.find;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AnyOfPredicate;
+import seedu.address.model.person.CombinedKeywordPredicate;
+import seedu.address.model.person.NotPredicate;
+
+/**
+ * A node of the syntax tree of a find query, as read by {@link QueryParser}.
+ * <p>
+ * A node is compiled into a predicate made of the keyword, range and phrase predicates of its terms, joined by
+ * {@code CombinedKeywordPredicate}, {@code AnyOfPredicate} and {@code NotPredicate}. Predicates of that shape can be
+ * answered from the search indexes of the model, with only the parts that no index covers tested entity by entity.
+ */
+public abstract class QueryNode {
+
+    /**
+     * Turns the terms of a query into predicates on one type of entity.
+     *
+     * @param <T> The type of entity the query searches.
+     */
+    @FunctionalInterface
+    public interface TermCompiler<T> {
+        /**
+         * Returns the predicate for the term {@code field:value}. If {@code isPhrase} is true, the value was
+         * quoted and must be matched as a whole phrase.
+         *
+         * @throws ParseException if the field is unknown or the value is not valid for it.
+         */
+        Predicate<T> compile(String field, String value, boolean isPhrase) throws ParseException;
+    }
+
+    /**
+     * Returns the predicate this node stands for, with its terms compiled by {@code compiler}.
+     *
+     * @throws ParseException if a term cannot be compiled.
+     */
+    public abstract <T> Predicate<T> compile(TermCompiler<T> compiler) throws ParseException;
+
+    /**
+     * A single {@code field:value} or {@code field:"phrase"} term.
+     */
+    public static class Term extends QueryNode {
+        private final String field;
+        private final String value;
+        private final boolean isPhrase;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Term(String field, String value, boolean isPhrase) {
+            requireAllNonNull(field, value);
+            this.field = field;
+            this.value = value;
+            this.isPhrase = isPhrase;
+        }
+
+        @Override
+        public <T> Predicate<T> compile(TermCompiler<T> compiler) throws ParseException {
+            return compiler.compile(field, value, isPhrase);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Term)) {
+                return false;
+            }
+
+            Term otherTerm = (Term) other;
+            return field.equals(otherTerm.field) && value.equals(otherTerm.value) && isPhrase == otherTerm.isPhrase;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, value, isPhrase);
+        }
+
+        @Override
+        public String toString() {
+            return field + ":" + (isPhrase ? "\"" + value + "\"" : value);
+        }
+    }
+
+    /**
+     * Matches entities matched by every one of its children.
+     */
+    public static class And extends QueryNode {
+        private final List<QueryNode> children;
+
+        /**
+         * Creates a node matching entities matched by every one of {@code children}.
+         */
+        public And(List<QueryNode> children) {
+            requireNonNull(children);
+            this.children = Collections.unmodifiableList(new ArrayList<>(children));
+        }
+
+        @Override
+        public <T> Predicate<T> compile(TermCompiler<T> compiler) throws ParseException {
+            // Nested conjunctions are flattened, so that the planner can order all of their clauses together
+            List<Predicate<T>> predicates = new ArrayList<>();
+            for (QueryNode child : children) {
+                Predicate<T> predicate = child.compile(compiler);
+                if (predicate instanceof CombinedKeywordPredicate) {
+                    predicates.addAll(((CombinedKeywordPredicate<T>) predicate).getPredicates());
+                } else {
+                    predicates.add(predicate);
+                }
+            }
+            return new CombinedKeywordPredicate<>(predicates);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And && children.equals(((And) other).children));
+        }
+
+        @Override
+        public int hashCode() {
+            return children.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return children.stream().map(QueryNode::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches entities matched by any one of its children.
+     */
+    public static class Or extends QueryNode {
+        private final List<QueryNode> children;
+
+        /**
+         * Creates a node matching entities matched by any one of {@code children}.
+         */
+        public Or(List<QueryNode> children) {
+            requireNonNull(children);
+            this.children = Collections.unmodifiableList(new ArrayList<>(children));
+        }
+
+        @Override
+        public <T> Predicate<T> compile(TermCompiler<T> compiler) throws ParseException {
+            List<Predicate<T>> predicates = new ArrayList<>();
+            for (QueryNode child : children) {
+                predicates.add(child.compile(compiler));
+            }
+            return new AnyOfPredicate<>(predicates);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or && children.equals(((Or) other).children));
+        }
+
+        @Override
+        public int hashCode() {
+            return children.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return children.stream().map(QueryNode::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches entities not matched by its child.
+     */
+    public static class Not extends QueryNode {
+        private final QueryNode child;
+
+        /**
+         * Creates a node matching entities not matched by {@code child}.
+         */
+        public Not(QueryNode child) {
+            requireNonNull(child);
+            this.child = child;
+        }
+
+        @Override
+        public <T> Predicate<T> compile(TermCompiler<T> compiler) throws ParseException {
+            return new NotPredicate<>(child.compile(compiler));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && child.equals(((Not) other).child));
+        }
+
+        @Override
+        public int hashCode() {
+            return child.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+}
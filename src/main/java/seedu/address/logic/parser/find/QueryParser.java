@@ -0,0 +1,246 @@
+package seedu.address.logic.parser.find;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.CombinedKeywordPredicate;
+import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.PhrasePredicate;
+import seedu.address.model.person.SearchField;
+
+/**
+ * Parses the boolean query given after {@code q/} in the find commands.
+ * <p>
+ * A query is made of {@code field:value} terms, where {@code field} is a find prefix without its slash and
+ * {@code value} is a single word, a range where the field supports one, or a {@code "quoted phrase"}.
+ * Terms are combined with {@code AND}, {@code OR} and {@code NOT} (in any case), grouped with parentheses.
+ * {@code NOT} binds tightest and {@code OR} loosest, and terms next to each other are joined by {@code AND}:
+ * <pre>
+ *     n:alex (r:developer OR r:manager) NOT a:"jurong west"
+ * </pre>
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid query: %1$s";
+    public static final String MESSAGE_EMPTY_QUERY = "the query is empty";
+    public static final String MESSAGE_UNTERMINATED_PHRASE = "the phrase after %1$s: has no closing quote";
+    public static final String MESSAGE_MISSING_VALUE = "%1$s: has no value";
+    public static final String MESSAGE_EXPECTED_TERM = "expected field:value but found '%1$s'";
+    public static final String MESSAGE_MISSING_CLOSING_PARENTHESIS = "a '(' has no matching ')'";
+    public static final String MESSAGE_UNEXPECTED_END = "the query ends after %1$s";
+    public static final String MESSAGE_UNKNOWN_FIELD = "%1$s: is not a field this command can search";
+
+    private enum TokenType {
+        LEFT_PARENTHESIS, RIGHT_PARENTHESIS, AND, OR, NOT, TERM
+    }
+
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+        private final QueryNode.Term term;
+
+        private Token(TokenType type, String text, QueryNode.Term term) {
+            this.type = type;
+            this.text = text;
+            this.term = term;
+        }
+    }
+
+    private final List<Token> tokens;
+    private int position = 0;
+
+    private QueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into its syntax tree.
+     *
+     * @throws ParseException if {@code query} is not a valid query.
+     */
+    public static QueryNode parse(String query) throws ParseException {
+        requireNonNull(query);
+        QueryParser parser = new QueryParser(tokenize(query));
+        if (parser.tokens.isEmpty()) {
+            throw invalidQuery(MESSAGE_EMPTY_QUERY);
+        }
+        QueryNode node = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw invalidQuery(String.format(MESSAGE_EXPECTED_TERM, parser.tokens.get(parser.position).text));
+        }
+        return node;
+    }
+
+    /**
+     * Parses {@code query} and compiles it into a predicate with {@code compiler}.
+     *
+     * @throws ParseException if {@code query} is not a valid query or one of its terms cannot be compiled.
+     */
+    public static <T> Predicate<T> compile(String query, QueryNode.TermCompiler<T> compiler) throws ParseException {
+        return parse(query).compile(compiler);
+    }
+
+    /**
+     * Returns the predicate for a quoted {@code phrase} in a field, given the way to build a keyword predicate on
+     * that field. Every word of the phrase is looked up as a keyword, so that the search indexes can shortlist the
+     * entities whose field is then checked for the whole phrase.
+     */
+    public static <T> Predicate<T> compilePhrase(String phrase,
+                                                Function<List<String>, KeywordPredicate<T>> keywordPredicate) {
+        List<Predicate<T>> predicates = new ArrayList<>();
+        SearchField<T> field = null;
+        for (String word : phrase.trim().split("\\s+")) {
+            KeywordPredicate<T> wordPredicate = keywordPredicate.apply(Collections.singletonList(word));
+            field = wordPredicate.getField();
+            predicates.add(wordPredicate);
+        }
+        predicates.add(new PhrasePredicate<>(field, phrase));
+        return new CombinedKeywordPredicate<>(predicates);
+    }
+
+    private QueryNode parseOr() throws ParseException {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseAnd());
+        while (accept(TokenType.OR)) {
+            children.add(parseAnd());
+        }
+        return children.size() == 1 ? children.get(0) : new QueryNode.Or(children);
+    }
+
+    private QueryNode parseAnd() throws ParseException {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseNot());
+        while (true) {
+            if (accept(TokenType.AND)) {
+                children.add(parseNot());
+            } else if (peek(TokenType.NOT) || peek(TokenType.LEFT_PARENTHESIS) || peek(TokenType.TERM)) {
+                children.add(parseNot());
+            } else {
+                break;
+            }
+        }
+        return children.size() == 1 ? children.get(0) : new QueryNode.And(children);
+    }
+
+    private QueryNode parseNot() throws ParseException {
+        if (accept(TokenType.NOT)) {
+            return new QueryNode.Not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private QueryNode parsePrimary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw invalidQuery(String.format(MESSAGE_UNEXPECTED_END, tokens.get(tokens.size() - 1).text));
+        }
+        Token token = tokens.get(position);
+        if (accept(TokenType.LEFT_PARENTHESIS)) {
+            QueryNode node = parseOr();
+            if (!accept(TokenType.RIGHT_PARENTHESIS)) {
+                throw invalidQuery(MESSAGE_MISSING_CLOSING_PARENTHESIS);
+            }
+            return node;
+        }
+        if (accept(TokenType.TERM)) {
+            return token.term;
+        }
+        throw invalidQuery(String.format(MESSAGE_EXPECTED_TERM, token.text));
+    }
+
+    private boolean peek(TokenType type) {
+        return position < tokens.size() && tokens.get(position).type == type;
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek(type)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Splits {@code query} into parentheses, operators and terms.
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LEFT_PARENTHESIS, "(", null));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RIGHT_PARENTHESIS, ")", null));
+                i++;
+            } else {
+                int start = i;
+                while (i < query.length() && !isWordEnd(query.charAt(i)) && query.charAt(i) != ':') {
+                    i++;
+                }
+                String word = query.substring(start, i);
+                if (i < query.length() && query.charAt(i) == ':' && !word.isEmpty()) {
+                    i = readTerm(query, i + 1, word, tokens);
+                } else if (word.equalsIgnoreCase("AND")) {
+                    tokens.add(new Token(TokenType.AND, word, null));
+                } else if (word.equalsIgnoreCase("OR")) {
+                    tokens.add(new Token(TokenType.OR, word, null));
+                } else if (word.equalsIgnoreCase("NOT")) {
+                    tokens.add(new Token(TokenType.NOT, word, null));
+                } else {
+                    int end = i;
+                    while (end < query.length() && !isWordEnd(query.charAt(end))) {
+                        end++;
+                    }
+                    throw invalidQuery(String.format(MESSAGE_EXPECTED_TERM, query.substring(start, end)));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Reads the value of the term for {@code field} starting at {@code start}, adds the term to {@code tokens} and
+     * returns the position after it.
+     */
+    private static int readTerm(String query, int start, String field, List<Token> tokens) throws ParseException {
+        int i = start;
+        String value;
+        boolean isPhrase = i < query.length() && query.charAt(i) == '"';
+        if (isPhrase) {
+            int closingQuote = query.indexOf('"', i + 1);
+            if (closingQuote < 0) {
+                throw invalidQuery(String.format(MESSAGE_UNTERMINATED_PHRASE, field));
+            }
+            value = query.substring(i + 1, closingQuote).trim();
+            i = closingQuote + 1;
+        } else {
+            while (i < query.length() && !isWordEnd(query.charAt(i))) {
+                i++;
+            }
+            value = query.substring(start, i);
+        }
+        if (value.isEmpty()) {
+            throw invalidQuery(String.format(MESSAGE_MISSING_VALUE, field));
+        }
+        QueryNode.Term term = new QueryNode.Term(field.toLowerCase(), value, isPhrase);
+        tokens.add(new Token(TokenType.TERM, term.toString(), term));
+        return i;
+    }
+
+    private static boolean isWordEnd(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private static ParseException invalidQuery(String detail) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, detail));
+    }
+}
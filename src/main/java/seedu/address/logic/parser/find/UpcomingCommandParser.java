@@ -0,0 +1,49 @@
+package seedu.address.logic.parser.find;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.find.UpcomingCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.project.DeadlineQuery;
+
+/**
+ * Parses the user input to create an {@link UpcomingCommand}.
+ */
+public class UpcomingCommandParser implements Parser<UpcomingCommand> {
+    /**
+     * Parses the given {@code args} and returns an UpcomingCommand.
+     *
+     * @param args User input arguments, which may give the number of days to look ahead and a priority.
+     * @return An UpcomingCommand listing the deadlines due within those days.
+     * @throws ParseException If the number of days or the priority is invalid.
+     */
+    @Override
+    public UpcomingCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PRIORITY);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PRIORITY);
+
+        int days = UpcomingCommand.DEFAULT_DAYS;
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(preamble)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        UpcomingCommand.MESSAGE_INVALID_DAYS + "\n" + UpcomingCommand.MESSAGE_USAGE));
+            }
+            days = Integer.parseInt(preamble);
+        }
+
+        DeadlineQuery query = DeadlineQuery.ALL;
+        if (argMultimap.getValue(PREFIX_PRIORITY).isPresent()) {
+            query = DeadlineQuery.withPriority(ParserUtil.parsePriority(argMultimap.getValue(PREFIX_PRIORITY).get()));
+        }
+        return new UpcomingCommand(days, query);
+    }
+}
@@ -0,0 +1,360 @@
+package seedu.address.logic.parser.imports;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads entities of type {@code T} from a CSV file, a chunk of rows at a time.
+ * <p>
+ * The first row of the file is a header that must name the expected columns. Every other row is turned into an
+ * entity by a {@link RowParser}. The last column holds a list of values: it may be left out, and may span any
+ * number of fields, each holding one value.
+ * <p>
+ * Rows are read and parsed in chunks of a bounded size, and each chunk is handed over before the next is read,
+ * so the whole file is never held in memory. Large chunks are parsed across a pool of worker threads.
+ * A row that cannot be parsed does not stop the import: it is reported with its line number instead.
+ *
+ * @param <T> The type of entity in each row.
+ */
+public class CsvImport<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final String MESSAGE_MISSING_COLUMNS = "Expected at least %1$d columns but found %2$d";
+    public static final String MESSAGE_ROWS_SKIPPED = "%1$d rows could not be imported:";
+    public static final String MESSAGE_READ_FAILED = "Could not finish reading %1$s: %2$s";
+
+    // Chunks smaller than this are parsed on the calling thread, since handing them over costs more than it saves
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 256;
+
+    private final Path filePath;
+    private final List<String> columnNames;
+    private final RowParser<T> rowParser;
+    private final int chunkSize;
+    private final ExecutorService workerPool;
+
+    /**
+     * Creates a {@code CsvImport} that reads {@code filePath} in chunks of the default size, using the shared
+     * pool of worker threads.
+     */
+    public CsvImport(Path filePath, List<String> columnNames, RowParser<T> rowParser) {
+        this(filePath, columnNames, rowParser, DEFAULT_CHUNK_SIZE, WorkerPoolHolder.WORKER_POOL);
+    }
+
+    /**
+     * Creates a {@code CsvImport} that reads {@code filePath}.
+     *
+     * @param columnNames The names that the columns in the header must contain, in order.
+     * @param rowParser Turns the fields of a row into an entity.
+     * @param chunkSize The number of rows to read before handing them over.
+     * @param workerPool The threads to parse large chunks on, or null to parse every chunk on the calling thread.
+     */
+    public CsvImport(Path filePath, List<String> columnNames, RowParser<T> rowParser, int chunkSize,
+                     ExecutorService workerPool) {
+        requireAllNonNull(filePath, columnNames, rowParser);
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        this.filePath = filePath;
+        this.columnNames = new ArrayList<>(columnNames);
+        this.rowParser = rowParser;
+        this.chunkSize = chunkSize;
+        this.workerPool = workerPool;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the trimmed fields of {@code fields} from position {@code from} onwards, leaving out blank fields.
+     * This is how the values of the last column are read.
+     */
+    public static List<String> nonBlankFields(List<String> fields, int from) {
+        List<String> values = new ArrayList<>();
+        for (int i = from; i < fields.size(); i++) {
+            String value = fields.get(i).trim();
+            if (!value.isEmpty()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a message listing {@code errors} in line order.
+     */
+    public static String formatErrors(List<RowError> errors) {
+        List<RowError> sortedErrors = new ArrayList<>(errors);
+        sortedErrors.sort(Comparator.comparingInt(RowError::getLineNumber));
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_ROWS_SKIPPED, sortedErrors.size()));
+        for (RowError error : sortedErrors) {
+            message.append('\n').append(error);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns true if the header of the file names the expected columns.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public boolean hasValidHeader() throws IOException {
+        try (CsvReader reader = openReader()) {
+            return isValidHeader(reader.readRecord());
+        } catch (IllegalValueException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads every row after the header, handing each chunk of parsed rows to {@code chunkHandler} in file order.
+     * Rows that cannot be parsed are left out of the chunk and reported in {@code errors} instead,
+     * before the chunk is handed over.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public void read(ChunkHandler<T> chunkHandler, List<RowError> errors) throws IOException {
+        requireAllNonNull(chunkHandler, errors);
+        try (CsvReader reader = openReader()) {
+            List<RowRecord> records = new ArrayList<>(chunkSize);
+            try {
+                reader.readRecord();
+                List<String> fields;
+                while ((fields = reader.readRecord()) != null) {
+                    if (isBlank(fields)) {
+                        continue;
+                    }
+                    records.add(new RowRecord(reader.getRecordLineNumber(), fields));
+                    if (records.size() == chunkSize) {
+                        handleChunk(records, chunkHandler, errors);
+                        records.clear();
+                    }
+                }
+            } catch (IllegalValueException e) {
+                // The rest of the file is inside the unclosed quoted field, so there is nothing more to read
+                errors.add(new RowError(reader.getRecordLineNumber(), e.getMessage()));
+            }
+            handleChunk(records, chunkHandler, errors);
+        }
+    }
+
+    private CsvReader openReader() throws IOException {
+        return new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8));
+    }
+
+    private boolean isValidHeader(List<String> header) {
+        if (header == null || header.size() < columnNames.size()) {
+            return false;
+        }
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (!header.get(i).contains(columnNames.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.size() == 1 && fields.get(0).trim().isEmpty();
+    }
+
+    private void handleChunk(List<RowRecord> records, ChunkHandler<T> chunkHandler, List<RowError> errors)
+            throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        ParsedRows parsed = workerPool == null || records.size() < MIN_PARALLEL_CHUNK_SIZE
+                ? parse(records)
+                : parseInParallel(records);
+        errors.addAll(parsed.errors);
+        chunkHandler.handle(parsed.rows, errors);
+    }
+
+    private ParsedRows parseInParallel(List<RowRecord> records) throws IOException {
+        int sliceCount = Math.min(Runtime.getRuntime().availableProcessors(), records.size() / 64 + 1);
+        int sliceSize = (records.size() + sliceCount - 1) / sliceCount;
+        List<Future<ParsedRows>> slices = new ArrayList<>(sliceCount);
+        for (int from = 0; from < records.size(); from += sliceSize) {
+            List<RowRecord> slice = records.subList(from, Math.min(from + sliceSize, records.size()));
+            slices.add(workerPool.submit(() -> parse(slice)));
+        }
+
+        ParsedRows parsed = new ParsedRows(records.size());
+        try {
+            for (Future<ParsedRows> slice : slices) {
+                parsed.rows.addAll(slice.get().rows);
+                parsed.errors.addAll(slice.get().errors);
+            }
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to parse rows", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing rows", e);
+        }
+        return parsed;
+    }
+
+    private ParsedRows parse(List<RowRecord> records) {
+        ParsedRows parsed = new ParsedRows(records.size());
+        for (RowRecord record : records) {
+            if (record.fields.size() < columnNames.size() - 1) {
+                parsed.errors.add(new RowError(record.lineNumber,
+                        String.format(MESSAGE_MISSING_COLUMNS, columnNames.size() - 1, record.fields.size())));
+                continue;
+            }
+            try {
+                parsed.rows.add(new Row<>(record.lineNumber, rowParser.parse(record.fields)));
+            } catch (ParseException e) {
+                parsed.errors.add(new RowError(record.lineNumber, e.getMessage()));
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Turns the fields of a CSV row into an entity.
+     */
+    @FunctionalInterface
+    public interface RowParser<T> {
+        /**
+         * Returns the entity in {@code fields}, which holds at least every column but the last.
+         *
+         * @throws ParseException if a field is invalid.
+         */
+        T parse(List<String> fields) throws ParseException;
+    }
+
+    /**
+     * Receives the rows of a CSV file, a chunk at a time.
+     */
+    @FunctionalInterface
+    public interface ChunkHandler<T> {
+        /**
+         * Handles the parsed rows of a chunk. Problems with individual rows are added to {@code errors}.
+         */
+        void handle(List<Row<T>> rows, List<RowError> errors);
+    }
+
+    /**
+     * An entity read from a CSV file, together with the line it starts on.
+     */
+    public static class Row<T> {
+        private final int lineNumber;
+        private final T value;
+
+        Row(int lineNumber, T value) {
+            this.lineNumber = lineNumber;
+            this.value = value;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * A row of a CSV file that could not be imported, and why.
+     */
+    public static class RowError {
+        public static final String MESSAGE_FORMAT = "Line %1$d: %2$s";
+
+        private final int lineNumber;
+        private final String message;
+
+        /**
+         * Creates a {@code RowError} for the row starting on line {@code lineNumber}.
+         */
+        public RowError(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof RowError)) {
+                return false;
+            }
+
+            RowError otherError = (RowError) other;
+            return lineNumber == otherError.lineNumber && message.equals(otherError.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * lineNumber + message.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_FORMAT, lineNumber, message);
+        }
+    }
+
+    /**
+     * The raw fields of a row, together with the line it starts on.
+     */
+    private static class RowRecord {
+        private final int lineNumber;
+        private final List<String> fields;
+
+        RowRecord(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * The outcome of parsing some rows.
+     */
+    private class ParsedRows {
+        private final List<Row<T>> rows;
+        private final List<RowError> errors = new ArrayList<>();
+
+        ParsedRows(int capacity) {
+            rows = new ArrayList<>(capacity);
+        }
+    }
+
+    /**
+     * Holds the worker threads shared by all imports, which are only started the first time they are needed.
+     */
+    private static class WorkerPoolHolder {
+        private static final ExecutorService WORKER_POOL = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "csv-import-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -3,12 +3,13 @@ package seedu.address.logic.parser.imports;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_FILE;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.imports.ImportClientCommand;
@@ -30,8 +31,12 @@ import seedu.address.model.person.Phone;
  */
 public class ImportClientCommandParser implements Parser<ImportClientCommand> {
 
+    public static final List<String> COLUMN_NAMES = Arrays.asList("Name", "Contact Number", "Email", "Address",
+            "Role", "Organisation", "Document", "Projects");
+
     /**
      * Parses the provided file name to import client data from a CSV file.
+     * Only the header of the file is checked here; the rows are read when the command is executed.
      *
      * @param fileName The name of the CSV file to import client data from.
      * @return A {@link ImportClientCommand} for importing client data.
@@ -39,62 +44,42 @@ public class ImportClientCommandParser implements Parser<ImportClientCommand> {
      */
     @Override
     public ImportClientCommand parse(String fileName) throws ParseException {
+        fileName = fileName.trim();
         try {
-            FileWriter myWriter = new FileWriter("filename.txt");
-            myWriter.write("Files in Java might be tricky, but it is fun enough!");
-            myWriter.close();
-            fileName = fileName.trim();
-            BufferedReader br = new BufferedReader(new FileReader(fileName));
-            String line = "";
-            String splitBy = ",";
+            Path filePath = Paths.get(fileName);
+            CsvImport<Client> csvImport = new CsvImport<>(filePath, COLUMN_NAMES,
+                    ImportClientCommandParser::parseClient);
 
             // Check if the CSV file contains valid column names
-            boolean isValid = checkColumnNames(br.readLine());
-            if (!isValid) {
+            if (!csvImport.hasValidHeader()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         ImportClientCommand.MESSAGE_USAGE));
             }
-
-            ArrayList<Client> toAddList = new ArrayList<>();
-            while ((line = br.readLine()) != null) {
-                String[] clientData = line.split(splitBy);
-
-                // Parse client data from CSV columns
-                Name name = ParserUtil.parseName(clientData[0]);
-                Phone phone = ParserUtil.parsePhone(clientData[1]);
-                Email email = ParserUtil.parseEmail(clientData[2]);
-                Address address = ParserUtil.parseAddress(clientData[3]);
-                ClientRoles role = ParserUtil.parseClientRole(clientData[4]);
-                Name organisation = ParserUtil.parseName(clientData[5]);
-                Document document = ParserUtil.parseDocument(clientData[6]);
-                ArrayList<String> projects = new ArrayList<>();
-                for (int i = 7; i < clientData.length; i++) {
-                    projects.add(clientData[i]);
-                }
-                Set<String> projectList = ParserUtil.parseProjectsToSet(projects);
-
-                // Create a Client object
-                Client client = new Client(name, phone, email, address, role, projectList, organisation, document);
-
-                // Add the client to the list
-                toAddList.add(client);
-            }
-
-            return new ImportClientCommand(toAddList);
-        } catch (FileNotFoundException ex) {
+            return new ImportClientCommand(csvImport);
+        } catch (InvalidPathException | NoSuchFileException ex) {
             throw new ParseException(MESSAGE_INVALID_FILE);
         } catch (IOException e) {
             throw new ParseException("Error reading line from file " + fileName);
         }
     }
 
-    // Define a method to check if the CSV file contains valid column names
-    private boolean checkColumnNames(String line) {
-        String[] columnNames = line.split(",");
-        return columnNames.length == 8 && columnNames[0].contains("Name")
-                && columnNames[1].contains("Contact Number") && columnNames[2].contains("Email")
-                && columnNames[3].contains("Address") && columnNames[4].contains("Role")
-                && columnNames[5].contains("Organisation") && columnNames[6].contains("Document")
-                && columnNames[7].contains("Projects");
+    /**
+     * Parses the fields of a row of the CSV file into a {@code Client}.
+     * Every field from the projects column onwards holds one project.
+     *
+     * @throws ParseException if a field is invalid.
+     */
+    static Client parseClient(List<String> clientData) throws ParseException {
+        Name name = ParserUtil.parseName(clientData.get(0));
+        Phone phone = ParserUtil.parsePhone(clientData.get(1));
+        Email email = ParserUtil.parseEmail(clientData.get(2));
+        Address address = ParserUtil.parseAddress(clientData.get(3));
+        ClientRoles role = ParserUtil.parseClientRole(clientData.get(4));
+        Name organisation = ParserUtil.parseName(clientData.get(5));
+        Document document = ParserUtil.parseDocument(clientData.get(6));
+        Set<String> projectList = ParserUtil.parseProjectsToSet(
+                CsvImport.nonBlankFields(clientData, COLUMN_NAMES.size() - 1));
+
+        return new Client(name, phone, email, address, role, projectList, organisation, document);
     }
 }
@@ -3,11 +3,13 @@ package seedu.address.logic.parser.imports;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_FILE;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.imports.ImportDeveloperCommand;
@@ -32,8 +34,12 @@ import seedu.address.model.person.Phone;
  */
 public class ImportDeveloperCommandParser implements Parser<ImportDeveloperCommand> {
 
+    public static final List<String> COLUMN_NAMES = Arrays.asList("Name", "Contact Number", "Email", "Address",
+            "Date Joined", "Role", "Salary", "GithubId", "Rating", "Projects");
+
     /**
      * Parses the provided file name to import developer data from a CSV file.
+     * Only the header of the file is checked here; the rows are read when the command is executed.
      *
      * @param fileName The name of the CSV file to import developer data from.
      * @return A {@link ImportDeveloperCommand} for importing developer data.
@@ -41,42 +47,17 @@ public class ImportDeveloperCommandParser implements Parser<ImportDeveloperComma
      */
     @Override
     public ImportDeveloperCommand parse(String fileName) throws ParseException {
+        fileName = fileName.trim();
         try {
-            fileName = fileName.trim();
-            BufferedReader br = new BufferedReader(new FileReader(fileName));
-            String line = "";
-            String splitBy = ",";
-            boolean isValid = checkColumnNames(br.readLine());
-            if (!isValid) {
+            Path filePath = Paths.get(fileName);
+            CsvImport<Developer> csvImport = new CsvImport<>(filePath, COLUMN_NAMES,
+                    ImportDeveloperCommandParser::parseDeveloper);
+            if (!csvImport.hasValidHeader()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         ImportDeveloperCommand.MESSAGE_USAGE));
             }
-            ArrayList<Developer> toAddList = new ArrayList<>();
-            while ((line = br.readLine()) != null) {
-                String[] employee = line.split(splitBy); // use comma as separator
-                Name name = ParserUtil.parseName(employee[0]);
-                Phone phone = ParserUtil.parsePhone(employee[1]);
-                Email email = ParserUtil.parseEmail(employee[2]);
-                Address address = ParserUtil.parseAddress(employee[3]);
-                Date dateJoined = ParserUtil.parseDateJoined(employee[4]);
-                DeveloperRoles role = ParserUtil.parseDeveloperRole(employee[5]);
-                Salary salary = ParserUtil.parseSalary(employee[6]);
-                GithubId githubId = ParserUtil.parseGithubId(employee[7]);
-                Rating rating = ParserUtil.parseRating(employee[8]);
-                ArrayList<String> projects = new ArrayList<>();
-                for (int i = 9; i < employee.length; i++) {
-                    projects.add(employee[i]);
-                }
-                Set<String> projectList = ParserUtil.parseProjectsToSet(projects);
-
-                Developer developer =
-                        new Developer(name, phone, email,
-                                address, role, projectList, salary, dateJoined, githubId, rating);
-                toAddList.add(developer);
-
-            }
-            return new ImportDeveloperCommand(toAddList);
-        } catch (FileNotFoundException ex) {
+            return new ImportDeveloperCommand(csvImport);
+        } catch (InvalidPathException | NoSuchFileException ex) {
             throw new ParseException(MESSAGE_INVALID_FILE);
         } catch (IOException e) {
             throw new ParseException("Error reading line from file " + fileName);
@@ -84,43 +65,24 @@ public class ImportDeveloperCommandParser implements Parser<ImportDeveloperComma
     }
 
     /**
-     * Checks if the CSV file contains valid column names based on expected format.
+     * Parses the fields of a row of the CSV file into a {@code Developer}.
+     * Every field from the projects column onwards holds one project.
      *
-     * @param line The header line of the CSV file.
-     * @return True if the column names match the expected format, false otherwise.
+     * @throws ParseException if a field is invalid.
      */
-    private boolean checkColumnNames(String line) {
-        String[] columnNames = line.split(",");
-        if (!columnNames[0].contains("Name")) {
-            return false;
-        }
-        if (!columnNames[1].contains("Contact Number")) {
-            return false;
-        }
-        if (!columnNames[2].contains("Email")) {
-            return false;
-        }
-        if (!columnNames[3].contains("Address")) {
-            return false;
-        }
-        if (!columnNames[4].contains("Date Joined")) {
-            return false;
-        }
-        if (!columnNames[5].contains("Role")) {
-            return false;
-        }
-        if (!columnNames[6].contains("Salary")) {
-            return false;
-        }
-        if (!columnNames[7].contains("GithubId")) {
-            return false;
-        }
-        if (!columnNames[8].contains("Rating")) {
-            return false;
-        }
-        if (!columnNames[9].contains("Projects")) {
-            return false;
-        }
-        return true;
+    static Developer parseDeveloper(List<String> employee) throws ParseException {
+        Name name = ParserUtil.parseName(employee.get(0));
+        Phone phone = ParserUtil.parsePhone(employee.get(1));
+        Email email = ParserUtil.parseEmail(employee.get(2));
+        Address address = ParserUtil.parseAddress(employee.get(3));
+        Date dateJoined = ParserUtil.parseDateJoined(employee.get(4));
+        DeveloperRoles role = ParserUtil.parseDeveloperRole(employee.get(5));
+        Salary salary = ParserUtil.parseSalary(employee.get(6));
+        GithubId githubId = ParserUtil.parseGithubId(employee.get(7));
+        Rating rating = ParserUtil.parseRating(employee.get(8));
+        Set<String> projectList = ParserUtil.parseProjectsToSet(
+                CsvImport.nonBlankFields(employee, COLUMN_NAMES.size() - 1));
+
+        return new Developer(name, phone, email, address, role, projectList, salary, dateJoined, githubId, rating);
     }
 }
@@ -2,17 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientField;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.DeveloperRangeField;
 import seedu.address.model.developer.UniqueDeveloperList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RelevanceRanker;
+import seedu.address.model.person.SearchIndex;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineIndex;
+import seedu.address.model.project.DeadlineQuery;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.UniqueProjectList;
 
@@ -25,11 +36,19 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueDeveloperList developers;
     private final UniqueClientList clients;
     private final UniqueProjectList projects;
+    private final ProjectMemberIndex<Developer> developersByProject;
+    private final ProjectMemberIndex<Client> clientsByProject;
+    // Only built for the address book the model searches, see #startIndexing()
+    private SearchIndex<Developer> developerSearchIndex;
+    private SearchIndex<Client> clientSearchIndex;
+    private DeadlineIndex deadlineIndex;
 
     {
         developers = new UniqueDeveloperList();
         clients = new UniqueClientList();
         projects = new UniqueProjectList();
+        developersByProject = new ProjectMemberIndex<>();
+        clientsByProject = new ProjectMemberIndex<>();
     }
 
     /**
@@ -48,6 +67,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Builds the search and deadline indexes of this AddressBook from its current data, and keeps them up to date
+     * with every change from now on. Only the address book searched by the model needs them, so copies of it,
+     * such as the states rebuilt for undo, never pay for building them.
+     * <p>
+     * The indexes listen to the lists, so this must be called before any listener that filters the lists is
+     * attached, for the indexes to be updated before the filters are.
+     */
+    public void startIndexing() {
+        if (isIndexing()) {
+            return;
+        }
+        developerSearchIndex = new SearchIndex<>(developers.asUnmodifiableObservableList(),
+                Arrays.asList(DeveloperField.values()), Arrays.asList(DeveloperRangeField.values()));
+        clientSearchIndex = new SearchIndex<>(clients.asUnmodifiableObservableList(),
+                Arrays.asList(ClientField.values()));
+        deadlineIndex = new DeadlineIndex(projects.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns true if this AddressBook keeps search and deadline indexes.
+     */
+    public boolean isIndexing() {
+        return deadlineIndex != null;
+    }
+
+    private void requireIndexing() {
+        if (!isIndexing()) {
+            throw new IllegalStateException("Only an address book that keeps indexes can be searched");
+        }
+    }
+
     /// Project Validation
 
     /**
@@ -75,6 +126,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setDevelopers(List<Developer> developers) {
         this.developers.setDevelopers(developers);
+        developersByProject.reset(developers);
     }
 
     /**
@@ -84,6 +136,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setClients(List<Client> clients) {
         this.clients.setClients(clients);
+        clientsByProject.reset(clients);
     }
 
     /**
@@ -102,6 +155,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+        if (newData instanceof AddressBook) {
+            // The lists of another AddressBook are already known to be unique
+            AddressBook otherAddressBook = (AddressBook) newData;
+            developers.setDevelopers(otherAddressBook.developers);
+            clients.setClients(otherAddressBook.clients);
+            projects.setProjects(otherAddressBook.projects);
+            developersByProject.reset(developers);
+            clientsByProject.reset(clients);
+            return;
+        }
         setDevelopers(newData.getDeveloperList());
         setClients(newData.getClientList());
         setProjects(newData.getProjectList());
@@ -127,6 +190,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addDeveloper(Developer developer) {
         developers.add(developer);
+        developersByProject.add(developer);
+    }
+
+    /**
+     * Adds all of {@code developers} to the end of the developer list in a single change.
+     * None of them may already exist in the address book or be the same as another developer in {@code developers}.
+     *
+     * @param developers The developers to add.
+     */
+    public void addDevelopers(List<Developer> developers) {
+        this.developers.addAll(developers);
+        for (Developer developer : developers) {
+            developersByProject.add(developer);
+        }
     }
 
     /**
@@ -138,6 +215,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setDeveloper(Developer target, Developer editedDeveloper) {
         requireNonNull(editedDeveloper);
         developers.setDeveloper(target, editedDeveloper);
+        developersByProject.replace(target, editedDeveloper);
     }
 
     /**
@@ -147,6 +225,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeDeveloper(Developer key) {
         developers.remove(key);
+        developersByProject.remove(key);
     }
 
     // Client-level Operations
@@ -169,6 +248,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addClient(Client client) {
         clients.add(client);
+        clientsByProject.add(client);
+    }
+
+    /**
+     * Adds all of {@code clients} to the end of the client list in a single change.
+     * None of them may already exist in the address book or be the same as another client in {@code clients}.
+     *
+     * @param clients The clients to add.
+     */
+    public void addClients(List<Client> clients) {
+        this.clients.addAll(clients);
+        for (Client client : clients) {
+            clientsByProject.add(client);
+        }
     }
 
     /**
@@ -180,6 +273,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setClient(Client target, Client editedClient) {
         requireNonNull(editedClient);
         clients.setClient(target, editedClient);
+        clientsByProject.replace(target, editedClient);
     }
 
     /**
@@ -189,6 +283,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeClient(Client key) {
         clients.remove(key);
+        clientsByProject.remove(key);
     }
 
     // Project-level Operations
@@ -237,13 +332,159 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Removes a project from this AddressBook. Also updates clients and developers to remove the project assignment.
+     * Only the clients and developers assigned to the project are updated.
      *
      * @param key The project to remove.
      */
     public void removeProject(Project key) {
         projects.remove(key);
-        clients.updateClientProjects(key.getName());
-        developers.updateDeveloperProjects(key.getName());
+        String projectName = key.getName();
+
+        List<Client> clientMembers = clientsByProject.getMembers(projectName);
+        List<Client> updatedClients = clients.updateClientProjects(projectName, clientMembers);
+        for (int i = 0; i < clientMembers.size(); i++) {
+            clientsByProject.replace(clientMembers.get(i), updatedClients.get(i));
+        }
+
+        List<Developer> developerMembers = developersByProject.getMembers(projectName);
+        List<Developer> updatedDevelopers = developers.updateDeveloperProjects(projectName, developerMembers);
+        for (int i = 0; i < developerMembers.size(); i++) {
+            developersByProject.replace(developerMembers.get(i), updatedDevelopers.get(i));
+        }
+    }
+
+    /**
+     * Returns the developers assigned to the project with the given name.
+     *
+     * @param projectName The exact name of the project.
+     * @return The developers assigned to the project.
+     */
+    public List<Developer> getDevelopersOnProject(String projectName) {
+        return developersByProject.getMembers(projectName);
+    }
+
+    /**
+     * Returns the clients assigned to the project with the given name.
+     *
+     * @param projectName The exact name of the project.
+     * @return The clients assigned to the project.
+     */
+    public List<Client> getClientsOnProject(String projectName) {
+        return clientsByProject.getMembers(projectName);
+    }
+
+    /**
+     * Returns a predicate that matches the same developers as {@code predicate}, answered from the search index
+     * of the developer list when {@code predicate} is made of keyword predicates.
+     *
+     * @param predicate The predicate to match developers with.
+     * @return The indexed predicate, or {@code predicate} itself if it cannot be answered from the index.
+     */
+    public Predicate<Developer> getIndexedDeveloperPredicate(Predicate<Developer> predicate) {
+        requireIndexing();
+        return developerSearchIndex.getIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate that matches the same clients as {@code predicate}, answered from the search index
+     * of the client list when {@code predicate} is made of keyword predicates.
+     *
+     * @param predicate The predicate to match clients with.
+     * @return The indexed predicate, or {@code predicate} itself if it cannot be answered from the index.
+     */
+    public Predicate<Client> getIndexedClientPredicate(Predicate<Client> predicate) {
+        requireIndexing();
+        return clientSearchIndex.getIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a ranker that scores developers by how well their ranking fields match {@code keywords}.
+     *
+     * @param keywords The keywords to rank developers by.
+     * @return The ranker, using the statistics of the developer search index as it is now.
+     */
+    public RelevanceRanker<Developer> getDeveloperRanker(List<String> keywords) {
+        requireIndexing();
+        return developerSearchIndex.getRanker(keywords);
+    }
+
+    /**
+     * Returns a ranker that scores clients by how well their ranking fields match {@code keywords}.
+     *
+     * @param keywords The keywords to rank clients by.
+     * @return The ranker, using the statistics of the client search index as it is now.
+     */
+    public RelevanceRanker<Client> getClientRanker(List<String> keywords) {
+        requireIndexing();
+        return clientSearchIndex.getRanker(keywords);
+    }
+
+    /**
+     * Returns the first {@code limit} deadlines of all projects matching {@code query}, answered from the deadline
+     * index in order of the day they are due and then by priority.
+     *
+     * @param query The query to match deadlines with.
+     * @param limit The maximum number of deadlines to return.
+     * @return The matching deadlines, most urgent first.
+     */
+    public List<Deadline> findDeadlines(DeadlineQuery query, int limit) {
+        requireIndexing();
+        return deadlineIndex.find(query, limit);
+    }
+
+    /**
+     * Returns the project that {@code deadline} belongs to.
+     *
+     * @param deadline A deadline of a project in this AddressBook.
+     * @return The project, or null if {@code deadline} is not a deadline of any project in this AddressBook.
+     */
+    public Project getProjectOf(Deadline deadline) {
+        requireIndexing();
+        return deadlineIndex.getProject(deadline);
+    }
+
+    // Range Replacement
+
+    /**
+     * Replaces the {@code count} developers starting at position {@code from} with {@code replacement}.
+     * Used to replay changes recorded by {@link VersionedAddressBook}.
+     */
+    void replaceDevelopers(int from, int count, List<Developer> replacement) {
+        List<Developer> replaced = new ArrayList<>(getDeveloperList().subList(from, from + count));
+        developers.replaceRange(from, count, replacement);
+        replaced.forEach(developersByProject::remove);
+        replacement.forEach(developersByProject::add);
+    }
+
+    /**
+     * Replaces the {@code count} clients starting at position {@code from} with {@code replacement}.
+     * Used to replay changes recorded by {@link VersionedAddressBook}.
+     */
+    void replaceClients(int from, int count, List<Client> replacement) {
+        List<Client> replaced = new ArrayList<>(getClientList().subList(from, from + count));
+        clients.replaceRange(from, count, replacement);
+        replaced.forEach(clientsByProject::remove);
+        replacement.forEach(clientsByProject::add);
+    }
+
+    /**
+     * Replaces the {@code count} projects starting at position {@code from} with {@code replacement}.
+     * Used to replay changes recorded by {@link VersionedAddressBook}.
+     */
+    void replaceProjects(int from, int count, List<Project> replacement) {
+        projects.replaceRange(from, count, replacement);
+    }
+
+    // Change Tracking
+
+    /**
+     * Returns a version number that changes whenever the developers, clients or projects in this AddressBook
+     * are modified. Versions only ever increase, so two equal versions mean no modification happened in between.
+     *
+     * @return The current version of this AddressBook.
+     */
+    public long getVersion() {
+        return developers.getModificationCount() + clients.getModificationCount() + projects.getModificationCount();
     }
 
     /**
@@ -0,0 +1,152 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
+
+/**
+ * A change to one of the lists of an {@code AddressBook}, in which the entities {@code removed} starting at
+ * position {@code from} were replaced by the entities {@code added}.
+ *
+ * @param <T> The type of entity in the changed list.
+ */
+public class AddressBookChange<T> {
+
+    /**
+     * The lists of an address book that a change can apply to.
+     */
+    public enum EntityList {
+        DEVELOPERS, CLIENTS, PROJECTS
+    }
+
+    // Rough size of the fields of a change and of the references to each entity it holds
+    private static final long CHANGE_OVERHEAD_BYTES = 64;
+    private static final long ENTITY_OVERHEAD_BYTES = 48;
+
+    private final EntityList list;
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    AddressBookChange(EntityList list, int from, List<T> removed, List<T> added) {
+        requireAllNonNull(list, removed, added);
+        this.list = list;
+        this.from = from;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns a change that replaced the developers {@code removed} at position {@code from} with {@code added}.
+     */
+    public static AddressBookChange<Developer> ofDevelopers(int from, List<Developer> removed,
+                                                            List<Developer> added) {
+        return new AddressBookChange<>(EntityList.DEVELOPERS, from, removed, added);
+    }
+
+    /**
+     * Returns a change that replaced the clients {@code removed} at position {@code from} with {@code added}.
+     */
+    public static AddressBookChange<Client> ofClients(int from, List<Client> removed, List<Client> added) {
+        return new AddressBookChange<>(EntityList.CLIENTS, from, removed, added);
+    }
+
+    /**
+     * Returns a change that replaced the projects {@code removed} at position {@code from} with {@code added}.
+     */
+    public static AddressBookChange<Project> ofProjects(int from, List<Project> removed, List<Project> added) {
+        return new AddressBookChange<>(EntityList.PROJECTS, from, removed, added);
+    }
+
+    public EntityList getList() {
+        return list;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns a rough estimate of the memory taken up by this change, in bytes.
+     * Entities are estimated from the length of their string representation.
+     */
+    public long estimateSize() {
+        long size = CHANGE_OVERHEAD_BYTES;
+        for (T entity : removed) {
+            size += ENTITY_OVERHEAD_BYTES + 2L * entity.toString().length();
+        }
+        for (T entity : added) {
+            size += ENTITY_OVERHEAD_BYTES + 2L * entity.toString().length();
+        }
+        return size;
+    }
+
+    /**
+     * Makes this change to {@code addressBook}, which must be in the state from before the change.
+     */
+    void apply(AddressBook addressBook) {
+        replace(addressBook, removed.size(), added);
+    }
+
+    /**
+     * Undoes this change to {@code addressBook}, which must be in the state from after the change.
+     */
+    void revert(AddressBook addressBook) {
+        replace(addressBook, added.size(), removed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replace(AddressBook addressBook, int count, List<T> replacement) {
+        switch (list) {
+        case DEVELOPERS:
+            addressBook.replaceDevelopers(from, count, (List<Developer>) replacement);
+            break;
+        case CLIENTS:
+            addressBook.replaceClients(from, count, (List<Client>) replacement);
+            break;
+        case PROJECTS:
+            addressBook.replaceProjects(from, count, (List<Project>) replacement);
+            break;
+        default:
+            throw new AssertionError("Unknown list: " + list);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange<?> otherChange = (AddressBookChange<?>) other;
+        return list == otherChange.list
+                && from == otherChange.from
+                && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(list, from, removed, added);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Records the changes made to the lists of an address book between two saves, so that a save only has to look at
+ * the entities that changed instead of comparing the whole address book with what was saved before.
+ * <p>
+ * Changes are recorded as they happen, on the thread that makes them. Once the recorded changes hold more entities
+ * than the address book does, they are dropped instead, as comparing the whole address book is then cheaper.
+ */
+public class AddressBookChangeLog {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final ListChangeListener<Object> developerListener;
+    private final ListChangeListener<Object> clientListener;
+    private final ListChangeListener<Object> projectListener;
+    private List<AddressBookChange<?>> changes = new ArrayList<>();
+    // The number of entities held by the recorded changes
+    private int changedEntityCount = 0;
+    private boolean isComplete = true;
+
+    /**
+     * Creates a log of the changes made to {@code addressBook} from now on.
+     */
+    public AddressBookChangeLog(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        developerListener = listenTo(addressBook.getDeveloperList(), AddressBookChange.EntityList.DEVELOPERS);
+        clientListener = listenTo(addressBook.getClientList(), AddressBookChange.EntityList.CLIENTS);
+        projectListener = listenTo(addressBook.getProjectList(), AddressBookChange.EntityList.PROJECTS);
+    }
+
+    /**
+     * Returns true if this log records the changes made to {@code addressBook}.
+     */
+    public boolean isLogOf(ReadOnlyAddressBook addressBook) {
+        return this.addressBook == addressBook;
+    }
+
+    /**
+     * Returns the changes made since they were last taken, in the order they were made, and starts recording anew.
+     * Returns {@code Optional.empty()} if there were too many changes to keep.
+     */
+    public Optional<List<AddressBookChange<?>>> takeChanges() {
+        Optional<List<AddressBookChange<?>>> takenChanges = isComplete ? Optional.of(changes) : Optional.empty();
+        changes = new ArrayList<>();
+        changedEntityCount = 0;
+        isComplete = true;
+        return takenChanges;
+    }
+
+    /**
+     * Stops recording changes to the address book.
+     */
+    public void close() {
+        addressBook.getDeveloperList().removeListener(developerListener);
+        addressBook.getClientList().removeListener(clientListener);
+        addressBook.getProjectList().removeListener(projectListener);
+    }
+
+    private ListChangeListener<Object> listenTo(ObservableList<?> list, AddressBookChange.EntityList entityList) {
+        ListChangeListener<Object> listener = change -> {
+            while (change.next()) {
+                // Reordering a list changes no entity, and the lists are never reordered anyway
+                if (isComplete && !change.wasPermutated() && !change.wasUpdated()) {
+                    record(new AddressBookChange<>(entityList, change.getFrom(),
+                            new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList())));
+                }
+            }
+        };
+        list.addListener(listener);
+        return listener;
+    }
+
+    private void record(AddressBookChange<?> change) {
+        changedEntityCount += change.getRemoved().size() + change.getAdded().size();
+        int entityCount = addressBook.getDeveloperList().size() + addressBook.getClientList().size()
+                + addressBook.getProjectList().size();
+        if (changedEntityCount > entityCount) {
+            changes = new ArrayList<>();
+            isComplete = false;
+            return;
+        }
+        changes.add(change);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.commands.TabIndex;
+
+/**
+ * One step in the undo history: the changes a command made to the address book, together with the
+ * message and tab shown when the command succeeded.
+ */
+public class AddressBookCommit {
+
+    private static final long COMMIT_OVERHEAD_BYTES = 64;
+
+    private final String message;
+    private final TabIndex tabIndex;
+    private final List<AddressBookChange<?>> changes;
+    private final long estimatedSize;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AddressBookCommit(String message, TabIndex tabIndex, List<AddressBookChange<?>> changes) {
+        requireAllNonNull(message, tabIndex, changes);
+        this.message = message;
+        this.tabIndex = tabIndex;
+        this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+
+        long size = COMMIT_OVERHEAD_BYTES + 2L * message.length();
+        for (AddressBookChange<?> change : changes) {
+            size += change.estimateSize();
+        }
+        this.estimatedSize = size;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public TabIndex getTabIndex() {
+        return tabIndex;
+    }
+
+    public List<AddressBookChange<?>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns a rough estimate of the memory taken up by this commit, in bytes.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Makes the changes of this commit to {@code addressBook}, which must be in the state from before the commit.
+     */
+    void apply(AddressBook addressBook) {
+        for (AddressBookChange<?> change : changes) {
+            change.apply(addressBook);
+        }
+    }
+
+    /**
+     * Undoes the changes of this commit to {@code addressBook}, which must be in the state from after the commit.
+     */
+    void revert(AddressBook addressBook) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookCommit)) {
+            return false;
+        }
+
+        AddressBookCommit otherCommit = (AddressBookCommit) other;
+        return message.equals(otherCommit.message)
+                && tabIndex == otherCommit.tabIndex
+                && changes.equals(otherCommit.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message, tabIndex, changes);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.client.Client;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
+
+/**
+ * An unmodifiable copy of the developers, clients and projects of an address book at one point in time.
+ * <p>
+ * Unlike a copy made with {@link AddressBook#AddressBook(ReadOnlyAddressBook)}, a snapshot checks nothing and
+ * keeps no indexes, so taking one only costs copying the lists. Entities are immutable, so copying the lists is
+ * enough for the snapshot to stay the same while the address book it was taken from changes.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Developer> developers;
+    private final ObservableList<Client> clients;
+    private final ObservableList<Project> projects;
+
+    /**
+     * Creates a snapshot of the current data of {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        this(addressBook.getDeveloperList(), addressBook.getClientList(), addressBook.getProjectList());
+    }
+
+    /**
+     * Creates a snapshot of {@code developers}, {@code clients} and {@code projects}, which must already be free of
+     * duplicates.
+     */
+    public AddressBookSnapshot(Collection<Developer> developers, Collection<Client> clients,
+                               Collection<Project> projects) {
+        requireAllNonNull(developers, clients, projects);
+        this.developers = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(developers));
+        this.clients = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(clients));
+        this.projects = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(projects));
+    }
+
+    @Override
+    public ObservableList<Developer> getDeveloperList() {
+        return developers;
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients;
+    }
+
+    @Override
+    public ObservableList<Project> getProjectList() {
+        return projects;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return developers.equals(otherSnapshot.developers)
+                && clients.equals(otherSnapshot.clients)
+                && projects.equals(otherSnapshot.projects);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(developers, clients, projects);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("developers", developers)
+                .add("clients", clients)
+                .add("projects", projects)
+                .toString();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,7 +12,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.QueryResult;
 import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineQuery;
 import seedu.address.model.project.Project;
 
 /**
@@ -23,6 +27,7 @@ public interface Model {
     Predicate<Developer> PREDICATE_SHOW_ALL_DEVELOPERS = unused -> true;
     Predicate<Client> PREDICATE_SHOW_ALL_CLIENTS = unused -> true;
     Predicate<Project> PREDICATE_SHOW_ALL_PROJECTS = unused -> true;
+    Predicate<Deadline> PREDICATE_SHOW_ALL_DEADLINES = unused -> true;
     Predicate<Developer> PREDICATE_SHOW_NO_DEVELOPER = unused -> false;
     Predicate<Client> PREDICATE_SHOW_NO_CLIENT = unused -> false;
     Predicate<Project> PREDICATE_SHOW_NO_PROJECT = unused -> false;
@@ -67,6 +72,11 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the current version of the address book data, which changes whenever the data is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -95,6 +105,16 @@ public interface Model {
 
     void deleteProject(seedu.address.model.project.Project target);
 
+    /**
+     * Returns the developers assigned to the project with the given name.
+     */
+    List<Developer> getDevelopersOnProject(String projectName);
+
+    /**
+     * Returns the clients assigned to the project with the given name.
+     */
+    List<Client> getClientsOnProject(String projectName);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -103,6 +123,18 @@ public interface Model {
 
     void addClient(Client person);
 
+    /**
+     * Adds all the given developers in a single change.
+     * None of them may already exist in the address book or share a name with another of them.
+     */
+    void addDevelopers(List<Developer> developers);
+
+    /**
+     * Adds all the given clients in a single change.
+     * None of them may already exist in the address book or share a name with another of them.
+     */
+    void addClients(List<Client> clients);
+
     void addProject(seedu.address.model.project.Project person);
 
     /**
@@ -135,10 +167,72 @@ public interface Model {
 
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Returns the result of the query plan that found the developers in the current filter of the filtered developer
+     * list, if they were found by one.
+     */
+    Optional<QueryResult<Developer>> getDeveloperQueryResult();
+
+    /**
+     * Returns the result of the query plan that found the clients in the current filter of the filtered client
+     * list, if they were found by one.
+     */
+    Optional<QueryResult<Client>> getClientQueryResult();
+
+    /**
+     * Narrows the filtered developer list down to the {@code limit} developers in it whose names, roles, addresses
+     * and projects best match {@code keywords}, and orders them from the best match.
+     * The order is kept until the filter of the list is next updated.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void rankFilteredDeveloperList(List<String> keywords, int limit);
+
+    /**
+     * Narrows the filtered client list down to the {@code limit} clients in it whose names, roles, addresses,
+     * organisations and projects best match {@code keywords}, and orders them from the best match.
+     * The order is kept until the filter of the list is next updated.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void rankFilteredClientList(List<String> keywords, int limit);
+
     void updateFilteredProjectList(Predicate<seedu.address.model.project.Project> predicate);
 
     void updateFilteredProjectDeadlineList(Predicate<Deadline> predicate);
 
+    /**
+     * Updates the filters of the developer, client and project lists and of the deadlines of every project together,
+     * searching the four collections at the same time.
+     *
+     * @throws NullPointerException if any predicate is null.
+     */
+    void updateFilteredLists(Predicate<Developer> developerPredicate, Predicate<Client> clientPredicate,
+                             Predicate<seedu.address.model.project.Project> projectPredicate,
+                             Predicate<Deadline> deadlinePredicate);
+
+    /**
+     * Returns how often searches were answered from the results of an identical earlier search, which is reused
+     * until the address book is next modified.
+     */
+    QueryCache.Statistics getQueryCacheStatistics();
+
+    /**
+     * Returns the first {@code limit} deadlines of all projects matching {@code query}, in order of the day they are
+     * due and then by priority, with deadlines that are not done before those that are.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    List<Deadline> findDeadlines(DeadlineQuery query, int limit);
+
+    /**
+     * Returns the project that {@code deadline} belongs to, or null if it is not a deadline of any project in the
+     * address book.
+     *
+     * @throws NullPointerException if {@code deadline} is null.
+     */
+    Project getProjectOf(Deadline deadline);
+
     void commitAddressBook(Model model, String message, TabIndex index);
 
     void undoAddressBook(Model model) throws CommandException;
@@ -151,4 +245,9 @@ public interface Model {
     TabIndex getPreviousTabIndex();
 
     TabIndex getPreviousTabIndexForRedo();
+
+    /**
+     * Returns the current size of the undo history.
+     */
+    UndoHistoryFootprint getUndoHistoryFootprint();
 }
@@ -4,11 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.TabIndex;
@@ -16,20 +28,36 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PrecomputedPredicate;
+import seedu.address.model.person.QueryResult;
+import seedu.address.model.person.RelevanceRanker;
 import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineQuery;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    // Filters that are not searches and are cheaper to apply than to look up
+    private static final Set<Predicate<?>> UNCACHED_PREDICATES = Set.of(PREDICATE_SHOW_ALL_DEVELOPERS,
+            PREDICATE_SHOW_ALL_CLIENTS, PREDICATE_SHOW_ALL_PROJECTS, PREDICATE_SHOW_ALL_DEADLINES,
+            PREDICATE_SHOW_NO_DEVELOPER, PREDICATE_SHOW_NO_CLIENT, PREDICATE_SHOW_NO_PROJECT);
+    private static final String DEVELOPERS = "developers";
+    private static final String CLIENTS = "clients";
+    private static final String PROJECTS = "projects";
+    private static final String DEADLINES = "deadlines";
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Developer> filteredDevelopers;
     private final FilteredList<Client> filteredClients;
+    // The filtered lists as shown, which are in the order of the address book unless the results were ranked
+    private final SortedList<Developer> sortedDevelopers;
+    private final SortedList<Client> sortedClients;
     private final FilteredList<seedu.address.model.project.Project> filteredProjects;
     private final VersionedAddressBook versionedAddressBook;
+    private final QueryCache queryCache = new QueryCache(QueryCache.DEFAULT_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,11 +68,15 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        this.addressBook.startIndexing();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredDevelopers = new FilteredList<>(this.addressBook.getDeveloperList());
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
+        sortedDevelopers = new SortedList<>(filteredDevelopers);
+        sortedClients = new SortedList<>(filteredClients);
         filteredProjects = new FilteredList<>(this.addressBook.getProjectList());
-        versionedAddressBook = new VersionedAddressBook(this.addressBook);
+        versionedAddressBook = new VersionedAddressBook(this.addressBook, this.userPrefs.getUndoHistoryStepLimit(),
+                this.userPrefs.getUndoHistoryByteLimit());
 
     }
 
@@ -99,6 +131,11 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasDeveloper(Developer developer) {
         requireNonNull(developer);
@@ -116,6 +153,13 @@ public class ModelManager implements Model {
         updateFilteredDeveloperList(PREDICATE_SHOW_ALL_DEVELOPERS);
     }
 
+    @Override
+    public void addDevelopers(List<Developer> developers) {
+        requireNonNull(developers);
+        addressBook.addDevelopers(developers);
+        updateFilteredDeveloperList(PREDICATE_SHOW_ALL_DEVELOPERS);
+    }
+
     @Override
     public void setDeveloper(Developer target, Developer editedDeveloper) {
         requireAllNonNull(target, editedDeveloper);
@@ -133,13 +177,27 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Developer> getFilteredDeveloperList() {
-        return filteredDevelopers;
+        return sortedDevelopers;
     }
 
     @Override
     public void updateFilteredDeveloperList(Predicate<Developer> predicate) {
         requireNonNull(predicate);
-        filteredDevelopers.setPredicate(predicate);
+        sortedDevelopers.setComparator(null);
+        filteredDevelopers.setPredicate(search(DEVELOPERS, predicate, addressBook::getIndexedDeveloperPredicate,
+                addressBook.getDeveloperList()));
+    }
+
+    @Override
+    public void rankFilteredDeveloperList(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        RelevanceRanker<Developer> ranker = addressBook.getDeveloperRanker(keywords);
+        rank(filteredDevelopers, sortedDevelopers, ranker, limit);
+    }
+
+    @Override
+    public Optional<QueryResult<Developer>> getDeveloperQueryResult() {
+        return getQueryResult(filteredDevelopers.getPredicate());
     }
 
     @Override
@@ -171,6 +229,13 @@ public class ModelManager implements Model {
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
+    @Override
+    public void addClients(List<Client> clients) {
+        requireNonNull(clients);
+        addressBook.addClients(clients);
+        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+    }
+
     @Override
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
@@ -185,13 +250,27 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Client> getFilteredClientList() {
-        return filteredClients;
+        return sortedClients;
     }
 
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
-        filteredClients.setPredicate(predicate);
+        sortedClients.setComparator(null);
+        filteredClients.setPredicate(search(CLIENTS, predicate, addressBook::getIndexedClientPredicate,
+                addressBook.getClientList()));
+    }
+
+    @Override
+    public void rankFilteredClientList(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        RelevanceRanker<Client> ranker = addressBook.getClientRanker(keywords);
+        rank(filteredClients, sortedClients, ranker, limit);
+    }
+
+    @Override
+    public Optional<QueryResult<Client>> getClientQueryResult() {
+        return getQueryResult(filteredClients.getPredicate());
     }
 
     @Override
@@ -205,6 +284,18 @@ public class ModelManager implements Model {
         addressBook.removeProject(target);
     }
 
+    @Override
+    public List<Developer> getDevelopersOnProject(String projectName) {
+        requireNonNull(projectName);
+        return addressBook.getDevelopersOnProject(projectName);
+    }
+
+    @Override
+    public List<Client> getClientsOnProject(String projectName) {
+        requireNonNull(projectName);
+        return addressBook.getClientsOnProject(projectName);
+    }
+
     @Override
     public void addProject(seedu.address.model.project.Project project) {
         addressBook.addProject(project);
@@ -233,14 +324,155 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredProjectList(Predicate<seedu.address.model.project.Project> predicate) {
         requireNonNull(predicate);
-        filteredProjects.setPredicate(predicate);
+        filteredProjects.setPredicate(search(PROJECTS, predicate, Function.identity(), addressBook.getProjectList()));
         filteredProjects.forEach(e -> e.setPredicate(u -> true));
     }
 
     @Override
     public void updateFilteredProjectDeadlineList(Predicate<Deadline> predicate) {
         requireNonNull(predicate);
-        filteredProjects.forEach(e -> e.setPredicate(predicate));
+        Predicate<Deadline> deadlineMatches = search(DEADLINES, predicate, Function.identity(),
+                getDeadlineCandidates(predicate));
+        filteredProjects.forEach(e -> e.setPredicate(deadlineMatches));
+    }
+
+    @Override
+    public void updateFilteredLists(Predicate<Developer> developerPredicate, Predicate<Client> clientPredicate,
+                                    Predicate<seedu.address.model.project.Project> projectPredicate,
+                                    Predicate<Deadline> deadlinePredicate) {
+        requireAllNonNull(developerPredicate, clientPredicate, projectPredicate, deadlinePredicate);
+        List<Runnable> pendingSearches = new ArrayList<>();
+        long hitCountBefore = queryCache.getStatistics().getHitCount();
+        Predicate<Developer> developerMatches = lookUp(DEVELOPERS, developerPredicate,
+                addressBook::getIndexedDeveloperPredicate, addressBook.getDeveloperList(), pendingSearches);
+        Predicate<Client> clientMatches = lookUp(CLIENTS, clientPredicate, addressBook::getIndexedClientPredicate,
+                addressBook.getClientList(), pendingSearches);
+        Predicate<seedu.address.model.project.Project> projectMatches = lookUp(PROJECTS, projectPredicate,
+                Function.identity(), addressBook.getProjectList(), pendingSearches);
+        Predicate<Deadline> deadlineMatches = lookUp(DEADLINES, deadlinePredicate, Function.identity(),
+                getDeadlineCandidates(deadlinePredicate), pendingSearches);
+        long cacheHitCount = queryCache.getStatistics().getHitCount() - hitCountBefore;
+
+        // Each search only reads its own list and tests its own predicate, and no command changes the address book
+        // until all of them have finished
+        List<ForkJoinTask<?>> searches = pendingSearches.stream()
+                .map(ForkJoinPool.commonPool()::submit)
+                .collect(Collectors.toList());
+        searches.forEach(ForkJoinTask::join);
+        logger.fine("Searched all lists, " + searches.size() + " of them searched and " + cacheHitCount
+                + " answered from the query cache");
+
+        // The filters only look up the answers found above, and are all changed before the UI is next refreshed
+        sortedDevelopers.setComparator(null);
+        sortedClients.setComparator(null);
+        filteredDevelopers.setPredicate(developerMatches);
+        filteredClients.setPredicate(clientMatches);
+        filteredProjects.setPredicate(projectMatches);
+        filteredProjects.forEach(project -> project.setPredicate(deadlineMatches));
+    }
+
+    @Override
+    public QueryCache.Statistics getQueryCacheStatistics() {
+        return queryCache.getStatistics();
+    }
+
+    @Override
+    public List<Deadline> findDeadlines(DeadlineQuery query, int limit) {
+        requireNonNull(query);
+        return addressBook.findDeadlines(query, limit);
+    }
+
+    @Override
+    public seedu.address.model.project.Project getProjectOf(Deadline deadline) {
+        requireNonNull(deadline);
+        return addressBook.getProjectOf(deadline);
+    }
+
+    /**
+     * Returns the deadlines that may match {@code predicate}, which are found from the deadline index when it is a
+     * {@code DeadlineQuery} and are every deadline otherwise. They are only looked up when iterated over.
+     */
+    private Iterable<Deadline> getDeadlineCandidates(Predicate<Deadline> predicate) {
+        if (predicate instanceof DeadlineQuery) {
+            return () -> addressBook.findDeadlines((DeadlineQuery) predicate, Integer.MAX_VALUE).iterator();
+        }
+        return () -> addressBook.getProjectList().stream()
+                .flatMap(project -> project.getProjectDeadlines().stream())
+                .iterator();
+    }
+
+    /**
+     * Returns the filter showing the entities of {@code entities} matching {@code query}, searching for them now
+     * unless the result of the same query is cached for the current version of the address book.
+     */
+    private <T> Predicate<T> search(String listName, Predicate<T> query,
+                                    Function<Predicate<T>, Predicate<T>> toSearchPredicate,
+                                    Iterable<? extends T> entities) {
+        List<Runnable> pendingSearches = new ArrayList<>();
+        Predicate<T> matches = lookUp(listName, query, toSearchPredicate, entities, pendingSearches);
+        pendingSearches.forEach(Runnable::run);
+        return matches;
+    }
+
+    /**
+     * Returns the filter showing the entities of {@code entities} matching {@code query}. If its result is not
+     * cached for the current version of the address book, the search that completes the returned filter and then
+     * caches it is added to {@code pendingSearches}, which must be run before the filter is used. A search that
+     * fails caches nothing.
+     */
+    private <T> Predicate<T> lookUp(String listName, Predicate<T> query,
+                                    Function<Predicate<T>, Predicate<T>> toSearchPredicate,
+                                    Iterable<? extends T> entities, List<Runnable> pendingSearches) {
+        if (UNCACHED_PREDICATES.contains(query)) {
+            return query;
+        }
+        long version = addressBook.getVersion();
+        Optional<PrecomputedPredicate<T>> cachedMatches = queryCache.get(listName, query, version);
+        if (cachedMatches.isPresent()) {
+            return cachedMatches.get().reuse();
+        }
+        PrecomputedPredicate<T> matches = new PrecomputedPredicate<>(query);
+        pendingSearches.add(() -> {
+            matches.precompute(entities, toSearchPredicate.apply(query));
+            // Searches on different lists may complete at the same time
+            synchronized (queryCache) {
+                queryCache.put(listName, query, version, matches);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the result of the query plan that found the entities shown by {@code filter}, if they were found by
+     * one.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<QueryResult<T>> getQueryResult(Predicate<? super T> filter) {
+        if (!(filter instanceof PrecomputedPredicate)) {
+            return Optional.empty();
+        }
+        PrecomputedPredicate<? super T> matches = (PrecomputedPredicate<? super T>) filter;
+        if (!(matches.getSearchPredicate() instanceof QueryResult)) {
+            return Optional.empty();
+        }
+        QueryResult<T> result = (QueryResult<T>) matches.getSearchPredicate();
+        return Optional.of(matches.isReused() ? result.fromCache() : result);
+    }
+
+    /**
+     * Narrows {@code filtered} down to the {@code limit} entities in it that {@code ranker} finds most relevant, and
+     * shows them in {@code sorted} from the most relevant.
+     * The ranking is worked out once, so entities added or edited afterwards are not shown until the next search.
+     */
+    private static <T> void rank(FilteredList<T> filtered, SortedList<T> sorted, RelevanceRanker<T> ranker,
+                                 int limit) {
+        List<T> top = ranker.selectTop(filtered, limit);
+        Map<T, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < top.size(); i++) {
+            ranks.put(top.get(i), i);
+        }
+        filtered.setPredicate(ranks::containsKey);
+        sorted.setComparator(Comparator.comparing(ranks::get));
     }
 
     //=========== Undo/Redo Accessors =============================================================
@@ -279,6 +511,18 @@ public class ModelManager implements Model {
         return versionedAddressBook.getPreviousTabIndexForRedo();
     }
 
+    @Override
+    public UndoHistoryFootprint getUndoHistoryFootprint() {
+        return versionedAddressBook.getFootprint();
+    }
+
+    /**
+     * Sets the store that undo history is moved to when it no longer fits in the limits from the user prefs.
+     */
+    public void setUndoHistoryStore(UndoHistoryStore historyStore) {
+        versionedAddressBook.setHistoryStore(historyStore);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by the names of the projects they are assigned to, so that the members of a project
+ * can be found without going through every person.
+ * The index must be told about every change to the persons it holds.
+ *
+ * @param <T> The type of person indexed.
+ */
+class ProjectMemberIndex<T extends Person> {
+
+    private final Map<String, Set<T>> membersByProject = new HashMap<>();
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void reset(Iterable<T> persons) {
+        requireNonNull(persons);
+        membersByProject.clear();
+        for (T person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Adds {@code person} under each project it is assigned to.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        for (String project : person.getProjects()) {
+            membersByProject.computeIfAbsent(project, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from each project it is assigned to.
+     */
+    public void remove(T person) {
+        requireNonNull(person);
+        for (String project : person.getProjects()) {
+            Set<T> members = membersByProject.get(project);
+            if (members == null) {
+                continue;
+            }
+            members.remove(person);
+            if (members.isEmpty()) {
+                membersByProject.remove(project);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     */
+    public void replace(T target, T editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Returns the persons assigned to the project with the given name.
+     * The returned list is a copy, so it is not affected by later changes to the index.
+     */
+    public List<T> getMembers(String project) {
+        requireNonNull(project);
+        Set<T> members = membersByProject.get(project);
+        return members == null ? Collections.emptyList() : new ArrayList<>(members);
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A least recently used cache of the results of searches, keyed by the list searched, the query and the version of
+ * the address book it was run against.
+ * <p>
+ * A query is given as the predicate it was parsed into, which compares equal to the predicate of any input that
+ * differs only in spacing and the order of prefixes, so the predicate is the normalised form of the query. Results
+ * for an older version can never be used again, so they are dropped as soon as a newer version is looked up.
+ */
+public class QueryCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    /**
+     * The number of lookups that were and were not answered from a {@code QueryCache}, and how full it is.
+     */
+    public static class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final int size;
+        private final int capacity;
+
+        private Statistics(long hitCount, long missCount, int size, int capacity) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Returns the fraction of lookups answered from the cache, or 0 if there were none.
+         */
+        public double getHitRate() {
+            long lookupCount = hitCount + missCount;
+            return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+        }
+    }
+
+    private static class Key {
+        private final String listName;
+        private final Object query;
+        private final long version;
+
+        private Key(String listName, Object query, long version) {
+            this.listName = listName;
+            this.query = query;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return listName.equals(otherKey.listName) && query.equals(otherKey.query) && version == otherKey.version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(listName, query, version);
+        }
+    }
+
+    private final int capacity;
+    private final Map<Key, Object> entries;
+    private long latestVersion = Long.MIN_VALUE;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates an empty cache holding the results of at most {@code capacity} queries.
+     */
+    public QueryCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity parameter must be positive");
+        this.capacity = capacity;
+        // Iterates from the least recently used entry, which is dropped once the cache is over capacity
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result cached for {@code query} on the list named {@code listName} at {@code version}, if any,
+     * and counts the lookup as a hit or a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Optional<R> get(String listName, Object query, long version) {
+        requireNonNull(listName);
+        requireNonNull(query);
+        dropOlderThan(version);
+        R result = (R) entries.get(new Key(listName, query, version));
+        if (result == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Caches {@code result} as the result of {@code query} on the list named {@code listName} at {@code version}.
+     */
+    public void put(String listName, Object query, long version, Object result) {
+        requireNonNull(listName);
+        requireNonNull(query);
+        requireNonNull(result);
+        dropOlderThan(version);
+        if (version == latestVersion) {
+            entries.put(new Key(listName, query, version), result);
+        }
+    }
+
+    /**
+     * Returns how often lookups were answered from the cache, and how full it is.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hitCount, missCount, entries.size(), capacity);
+    }
+
+    private void dropOlderThan(long version) {
+        if (version > latestVersion) {
+            entries.clear();
+            latestVersion = version;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The size of the undo history at some point in time.
+ */
+public class UndoHistoryFootprint {
+
+    private final int stepCount;
+    private final int inMemoryStepCount;
+    private final long estimatedMemoryBytes;
+
+    /**
+     * Creates a footprint of a history of {@code stepCount} steps, {@code inMemoryStepCount} of which
+     * are held in memory and take up about {@code estimatedMemoryBytes} bytes.
+     */
+    public UndoHistoryFootprint(int stepCount, int inMemoryStepCount, long estimatedMemoryBytes) {
+        this.stepCount = stepCount;
+        this.inMemoryStepCount = inMemoryStepCount;
+        this.estimatedMemoryBytes = estimatedMemoryBytes;
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public int getInMemoryStepCount() {
+        return inMemoryStepCount;
+    }
+
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistoryFootprint)) {
+            return false;
+        }
+
+        UndoHistoryFootprint otherFootprint = (UndoHistoryFootprint) other;
+        return stepCount == otherFootprint.stepCount
+                && inMemoryStepCount == otherFootprint.inMemoryStepCount
+                && estimatedMemoryBytes == otherFootprint.estimatedMemoryBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stepCount, inMemoryStepCount, estimatedMemoryBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("stepCount", stepCount)
+                .add("inMemoryStepCount", inMemoryStepCount)
+                .add("estimatedMemoryBytes", estimatedMemoryBytes)
+                .toString();
+    }
+}
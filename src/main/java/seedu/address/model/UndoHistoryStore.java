@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Holds undo history steps that have been moved out of memory.
+ */
+public interface UndoHistoryStore {
+
+    /**
+     * Stores {@code commit} and returns the position to read it back from.
+     *
+     * @throws IOException if the commit could not be stored.
+     */
+    long write(AddressBookCommit commit) throws IOException;
+
+    /**
+     * Reads back the commit stored at {@code position}.
+     *
+     * @throws DataLoadingException if the commit could not be read.
+     */
+    AddressBookCommit read(long position) throws DataLoadingException;
+
+    /**
+     * Frees the commit stored at {@code position}, which will not be read again, so that its space can be reused.
+     *
+     * @throws IOException if the space could not be freed.
+     */
+    void free(long position) throws IOException;
+
+    /**
+     * Frees every stored commit and releases what holds them, once the undo history is no longer needed.
+     *
+     * @throws IOException if what holds the commits could not be released.
+     */
+    void close() throws IOException;
+
+}
@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
+    private StorageFormat addressBookStorageFormat = StorageFormat.JSON;
+    private int undoHistoryStepLimit = 100;
+    private long undoHistoryByteLimit = 8L * 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +42,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        setUndoHistoryStepLimit(newUserPrefs.getUndoHistoryStepLimit());
+        setUndoHistoryByteLimit(newUserPrefs.getUndoHistoryByteLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +65,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(StorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public int getUndoHistoryStepLimit() {
+        return undoHistoryStepLimit;
+    }
+
+    public void setUndoHistoryStepLimit(int undoHistoryStepLimit) {
+        checkArgument(undoHistoryStepLimit > 0, "Undo history step limit must be positive");
+        this.undoHistoryStepLimit = undoHistoryStepLimit;
+    }
+
+    public long getUndoHistoryByteLimit() {
+        return undoHistoryByteLimit;
+    }
+
+    public void setUndoHistoryByteLimit(long undoHistoryByteLimit) {
+        checkArgument(undoHistoryByteLimit > 0, "Undo history byte limit must be positive");
+        this.undoHistoryByteLimit = undoHistoryByteLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -70,12 +105,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookStorageFormat == otherUserPrefs.addressBookStorageFormat
+                && undoHistoryStepLimit == otherUserPrefs.undoHistoryStepLimit
+                && undoHistoryByteLimit == otherUserPrefs.undoHistoryByteLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, undoHistoryStepLimit,
+                undoHistoryByteLimit);
     }
 
     @Override
@@ -83,6 +122,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nUndo history limits : " + undoHistoryStepLimit + " steps, " + undoHistoryByteLimit + " bytes");
         return sb.toString();
     }
 
@@ -1,34 +1,96 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.TabIndex;
 import seedu.address.logic.commands.exceptions.CommandException;
 
 /**
  * Represents a versioned history of the address book.
  * Keeps track of the address book states and allows undoing and redoing changes.
+ * <p>
+ * Instead of a full copy of every state, the history keeps the changes made to the developer, client and project
+ * lists between two commits. Committing, undoing and redoing therefore only cost as much as the entities that
+ * changed, and entities that did not change are never copied.
+ * <p>
+ * Only a window of steps around the current state is kept in memory, bounded by a number of steps and an
+ * estimated size in bytes. Steps outside the window are moved to an {@link UndoHistoryStore} and read back
+ * when they are undone or redone. Without a store, steps outside the window are discarded instead.
  */
 public class VersionedAddressBook extends AddressBook {
     public static final String INVALID_REDO_COMMAND = "You have reached the last step, unable to redo";
     public static final String INVALID_UNDO_COMMAND = "You have reached the first step, unable to undo";
-    private List<AddressBook> addressBookStateList;
-    private List<String> successfulCommandMessages;
-    private List<TabIndex> tabIndex;
+    public static final String MESSAGE_HISTORY_UNAVAILABLE = "Unable to read the earlier undo history: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
+    private final AddressBook trackedAddressBook;
+    private final int stepLimit;
+    private final long byteLimit;
+    private UndoHistoryStore historyStore = null;
+
+    // Step i turns state i into state i + 1. Steps outside the window are null.
+    private final List<AddressBookCommit> steps = new ArrayList<>();
+    // Position of each step in the history store, or null if it has not been stored
+    private final List<Long> storedPositions = new ArrayList<>();
+    private List<AddressBookChange<?>> uncommittedChanges = new ArrayList<>();
+    private int windowStart = 0;
+    private int windowEnd = 0;
+    private long estimatedMemoryBytes = 0;
+    private int firstAvailableState = 0;
     private int currentStatePointer;
+    private boolean isReplayingChanges;
+
+    /**
+     * Constructs a `VersionedAddressBook` object with an initial address book state and no limit on the
+     * size of the history.
+     *
+     * @param addressBook The address book to keep the history of, in its initial state.
+     * @see #VersionedAddressBook(AddressBook, int, long)
+     */
+    public VersionedAddressBook(AddressBook addressBook) {
+        this(addressBook, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
 
     /**
      * Constructs a `VersionedAddressBook` object with an initial address book state.
+     * Changes made to {@code addressBook} from now on are recorded, and undoing or redoing them
+     * updates {@code addressBook} in place.
      *
-     * @param initialAddressBook The initial state of the address book.
+     * @param addressBook The address book to keep the history of, in its initial state.
+     * @param stepLimit The number of steps to keep in memory.
+     * @param byteLimit The estimated size in bytes of the steps to keep in memory.
      */
-    public VersionedAddressBook(ReadOnlyAddressBook initialAddressBook) {
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialAddressBook));
-        successfulCommandMessages = new ArrayList<>();
-        tabIndex = new ArrayList<>();
+    public VersionedAddressBook(AddressBook addressBook, int stepLimit, long byteLimit) {
+        requireNonNull(addressBook);
+        checkArgument(stepLimit > 0 && byteLimit > 0, "History limits must be positive");
+        trackedAddressBook = addressBook;
+        this.stepLimit = stepLimit;
+        this.byteLimit = byteLimit;
         currentStatePointer = 0;
+
+        recordChanges(addressBook.getDeveloperList(), AddressBookChange.EntityList.DEVELOPERS);
+        recordChanges(addressBook.getClientList(), AddressBookChange.EntityList.CLIENTS);
+        recordChanges(addressBook.getProjectList(), AddressBookChange.EntityList.PROJECTS);
+    }
+
+    /**
+     * Sets the store that steps are moved to when they no longer fit in memory.
+     */
+    public void setHistoryStore(UndoHistoryStore historyStore) {
+        requireNonNull(historyStore);
+        this.historyStore = historyStore;
     }
 
     /**
@@ -39,31 +101,44 @@ public class VersionedAddressBook extends AddressBook {
      * @param index The tab index to be stored.
      */
     public void commit(Model model, String successMessage, TabIndex index) {
-        if (currentStatePointer < addressBookStateList.size() - 1) {
+        if (currentStatePointer < steps.size()) {
             // If we're not at the latest state, remove the states after the current one
-            addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
-            successfulCommandMessages.subList(currentStatePointer, successfulCommandMessages.size()).clear();
-            tabIndex.subList(currentStatePointer, tabIndex.size()).clear();
+            for (int i = currentStatePointer; i < windowEnd; i++) {
+                estimatedMemoryBytes -= steps.get(i).getEstimatedSize();
+            }
+            freeStoredSteps(currentStatePointer, steps.size());
+            steps.subList(currentStatePointer, steps.size()).clear();
+            storedPositions.subList(currentStatePointer, storedPositions.size()).clear();
+            windowEnd = currentStatePointer;
         }
 
-        // Add the current state to the history
-        AddressBook updatedAddressBook = new AddressBook(model.getAddressBook());
-        addressBookStateList.add(updatedAddressBook);
-        successfulCommandMessages.add(successMessage);
-        tabIndex.add(index);
+        // Add the changes since the previous state to the history
+        AddressBookCommit step = new AddressBookCommit(successMessage, index, uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        steps.add(step);
+        storedPositions.add(null);
+        estimatedMemoryBytes += step.getEstimatedSize();
+        windowEnd++;
         currentStatePointer++;
+        enforceLimits();
     }
 
     /**
      * Undoes the last change by restoring the previous state.
      *
      * @param model The current model.
-     * @throws CommandException If the undo operation is not valid (e.g., when there are no more states to undo).
+     * @throws CommandException If the undo operation is not valid (e.g., when there are no more states to undo),
+     *     or if the previous state could not be read back from the history store.
      */
     public void undo(Model model) throws CommandException {
         if (canUndo()) {
+            AddressBookCommit step = loadStep(currentStatePointer - 1);
             currentStatePointer--;
-            changeAddressBook(model);
+            replay(() -> {
+                revertUncommittedChanges(trackedAddressBook);
+                step.revert(trackedAddressBook);
+            });
+            enforceLimits();
         } else {
             throw new CommandException(INVALID_UNDO_COMMAND);
         }
@@ -73,12 +148,18 @@ public class VersionedAddressBook extends AddressBook {
      * Redoes the last undone change by restoring the next state.
      *
      * @param model The current model.
-     * @throws CommandException If the redo operation is not valid (e.g., when there are no more states to redo).
+     * @throws CommandException If the redo operation is not valid (e.g., when there are no more states to redo),
+     *     or if the next state could not be read back from the history store.
      */
     public void redo(Model model) throws CommandException {
         if (canRedo()) {
+            AddressBookCommit step = loadStep(currentStatePointer);
+            replay(() -> {
+                revertUncommittedChanges(trackedAddressBook);
+                step.apply(trackedAddressBook);
+            });
             currentStatePointer++;
-            changeAddressBook(model);
+            enforceLimits();
         } else {
             throw new CommandException(INVALID_REDO_COMMAND);
         }
@@ -90,7 +171,7 @@ public class VersionedAddressBook extends AddressBook {
      * @return `true` if there are states to undo, `false` otherwise.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return currentStatePointer > firstAvailableState;
     }
 
     /**
@@ -99,7 +180,7 @@ public class VersionedAddressBook extends AddressBook {
      * @return `true` if there are states to redo, `false` otherwise.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < steps.size();
     }
 
     /**
@@ -108,7 +189,7 @@ public class VersionedAddressBook extends AddressBook {
      * @return The success message from the previous command.
      */
     public String getPreviousMessage() {
-        return successfulCommandMessages.get(currentStatePointer);
+        return steps.get(currentStatePointer).getMessage();
     }
     /**
      * Gets the success message associated with the redone command.
@@ -116,7 +197,7 @@ public class VersionedAddressBook extends AddressBook {
      * @return The success message from the previous command.
      */
     public String getPreviousMessageForRedo() {
-        return successfulCommandMessages.get(currentStatePointer - 1);
+        return steps.get(currentStatePointer - 1).getMessage();
     }
 
     /**
@@ -125,7 +206,7 @@ public class VersionedAddressBook extends AddressBook {
      * @return The tab index from the previous command.
      */
     public TabIndex getPreviousTabIndex() {
-        return tabIndex.get(currentStatePointer);
+        return steps.get(currentStatePointer).getTabIndex();
     }
 
     /**
@@ -134,16 +215,32 @@ public class VersionedAddressBook extends AddressBook {
      * @return The tab index from the previous command.
      */
     public TabIndex getPreviousTabIndexForRedo() {
-        return tabIndex.get(currentStatePointer - 1);
+        return steps.get(currentStatePointer - 1).getTabIndex();
     }
 
     /**
-     * Gets the current addressbook.
+     * Gets the address book as it was in the given state.
+     * The state is rebuilt from the current address book, so this takes time proportional to its size.
      *
-     * @return The tab index from the previous command.
+     * @param statePointer The state to get.
+     * @return A copy of the address book in that state.
+     * @throws IllegalStateException if the state is no longer available.
      */
-    public ReadOnlyAddressBook getCurrentState(int currentStatePointer) {
-        return addressBookStateList.get(currentStatePointer);
+    public ReadOnlyAddressBook getCurrentState(int statePointer) {
+        checkArgument(statePointer <= steps.size());
+        AddressBook state = new AddressBook(trackedAddressBook);
+        revertUncommittedChanges(state);
+        try {
+            for (int i = currentStatePointer - 1; i >= statePointer; i--) {
+                peekStep(i).revert(state);
+            }
+            for (int i = currentStatePointer; i < statePointer; i++) {
+                peekStep(i).apply(state);
+            }
+        } catch (DataLoadingException e) {
+            throw new IllegalStateException(String.format(MESSAGE_HISTORY_UNAVAILABLE, e.getMessage()), e);
+        }
+        return state;
     }
 
     /**
@@ -156,12 +253,166 @@ public class VersionedAddressBook extends AddressBook {
     }
 
     /**
-     * Changes the current model's address book to match the current state.
-     *
-     * @param model The current model.
+     * Returns the current size of the history.
+     */
+    public UndoHistoryFootprint getFootprint() {
+        return new UndoHistoryFootprint(steps.size() - firstAvailableState, windowEnd - windowStart,
+                estimatedMemoryBytes);
+    }
+
+    /**
+     * Records every change made to {@code list}, which is one of the lists of the tracked address book.
+     */
+    private <T> void recordChanges(ObservableList<T> list, AddressBookChange.EntityList entityList) {
+        list.addListener((ListChangeListener<T>) change -> {
+            if (isReplayingChanges) {
+                return;
+            }
+            while (change.next()) {
+                // The lists are only ever added to, removed from or set, so there are no permutations
+                assert !change.wasPermutated() && !change.wasUpdated();
+                uncommittedChanges.add(new AddressBookChange<>(entityList, change.getFrom(),
+                        new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList())));
+            }
+        });
+    }
+
+    /**
+     * Runs {@code replay} without recording the changes it makes, and forgets any uncommitted changes.
      */
-    public void changeAddressBook(Model model) {
-        AddressBook newAddressBook = addressBookStateList.get(currentStatePointer);
-        model.setAddressBook(newAddressBook);
+    private void replay(Runnable replay) {
+        isReplayingChanges = true;
+        try {
+            replay.run();
+        } finally {
+            isReplayingChanges = false;
+        }
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    private void revertUncommittedChanges(AddressBook addressBook) {
+        for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+            uncommittedChanges.get(i).revert(addressBook);
+        }
+    }
+
+    /**
+     * Returns step {@code index}, reading it back into memory if it is just outside the window.
+     */
+    private AddressBookCommit loadStep(int index) throws CommandException {
+        if (index >= windowStart && index < windowEnd) {
+            return steps.get(index);
+        }
+        assert index == windowStart - 1 || index == windowEnd;
+
+        AddressBookCommit step;
+        try {
+            step = peekStep(index);
+        } catch (DataLoadingException e) {
+            logger.warning("Failed to read undo history: " + StringUtil.getDetails(e));
+            if (index < windowStart) {
+                freeStoredSteps(firstAvailableState, windowStart);
+                firstAvailableState = windowStart;
+            } else {
+                freeStoredSteps(windowEnd, steps.size());
+                steps.subList(windowEnd, steps.size()).clear();
+                storedPositions.subList(windowEnd, storedPositions.size()).clear();
+            }
+            throw new CommandException(String.format(MESSAGE_HISTORY_UNAVAILABLE, e.getMessage()), e);
+        }
+
+        steps.set(index, step);
+        estimatedMemoryBytes += step.getEstimatedSize();
+        if (index < windowStart) {
+            windowStart--;
+        } else {
+            windowEnd++;
+        }
+        return step;
+    }
+
+    /**
+     * Returns step {@code index}, reading it from the history store without keeping it in memory if needed.
+     */
+    private AddressBookCommit peekStep(int index) throws DataLoadingException {
+        AddressBookCommit step = steps.get(index);
+        if (step != null) {
+            return step;
+        }
+        Long position = storedPositions.get(index);
+        if (historyStore == null || position == null) {
+            throw new DataLoadingException(new IOException("Step " + index + " is no longer available"));
+        }
+        return historyStore.read(position);
+    }
+
+    /**
+     * Moves steps out of memory until the window fits in the limits.
+     * The steps next to the current state are always kept, so that the next undo or redo is quick.
+     */
+    private void enforceLimits() {
+        while (windowEnd - windowStart > stepLimit || estimatedMemoryBytes > byteLimit) {
+            // Move out the step furthest from the current state
+            boolean isOldestFurthest = currentStatePointer - windowStart >= windowEnd - currentStatePointer;
+            int index = isOldestFurthest ? windowStart : windowEnd - 1;
+            if (index >= currentStatePointer - 1 && index <= currentStatePointer) {
+                return;
+            }
+            evictStep(index, isOldestFurthest);
+        }
+    }
+
+    private void evictStep(int index, boolean isOldest) {
+        AddressBookCommit step = steps.get(index);
+        estimatedMemoryBytes -= step.getEstimatedSize();
+        steps.set(index, null);
+
+        boolean isStored = storedPositions.get(index) != null || storeStep(index, step);
+        if (isOldest) {
+            windowStart++;
+            if (!isStored) {
+                freeStoredSteps(firstAvailableState, windowStart);
+                firstAvailableState = windowStart;
+            }
+        } else {
+            windowEnd--;
+            if (!isStored) {
+                freeStoredSteps(windowEnd, steps.size());
+                steps.subList(windowEnd, steps.size()).clear();
+                storedPositions.subList(windowEnd, storedPositions.size()).clear();
+            }
+        }
+    }
+
+    private boolean storeStep(int index, AddressBookCommit step) {
+        if (historyStore == null) {
+            return false;
+        }
+        try {
+            storedPositions.set(index, historyStore.write(step));
+            return true;
+        } catch (IOException e) {
+            logger.warning("Failed to write undo history, discarding older steps: " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Frees the stored copies of steps {@code from} to {@code to}, exclusive, which can no longer be undone or
+     * redone.
+     */
+    private void freeStoredSteps(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Long position = storedPositions.get(i);
+            if (position == null) {
+                continue;
+            }
+            storedPositions.set(i, null);
+            try {
+                historyStore.free(position);
+            } catch (IOException e) {
+                logger.warning("Failed to free undo history: " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
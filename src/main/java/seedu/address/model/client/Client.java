@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.commons.Name;
@@ -17,6 +18,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Represents a Client in the address book, extending the Developer class.
@@ -25,9 +27,13 @@ import seedu.address.model.person.Phone;
 public class Client extends Person {
     public static final Prefix[] UNUSED_PREFIXES = new Prefix[]{PREFIX_DATEJOINED, PREFIX_SALARY, PREFIX_RATING,
         PREFIX_GITHUBID, PREFIX_DESCRIPTION, PREFIX_DEADLINE};
+    private static final int SEARCH_FIELD_COUNT = ClientField.values().length;
     private final Name organisation;
     private final Document document;
     private final ClientRoles role;
+    // The words of each searchable field, worked out on the first search since a client never changes.
+    // Searches run on several threads, so the array publishes the tokens safely
+    private final AtomicReferenceArray<SearchTokens> searchTokens = new AtomicReferenceArray<>(SEARCH_FIELD_COUNT);
 
     /**
      * Every field must be present and not null.
@@ -53,6 +59,19 @@ public class Client extends Person {
         return role;
     }
 
+    /**
+     * Returns the words of {@code field} of this client, working them out on first use.
+     */
+    public SearchTokens getSearchTokens(ClientField field) {
+        SearchTokens tokens = searchTokens.get(field.ordinal());
+        if (tokens == null) {
+            // Threads searching at the same time work out equal tokens, so keeping either of them is fine
+            tokens = SearchTokens.of(field.getValue(this));
+            searchTokens.set(field.ordinal(), tokens);
+        }
+        return tokens;
+    }
+
     /**
      * Returns true if the current client has the same name as the provided {@code otherClient}.
      * This is used for checking if two clients are the same, ignoring their other attributes.
@@ -66,7 +85,7 @@ public class Client extends Person {
         }
 
         return otherClient != null
-                && otherClient.getName().fullName.toLowerCase().equals(getName().fullName.toLowerCase());
+                && otherClient.getName().getIdentityKey().equals(getName().getIdentityKey());
     }
 
     @Override
@@ -0,0 +1,70 @@
+package seedu.address.model.client;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
+
+/**
+ * The fields of a {@code Client} that {@code find-client} can search.
+ */
+public enum ClientField implements SearchField<Client> {
+    NAME(client -> client.getName().fullName),
+    PHONE(client -> client.getPhone().value),
+    EMAIL(client -> client.getEmail().value),
+    ADDRESS(client -> client.getAddress().value),
+    ROLE(client -> client.getRole().toString()),
+    ORGANISATION(client -> client.getOrganisation().toString()),
+    DOCUMENT(client -> client.getDocument().toString()),
+    PROJECTS(client -> client.getProjects().toString());
+
+    // Free-text fields with many distinct words, where scanning every word for a partial match is costly
+    private static final Set<ClientField> TRIGRAM_INDEXED_FIELDS = EnumSet.of(NAME, EMAIL, ADDRESS, PHONE);
+    // Descriptive fields that say what a client is, used to rank find results by relevance
+    private static final Set<ClientField> RANKED_FIELDS = EnumSet.of(NAME, ROLE, ADDRESS, ORGANISATION, PROJECTS);
+
+    private final Function<Client, String> valueGetter;
+
+    ClientField(Function<Client, String> valueGetter) {
+        this.valueGetter = valueGetter;
+    }
+
+    @Override
+    public String getValue(Client client) {
+        return valueGetter.apply(client);
+    }
+
+    @Override
+    public SearchTokens getTokens(Client client) {
+        return client.getSearchTokens(this);
+    }
+
+    @Override
+    public boolean isPartialWordMatch() {
+        // Every client field is matched by partial words
+        return true;
+    }
+
+    @Override
+    public boolean isTrigramIndexed() {
+        return TRIGRAM_INDEXED_FIELDS.contains(this);
+    }
+
+    @Override
+    public boolean isRankingField() {
+        return RANKED_FIELDS.contains(this);
+    }
+
+    @Override
+    public boolean isFuzzyIndexed() {
+        // Names come from many sources and are the field most often misspelt
+        return this == NAME;
+    }
+
+    @Override
+    public boolean isPhoneticIndexed() {
+        return this == NAME;
+    }
+}
@@ -2,9 +2,10 @@ package seedu.address.model.client;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Tests that a {@code Developer}'s {@code Document} matches any of the keywords given.
@@ -16,11 +17,20 @@ public class DocumentContainsKeywordsPredicate implements KeywordPredicate<Clien
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Client> getField() {
+        return ClientField.DOCUMENT;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsPartialWordIgnoreCase(client.getDocument().toString(), keyword));
+        SearchTokens tokens = getField().getTokens(client);
+        return keywords.stream().anyMatch(tokens::containsPartialWord);
     }
 
     @Override
@@ -39,6 +49,11 @@ public class DocumentContainsKeywordsPredicate implements KeywordPredicate<Clien
         return keywords.equals(otherDocumentContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -2,9 +2,10 @@ package seedu.address.model.client;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Tests that a {@code Client}'s associated {@code Project} names match any of the keywords given.
@@ -16,10 +17,25 @@ public class ProjectClientContainsKeywordsPredicate implements KeywordPredicate<
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Client> getField() {
+        return ClientField.PROJECTS;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean isMatchingAllKeywords() {
+        return true;
+    }
+
     @Override
     public boolean test(Client client) {
-        return keywords.stream().allMatch(keyword ->
-                StringUtil.containsPartialWordIgnoreCase(client.getProjects().toString(), keyword));
+        SearchTokens tokens = getField().getTokens(client);
+        return keywords.stream().allMatch(tokens::containsPartialWord);
     }
 
     @Override
@@ -38,6 +54,11 @@ public class ProjectClientContainsKeywordsPredicate implements KeywordPredicate<
         return keywords.equals(otherPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
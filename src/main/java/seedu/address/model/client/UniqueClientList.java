@@ -3,6 +3,7 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PositionIndex;
 import seedu.address.model.person.exceptions.ClientNotFoundException;
 import seedu.address.model.person.exceptions.DuplicateClientException;
 
@@ -23,6 +25,7 @@ import seedu.address.model.person.exceptions.DuplicateClientException;
  * ensure that the client with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * Clients are also indexed by their case-insensitive name, so identity lookups do not scan the list.
  *
  * @see Client#isSameClient(Client)
  */
@@ -31,13 +34,16 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Position of each client in internalList, keyed by its identity key. Kept in step with internalList.
+    private final PositionIndex positions = new PositionIndex();
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return positions.contains(identityKeyOf(toCheck));
     }
 
     /**
@@ -49,7 +55,9 @@ public class UniqueClientList implements Iterable<Client> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
+        positions.add(identityKeyOf(toAdd));
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -60,7 +68,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
@@ -69,7 +77,9 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
 
+        positions.set(identityKeyOf(target), identityKeyOf(editedClient));
         internalList.set(index, editedClient);
+        modificationCount++;
     }
 
     /**
@@ -78,14 +88,21 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+
+        internalList.remove(index);
+        positions.remove(identityKeyOf(toRemove));
+        modificationCount++;
     }
 
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.setAll(replacement.positions);
+        modificationCount++;
     }
 
     /**
@@ -94,11 +111,57 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
+        if (!positions.setAll(identityKeysOf(clients))) {
             throw new DuplicateClientException();
         }
 
         internalList.setAll(clients);
+        modificationCount++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in a single change.
+     * None of them may already exist in the list or be the same as another client in {@code toAdd}.
+     */
+    public void addAll(List<Client> toAdd) {
+        replaceRange(internalList.size(), 0, toAdd);
+    }
+
+    /**
+     * Replaces the {@code count} clients starting at position {@code from} with {@code replacement}.
+     * The list must not contain duplicate clients afterwards.
+     */
+    public void replaceRange(int from, int count, List<Client> replacement) {
+        requireAllNonNull(replacement);
+        List<Client> replaced = internalList.subList(from, from + count);
+        Set<String> replacedNames = new HashSet<>();
+        for (Client client : replaced) {
+            replacedNames.add(identityKeyOf(client));
+        }
+        Set<String> replacementNames = new HashSet<>();
+        for (Client client : replacement) {
+            String name = identityKeyOf(client);
+            if (!replacementNames.add(name) || positions.contains(name) && !replacedNames.contains(name)) {
+                throw new DuplicateClientException();
+            }
+        }
+
+        if (count == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.remove(from, from + count);
+            internalList.addAll(from, replacement);
+        }
+        positions.replaceRange(from, count, identityKeysOf(replacement));
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times this list has been modified.
+     * The count only ever increases, so it can be compared to detect changes.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -109,19 +172,24 @@ public class UniqueClientList implements Iterable<Client> {
     }
 
     /**
-     * Updates the projects of all clients by removing a specific project.
+     * Updates the projects of the given clients by removing a specified project.
      *
      * @param project The project to be removed from the clients' projects.
+     * @param members The clients assigned to the project. Each of them must be in this list.
+     * @return The updated clients, in the same order as {@code members}.
      */
-    public void updateClientProjects(String project) {
-        iterator().forEachRemaining(
-                client -> {
-                    Set<String> newprojectset = new HashSet<>(client.getProjects());
-                    newprojectset.remove(project);
-                    setClient(client, new Client(client.getName(), client.getPhone(), client.getEmail(),
-                            client.getAddress(), client.getRole(), newprojectset,
-                            client.getOrganisation(), client.getDocument()));
-                });
+    public List<Client> updateClientProjects(String project, List<Client> members) {
+        List<Client> updatedMembers = new ArrayList<>(members.size());
+        for (Client client : members) {
+            Set<String> newprojectset = new HashSet<>(client.getProjects());
+            newprojectset.remove(project);
+            Client updatedClient = new Client(client.getName(), client.getPhone(), client.getEmail(),
+                    client.getAddress(), client.getRole(), newprojectset,
+                    client.getOrganisation(), client.getDocument());
+            setClient(client, updatedClient);
+            updatedMembers.add(updatedClient);
+        }
+        return updatedMembers;
     }
 
     @Override
@@ -155,16 +223,29 @@ public class UniqueClientList implements Iterable<Client> {
     }
 
     /**
-     * Returns true if {@code clients} contains only unique clients.
+     * Returns the identity keys of {@code clients}, in the same order.
      */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
-            }
+    private static List<String> identityKeysOf(List<Client> clients) {
+        List<String> keys = new ArrayList<>(clients.size());
+        for (Client client : clients) {
+            keys.add(identityKeyOf(client));
         }
-        return true;
+        return keys;
+    }
+
+    /**
+     * Returns the position of {@code client} in the list, or -1 if the list has no client equal to it.
+     */
+    private int indexOf(Client client) {
+        int index = positions.indexOf(identityKeyOf(client));
+        return index != -1 && internalList.get(index).equals(client) ? index : -1;
+    }
+
+    /**
+     * Returns the key under which {@code client} is indexed.
+     * Two clients have the same key exactly when {@link Client#isSameClient(Client)} holds between them.
+     */
+    private static String identityKeyOf(Client client) {
+        return client.getName().getIdentityKey();
     }
 }
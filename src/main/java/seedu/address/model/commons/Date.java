@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.ZoneId;
 
 /**
  * Represents the date a developer Joined. In the format: dd-MM-YYYY
@@ -54,6 +55,14 @@ public class Date {
         }
     }
 
+    /**
+     * Returns the number of days from 01-01-1970 to this date.
+     */
+    public long toEpochDay() {
+        // The date was parsed as midnight in the default time zone
+        return value.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
     @Override
     public String toString() {
         return new SimpleDateFormat("dd-MM-yyyy").format(value);
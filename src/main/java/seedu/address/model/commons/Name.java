@@ -19,6 +19,8 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    // Worked out once, since names are compared ignoring case whenever entities are looked up by their identity
+    private final String identityKey;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +31,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = name.toLowerCase();
     }
 
     /**
@@ -38,6 +41,12 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name in lower case, which is the same for names that differ only in case.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
 
     @Override
     public String toString() {
@@ -2,9 +2,10 @@ package seedu.address.model.developer;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Tests that a {@code Developer}'s {@code DateJoined} matches any of the keywords given.
@@ -16,10 +17,20 @@ public class DateJoinedContainsKeywordsPredicate implements KeywordPredicate<Dev
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Developer> getField() {
+        return DeveloperField.DATE_JOINED;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Developer developer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(developer.getDateJoined().toString(), keyword));
+        SearchTokens tokens = getField().getTokens(developer);
+        return keywords.stream().anyMatch(tokens::containsWord);
     }
 
     @Override
@@ -38,6 +49,11 @@ public class DateJoinedContainsKeywordsPredicate implements KeywordPredicate<Dev
         return keywords.equals(otherDateJoinedContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
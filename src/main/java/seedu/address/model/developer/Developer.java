@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
 
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.commons.Date;
@@ -17,6 +18,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Represents a Developer in the address book, extending the Developer class.
@@ -25,11 +27,15 @@ import seedu.address.model.person.Phone;
 public class Developer extends Person {
     public static final Prefix[] UNUSED_PREFIXES = new Prefix[]{PREFIX_ORGANISATION, PREFIX_DOCUMENT,
         PREFIX_DESCRIPTION, PREFIX_DEADLINE};
+    private static final int SEARCH_FIELD_COUNT = DeveloperField.values().length;
     private final Salary salary;
     private final Date dateJoined;
     private final GithubId githubId;
     private final Rating rating;
     private final DeveloperRoles role;
+    // The words of each searchable field, worked out on the first search since a developer never changes.
+    // Searches run on several threads, so the array publishes the tokens safely
+    private final AtomicReferenceArray<SearchTokens> searchTokens = new AtomicReferenceArray<>(SEARCH_FIELD_COUNT);
 
     /**
      * Every field must be present and not null.
@@ -66,7 +72,7 @@ public class Developer extends Person {
         }
 
         return otherDeveloper != null
-                && otherDeveloper.getName().fullName.toLowerCase().equals(getName().fullName.toLowerCase());
+                && otherDeveloper.getName().getIdentityKey().equals(getName().getIdentityKey());
     }
 
     public GithubId getGithubId() {
@@ -81,6 +87,19 @@ public class Developer extends Person {
         return role;
     }
 
+    /**
+     * Returns the words of {@code field} of this developer, working them out on first use.
+     */
+    public SearchTokens getSearchTokens(DeveloperField field) {
+        SearchTokens tokens = searchTokens.get(field.ordinal());
+        if (tokens == null) {
+            // Threads searching at the same time work out equal tokens, so keeping either of them is fine
+            tokens = SearchTokens.of(field.getValue(this));
+            searchTokens.set(field.ordinal(), tokens);
+        }
+        return tokens;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
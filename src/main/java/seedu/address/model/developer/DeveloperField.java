@@ -0,0 +1,74 @@
+package seedu.address.model.developer;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
+
+/**
+ * The fields of a {@code Developer} that {@code find-developer} can search.
+ */
+public enum DeveloperField implements SearchField<Developer> {
+    NAME(developer -> developer.getName().fullName, true),
+    ROLE(developer -> developer.getRole().toString(), true),
+    ADDRESS(developer -> developer.getAddress().value, true),
+    DATE_JOINED(developer -> developer.getDateJoined().toString(), false),
+    EMAIL(developer -> developer.getEmail().value, true),
+    PHONE(developer -> developer.getPhone().value, true),
+    PROJECTS(developer -> developer.getProjects().toString(), true),
+    SALARY(developer -> developer.getSalary().toString(), false),
+    RATING(developer -> developer.getRating().toString(), false),
+    GITHUB_ID(developer -> developer.getGithubId().toString(), true);
+
+    // Free-text fields with many distinct words, where scanning every word for a partial match is costly
+    private static final Set<DeveloperField> TRIGRAM_INDEXED_FIELDS =
+            EnumSet.of(NAME, EMAIL, ADDRESS, PHONE, GITHUB_ID);
+    // Descriptive fields that say what a developer is, used to rank find results by relevance
+    private static final Set<DeveloperField> RANKED_FIELDS = EnumSet.of(NAME, ROLE, ADDRESS, PROJECTS);
+
+    private final Function<Developer, String> valueGetter;
+    private final boolean isPartialWordMatch;
+
+    DeveloperField(Function<Developer, String> valueGetter, boolean isPartialWordMatch) {
+        this.valueGetter = valueGetter;
+        this.isPartialWordMatch = isPartialWordMatch;
+    }
+
+    @Override
+    public String getValue(Developer developer) {
+        return valueGetter.apply(developer);
+    }
+
+    @Override
+    public SearchTokens getTokens(Developer developer) {
+        return developer.getSearchTokens(this);
+    }
+
+    @Override
+    public boolean isPartialWordMatch() {
+        return isPartialWordMatch;
+    }
+
+    @Override
+    public boolean isTrigramIndexed() {
+        return TRIGRAM_INDEXED_FIELDS.contains(this);
+    }
+
+    @Override
+    public boolean isRankingField() {
+        return RANKED_FIELDS.contains(this);
+    }
+
+    @Override
+    public boolean isFuzzyIndexed() {
+        // Names come from many sources and are the field most often misspelt
+        return this == NAME;
+    }
+
+    @Override
+    public boolean isPhoneticIndexed() {
+        return this == NAME;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.developer;
+
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.person.RangeField;
+
+/**
+ * The numeric fields of a {@code Developer} that {@code find-developer} can search by range.
+ */
+public enum DeveloperRangeField implements RangeField<Developer> {
+    SALARY(developer -> developer.getSalary().salary),
+    RATING(developer -> developer.getRating().rating),
+    DATE_JOINED(developer -> developer.getDateJoined().toEpochDay());
+
+    private final ToDoubleFunction<Developer> valueGetter;
+
+    DeveloperRangeField(ToDoubleFunction<Developer> valueGetter) {
+        this.valueGetter = valueGetter;
+    }
+
+    @Override
+    public double getRangeValue(Developer developer) {
+        return valueGetter.applyAsDouble(developer);
+    }
+}
@@ -2,9 +2,10 @@ package seedu.address.model.developer;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Tests that a {@code Developer}'s {@code Email} matches any of the keywords given.
@@ -16,10 +17,20 @@ public class EmailDeveloperContainsKeywordsPredicate implements KeywordPredicate
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Developer> getField() {
+        return DeveloperField.EMAIL;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Developer developer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(developer.getEmail().value, keyword));
+        SearchTokens tokens = getField().getTokens(developer);
+        return keywords.stream().anyMatch(tokens::containsPartialWord);
     }
 
     @Override
@@ -37,6 +48,11 @@ public class EmailDeveloperContainsKeywordsPredicate implements KeywordPredicate
         return keywords.equals(otherPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
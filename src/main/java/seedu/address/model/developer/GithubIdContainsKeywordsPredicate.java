@@ -2,9 +2,10 @@ package seedu.address.model.developer;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Tests that a {@code Developer}'s {@code GithubId} matches any of the keywords given.
@@ -16,12 +17,20 @@ public class GithubIdContainsKeywordsPredicate implements KeywordPredicate<Devel
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Developer> getField() {
+        return DeveloperField.GITHUB_ID;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Developer developer) {
-        // Assuming Developer has a getGithubId() method that returns the Github ID as a String.
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsPartialWordIgnoreCase(developer.getGithubId().toString(), keyword));
+        SearchTokens tokens = getField().getTokens(developer);
+        return keywords.stream().anyMatch(tokens::containsPartialWord);
     }
 
     @Override
@@ -40,6 +49,11 @@ public class GithubIdContainsKeywordsPredicate implements KeywordPredicate<Devel
         return keywords.equals(otherGithubIdContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -2,9 +2,10 @@ package seedu.address.model.developer;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchTokens;
 
 /**
  * Tests that a {@code Developer}'s {@code Name} matches any of the keywords given.
@@ -16,10 +17,20 @@ public class NameDeveloperContainsKeywordsPredicate implements KeywordPredicate<
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Developer> getField() {
+        return DeveloperField.NAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Developer developer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(developer.getName().fullName, keyword));
+        SearchTokens tokens = getField().getTokens(developer);
+        return keywords.stream().anyMatch(tokens::containsPartialWord);
     }
 
     @Override
@@ -38,6 +49,11 @@ public class NameDeveloperContainsKeywordsPredicate implements KeywordPredicate<
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
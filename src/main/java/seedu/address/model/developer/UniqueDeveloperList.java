@@ -3,6 +3,7 @@ package seedu.address.model.developer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PositionIndex;
 import seedu.address.model.person.exceptions.DeveloperNotFoundException;
 import seedu.address.model.person.exceptions.DuplicateDeveloperException;
 
@@ -23,6 +25,7 @@ import seedu.address.model.person.exceptions.DuplicateDeveloperException;
  * to ensure that the developer with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * Developers are also indexed by their case-insensitive name, so identity lookups do not scan the list.
  *
  * @see Developer#isSameDeveloper(Developer)
  */
@@ -31,13 +34,16 @@ public class UniqueDeveloperList implements Iterable<Developer> {
     private final ObservableList<Developer> internalList = FXCollections.observableArrayList();
     private final ObservableList<Developer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Position of each developer in internalList, keyed by its identity key. Kept in step with internalList.
+    private final PositionIndex positions = new PositionIndex();
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent developer as the given argument.
      */
     public boolean contains(Developer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDeveloper);
+        return positions.contains(identityKeyOf(toCheck));
     }
 
     /**
@@ -49,7 +55,9 @@ public class UniqueDeveloperList implements Iterable<Developer> {
         if (contains(toAdd)) {
             throw new DuplicateDeveloperException();
         }
+        positions.add(identityKeyOf(toAdd));
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -61,7 +69,7 @@ public class UniqueDeveloperList implements Iterable<Developer> {
     public void setDeveloper(Developer target, Developer editedDeveloper) {
         requireAllNonNull(target, editedDeveloper);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DeveloperNotFoundException();
         }
@@ -70,7 +78,9 @@ public class UniqueDeveloperList implements Iterable<Developer> {
             throw new DuplicateDeveloperException();
         }
 
+        positions.set(identityKeyOf(target), identityKeyOf(editedDeveloper));
         internalList.set(index, editedDeveloper);
+        modificationCount++;
     }
 
     /**
@@ -79,14 +89,21 @@ public class UniqueDeveloperList implements Iterable<Developer> {
      */
     public void remove(Developer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DeveloperNotFoundException();
         }
+
+        internalList.remove(index);
+        positions.remove(identityKeyOf(toRemove));
+        modificationCount++;
     }
 
     public void setDevelopers(UniqueDeveloperList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.setAll(replacement.positions);
+        modificationCount++;
     }
 
     /**
@@ -95,29 +112,80 @@ public class UniqueDeveloperList implements Iterable<Developer> {
      */
     public void setDevelopers(List<Developer> developers) {
         requireAllNonNull(developers);
-        if (!developersAreUnique(developers)) {
+        if (!positions.setAll(identityKeysOf(developers))) {
             throw new DuplicateDeveloperException();
         }
 
         internalList.setAll(developers);
+        modificationCount++;
     }
 
     /**
-     * Updates the projects of all developers by removing a specified project.
+     * Updates the projects of the given developers by removing a specified project.
      *
-     * @param project The project to be removed from all developers.
+     * @param project The project to be removed from the developers' projects.
+     * @param members The developers assigned to the project. Each of them must be in this list.
+     * @return The updated developers, in the same order as {@code members}.
+     */
+    public List<Developer> updateDeveloperProjects(String project, List<Developer> members) {
+        List<Developer> updatedMembers = new ArrayList<>(members.size());
+        for (Developer developer : members) {
+            Set<String> newprojectset = new HashSet<>(developer.getProjects());
+            newprojectset.remove(project);
+            Developer updatedDeveloper = new Developer(developer.getName(),
+                    developer.getPhone(), developer.getEmail(),
+                    developer.getAddress(), developer.getRole(), newprojectset,
+                    developer.getSalary(), developer.getDateJoined(),
+                    developer.getGithubId(), developer.getRating());
+            setDeveloper(developer, updatedDeveloper);
+            updatedMembers.add(updatedDeveloper);
+        }
+        return updatedMembers;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in a single change.
+     * None of them may already exist in the list or be the same as another developer in {@code toAdd}.
      */
-    public void updateDeveloperProjects(String project) {
-        iterator().forEachRemaining(
-                developer -> {
-                    Set<String> newprojectset = new HashSet<>(developer.getProjects());
-                    newprojectset.remove(project);
-                    setDeveloper(developer, new Developer(developer.getName(),
-                            developer.getPhone(), developer.getEmail(),
-                            developer.getAddress(), developer.getRole(), newprojectset,
-                            developer.getSalary(), developer.getDateJoined(),
-                            developer.getGithubId(), developer.getRating()));
-                });
+    public void addAll(List<Developer> toAdd) {
+        replaceRange(internalList.size(), 0, toAdd);
+    }
+
+    /**
+     * Replaces the {@code count} developers starting at position {@code from} with {@code replacement}.
+     * The list must not contain duplicate developers afterwards.
+     */
+    public void replaceRange(int from, int count, List<Developer> replacement) {
+        requireAllNonNull(replacement);
+        List<Developer> replaced = internalList.subList(from, from + count);
+        Set<String> replacedNames = new HashSet<>();
+        for (Developer developer : replaced) {
+            replacedNames.add(identityKeyOf(developer));
+        }
+        Set<String> replacementNames = new HashSet<>();
+        for (Developer developer : replacement) {
+            String name = identityKeyOf(developer);
+            if (!replacementNames.add(name) || positions.contains(name) && !replacedNames.contains(name)) {
+                throw new DuplicateDeveloperException();
+            }
+        }
+
+        if (count == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.remove(from, from + count);
+            internalList.addAll(from, replacement);
+        }
+        positions.replaceRange(from, count, identityKeysOf(replacement));
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times this list has been modified.
+     * The count only ever increases, so it can be compared to detect changes.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -158,16 +226,29 @@ public class UniqueDeveloperList implements Iterable<Developer> {
     }
 
     /**
-     * Returns true if {@code developers} contains only unique developers.
+     * Returns the identity keys of {@code developers}, in the same order.
      */
-    private boolean developersAreUnique(List<Developer> developers) {
-        for (int i = 0; i < developers.size() - 1; i++) {
-            for (int j = i + 1; j < developers.size(); j++) {
-                if (developers.get(i).isSameDeveloper(developers.get(j))) {
-                    return false;
-                }
-            }
+    private static List<String> identityKeysOf(List<Developer> developers) {
+        List<String> keys = new ArrayList<>(developers.size());
+        for (Developer developer : developers) {
+            keys.add(identityKeyOf(developer));
         }
-        return true;
+        return keys;
+    }
+
+    /**
+     * Returns the position of {@code developer} in the list, or -1 if the list has no developer equal to it.
+     */
+    private int indexOf(Developer developer) {
+        int index = positions.indexOf(identityKeyOf(developer));
+        return index != -1 && internalList.get(index).equals(developer) ? index : -1;
+    }
+
+    /**
+     * Returns the key under which {@code developer} is indexed.
+     * Two developers have the same key exactly when {@link Developer#isSameDeveloper(Developer)} holds between them.
+     */
+    private static String identityKeyOf(Developer developer) {
+        return developer.getName().getIdentityKey();
     }
 }
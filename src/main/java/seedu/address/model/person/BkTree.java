@@ -0,0 +1,163 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of words, which finds every word within an edit distance of a query word without comparing
+ * the query against every word.
+ * <p>
+ * Each child of a node is filed under its edit distance from the node. Since edit distance obeys the triangle
+ * inequality, a search within distance {@code d} of a query at distance {@code k} from a node only has to visit the
+ * children filed under {@code k - d} to {@code k + d}, which for small {@code d} is a small part of the tree.
+ * <p>
+ * A removed word is only marked as removed, since the words below it are filed by their distance from it, so
+ * removing a word does not touch the rest of the tree. Once more words are marked than are left, the removal that
+ * tips the balance rebuilds the tree from the words left, so that searches do not keep visiting words that are gone
+ * and never change the tree themselves.
+ */
+public class BkTree {
+
+    private static final int MIN_REMOVED_BEFORE_REBUILD = 64;
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved = false;
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    private Node root;
+    private int size = 0;
+    private int removedCount = 0;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word,
+                    Math.max(word.length(), node.word.length()));
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    size++;
+                    removedCount--;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree, if it is in it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node node = findNode(word);
+        if (node != null && !node.isRemoved) {
+            node.isRemoved = true;
+            size--;
+            removedCount++;
+            rebuildIfMostlyRemoved();
+        }
+    }
+
+    /**
+     * Returns the words in the tree that are at most {@code maxDistance} edits away from {@code word}.
+     *
+     * @param maxDistance cannot be negative
+     */
+    public List<String> search(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Distance parameter cannot be negative");
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            // The exact distance is needed to choose the children to visit
+            int distance = StringUtil.getEditDistance(word, node.word, Math.max(word.length(), node.word.length()));
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.add(node.word);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of words in the tree, not counting removed words.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node findNode(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(word, node.word,
+                    Math.max(word.length(), node.word.length()));
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    private void rebuildIfMostlyRemoved() {
+        if (removedCount <= size + MIN_REMOVED_BEFORE_REBUILD) {
+            return;
+        }
+        List<String> words = new ArrayList<>(size);
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            node.children.values().forEach(pending::push);
+        }
+        root = null;
+        size = 0;
+        removedCount = 0;
+        words.forEach(this::add);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an object matches every one of a list of {@code KeywordPredicate}s and {@code RangePredicate}s.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public class CombinedKeywordPredicate<T> implements Predicate<T> {
+    private final List<Predicate<T>> predicates;
+
+    /**
+     * Creates a predicate that matches objects matched by every one of {@code predicates}.
+     */
+    public CombinedKeywordPredicate(List<? extends Predicate<T>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = Collections.unmodifiableList(new ArrayList<>(predicates));
+    }
+
+    public List<Predicate<T>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(T object) {
+        return predicates.stream().allMatch(predicate -> predicate.test(object));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CombinedKeywordPredicate)) {
+            return false;
+        }
+
+        CombinedKeywordPredicate<?> otherPredicate = (CombinedKeywordPredicate<?>) other;
+        return predicates.equals(otherPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
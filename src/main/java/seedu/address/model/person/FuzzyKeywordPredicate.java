@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@link SearchField} matches any of the keywords, tolerating misspellings.
+ * A word matches a keyword if it would match in a keyword predicate on the field, or if it is at most a given number
+ * of single letter insertions, deletions or substitutions away from the keyword, ignoring case.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public class FuzzyKeywordPredicate<T> implements IndexedClause<T> {
+    private final SearchField<T> field;
+    private final List<String> keywords;
+    private final int maxDistance;
+
+    /**
+     * Creates a predicate that matches objects whose {@code field} has a word within {@code maxDistance} edits of
+     * any of {@code keywords}.
+     */
+    public FuzzyKeywordPredicate(SearchField<T> field, List<String> keywords, int maxDistance) {
+        requireAllNonNull(field, keywords);
+        checkArgument(maxDistance >= 0, "Distance parameter cannot be negative");
+        this.field = field;
+        this.keywords = Collections.unmodifiableList(new ArrayList<>(keywords));
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public SearchField<T> getField() {
+        return field;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean test(T object) {
+        SearchTokens tokens = field.getTokens(object);
+        return keywords.stream().anyMatch(keyword -> (field.isPartialWordMatch()
+                ? tokens.containsPartialWord(keyword)
+                : tokens.containsWord(keyword)) || tokens.containsWordWithin(keyword, maxDistance));
+    }
+
+    @Override
+    public int estimate(TokenIndex<T> index) {
+        long estimate = 0;
+        for (String keyword : keywords) {
+            estimate += index.estimateFuzzyMatches(keyword, maxDistance);
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Set<T> find(TokenIndex<T> index) {
+        Set<T> matches = null;
+        for (String keyword : keywords) {
+            Set<T> keywordMatches = index.findFuzzy(keyword, maxDistance);
+            if (matches == null) {
+                matches = keywordMatches;
+            } else {
+                matches.addAll(keywordMatches);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public String describe() {
+        return field + " within " + maxDistance + " edits of any of " + keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyKeywordPredicate)) {
+            return false;
+        }
+
+        FuzzyKeywordPredicate<?> otherPredicate = (FuzzyKeywordPredicate<?>) other;
+        return field.equals(otherPredicate.field) && keywords.equals(otherPredicate.keywords)
+                && maxDistance == otherPredicate.maxDistance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keywords, maxDistance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("keywords", keywords)
+                .add("maxDistance", maxDistance).toString();
+    }
+}
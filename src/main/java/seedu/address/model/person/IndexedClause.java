@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that matches keywords against the words of a single {@link SearchField}, and so can be answered from
+ * the {@link TokenIndex} of that field instead of by testing every object.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public interface IndexedClause<T> extends Predicate<T> {
+
+    /**
+     * Returns the field that the keywords are matched against.
+     */
+    SearchField<T> getField();
+
+    List<String> getKeywords();
+
+    /**
+     * Returns an estimate from the statistics of {@code index}, the index of the field, of the number of objects
+     * this predicate matches.
+     */
+    int estimate(TokenIndex<T> index);
+
+    /**
+     * Returns the objects this predicate matches, found from {@code index}, the index of the field, as a set
+     * compared by identity.
+     */
+    Set<T> find(TokenIndex<T> index);
+
+    /**
+     * Returns a short description of what this predicate matches, for query plans.
+     */
+    String describe();
+}
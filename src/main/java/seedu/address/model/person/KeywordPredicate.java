@@ -1,14 +1,53 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * An interface representing a predicate that filters objects based on keywords.
+ * The keywords are matched against the words of a single {@link SearchField}, so the predicate can be answered
+ * from an index of that field instead of by testing every object.
  *
  * @param <Person> The type of objects that this predicate filters.
  */
-public interface KeywordPredicate<Person> extends Predicate<Person> {
+public interface KeywordPredicate<Person> extends IndexedClause<Person> {
 
-    // You can define common methods if needed.
-    // For now, this interface will be empty and serve mainly as a type.
+    /**
+     * Returns true if an object must match every keyword, or false if matching any one keyword is enough.
+     */
+    default boolean isMatchingAllKeywords() {
+        return false;
+    }
+
+    @Override
+    default int estimate(TokenIndex<Person> index) {
+        int estimate = isMatchingAllKeywords() ? Integer.MAX_VALUE : 0;
+        for (String keyword : getKeywords()) {
+            int keywordEstimate = index.estimateMatches(keyword);
+            estimate = isMatchingAllKeywords()
+                    ? Math.min(estimate, keywordEstimate)
+                    : estimate + keywordEstimate;
+        }
+        return estimate;
+    }
+
+    @Override
+    default Set<Person> find(TokenIndex<Person> index) {
+        Set<Person> matches = null;
+        for (String keyword : getKeywords()) {
+            Set<Person> keywordMatches = index.find(keyword);
+            if (matches == null) {
+                matches = keywordMatches;
+            } else if (isMatchingAllKeywords()) {
+                matches.retainAll(keywordMatches);
+            } else {
+                matches.addAll(keywordMatches);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    default String describe() {
+        return getField() + (isMatchingAllKeywords() ? " all of " : " any of ") + getKeywords();
+    }
 }
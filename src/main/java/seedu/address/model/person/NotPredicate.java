@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an object does not match a predicate.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public class NotPredicate<T> implements Predicate<T> {
+    private final Predicate<T> predicate;
+
+    /**
+     * Creates a predicate that matches objects not matched by {@code predicate}.
+     */
+    public NotPredicate(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(T object) {
+        return !predicate.test(object);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate<?> otherPredicate = (NotPredicate<?>) other;
+        return predicate.equals(otherPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
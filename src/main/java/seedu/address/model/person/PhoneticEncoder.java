@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes words by how they sound with American Soundex, so that names spelt differently but pronounced alike, such
+ * as "Smith" and "Smyth" or "Jon" and "John", share a code.
+ * <p>
+ * A code is the first letter of the word followed by three digits for the consonant sounds after it, padded with
+ * zeros. Letters that sound alike share a digit, vowels separate repeated digits, and {@code h} and {@code w} do
+ * not. Characters other than the letters a to z are ignored.
+ */
+public class PhoneticEncoder {
+
+    private static final int CODE_LENGTH = 4;
+    // The digit of each letter from a to z, where 0 marks vowels and 'x' marks h and w
+    private static final String LETTER_DIGITS = "0123012x02245501262301x202";
+
+    private PhoneticEncoder() {}
+
+    /**
+     * Returns the Soundex code of {@code word}, ignoring case, or an empty string if it has no letters.
+     */
+    public static String encode(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < CODE_LENGTH; i++) {
+            char letter = Character.toLowerCase(word.charAt(i));
+            if (letter < 'a' || letter > 'z') {
+                continue;
+            }
+            char digit = LETTER_DIGITS.charAt(letter - 'a');
+            if (code.length() == 0) {
+                code.append(Character.toUpperCase(letter));
+                lastDigit = digit;
+            } else if (digit == 'x') {
+                // h and w do not separate consonants with the same digit
+                continue;
+            } else if (digit == '0') {
+                lastDigit = digit;
+            } else if (digit != lastDigit) {
+                code.append(digit);
+                lastDigit = digit;
+            }
+        }
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+}
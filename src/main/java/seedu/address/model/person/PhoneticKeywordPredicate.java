@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@link SearchField} matches any of the keywords, or sounds like it.
+ * A word matches a keyword if it would match in a keyword predicate on the field, or if it has the same
+ * {@link PhoneticEncoder} code as the keyword.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public class PhoneticKeywordPredicate<T> implements IndexedClause<T> {
+    private final SearchField<T> field;
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate that matches objects whose {@code field} has a word sounding like any of {@code keywords}.
+     */
+    public PhoneticKeywordPredicate(SearchField<T> field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        this.field = field;
+        this.keywords = Collections.unmodifiableList(new ArrayList<>(keywords));
+    }
+
+    @Override
+    public SearchField<T> getField() {
+        return field;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(T object) {
+        SearchTokens tokens = field.getTokens(object);
+        return keywords.stream().anyMatch(keyword -> (field.isPartialWordMatch()
+                ? tokens.containsPartialWord(keyword)
+                : tokens.containsWord(keyword)) || tokens.containsWordSoundingLike(keyword));
+    }
+
+    @Override
+    public int estimate(TokenIndex<T> index) {
+        long estimate = 0;
+        for (String keyword : keywords) {
+            estimate += index.estimateSoundingLikeMatches(keyword);
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Set<T> find(TokenIndex<T> index) {
+        Set<T> matches = null;
+        for (String keyword : keywords) {
+            Set<T> keywordMatches = index.findSoundingLike(keyword);
+            if (matches == null) {
+                matches = keywordMatches;
+            } else {
+                matches.addAll(keywordMatches);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public String describe() {
+        return field + " sounding like any of " + keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneticKeywordPredicate)) {
+            return false;
+        }
+
+        PhoneticKeywordPredicate<?> otherPredicate = (PhoneticKeywordPredicate<?>) other;
+        return field.equals(otherPredicate.field) && keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that the words of a {@link SearchField} contain the words of a phrase next to each other and in order,
+ * ignoring case. For partial-word fields the first and last words of the phrase may be part of a longer word,
+ * as in a partial-word keyword match; for whole-word fields every word must match a whole word.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public class PhrasePredicate<T> implements Predicate<T> {
+    private final SearchField<T> field;
+    private final String phrase;
+    private final SearchTokens phraseTokens;
+
+    /**
+     * Creates a predicate that matches objects whose {@code field} contains {@code phrase}.
+     */
+    public PhrasePredicate(SearchField<T> field, String phrase) {
+        requireAllNonNull(field, phrase);
+        this.field = field;
+        this.phrase = phrase;
+        this.phraseTokens = SearchTokens.of(phrase.trim());
+    }
+
+    public SearchField<T> getField() {
+        return field;
+    }
+
+    public String getPhrase() {
+        return phrase;
+    }
+
+    @Override
+    public boolean test(T object) {
+        return field.getTokens(object).containsPhrase(phraseTokens, field.isPartialWordMatch());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhrasePredicate)) {
+            return false;
+        }
+
+        PhrasePredicate<?> otherPredicate = (PhrasePredicate<?>) other;
+        return field.equals(otherPredicate.field) && phrase.equals(otherPredicate.phrase);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, phrase);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("phrase", phrase).toString();
+    }
+}
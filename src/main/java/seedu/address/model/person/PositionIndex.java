@@ -0,0 +1,219 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The positions of the elements of a list, looked up by a key that identifies each element.
+ * <p>
+ * Each element is given a slot when it is added, and slots are kept in the same order as the list. The position of
+ * an element is the number of slots in use before its slot, which is counted with a Fenwick tree, so removing an
+ * element only frees its slot instead of moving every later element down by one. Freed slots are reclaimed once
+ * there are more of them than elements. Replacing a range of the list with one of a different size, other than at
+ * the end, gives every element a new slot.
+ */
+public class PositionIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_FREE_SLOTS_BEFORE_RECLAIM = 64;
+
+    private final Map<String, Integer> slotsByKey = new HashMap<>();
+    // The key in each slot, or null if the slot is free
+    private String[] keys = new String[INITIAL_CAPACITY];
+    // The Fenwick tree counting the slots in use, indexed from 1
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int slotCount = 0;
+
+    /**
+     * Returns the number of keys in the index.
+     */
+    public int size() {
+        return slotsByKey.size();
+    }
+
+    /**
+     * Returns true if the index has an element with {@code key}.
+     */
+    public boolean contains(String key) {
+        requireNonNull(key);
+        return slotsByKey.containsKey(key);
+    }
+
+    /**
+     * Returns the position of the element with {@code key}, or -1 if there is none.
+     */
+    public int indexOf(String key) {
+        requireNonNull(key);
+        Integer slot = slotsByKey.get(key);
+        return slot == null ? -1 : countUsedSlotsUpTo(slot) - 1;
+    }
+
+    /**
+     * Adds an element with {@code key} to the end of the list. There must not already be an element with it.
+     */
+    public void add(String key) {
+        requireNonNull(key);
+        assert !slotsByKey.containsKey(key);
+        if (slotCount == keys.length) {
+            rebuild(getKeys(), Math.max(INITIAL_CAPACITY, 2 * size()));
+        }
+        int slot = slotCount++;
+        keys[slot] = key;
+        slotsByKey.put(key, slot);
+        // A new node of the tree counts itself and the nodes of the tree that it covers
+        int node = slot + 1;
+        int lowestBit = node & -node;
+        tree[node] = 1 + countUsedSlotsUpTo(slot - 1) - countUsedSlotsUpTo(node - lowestBit - 1);
+    }
+
+    /**
+     * Gives the element with {@code oldKey} the key {@code newKey}, keeping its position.
+     * There must not already be another element with {@code newKey}.
+     */
+    public void set(String oldKey, String newKey) {
+        requireAllNonNull(oldKey, newKey);
+        Integer slot = slotsByKey.remove(oldKey);
+        assert slot != null && !slotsByKey.containsKey(newKey);
+        keys[slot] = newKey;
+        slotsByKey.put(newKey, slot);
+    }
+
+    /**
+     * Removes the element with {@code key}, moving the elements after it down by one position.
+     */
+    public void remove(String key) {
+        requireNonNull(key);
+        Integer slot = slotsByKey.remove(key);
+        assert slot != null;
+        keys[slot] = null;
+        for (int node = slot + 1; node <= slotCount; node += node & -node) {
+            tree[node]--;
+        }
+        if (slotCount - size() > size() + MIN_FREE_SLOTS_BEFORE_RECLAIM) {
+            rebuild(getKeys(), keys.length);
+        }
+    }
+
+    /**
+     * Replaces the keys of the {@code count} elements starting at position {@code from} with {@code newKeys}.
+     * No key may be in the index twice afterwards.
+     */
+    public void replaceRange(int from, int count, List<String> newKeys) {
+        requireAllNonNull(newKeys);
+        if (from + count == size()) {
+            // Changes at the end of the list do not move any other element
+            for (int i = 0; i < count; i++) {
+                remove(keys[findSlot(size() - 1)]);
+            }
+            newKeys.forEach(this::add);
+        } else if (count == newKeys.size()) {
+            int[] slots = new int[count];
+            for (int i = 0; i < count; i++) {
+                slots[i] = findSlot(from + i);
+                slotsByKey.remove(keys[slots[i]]);
+            }
+            for (int i = 0; i < count; i++) {
+                keys[slots[i]] = newKeys.get(i);
+                slotsByKey.put(newKeys.get(i), slots[i]);
+            }
+        } else {
+            List<String> allKeys = getKeys();
+            allKeys.subList(from, from + count).clear();
+            allKeys.addAll(from, newKeys);
+            setAll(allKeys);
+        }
+    }
+
+    /**
+     * Replaces the keys in the index with {@code newKeys}, in list order.
+     * Returns false, leaving the index unchanged, if a key appears twice in {@code newKeys}.
+     */
+    public boolean setAll(List<String> newKeys) {
+        requireAllNonNull(newKeys);
+        Map<String, Integer> newSlots = new HashMap<>();
+        for (int i = 0; i < newKeys.size(); i++) {
+            if (newSlots.put(newKeys.get(i), i) != null) {
+                return false;
+            }
+        }
+        rebuild(newKeys, Math.max(INITIAL_CAPACITY, 2 * newKeys.size()));
+        return true;
+    }
+
+    /**
+     * Replaces the keys in the index with those in {@code other}.
+     */
+    public void setAll(PositionIndex other) {
+        requireNonNull(other);
+        slotsByKey.clear();
+        slotsByKey.putAll(other.slotsByKey);
+        keys = Arrays.copyOf(other.keys, other.keys.length);
+        tree = Arrays.copyOf(other.tree, other.tree.length);
+        slotCount = other.slotCount;
+    }
+
+    /**
+     * Returns the keys in list order.
+     */
+    private List<String> getKeys() {
+        List<String> keysInOrder = new ArrayList<>(size());
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (keys[slot] != null) {
+                keysInOrder.add(keys[slot]);
+            }
+        }
+        return keysInOrder;
+    }
+
+    /**
+     * Gives every one of {@code newKeys} a slot, in order, with room for {@code capacity} slots.
+     */
+    private void rebuild(List<String> newKeys, int capacity) {
+        slotsByKey.clear();
+        keys = new String[Math.max(capacity, newKeys.size())];
+        tree = new int[keys.length + 1];
+        slotCount = newKeys.size();
+        for (int slot = 0; slot < slotCount; slot++) {
+            keys[slot] = newKeys.get(slot);
+            slotsByKey.put(newKeys.get(slot), slot);
+            int node = slot + 1;
+            tree[node]++;
+            int parent = node + (node & -node);
+            if (parent <= slotCount) {
+                tree[parent] += tree[node];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of slots in use from slot 0 to {@code slot}.
+     */
+    private int countUsedSlotsUpTo(int slot) {
+        int count = 0;
+        for (int node = slot + 1; node > 0; node -= node & -node) {
+            count += tree[node];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slot of the element at {@code position}, which must be a position in the list.
+     */
+    private int findSlot(int position) {
+        int node = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            if (node + step <= slotCount && tree[node + step] < remaining) {
+                node += step;
+                remaining -= tree[node];
+            }
+        }
+        return node;
+    }
+}
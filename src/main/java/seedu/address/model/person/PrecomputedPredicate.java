@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A predicate that remembers what it answered for a collection of entities tested ahead of time, so that the
+ * collection can be searched on another thread and a filtered list only looks up the answers.
+ * <p>
+ * The answers may be worked out with a search predicate other than the predicate answered, such as one that finds
+ * the matches from an index, as long as it matches the same entities of the collection. Answers are kept by
+ * identity, which is safe because the entities of the address book are immutable. Entities that were not tested
+ * ahead of time, such as ones added after the search, are tested against the predicate when asked about.
+ * The answers must be worked out before the predicate is used anywhere else, and are not changed after that.
+ *
+ * @param <T> The type of entity tested.
+ */
+public class PrecomputedPredicate<T> implements Predicate<T> {
+    private final Predicate<T> predicate;
+    private final Map<T, Boolean> answers;
+    private final boolean isReused;
+    private Predicate<T> searchPredicate;
+    private int matchCount = 0;
+
+    /**
+     * Creates a predicate answering as {@code predicate} does.
+     */
+    public PrecomputedPredicate(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.answers = new IdentityHashMap<>();
+        this.isReused = false;
+        this.searchPredicate = predicate;
+    }
+
+    private PrecomputedPredicate(PrecomputedPredicate<T> other) {
+        this.predicate = other.predicate;
+        this.answers = other.answers;
+        this.isReused = true;
+        this.searchPredicate = other.searchPredicate;
+        this.matchCount = other.matchCount;
+    }
+
+    /**
+     * Tests every one of {@code entities} against {@code searchPredicate}, which must match the same entities of
+     * {@code entities} as the predicate answered, and remembers the answers.
+     */
+    public void precompute(Iterable<? extends T> entities, Predicate<T> searchPredicate) {
+        requireNonNull(entities);
+        requireNonNull(searchPredicate);
+        this.searchPredicate = searchPredicate;
+        for (T entity : entities) {
+            boolean isMatch = searchPredicate.test(entity);
+            answers.put(entity, isMatch);
+            if (isMatch) {
+                matchCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns a predicate giving the same answers as this one, which were worked out for an earlier search.
+     */
+    public PrecomputedPredicate<T> reuse() {
+        return new PrecomputedPredicate<>(this);
+    }
+
+    /**
+     * Returns true if the answers were worked out for an earlier search.
+     */
+    public boolean isReused() {
+        return isReused;
+    }
+
+    /**
+     * Returns the predicate whose answers are remembered.
+     */
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the predicate the answers were worked out with.
+     */
+    public Predicate<T> getSearchPredicate() {
+        return searchPredicate;
+    }
+
+    /**
+     * Returns the number of entities tested ahead of time that match.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    @Override
+    public boolean test(T entity) {
+        Boolean answer = answers.get(entity);
+        return answer != null ? answer : predicate.test(entity);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PrecomputedPredicate)) {
+            return false;
+        }
+
+        PrecomputedPredicate<?> otherPredicate = (PrecomputedPredicate<?>) other;
+        return predicate.equals(otherPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
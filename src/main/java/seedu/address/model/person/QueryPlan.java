@@ -0,0 +1,211 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.QueryResult.AccessPath;
+
+/**
+ * A plan for answering a keyword or range query from a {@link SearchIndex}.
+ * <p>
+ * The clauses of the query are ordered by the number of entities they are estimated to match, from the index
+ * statistics when the plan is made. When the plan is run, the most selective clause that can be found from the
+ * indexes gives the first candidates, and each later clause either intersects them with its own index matches or
+ * tests the remaining candidates directly, whichever is expected to touch fewer entities. If no clause can be found
+ * from the indexes, every entity is tested against the clauses in the planned order.
+ * <p>
+ * A plan does not change once it is made. Each run gives a {@link QueryResult} holding the matching entities and
+ * how each clause was answered, so a plan can be run on any thread while the indexed list is not being changed.
+ *
+ * @param <T> The type of entity queried.
+ */
+public class QueryPlan<T> {
+
+    /**
+     * One clause of the plan, with the number of entities it was estimated to match.
+     */
+    public static class Step<T> {
+        private final Predicate<T> clause;
+        private final boolean isIndexed;
+        private final int estimatedMatches;
+
+        private Step(Predicate<T> clause, boolean isIndexed, int estimatedMatches) {
+            this.clause = clause;
+            this.isIndexed = isIndexed;
+            this.estimatedMatches = estimatedMatches;
+        }
+
+        public Predicate<T> getClause() {
+            return clause;
+        }
+
+        public int getEstimatedMatches() {
+            return estimatedMatches;
+        }
+    }
+
+    private final SearchIndex<T> searchIndex;
+    private final Predicate<T> predicate;
+    private final List<Step<T>> steps;
+    private final int entityCount;
+    private final long planningNanos;
+
+    /**
+     * Plans how to find the entities of {@code searchIndex} that match every one of {@code clauses}, which together
+     * make up {@code predicate}.
+     */
+    QueryPlan(SearchIndex<T> searchIndex, Predicate<T> predicate, List<Predicate<T>> clauses) {
+        requireAllNonNull(searchIndex, predicate, clauses);
+        long start = System.nanoTime();
+        List<Step<T>> plannedSteps = new ArrayList<>();
+        for (Predicate<T> clause : clauses) {
+            plannedSteps.add(new Step<>(clause, searchIndex.canFind(clause), searchIndex.estimateMatches(clause)));
+        }
+        // Most selective first, and an indexed clause before an unindexed one that is estimated to match as many
+        plannedSteps.sort(Comparator.<Step<T>>comparingInt(step -> step.estimatedMatches)
+                .thenComparing(step -> !step.isIndexed));
+
+        this.searchIndex = searchIndex;
+        this.predicate = predicate;
+        this.steps = Collections.unmodifiableList(plannedSteps);
+        this.entityCount = searchIndex.size();
+        this.planningNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the steps of the plan, in the order they run.
+     */
+    public List<Step<T>> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the predicate the plan answers.
+     */
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the number of entities in the list when the plan was made.
+     */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Returns the time taken to make the plan, in nanoseconds.
+     */
+    public long getPlanningNanos() {
+        return planningNanos;
+    }
+
+    /**
+     * Returns the index the plan finds entities from.
+     */
+    SearchIndex<T> getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Runs the plan against the indexes as they are now, and returns the entities found and how each step was
+     * answered.
+     */
+    public QueryResult<T> run() {
+        long start = System.nanoTime();
+        List<AccessPath> accessPaths = new ArrayList<>();
+        Set<T> candidates;
+        if (steps.get(0).isIndexed) {
+            candidates = null;
+            for (Step<T> step : steps) {
+                if (candidates == null) {
+                    accessPaths.add(AccessPath.INDEX_LOOKUP);
+                    candidates = searchIndex.find(step.clause);
+                } else if (candidates.isEmpty()) {
+                    accessPaths.add(AccessPath.SKIPPED);
+                } else if (step.isIndexed && step.estimatedMatches < candidates.size()) {
+                    accessPaths.add(AccessPath.INDEX_INTERSECT);
+                    candidates = intersect(candidates, searchIndex.find(step.clause));
+                } else {
+                    accessPaths.add(AccessPath.FILTER);
+                    candidates.removeIf(step.clause.negate());
+                }
+            }
+        } else {
+            candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (T entity : searchIndex.getEntities()) {
+                if (steps.stream().allMatch(step -> step.clause.test(entity))) {
+                    candidates.add(entity);
+                }
+            }
+            steps.forEach(step -> accessPaths.add(AccessPath.FILTER));
+        }
+        return new QueryResult<>(this, accessPaths, candidates, searchIndex.getVersion(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the entities in both {@code first} and {@code second}, looking up the smaller set in the larger one.
+     */
+    private static <T> Set<T> intersect(Set<T> first, Set<T> second) {
+        Set<T> smaller = first.size() <= second.size() ? first : second;
+        Set<T> larger = smaller == first ? second : first;
+        Set<T> intersection = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T entity : smaller) {
+            if (larger.contains(entity)) {
+                intersection.add(entity);
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns a short description of what {@code clause} matches.
+     */
+    static String describe(Predicate<?> clause) {
+        if (clause instanceof IndexedClause) {
+            return ((IndexedClause<?>) clause).describe();
+        }
+        if (clause instanceof RangePredicate) {
+            RangePredicate<?> predicate = (RangePredicate<?>) clause;
+            return predicate.getField() + " " + describeBound(predicate.getMin()) + ".."
+                    + describeBound(predicate.getMax());
+        }
+        if (clause instanceof PhrasePredicate) {
+            PhrasePredicate<?> predicate = (PhrasePredicate<?>) clause;
+            return predicate.getField() + " \"" + predicate.getPhrase() + "\"";
+        }
+        if (clause instanceof NotPredicate) {
+            return "NOT " + describe(((NotPredicate<?>) clause).getPredicate());
+        }
+        if (clause instanceof CombinedKeywordPredicate) {
+            return ((CombinedKeywordPredicate<?>) clause).getPredicates().stream()
+                    .map(QueryPlan::describe).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+        if (clause instanceof AnyOfPredicate) {
+            return ((AnyOfPredicate<?>) clause).getPredicates().stream()
+                    .map(QueryPlan::describe).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+        return clause.toString();
+    }
+
+    private static String describeBound(double bound) {
+        if (Double.isInfinite(bound)) {
+            return "";
+        }
+        return bound == Math.rint(bound) ? String.valueOf((long) bound) : String.valueOf(bound);
+    }
+
+    @Override
+    public String toString() {
+        return predicate.toString();
+    }
+}
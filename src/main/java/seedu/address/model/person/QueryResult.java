@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The result of one run of a {@link QueryPlan}: the entities it found, how each step of the plan was answered, and
+ * how long it took.
+ * <p>
+ * A result does not change once made. It matches the entities found by the run, and tests entities added to the
+ * list after the run against the query directly, so it never runs the plan again.
+ *
+ * @param <T> The type of entity queried.
+ */
+public class QueryResult<T> implements Predicate<T> {
+
+    public static final String MESSAGE_PLAN_HEADER = "Query plan (planned in %1$.3f ms, run in %2$.3f ms):";
+    public static final String MESSAGE_CACHED_PLAN_HEADER = "Query plan (answered from the query cache, "
+            + "planned in %1$.3f ms and run in %2$.3f ms for an earlier search):";
+    public static final String MESSAGE_PLAN_STEP = "%1$d. %2$s %3$s (estimated %4$d of %5$d)";
+
+    /**
+     * How a step of the plan was answered.
+     */
+    public enum AccessPath {
+        INDEX_LOOKUP("index lookup"),
+        INDEX_INTERSECT("index intersect"),
+        FILTER("filter"),
+        SKIPPED("skipped, no candidates left");
+
+        private final String description;
+
+        AccessPath(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final QueryPlan<T> plan;
+    private final List<AccessPath> accessPaths;
+    // The entities matched by the query, compared by identity
+    private final Set<T> matches;
+    // The version of the list the plan was run against
+    private final long version;
+    private final long executionNanos;
+    private final boolean isFromCache;
+
+    /**
+     * Creates the result of a run of {@code plan} against version {@code version} of the list, which answered its
+     * steps by {@code accessPaths} and found {@code matches}.
+     */
+    QueryResult(QueryPlan<T> plan, List<AccessPath> accessPaths, Set<T> matches, long version,
+                long executionNanos) {
+        this(plan, Collections.unmodifiableList(new ArrayList<>(accessPaths)), Collections.unmodifiableSet(matches),
+                version, executionNanos, false);
+    }
+
+    private QueryResult(QueryPlan<T> plan, List<AccessPath> accessPaths, Set<T> matches, long version,
+                        long executionNanos, boolean isFromCache) {
+        requireAllNonNull(plan, accessPaths, matches);
+        this.plan = plan;
+        this.accessPaths = accessPaths;
+        this.matches = matches;
+        this.version = version;
+        this.executionNanos = executionNanos;
+        this.isFromCache = isFromCache;
+    }
+
+    /**
+     * Returns the same result, described as one answered from the query cache rather than by running the plan.
+     */
+    public QueryResult<T> fromCache() {
+        return new QueryResult<>(plan, accessPaths, matches, version, executionNanos, true);
+    }
+
+    public QueryPlan<T> getPlan() {
+        return plan;
+    }
+
+    /**
+     * Returns how each step of the plan was answered, in the order of the steps.
+     */
+    public List<AccessPath> getAccessPaths() {
+        return accessPaths;
+    }
+
+    /**
+     * Returns the number of entities found by the run.
+     */
+    public int getMatchCount() {
+        return matches.size();
+    }
+
+    /**
+     * Returns the time taken to run the plan, in nanoseconds.
+     */
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    @Override
+    public boolean test(T entity) {
+        if (matches.contains(entity)) {
+            return true;
+        }
+        // Entities are immutable, so only an entity added since the run can match without having been found
+        return plan.getSearchIndex().getVersion() != version && plan.getPredicate().test(entity);
+    }
+
+    /**
+     * Returns a description of the steps of the plan, how each was answered, and the time taken to plan and run
+     * them.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder(String.format(
+                isFromCache ? MESSAGE_CACHED_PLAN_HEADER : MESSAGE_PLAN_HEADER,
+                plan.getPlanningNanos() / 1e6, executionNanos / 1e6));
+        List<QueryPlan.Step<T>> steps = plan.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            QueryPlan.Step<T> step = steps.get(i);
+            builder.append('\n').append(String.format(MESSAGE_PLAN_STEP, i + 1, accessPaths.get(i),
+                    QueryPlan.describe(step.getClause()), step.getEstimatedMatches(), plan.getEntityCount()));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return plan.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+/**
+ * A numeric field of an entity that range searches can match against.
+ *
+ * @param <T> The type of entity the field belongs to.
+ */
+public interface RangeField<T> {
+
+    /**
+     * Returns the value of this field in {@code entity}.
+     * Values of a field must be ordered in the same way as the field itself.
+     */
+    double getRangeValue(T entity);
+}
@@ -0,0 +1,159 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An index of the entities of a list sorted by the value of one {@link RangeField}.
+ * The values are kept in a primitive array next to the entities, so that the entities in a range are found with
+ * a binary search for its lower bound followed by a walk to its upper bound.
+ *
+ * @param <T> The type of entity indexed.
+ */
+public class RangeIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final RangeField<T> field;
+    // values[i] is the value of entities[i], in ascending order
+    private double[] values = new double[INITIAL_CAPACITY];
+    private Object[] entities = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Creates an empty index of {@code field}.
+     */
+    public RangeIndex(RangeField<T> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    public RangeField<T> getField() {
+        return field;
+    }
+
+    /**
+     * Inserts {@code entity} at the position of its value.
+     */
+    public void add(T entity) {
+        double value = field.getRangeValue(entity);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            entities = Arrays.copyOf(entities, size * 2);
+        }
+        int position = upperBound(value);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        System.arraycopy(entities, position, entities, position + 1, size - position);
+        values[position] = value;
+        entities[position] = entity;
+        size++;
+    }
+
+    /**
+     * Removes {@code entity}, which must have the same value as when it was added.
+     */
+    public void remove(T entity) {
+        double value = field.getRangeValue(entity);
+        for (int i = lowerBound(value); i < size && values[i] == value; i++) {
+            if (entities[i] == entity) {
+                System.arraycopy(values, i + 1, values, i, size - i - 1);
+                System.arraycopy(entities, i + 1, entities, i, size - i - 1);
+                size--;
+                entities[size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the entities with a value of at least {@code min} and at most {@code max}, as a set compared by
+     * identity.
+     */
+    @SuppressWarnings("unchecked")
+    public Set<T> find(double min, double max) {
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = lowerBound(min); i < size && values[i] <= max; i++) {
+            matches.add((T) entities[i]);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an iterator over the entities with a value of at least {@code min} and at most {@code max}, in
+     * ascending order of value. Entities with the same value are in the order they were added.
+     * Each entity is only looked at when the iterator reaches it, so the index must not change while it is in use.
+     */
+    public Iterator<T> iterateInOrder(double min, double max) {
+        return new Iterator<>() {
+            private int position = lowerBound(min);
+
+            @Override
+            public boolean hasNext() {
+                return position < size && values[position] <= max;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) entities[position++];
+            }
+        };
+    }
+
+    /**
+     * Returns the number of entities with a value of at least {@code min} and at most {@code max}.
+     */
+    public int countMatches(double min, double max) {
+        return Math.max(0, upperBound(max) - lowerBound(min));
+    }
+
+    /**
+     * Returns the number of entities in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first position with a value that is not less than {@code value}.
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position with a value that is greater than {@code value}.
+     */
+    private int upperBound(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that the value of a {@link RangeField} lies between a lower and an upper bound, both inclusive.
+ * An open end of the range is given as an infinite bound.
+ *
+ * @param <T> The type of objects that this predicate filters.
+ */
+public class RangePredicate<T> implements Predicate<T> {
+    private final RangeField<T> field;
+    private final double min;
+    private final double max;
+
+    /**
+     * Creates a predicate that matches objects whose {@code field} is at least {@code min} and at most {@code max}.
+     */
+    public RangePredicate(RangeField<T> field, double min, double max) {
+        requireNonNull(field);
+        this.field = field;
+        this.min = min;
+        this.max = max;
+    }
+
+    public RangeField<T> getField() {
+        return field;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean test(T object) {
+        double value = field.getRangeValue(object);
+        return value >= min && value <= max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RangePredicate)) {
+            return false;
+        }
+
+        RangePredicate<?> otherPredicate = (RangePredicate<?>) other;
+        return field.equals(otherPredicate.field)
+                && Double.compare(min, otherPredicate.min) == 0
+                && Double.compare(max, otherPredicate.max) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("min", min)
+                .add("max", max)
+                .toString();
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Ranks entities by how well the ranking fields of a {@link SearchIndex} match a list of keywords, scored with
+ * Okapi BM25.
+ * <p>
+ * A keyword counts for less in a field the more entities have it in that field, and counts for more in an entity the
+ * more words of the field match it, with diminishing returns and less weight in fields longer than average.
+ * The score of an entity is the sum over every ranking field and keyword.
+ *
+ * @param <T> The type of entity ranked.
+ */
+public class RelevanceRanker<T> {
+
+    // The usual BM25 parameters: how quickly repeated matches stop adding to the score, and how much the length of
+    // a field is taken into account
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+    private static final double LENGTH_NORMALISATION = 0.75;
+
+    private final List<TokenIndex<T>> indexes;
+    private final List<String> keywords;
+    // The weight of each keyword in each field, indexed as [field][keyword]
+    private final double[][] weights;
+
+    /**
+     * Creates a ranker scoring {@code keywords} against the fields of {@code indexes}.
+     */
+    RelevanceRanker(List<TokenIndex<T>> indexes, List<String> keywords) {
+        requireAllNonNull(indexes, keywords);
+        this.indexes = new ArrayList<>(indexes);
+        this.keywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (!keyword.trim().isEmpty()) {
+                this.keywords.add(keyword.trim().toLowerCase());
+            }
+        }
+        this.weights = new double[this.indexes.size()][this.keywords.size()];
+        for (int i = 0; i < this.indexes.size(); i++) {
+            TokenIndex<T> index = this.indexes.get(i);
+            for (int j = 0; j < this.keywords.size(); j++) {
+                int matches = index.find(this.keywords.get(j)).size();
+                weights[i][j] = Math.log(1 + (index.getEntityCount() - matches + 0.5) / (matches + 0.5));
+            }
+        }
+    }
+
+    /**
+     * Returns the keywords of the keyword and phrase predicates that make up {@code predicate}, leaving out those
+     * under a {@code NotPredicate}, since entities are not more relevant for matching what was excluded.
+     */
+    public static List<String> keywordsOf(Predicate<?> predicate) {
+        List<String> keywords = new ArrayList<>();
+        if (predicate instanceof KeywordPredicate) {
+            keywords.addAll(((KeywordPredicate<?>) predicate).getKeywords());
+        } else if (predicate instanceof PhrasePredicate) {
+            keywords.addAll(SearchTokens.of(((PhrasePredicate<?>) predicate).getPhrase().trim()).getWords());
+        } else if (predicate instanceof CombinedKeywordPredicate) {
+            ((CombinedKeywordPredicate<?>) predicate).getPredicates().forEach(p -> keywords.addAll(keywordsOf(p)));
+        } else if (predicate instanceof AnyOfPredicate) {
+            ((AnyOfPredicate<?>) predicate).getPredicates().forEach(p -> keywords.addAll(keywordsOf(p)));
+        }
+        return keywords;
+    }
+
+    /**
+     * Returns the relevance of {@code entity}, which is 0 if none of its ranking fields match any keyword.
+     */
+    public double score(T entity) {
+        double score = 0;
+        for (int i = 0; i < indexes.size(); i++) {
+            SearchField<T> field = indexes.get(i).getField();
+            SearchTokens tokens = field.getTokens(entity);
+            double averageWordCount = indexes.get(i).getAverageWordCount();
+            double lengthRatio = averageWordCount == 0 ? 1 : tokens.size() / averageWordCount;
+            for (int j = 0; j < keywords.size(); j++) {
+                int frequency = tokens.countMatches(keywords.get(j), field.isPartialWordMatch());
+                if (frequency > 0) {
+                    score += weights[i][j] * frequency * (TERM_FREQUENCY_SATURATION + 1)
+                            / (frequency + TERM_FREQUENCY_SATURATION
+                                    * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns the {@code limit} most relevant of {@code entities}, most relevant first. Entities with equal scores
+     * keep their order in {@code entities}.
+     * <p>
+     * The entities are kept in a heap of at most {@code limit} entries with the least relevant at the top, so that
+     * selecting a few results from many takes time proportional to the number of entities rather than a full sort.
+     */
+    public List<T> selectTop(List<? extends T> entities, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        Comparator<ScoredEntity<T>> leastRelevantFirst = Comparator.<ScoredEntity<T>>comparingDouble(e -> e.score)
+                .thenComparing(Comparator.<ScoredEntity<T>>comparingInt(e -> e.position).reversed());
+        PriorityQueue<ScoredEntity<T>> heap = new PriorityQueue<>(leastRelevantFirst);
+        for (int position = 0; position < entities.size(); position++) {
+            ScoredEntity<T> scoredEntity = new ScoredEntity<>(entities.get(position), score(entities.get(position)),
+                    position);
+            if (heap.size() < limit) {
+                heap.add(scoredEntity);
+            } else if (leastRelevantFirst.compare(scoredEntity, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scoredEntity);
+            }
+        }
+
+        List<T> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            top.add(heap.poll().entity);
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    private static class ScoredEntity<T> {
+        private final T entity;
+        private final double score;
+        private final int position;
+
+        private ScoredEntity(T entity, double score, int position) {
+            this.entity = entity;
+            this.score = score;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+/**
+ * A field of an entity that keyword searches can match against.
+ * The value of the field is split into words at whitespace, and keywords are matched against those words
+ * ignoring case.
+ *
+ * @param <T> The type of entity the field belongs to.
+ */
+public interface SearchField<T> {
+
+    /**
+     * Returns the text of this field in {@code entity}.
+     */
+    String getValue(T entity);
+
+    /**
+     * Returns the words of this field in {@code entity}. Fields of immutable entities should return words cached
+     * on the entity, since every keyword test of the field asks for them.
+     */
+    default SearchTokens getTokens(T entity) {
+        return SearchTokens.of(getValue(entity));
+    }
+
+    /**
+     * Returns true if a keyword matches any word that contains it, or false if it must match a whole word.
+     */
+    boolean isPartialWordMatch();
+
+    /**
+     * Returns true if partial-word matches of this field should be shortlisted from an index of the three-letter
+     * sequences in its words, instead of by checking every word. Only meaningful for partial-word fields.
+     */
+    default boolean isTrigramIndexed() {
+        return false;
+    }
+
+    /**
+     * Returns true if matches of this field count towards the relevance of an entity when results are ranked.
+     */
+    default boolean isRankingField() {
+        return false;
+    }
+
+    /**
+     * Returns true if the distinct words of this field should also be indexed by edit distance, so that misspelt
+     * keywords can be matched without comparing them against every word.
+     */
+    default boolean isFuzzyIndexed() {
+        return false;
+    }
+
+    /**
+     * Returns true if the words of this field should also be indexed by how they sound, so that words sounding like
+     * a keyword can be found with a single lookup.
+     */
+    default boolean isPhoneticIndexed() {
+        return false;
+    }
+}
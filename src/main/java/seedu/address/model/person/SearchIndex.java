@@ -0,0 +1,260 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps a {@link TokenIndex} of each searchable field and a {@link RangeIndex} of each range field of the entities
+ * in an {@code ObservableList}, and uses them to answer keyword and range predicates without testing every entity.
+ * <p>
+ * The indexes follow every change to the list. They must be attached before any listener that filters the list,
+ * such as a {@code FilteredList}, so that they are already up to date when the filter tests a changed entity.
+ *
+ * @param <T> The type of entity indexed.
+ */
+public class SearchIndex<T> {
+
+    private final ObservableList<T> list;
+    private final Map<SearchField<T>, TokenIndex<T>> indexes = new HashMap<>();
+    private final Map<RangeField<T>, RangeIndex<T>> rangeIndexes = new HashMap<>();
+    // Increases on every change to the list, so that plans run earlier can tell they are out of date
+    private long version = 0;
+
+    /**
+     * Creates indexes of {@code fields} for the entities in {@code list}, and keeps them up to date.
+     */
+    public SearchIndex(ObservableList<T> list, List<? extends SearchField<T>> fields) {
+        this(list, fields, Collections.emptyList());
+    }
+
+    /**
+     * Creates indexes of {@code fields} and {@code rangeFields} for the entities in {@code list}, and keeps them
+     * up to date.
+     */
+    public SearchIndex(ObservableList<T> list, List<? extends SearchField<T>> fields,
+                       List<? extends RangeField<T>> rangeFields) {
+        requireAllNonNull(list, fields, rangeFields);
+        this.list = list;
+        for (SearchField<T> field : fields) {
+            indexes.put(field, new TokenIndex<>(field));
+        }
+        for (RangeField<T> rangeField : rangeFields) {
+            rangeIndexes.put(rangeField, new RangeIndex<>(rangeField));
+        }
+        list.forEach(this::add);
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                // Reordering the list does not change which entities match
+                if (!change.wasPermutated()) {
+                    change.getRemoved().forEach(this::remove);
+                    change.getAddedSubList().forEach(this::add);
+                }
+            }
+            version++;
+        });
+    }
+
+    /**
+     * Returns the index of {@code field}, or null if it is not indexed.
+     */
+    public TokenIndex<T> getIndex(SearchField<T> field) {
+        return indexes.get(field);
+    }
+
+    /**
+     * Returns the index of {@code rangeField}, or null if it is not indexed.
+     */
+    public RangeIndex<T> getRangeIndex(RangeField<T> rangeField) {
+        return rangeIndexes.get(rangeField);
+    }
+
+    /**
+     * Returns a ranker that scores entities by how well the indexed ranking fields match {@code keywords}, with the
+     * statistics of the indexes as they are now.
+     */
+    public RelevanceRanker<T> getRanker(List<String> keywords) {
+        requireAllNonNull(keywords);
+        List<TokenIndex<T>> rankingIndexes = new ArrayList<>();
+        for (TokenIndex<T> index : indexes.values()) {
+            if (index.getField().isRankingField()) {
+                rankingIndexes.add(index);
+            }
+        }
+        return new RelevanceRanker<>(rankingIndexes, keywords);
+    }
+
+    /**
+     * Returns a predicate that matches the same entities of the list as {@code predicate}.
+     * If {@code predicate} is built from the keyword, range, phrase and boolean predicates of this package, a
+     * {@link QueryPlan} that finds the matching entities from the indexes where it can is made and run now, and its
+     * {@link QueryResult} is returned. Otherwise {@code predicate} is returned as it is.
+     */
+    public Predicate<T> getIndexedPredicate(Predicate<T> predicate) {
+        List<Predicate<T>> clauses;
+        if (predicate instanceof CombinedKeywordPredicate) {
+            clauses = ((CombinedKeywordPredicate<T>) predicate).getPredicates();
+        } else if (predicate instanceof IndexedClause || predicate instanceof RangePredicate
+                || predicate instanceof AnyOfPredicate || predicate instanceof NotPredicate
+                || predicate instanceof PhrasePredicate) {
+            clauses = Collections.singletonList(predicate);
+        } else {
+            return predicate;
+        }
+        if (clauses.isEmpty()) {
+            return predicate;
+        }
+        return new QueryPlan<>(this, predicate, clauses).run();
+    }
+
+    /**
+     * Returns a number that changes whenever the list changes.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the entities in the list.
+     */
+    List<T> getEntities() {
+        return list;
+    }
+
+    /**
+     * Returns the number of entities in the list.
+     */
+    int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns true if the entities matched by {@code clause} can be found from the indexes.
+     * A {@code CombinedKeywordPredicate} can be found if any of its predicates can, with the others checked on the
+     * entities found. An {@code AnyOfPredicate} can be found only if all of its predicates can.
+     */
+    boolean canFind(Predicate<T> clause) {
+        if (clause instanceof RangePredicate) {
+            return rangeIndexes.containsKey(((RangePredicate<T>) clause).getField());
+        }
+        if (clause instanceof CombinedKeywordPredicate) {
+            return ((CombinedKeywordPredicate<T>) clause).getPredicates().stream().anyMatch(this::canFind);
+        }
+        if (clause instanceof AnyOfPredicate) {
+            List<Predicate<T>> predicates = ((AnyOfPredicate<T>) clause).getPredicates();
+            return !predicates.isEmpty() && predicates.stream().allMatch(this::canFind);
+        }
+        if (!(clause instanceof IndexedClause)) {
+            return false;
+        }
+        IndexedClause<T> predicate = (IndexedClause<T>) clause;
+        return indexes.containsKey(predicate.getField()) && !predicate.getKeywords().isEmpty()
+                && predicate.getKeywords().stream().noneMatch(keyword -> keyword.trim().isEmpty());
+    }
+
+    /**
+     * Returns an estimate from the index statistics of the number of entities matched by {@code clause}.
+     * Clauses that cannot be found from the indexes are assumed to match every entity.
+     */
+    int estimateMatches(Predicate<T> clause) {
+        if (!canFind(clause)) {
+            return size();
+        }
+        if (clause instanceof RangePredicate) {
+            RangePredicate<T> predicate = (RangePredicate<T>) clause;
+            return rangeIndexes.get(predicate.getField()).countMatches(predicate.getMin(), predicate.getMax());
+        }
+        if (clause instanceof CombinedKeywordPredicate) {
+            return ((CombinedKeywordPredicate<T>) clause).getPredicates().stream()
+                    .mapToInt(this::estimateMatches).min().orElse(size());
+        }
+        if (clause instanceof AnyOfPredicate) {
+            long estimate = ((AnyOfPredicate<T>) clause).getPredicates().stream()
+                    .mapToLong(this::estimateMatches).sum();
+            return (int) Math.min(estimate, size());
+        }
+        IndexedClause<T> predicate = (IndexedClause<T>) clause;
+        return Math.min(predicate.estimate(indexes.get(predicate.getField())), size());
+    }
+
+    /**
+     * Returns the entities matched by {@code clause}, which must be one that {@link #canFind} accepts, as a set
+     * compared by identity.
+     */
+    Set<T> find(Predicate<T> clause) {
+        assert canFind(clause);
+        if (clause instanceof RangePredicate) {
+            RangePredicate<T> predicate = (RangePredicate<T>) clause;
+            return rangeIndexes.get(predicate.getField()).find(predicate.getMin(), predicate.getMax());
+        }
+        if (clause instanceof CombinedKeywordPredicate) {
+            return findAll(((CombinedKeywordPredicate<T>) clause).getPredicates());
+        }
+        if (clause instanceof AnyOfPredicate) {
+            Set<T> matches = null;
+            for (Predicate<T> predicate : ((AnyOfPredicate<T>) clause).getPredicates()) {
+                Set<T> predicateMatches = find(predicate);
+                if (matches == null) {
+                    matches = predicateMatches;
+                } else {
+                    matches.addAll(predicateMatches);
+                }
+            }
+            return matches;
+        }
+        IndexedClause<T> predicate = (IndexedClause<T>) clause;
+        return predicate.find(indexes.get(predicate.getField()));
+    }
+
+    /**
+     * Returns the entities matched by every one of {@code predicates}, at least one of which can be found from the
+     * indexes. The most selective one is found from the indexes and the others are checked on its matches.
+     */
+    private Set<T> findAll(List<Predicate<T>> predicates) {
+        Predicate<T> mostSelective = null;
+        int mostSelectiveEstimate = Integer.MAX_VALUE;
+        for (Predicate<T> predicate : predicates) {
+            if (canFind(predicate)) {
+                int estimate = estimateMatches(predicate);
+                if (mostSelective == null || estimate < mostSelectiveEstimate) {
+                    mostSelective = predicate;
+                    mostSelectiveEstimate = estimate;
+                }
+            }
+        }
+        Set<T> matches = find(mostSelective);
+        for (Predicate<T> predicate : predicates) {
+            if (predicate != mostSelective) {
+                matches.removeIf(predicate.negate());
+            }
+        }
+        return matches;
+    }
+
+    private void add(T entity) {
+        for (TokenIndex<T> index : indexes.values()) {
+            index.add(entity);
+        }
+        for (RangeIndex<T> rangeIndex : rangeIndexes.values()) {
+            rangeIndex.add(entity);
+        }
+    }
+
+    private void remove(T entity) {
+        for (TokenIndex<T> index : indexes.values()) {
+            index.remove(entity);
+        }
+        for (RangeIndex<T> rangeIndex : rangeIndexes.values()) {
+            rangeIndex.remove(entity);
+        }
+    }
+}
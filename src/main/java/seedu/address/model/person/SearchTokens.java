@@ -0,0 +1,206 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * The words of a {@link SearchField} value, split at whitespace and lowercased once so that keyword matches do not
+ * have to split and lowercase the value again on every test.
+ * <p>
+ * The words are also kept sorted, so that a whole-word match is a binary search over the words of this
+ * value alone. Nothing is shared between values, so the words of an entity are freed along with it.
+ */
+public class SearchTokens {
+
+    private final String[] words;
+    private final String[] sortedWords;
+    // Worked out on first use, since only phonetic searches need them. Searches on other threads read them, so
+    // they are published through a volatile field. Two threads may both work them out, which wastes a little time
+    // but gives the same codes
+    private volatile String[] phoneticCodes;
+
+    private SearchTokens(String[] words) {
+        this.words = words;
+        this.sortedWords = words.clone();
+        Arrays.sort(sortedWords);
+    }
+
+    /**
+     * Returns the words of {@code value}, split at whitespace and lowercased.
+     */
+    public static SearchTokens of(String value) {
+        requireNonNull(value);
+        String[] words = value.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].toLowerCase();
+        }
+        return new SearchTokens(words);
+    }
+
+    /**
+     * Returns the lowercased words, in the order they appear in the value.
+     */
+    public List<String> getWords() {
+        return Collections.unmodifiableList(Arrays.asList(words));
+    }
+
+    /**
+     * Returns the {@link PhoneticEncoder} codes of the words that have letters, each code once.
+     */
+    public List<String> getPhoneticCodes() {
+        String[] codes = phoneticCodes;
+        if (codes == null) {
+            codes = Arrays.stream(words).map(PhoneticEncoder::encode).filter(code -> !code.isEmpty())
+                    .distinct().toArray(String[]::new);
+            phoneticCodes = codes;
+        }
+        return Collections.unmodifiableList(Arrays.asList(codes));
+    }
+
+    /**
+     * Returns true if a word sounds like {@code word}, that is, has the same {@link PhoneticEncoder} code.
+     */
+    public boolean containsWordSoundingLike(String word) {
+        String code = PhoneticEncoder.encode(fold(word));
+        return !code.isEmpty() && getPhoneticCodes().contains(code);
+    }
+
+    /**
+     * Returns the number of words.
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Returns the number of words that match {@code word}, ignoring case. If {@code isPartialWordMatch} is true, a
+     * word matches if it contains {@code word}, and otherwise only if it equals {@code word}.
+     *
+     * @param word cannot be null, cannot be empty
+     */
+    public int countMatches(String word, boolean isPartialWordMatch) {
+        String foldedWord = fold(word);
+        int count = 0;
+        for (String wordInValue : words) {
+            if (isPartialWordMatch ? wordInValue.contains(foldedWord) : wordInValue.equals(foldedWord)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if a word equals {@code word}, ignoring case.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public boolean containsWord(String word) {
+        String foldedWord = fold(word);
+        for (int i = 0; i < foldedWord.length(); i++) {
+            checkArgument(!Character.isWhitespace(foldedWord.charAt(i)), "Word parameter should be a single word");
+        }
+
+        return Arrays.binarySearch(sortedWords, foldedWord) >= 0;
+    }
+
+    /**
+     * Returns true if a word contains {@code word}, ignoring case.
+     *
+     * @param word cannot be null, cannot be empty
+     */
+    public boolean containsPartialWord(String word) {
+        String foldedWord = fold(word);
+        for (String wordInValue : words) {
+            if (wordInValue.contains(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a word is at most {@code maxDistance} single letter insertions, deletions or substitutions
+     * away from {@code word}, ignoring case.
+     *
+     * @param word cannot be null, cannot be empty
+     */
+    public boolean containsWordWithin(String word, int maxDistance) {
+        String foldedWord = fold(word);
+        for (String wordInValue : words) {
+            if (StringUtil.getEditDistance(wordInValue, foldedWord, maxDistance) <= maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the words contain the words of {@code phrase} next to each other and in order.
+     * If {@code isPartialWordMatch} is true, the first and last words of the phrase may be the end and the start of
+     * longer words, and a single-word phrase may be any part of a word.
+     */
+    public boolean containsPhrase(SearchTokens phrase, boolean isPartialWordMatch) {
+        requireNonNull(phrase);
+        String[] phraseWords = phrase.words;
+        int last = phraseWords.length - 1;
+        for (int start = 0; start + last < words.length; start++) {
+            if (isPartialWordMatch && last == 0) {
+                if (words[start].contains(phraseWords[0])) {
+                    return true;
+                }
+                continue;
+            }
+            boolean isMatch = isPartialWordMatch
+                    ? words[start].endsWith(phraseWords[0]) && words[start + last].startsWith(phraseWords[last])
+                    : words[start].equals(phraseWords[0]) && words[start + last].equals(phraseWords[last]);
+            for (int i = 1; isMatch && i < last; i++) {
+                isMatch = words[start + i].equals(phraseWords[i]);
+            }
+            if (isMatch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code word} trimmed and lowercased. Neither allocates if the word is already trimmed and lowercase.
+     */
+    private static String fold(String word) {
+        requireNonNull(word);
+        String foldedWord = word.trim().toLowerCase();
+        checkArgument(!foldedWord.isEmpty(), "Word parameter cannot be empty");
+        return foldedWord;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchTokens)) {
+            return false;
+        }
+
+        SearchTokens otherTokens = (SearchTokens) other;
+        return Arrays.equals(words, otherTokens.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(words);
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words of one {@link SearchField} to the entities whose field contains them.
+ * Words are split at whitespace and lowercased, in the same way keyword predicates compare them.
+ * <p>
+ * If the field is trigram indexed, the distinct words are also indexed by every three-letter sequence in them,
+ * so that a partial-word keyword of at least three letters only needs to be checked against the words that
+ * share all of its sequences. Shorter keywords are checked against every word.
+ * <p>
+ * If the field is fuzzy indexed, the distinct words are also kept in a {@link BkTree}, so that the words within an
+ * edit distance of a misspelt keyword can be found without comparing it against every word.
+ * <p>
+ * If the field is phonetic indexed, the entities are also indexed by the {@link PhoneticEncoder} code of every word
+ * of their field, which is worked out once per value, so that the entities with a word sounding like a keyword are
+ * found with a single lookup.
+ *
+ * @param <T> The type of entity indexed.
+ */
+public class TokenIndex<T> {
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final SearchField<T> field;
+    // Entities are the instances held in the address book, so they are compared by identity
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    // From each three-letter sequence to the words in postings that contain it, or null if the field is not indexed
+    private final Map<String, Set<String>> trigrams;
+    // The words in postings, or null if the field is not fuzzy indexed
+    private final BkTree wordTree;
+    // From the code of how a word sounds to the entities with such a word, or null if the field is not indexed
+    private final Map<String, Set<T>> phoneticPostings;
+    private int entityCount = 0;
+    // The number of words in the field of every entity, counting repeated words, for ranking by field length
+    private long wordCount = 0;
+
+    /**
+     * Creates an empty index of {@code field}.
+     */
+    public TokenIndex(SearchField<T> field) {
+        requireNonNull(field);
+        this.field = field;
+        this.trigrams = field.isPartialWordMatch() && field.isTrigramIndexed() ? new HashMap<>() : null;
+        this.wordTree = field.isFuzzyIndexed() ? new BkTree() : null;
+        this.phoneticPostings = field.isPhoneticIndexed() ? new HashMap<>() : null;
+    }
+
+    public SearchField<T> getField() {
+        return field;
+    }
+
+    /**
+     * Adds {@code entity} to the postings of every word of its field.
+     */
+    public void add(T entity) {
+        for (String token : tokensOf(entity)) {
+            Set<T> entities = postings.get(token);
+            if (entities == null) {
+                entities = Collections.newSetFromMap(new IdentityHashMap<>());
+                postings.put(token, entities);
+                addTrigrams(token);
+                if (wordTree != null) {
+                    wordTree.add(token);
+                }
+            }
+            entities.add(entity);
+        }
+        if (phoneticPostings != null) {
+            for (String code : field.getTokens(entity).getPhoneticCodes()) {
+                phoneticPostings.computeIfAbsent(code, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(entity);
+            }
+        }
+        entityCount++;
+        wordCount += field.getTokens(entity).size();
+    }
+
+    /**
+     * Removes {@code entity}, which must have been added, from the postings of every word of its field.
+     */
+    public void remove(T entity) {
+        entityCount--;
+        wordCount -= field.getTokens(entity).size();
+        for (String token : tokensOf(entity)) {
+            Set<T> entities = postings.get(token);
+            if (entities != null) {
+                entities.remove(entity);
+                if (entities.isEmpty()) {
+                    postings.remove(token);
+                    removeTrigrams(token);
+                    if (wordTree != null) {
+                        wordTree.remove(token);
+                    }
+                }
+            }
+        }
+        if (phoneticPostings != null) {
+            for (String code : field.getTokens(entity).getPhoneticCodes()) {
+                Set<T> entities = phoneticPostings.get(code);
+                if (entities != null) {
+                    entities.remove(entity);
+                    if (entities.isEmpty()) {
+                        phoneticPostings.remove(code);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entities whose field has a word matching {@code keyword}, as a set compared by identity.
+     * Depending on the field, a word matches if it contains the keyword or if it equals the keyword, ignoring case.
+     */
+    public Set<T> find(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!field.isPartialWordMatch()) {
+            matches.addAll(postings.getOrDefault(preppedKeyword, Collections.emptySet()));
+            return matches;
+        }
+        if (trigrams == null || preppedKeyword.length() < TRIGRAM_LENGTH) {
+            for (Map.Entry<String, Set<T>> entry : postings.entrySet()) {
+                if (entry.getKey().contains(preppedKeyword)) {
+                    matches.addAll(entry.getValue());
+                }
+            }
+            return matches;
+        }
+        for (String token : findCandidateTokens(preppedKeyword)) {
+            // Sharing every trigram does not guarantee that the sequences appear in the same order
+            if (token.contains(preppedKeyword)) {
+                matches.addAll(postings.get(token));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the entities whose field has a word matching {@code keyword} as {@link #find} does, or a word at most
+     * {@code maxDistance} single letter insertions, deletions or substitutions away from it, as a set compared by
+     * identity.
+     */
+    public Set<T> findFuzzy(String keyword, int maxDistance) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        Set<T> matches = find(preppedKeyword);
+        for (String token : findFuzzyTokens(preppedKeyword, maxDistance)) {
+            matches.addAll(postings.get(token));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of entities that {@link #findFuzzy} would return for {@code keyword}.
+     */
+    public int estimateFuzzyMatches(String keyword, int maxDistance) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        long estimate = estimateMatches(preppedKeyword);
+        for (String token : findFuzzyTokens(preppedKeyword, maxDistance)) {
+            estimate += postings.get(token).size();
+        }
+        return (int) Math.min(estimate, entityCount);
+    }
+
+    /**
+     * Returns the entities whose field has a word matching {@code keyword} as {@link #find} does, or a word that
+     * sounds like it, as a set compared by identity.
+     */
+    public Set<T> findSoundingLike(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        Set<T> matches = find(preppedKeyword);
+        String code = PhoneticEncoder.encode(preppedKeyword);
+        if (code.isEmpty()) {
+            return matches;
+        }
+        if (phoneticPostings != null) {
+            matches.addAll(phoneticPostings.getOrDefault(code, Collections.emptySet()));
+            return matches;
+        }
+        for (Map.Entry<String, Set<T>> entry : postings.entrySet()) {
+            if (PhoneticEncoder.encode(entry.getKey()).equals(code)) {
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of entities that {@link #findSoundingLike} would return for
+     * {@code keyword}.
+     */
+    public int estimateSoundingLikeMatches(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (phoneticPostings == null) {
+            return entityCount;
+        }
+        long estimate = estimateMatches(preppedKeyword) + phoneticPostings.getOrDefault(
+                PhoneticEncoder.encode(preppedKeyword), Collections.emptySet()).size();
+        return (int) Math.min(estimate, entityCount);
+    }
+
+    /**
+     * Returns an upper bound on the number of entities that {@link #find} would return for {@code keyword}, without
+     * finding them. The bound is exact for whole-word fields, counts every entity with a word sharing all trigrams of
+     * the keyword for trigram indexed fields, and is the number of entities in the index otherwise.
+     */
+    public int estimateMatches(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (!field.isPartialWordMatch()) {
+            return postings.getOrDefault(preppedKeyword, Collections.emptySet()).size();
+        }
+        if (trigrams == null || preppedKeyword.length() < TRIGRAM_LENGTH) {
+            // Counting the matches would take as long as finding them
+            return entityCount;
+        }
+        int estimate = 0;
+        for (String token : findCandidateTokens(preppedKeyword)) {
+            estimate += postings.get(token).size();
+        }
+        return Math.min(estimate, entityCount);
+    }
+
+    /**
+     * Returns the number of entities in the index.
+     */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Returns the average number of words in the field of an entity, or 0 if the index is empty.
+     */
+    public double getAverageWordCount() {
+        return entityCount == 0 ? 0 : (double) wordCount / entityCount;
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int getTokenCount() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the words that contain every trigram of {@code keyword}, starting from the rarest trigram.
+     */
+    private Set<String> findCandidateTokens(String keyword) {
+        Set<String> keywordTrigrams = trigramsOf(keyword);
+        Set<String> rarest = null;
+        for (String trigram : keywordTrigrams) {
+            Set<String> tokens = trigrams.get(trigram);
+            if (tokens == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || tokens.size() < rarest.size()) {
+                rarest = tokens;
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        for (String token : rarest) {
+            if (keywordTrigrams.stream().allMatch(trigram -> trigrams.get(trigram).contains(token))) {
+                candidates.add(token);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the words in the index at most {@code maxDistance} edits away from {@code keyword}, found from the
+     * tree of words if the field is fuzzy indexed and by checking every word otherwise.
+     */
+    private List<String> findFuzzyTokens(String keyword, int maxDistance) {
+        if (wordTree != null) {
+            return wordTree.search(keyword, maxDistance);
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : postings.keySet()) {
+            if (StringUtil.getEditDistance(keyword, token, maxDistance) <= maxDistance) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void addTrigrams(String token) {
+        if (trigrams == null) {
+            return;
+        }
+        for (String trigram : trigramsOf(token)) {
+            trigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(token);
+        }
+    }
+
+    private void removeTrigrams(String token) {
+        if (trigrams == null) {
+            return;
+        }
+        for (String trigram : trigramsOf(token)) {
+            Set<String> tokens = trigrams.get(trigram);
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    trigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        Set<String> wordTrigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= word.length(); i++) {
+            wordTrigrams.add(word.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return wordTrigrams;
+    }
+
+    private Set<String> tokensOf(T entity) {
+        return new HashSet<>(field.getTokens(entity).getWords());
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.SearchField;
 
 /**
  * Tests that a {@code Developer}'s {@code Name} matches any of the keywords given.
@@ -16,6 +17,16 @@ public class DeadlineContainsKeywordsPredicate implements KeywordPredicate<Proje
         this.keywords = keywords;
     }
 
+    @Override
+    public SearchField<Project> getField() {
+        return ProjectField.DEADLINES;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Project project) {
         return keywords.stream()
@@ -39,6 +50,11 @@ public class DeadlineContainsKeywordsPredicate implements KeywordPredicate<Proje
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,50 @@
+package seedu.address.model.project;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Deadline}'s {@code Description} matches any of the keywords given.
+ */
+public class DeadlineDescriptionContainsKeywordsPredicate implements Predicate<Deadline> {
+    private final List<String> keywords;
+
+    public DeadlineDescriptionContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Deadline deadline) {
+        return keywords.stream().anyMatch(keyword ->
+                StringUtil.containsPartialWordIgnoreCase(deadline.getDescription().toString(), keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeadlineDescriptionContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        DeadlineDescriptionContainsKeywordsPredicate otherPredicate =
+                (DeadlineDescriptionContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
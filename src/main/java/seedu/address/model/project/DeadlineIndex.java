@@ -0,0 +1,169 @@
+package seedu.address.model.project;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.RangeField;
+import seedu.address.model.person.RangeIndex;
+
+/**
+ * Keeps the deadlines of every project in an {@code ObservableList} of projects ordered by the day they are due,
+ * in a separate {@link RangeIndex} for each priority and done status, and uses them to answer a
+ * {@link DeadlineQuery} with a range scan of each index the query allows.
+ * <p>
+ * The index follows every change to the list, and must be attached before any listener that filters the list.
+ */
+public class DeadlineIndex {
+
+    private static final RangeField<Deadline> DUE_DAY = deadline -> deadline.getDate().toEpochDay();
+
+    // The index of deadlines with priority p and done status d is at position 2 * p.ordinal() + (d ? 1 : 0), so that
+    // lower positions hold more urgent deadlines
+    private final List<RangeIndex<Deadline>> indexes = new ArrayList<>();
+    private final Map<Deadline, Project> projectsOfDeadlines = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of the deadlines of the projects in {@code projects}, and keeps it up to date.
+     */
+    public DeadlineIndex(ObservableList<Project> projects) {
+        requireNonNull(projects);
+        for (int i = 0; i < Priority.values().length * 2; i++) {
+            indexes.add(new RangeIndex<>(DUE_DAY));
+        }
+        projects.forEach(this::add);
+        projects.addListener((ListChangeListener<Project>) change -> {
+            while (change.next()) {
+                // Reordering the list does not change which deadlines are due when
+                if (!change.wasPermutated()) {
+                    change.getRemoved().forEach(this::remove);
+                    change.getAddedSubList().forEach(this::add);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the first {@code limit} deadlines matching {@code query}, ordered by the day they are due and then by
+     * priority, with deadlines that are not done before those that are.
+     */
+    public List<Deadline> find(DeadlineQuery query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit >= 0, "Limit parameter cannot be negative");
+        List<Cursor> cursors = new ArrayList<>();
+        for (Priority priority : Priority.values()) {
+            for (boolean isDone : new boolean[] {false, true}) {
+                if (query.allows(priority, isDone)) {
+                    Iterator<Deadline> matches = getIndex(priority, isDone)
+                            .iterateInOrder(query.getEarliestDay(), query.getLatestDay());
+                    if (matches.hasNext()) {
+                        cursors.add(new Cursor(matches, cursors.size()));
+                    }
+                }
+            }
+        }
+
+        // Each index is already in order of the day due, so merging them only compares the next deadline of each,
+        // and only the deadlines up to the limit are ever looked at
+        PriorityQueue<Cursor> pending = new PriorityQueue<>(
+                Comparator.<Cursor>comparingLong(Cursor::getDueDay).thenComparingInt(cursor -> cursor.order));
+        pending.addAll(cursors);
+        List<Deadline> found = new ArrayList<>();
+        while (!pending.isEmpty() && found.size() < limit) {
+            Cursor cursor = pending.poll();
+            found.add(cursor.next());
+            if (cursor.hasNext()) {
+                pending.add(cursor);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of deadlines matching {@code query}.
+     */
+    public int countMatches(DeadlineQuery query) {
+        requireNonNull(query);
+        int count = 0;
+        for (Priority priority : Priority.values()) {
+            for (boolean isDone : new boolean[] {false, true}) {
+                if (query.allows(priority, isDone)) {
+                    count += getIndex(priority, isDone).countMatches(query.getEarliestDay(), query.getLatestDay());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the project {@code deadline} belongs to, or null if it is not a deadline of a project in the list.
+     */
+    public Project getProject(Deadline deadline) {
+        requireNonNull(deadline);
+        return projectsOfDeadlines.get(deadline);
+    }
+
+    private RangeIndex<Deadline> getIndex(Priority priority, boolean isDone) {
+        return indexes.get(2 * priority.ordinal() + (isDone ? 1 : 0));
+    }
+
+    private void add(Project project) {
+        for (Deadline deadline : project.getProjectDeadlines()) {
+            getIndex(deadline.getPriority(), deadline.getIsDone()).add(deadline);
+            projectsOfDeadlines.put(deadline, project);
+        }
+    }
+
+    private void remove(Project project) {
+        for (Deadline deadline : project.getProjectDeadlines()) {
+            getIndex(deadline.getPriority(), deadline.getIsDone()).remove(deadline);
+            projectsOfDeadlines.remove(deadline);
+        }
+    }
+
+    /**
+     * The position reached in the deadlines found in one index.
+     */
+    private static class Cursor {
+        private final Iterator<Deadline> deadlines;
+        private final int order;
+        private Deadline nextDeadline;
+        private long dueDay;
+
+        private Cursor(Iterator<Deadline> deadlines, int order) {
+            this.deadlines = deadlines;
+            this.order = order;
+            advance();
+        }
+
+        private long getDueDay() {
+            return dueDay;
+        }
+
+        private boolean hasNext() {
+            return nextDeadline != null;
+        }
+
+        private Deadline next() {
+            Deadline deadline = nextDeadline;
+            advance();
+            return deadline;
+        }
+
+        private void advance() {
+            nextDeadline = deadlines.hasNext() ? deadlines.next() : null;
+            if (nextDeadline != null) {
+                dueDay = nextDeadline.getDate().toEpochDay();
+            }
+        }
+    }
+}
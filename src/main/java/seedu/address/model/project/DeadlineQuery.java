@@ -0,0 +1,144 @@
+package seedu.address.model.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.commons.Date;
+
+/**
+ * Tests that a {@code Deadline} is due within a range of days, has one of a set of priorities and has one of a set
+ * of done statuses.
+ * <p>
+ * Unlike a predicate on any property of a deadline, a query can be answered by a {@link DeadlineIndex} with a scan
+ * of the deadlines due in its range for each priority and status it allows.
+ */
+public class DeadlineQuery implements Predicate<Deadline> {
+
+    /**
+     * A query matching every deadline.
+     */
+    public static final DeadlineQuery ALL = new DeadlineQuery(Long.MIN_VALUE, Long.MAX_VALUE,
+            EnumSet.allOf(Priority.class), true, true);
+
+    // The first and last days a matching deadline can be due on, counted from 01-01-1970
+    private final long earliestDay;
+    private final long latestDay;
+    private final Set<Priority> priorities;
+    private final boolean includesDone;
+    private final boolean includesUndone;
+
+    private DeadlineQuery(long earliestDay, long latestDay, Set<Priority> priorities, boolean includesDone,
+                          boolean includesUndone) {
+        this.earliestDay = earliestDay;
+        this.latestDay = latestDay;
+        this.priorities = EnumSet.noneOf(Priority.class);
+        this.priorities.addAll(priorities);
+        this.includesDone = includesDone;
+        this.includesUndone = includesUndone;
+    }
+
+    /**
+     * Returns a query matching the deadlines due on or before {@code date}.
+     */
+    public static DeadlineQuery dueBy(Date date) {
+        requireNonNull(date);
+        return ALL.dueBetween(Long.MIN_VALUE, date.toEpochDay());
+    }
+
+    /**
+     * Returns a query matching the deadlines with priority {@code priority}.
+     */
+    public static DeadlineQuery withPriority(Priority priority) {
+        requireNonNull(priority);
+        return new DeadlineQuery(Long.MIN_VALUE, Long.MAX_VALUE, EnumSet.of(priority), true, true);
+    }
+
+    /**
+     * Returns a query matching the deadlines that are done if {@code isDone} is true, or not done otherwise.
+     */
+    public static DeadlineQuery withStatus(boolean isDone) {
+        return new DeadlineQuery(Long.MIN_VALUE, Long.MAX_VALUE, EnumSet.allOf(Priority.class), isDone, !isDone);
+    }
+
+    /**
+     * Returns a query matching the deadlines matched by this query that are due from day {@code earliestDay} to day
+     * {@code latestDay}, both counted from 01-01-1970.
+     */
+    public DeadlineQuery dueBetween(long earliestDay, long latestDay) {
+        return new DeadlineQuery(Math.max(this.earliestDay, earliestDay), Math.min(this.latestDay, latestDay),
+                priorities, includesDone, includesUndone);
+    }
+
+    /**
+     * Returns a query matching the deadlines matched by both this query and {@code other}.
+     */
+    public DeadlineQuery and(DeadlineQuery other) {
+        requireNonNull(other);
+        Set<Priority> commonPriorities = EnumSet.noneOf(Priority.class);
+        commonPriorities.addAll(priorities);
+        commonPriorities.retainAll(other.priorities);
+        return new DeadlineQuery(Math.max(earliestDay, other.earliestDay), Math.min(latestDay, other.latestDay),
+                commonPriorities, includesDone && other.includesDone, includesUndone && other.includesUndone);
+    }
+
+    public long getEarliestDay() {
+        return earliestDay;
+    }
+
+    public long getLatestDay() {
+        return latestDay;
+    }
+
+    /**
+     * Returns true if deadlines with {@code priority} and done status {@code isDone} can match this query.
+     */
+    public boolean allows(Priority priority, boolean isDone) {
+        return priorities.contains(priority) && (isDone ? includesDone : includesUndone);
+    }
+
+    @Override
+    public boolean test(Deadline deadline) {
+        long day = deadline.getDate().toEpochDay();
+        return day >= earliestDay && day <= latestDay && allows(deadline.getPriority(), deadline.getIsDone());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeadlineQuery)) {
+            return false;
+        }
+
+        DeadlineQuery otherQuery = (DeadlineQuery) other;
+        return earliestDay == otherQuery.earliestDay
+                && latestDay == otherQuery.latestDay
+                && priorities.equals(otherQuery.priorities)
+                && includesDone == otherQuery.includesDone
+                && includesUndone == otherQuery.includesUndone;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(earliestDay, latestDay, priorities, includesDone, includesUndone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("earliestDay", earliestDay)
+                .add("latestDay", latestDay)
+                .add("priorities", priorities)
+                .add("includesDone", includesDone)
+                .add("includesUndone", includesUndone)
+                .toString();
+    }
+}
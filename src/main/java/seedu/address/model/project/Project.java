@@ -68,6 +68,15 @@ public class Project {
         return projectName.fullName;
     }
 
+    /**
+     * Returns the name of the project in lower case, which is the same for projects that are the same project.
+     *
+     * @see #isSameProject(Project)
+     */
+    public String getIdentityKey() {
+        return projectName.getIdentityKey();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -178,7 +187,7 @@ public class Project {
         }
 
         return otherProject != null
-                && otherProject.getName().toLowerCase().equals(getName().toLowerCase());
+                && otherProject.getIdentityKey().equals(getIdentityKey());
     }
 
     public boolean isSameProject(String projectName) {
@@ -0,0 +1,31 @@
+package seedu.address.model.project;
+
+import java.util.function.Function;
+
+import seedu.address.model.person.SearchField;
+
+/**
+ * The fields of a {@code Project} that {@code find-project} can search.
+ */
+public enum ProjectField implements SearchField<Project> {
+    NAME(Project::getName),
+    DESCRIPTION(project -> project.getProjectDescription().toString()),
+    DEADLINES(project -> project.getProjectDeadlines().toString());
+
+    private final Function<Project, String> valueGetter;
+
+    ProjectField(Function<Project, String> valueGetter) {
+        this.valueGetter = valueGetter;
+    }
+
+    @Override
+    public String getValue(Project project) {
+        return valueGetter.apply(project);
+    }
+
+    @Override
+    public boolean isPartialWordMatch() {
+        // Every project field is matched by partial words
+        return true;
+    }
+}
@@ -3,11 +3,15 @@ package seedu.address.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PositionIndex;
 import seedu.address.model.project.exceptions.DuplicateProjectException;
 import seedu.address.model.project.exceptions.ProjectNotFoundException;
 
@@ -20,6 +24,7 @@ import seedu.address.model.project.exceptions.ProjectNotFoundException;
  * Project#equals(Object) to ensure that the project with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * Projects are also indexed by their case-insensitive name, so identity lookups do not scan the list.
  *
  * @see Project#isSameProject(Project)
  */
@@ -28,13 +33,16 @@ public class UniqueProjectList implements Iterable<Project> {
     private final ObservableList<Project> internalList = FXCollections.observableArrayList();
     private final ObservableList<Project> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Position of each project in internalList, keyed by its identity key. Kept in step with internalList.
+    private final PositionIndex positions = new PositionIndex();
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent project as the given argument.
      */
     public boolean contains(Project toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProject);
+        return positions.contains(identityKeyOf(toCheck));
     }
 
     /**
@@ -46,12 +54,9 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public boolean contains(String toCheck) {
         requireNonNull(toCheck);
-        for (Project p : internalList) {
-            if (p.isSameProject(toCheck)) {
-                return true;
-            }
-        }
-        return false;
+        // Names are matched exactly here, so the indexed project must also have the same case
+        int index = positions.indexOf(toCheck.toLowerCase());
+        return index != -1 && internalList.get(index).isSameProject(toCheck);
     }
 
     /**
@@ -63,7 +68,9 @@ public class UniqueProjectList implements Iterable<Project> {
         if (contains(toAdd)) {
             throw new DuplicateProjectException();
         }
+        positions.add(identityKeyOf(toAdd));
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -74,7 +81,7 @@ public class UniqueProjectList implements Iterable<Project> {
     public void setProject(Project target, Project editedProject) {
         requireAllNonNull(target, editedProject);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ProjectNotFoundException();
         }
@@ -83,7 +90,9 @@ public class UniqueProjectList implements Iterable<Project> {
             throw new DuplicateProjectException();
         }
 
+        positions.set(identityKeyOf(target), identityKeyOf(editedProject));
         internalList.set(index, editedProject);
+        modificationCount++;
     }
 
     /**
@@ -92,14 +101,21 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void remove(Project toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ProjectNotFoundException();
         }
+
+        internalList.remove(index);
+        positions.remove(identityKeyOf(toRemove));
+        modificationCount++;
     }
 
     public void setProjects(UniqueProjectList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.setAll(replacement.positions);
+        modificationCount++;
     }
 
     /**
@@ -108,11 +124,49 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void setProjects(List<Project> projects) {
         requireAllNonNull(projects);
-        if (!projectsAreUnique(projects)) {
+        if (!positions.setAll(identityKeysOf(projects))) {
             throw new DuplicateProjectException();
         }
 
         internalList.setAll(projects);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the {@code count} projects starting at position {@code from} with {@code replacement}.
+     * The list must not contain duplicate projects afterwards.
+     */
+    public void replaceRange(int from, int count, List<Project> replacement) {
+        requireAllNonNull(replacement);
+        List<Project> replaced = internalList.subList(from, from + count);
+        Set<String> replacedNames = new HashSet<>();
+        for (Project project : replaced) {
+            replacedNames.add(identityKeyOf(project));
+        }
+        Set<String> replacementNames = new HashSet<>();
+        for (Project project : replacement) {
+            String name = identityKeyOf(project);
+            if (!replacementNames.add(name) || positions.contains(name) && !replacedNames.contains(name)) {
+                throw new DuplicateProjectException();
+            }
+        }
+
+        if (count == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.remove(from, from + count);
+            internalList.addAll(from, replacement);
+        }
+        positions.replaceRange(from, count, identityKeysOf(replacement));
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times this list has been modified.
+     * The count only ever increases, so it can be compared to detect changes.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -153,16 +207,29 @@ public class UniqueProjectList implements Iterable<Project> {
     }
 
     /**
-     * Returns true if {@code projects} contains only unique projects.
+     * Returns the identity keys of {@code projects}, in the same order.
      */
-    private boolean projectsAreUnique(List<Project> projects) {
-        for (int i = 0; i < projects.size() - 1; i++) {
-            for (int j = i + 1; j < projects.size(); j++) {
-                if (projects.get(i).isSameProject(projects.get(j))) {
-                    return false;
-                }
-            }
+    private static List<String> identityKeysOf(List<Project> projects) {
+        List<String> keys = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            keys.add(identityKeyOf(project));
         }
-        return true;
+        return keys;
+    }
+
+    /**
+     * Returns the position of {@code project} in the list, or -1 if the list has no project equal to it.
+     */
+    private int indexOf(Project project) {
+        int index = positions.indexOf(identityKeyOf(project));
+        return index != -1 && internalList.get(index).equals(project) ? index : -1;
+    }
+
+    /**
+     * Returns the key under which {@code project} is indexed.
+     * Two projects have the same key exactly when {@link Project#isSameProject(Project)} holds between them.
+     */
+    private static String identityKeyOf(Project project) {
+        return project.getIdentityKey();
     }
 }
@@ -0,0 +1,22 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes an address book to a data file in a given {@link StorageFormat}.
+ */
+public interface AddressBookConverter {
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} in {@code format}, after every address book save that was
+     * requested so far has been written. If {@code filePath} is the file the address book is kept in, it is written
+     * through the storage that keeps it.
+     *
+     * @throws IOException if the data could not be written.
+     */
+    void convertAddressBook(ReadOnlyAddressBook addressBook, StorageFormat format, Path filePath) throws IOException;
+}
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -43,4 +45,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, which {@code changes} made, in order, from the address book last read from or
+     * saved to the storage. Storages that write the whole address book on every save can ignore the changes.
+     *
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange<?>> changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
 }
@@ -0,0 +1,447 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientRoles;
+import seedu.address.model.client.Document;
+import seedu.address.model.commons.Date;
+import seedu.address.model.commons.Name;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperRoles;
+import seedu.address.model.developer.GithubId;
+import seedu.address.model.developer.Rating;
+import seedu.address.model.developer.Salary;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.project.Deadline;
+import seedu.address.model.project.Description;
+import seedu.address.model.project.Project;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of every distinct string in
+ * the address book. Developers, clients and projects then refer to their field values by their index in the
+ * table. All numbers are written as variable-length integers and all strings are length-prefixed UTF-8.
+ * <p>
+ * Repeated values such as roles, organisations and project names are stored once. When reading, each value
+ * is validated and converted into its model type once per table entry, rather than once per entity.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x43434442;
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted: %s";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            return Optional.of(new Reader(in).read());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE))) {
+            new Writer(out).write(addressBook);
+        }
+    }
+
+    /**
+     * Writes an address book in the binary format.
+     */
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringTable = new LinkedHashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(ReadOnlyAddressBook addressBook) throws IOException {
+            buildStringTable(addressBook);
+
+            out.writeInt(MAGIC_NUMBER);
+            writeVarInt(FORMAT_VERSION);
+            writeVarInt(stringTable.size());
+            for (String string : stringTable.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(bytes.length);
+                out.write(bytes);
+            }
+
+            writeVarInt(addressBook.getDeveloperList().size());
+            for (Developer developer : addressBook.getDeveloperList()) {
+                writeString(developer.getName().fullName);
+                writeString(developer.getPhone().value);
+                writeString(developer.getEmail().value);
+                writeString(developer.getAddress().value);
+                writeString(developer.getRole().role);
+                writeString(developer.getSalary().toString());
+                writeString(developer.getDateJoined().toString());
+                writeString(developer.getGithubId().username);
+                writeString(developer.getRating().toString());
+                writeStrings(developer.getProjects());
+            }
+
+            writeVarInt(addressBook.getClientList().size());
+            for (Client client : addressBook.getClientList()) {
+                writeString(client.getName().fullName);
+                writeString(client.getPhone().value);
+                writeString(client.getEmail().value);
+                writeString(client.getAddress().value);
+                writeString(client.getRole().role);
+                writeString(client.getOrganisation().fullName);
+                writeString(client.getDocument().toString());
+                writeStrings(client.getProjects());
+            }
+
+            writeVarInt(addressBook.getProjectList().size());
+            for (Project project : addressBook.getProjectList()) {
+                writeString(project.getProjectName().fullName);
+                writeString(project.getProjectDescription().desc);
+                List<String> deadlines = new ArrayList<>();
+                for (Deadline deadline : project.getProjectDeadlines()) {
+                    deadlines.add(deadline.getStringRepresentation());
+                }
+                writeStrings(deadlines);
+            }
+        }
+
+        private void buildStringTable(ReadOnlyAddressBook addressBook) {
+            for (Developer developer : addressBook.getDeveloperList()) {
+                intern(developer.getName().fullName);
+                intern(developer.getPhone().value);
+                intern(developer.getEmail().value);
+                intern(developer.getAddress().value);
+                intern(developer.getRole().role);
+                intern(developer.getSalary().toString());
+                intern(developer.getDateJoined().toString());
+                intern(developer.getGithubId().username);
+                intern(developer.getRating().toString());
+                developer.getProjects().forEach(this::intern);
+            }
+            for (Client client : addressBook.getClientList()) {
+                intern(client.getName().fullName);
+                intern(client.getPhone().value);
+                intern(client.getEmail().value);
+                intern(client.getAddress().value);
+                intern(client.getRole().role);
+                intern(client.getOrganisation().fullName);
+                intern(client.getDocument().toString());
+                client.getProjects().forEach(this::intern);
+            }
+            for (Project project : addressBook.getProjectList()) {
+                intern(project.getProjectName().fullName);
+                intern(project.getProjectDescription().desc);
+                for (Deadline deadline : project.getProjectDeadlines()) {
+                    intern(deadline.getStringRepresentation());
+                }
+            }
+        }
+
+        private void intern(String string) {
+            stringTable.putIfAbsent(string, stringTable.size());
+        }
+
+        private void writeString(String string) throws IOException {
+            writeVarInt(stringTable.get(string));
+        }
+
+        private void writeStrings(Collection<String> strings) throws IOException {
+            writeVarInt(strings.size());
+            for (String string : strings) {
+                writeString(string);
+            }
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format.
+     */
+    private static class Reader {
+        private final DataInputStream in;
+        private String[] strings;
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+            }
+            int version = readVarInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            strings = new String[readVarInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readVarInt()];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setDevelopers(readDevelopers());
+            addressBook.setClients(readClients());
+            addressBook.setProjects(readProjects());
+            return addressBook;
+        }
+
+        private List<Developer> readDevelopers() throws IOException, IllegalValueException {
+            ValueTable<Name> names = newTable(Name::isValidName, Name::new, Name.MESSAGE_CONSTRAINTS);
+            ValueTable<Phone> phones = newTable(Phone::isValidPhone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
+            ValueTable<Email> emails = newTable(Email::isValidEmail, Email::new, Email.MESSAGE_CONSTRAINTS);
+            ValueTable<Address> addresses =
+                    newTable(Address::isValidAddress, Address::new, Address.MESSAGE_CONSTRAINTS);
+            ValueTable<DeveloperRoles> roles = newTable(DeveloperRoles::isValidRole, DeveloperRoles::new,
+                    DeveloperRoles.NO_SUCH_DEVELOPER_ROLE);
+            ValueTable<Salary> salaries = newTable(Salary::isValidSalary, Salary::new, Salary.MESSAGE_CONSTRAINTS);
+            ValueTable<Date> dates = newTable(date -> Date.isValidDate(date, false), date -> new Date(date, false),
+                    Date.MESSAGE_CONSTRAINTS);
+            ValueTable<GithubId> githubIds =
+                    newTable(GithubId::isValidGithubId, GithubId::new, GithubId.MESSAGE_CONSTRAINTS);
+            ValueTable<Rating> ratings = newTable(Rating::isValidRating, Rating::new, Rating.MESSAGE_CONSTRAINTS);
+
+            int count = readVarInt();
+            List<Developer> developers = new ArrayList<>(count);
+            Set<String> seenNames = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                Name name = names.get(readVarInt());
+                Phone phone = phones.get(readVarInt());
+                Email email = emails.get(readVarInt());
+                Address address = addresses.get(readVarInt());
+                DeveloperRoles role = roles.get(readVarInt());
+                Salary salary = salaries.get(readVarInt());
+                Date dateJoined = dates.get(readVarInt());
+                GithubId githubId = githubIds.get(readVarInt());
+                Rating rating = ratings.get(readVarInt());
+                Set<String> projects = new HashSet<>(readStrings());
+                if (!seenNames.add(name.fullName.toLowerCase())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_DEVELOPER);
+                }
+                developers.add(new Developer(name, phone, email, address, role, projects, salary, dateJoined,
+                        githubId, rating));
+            }
+            return developers;
+        }
+
+        private List<Client> readClients() throws IOException, IllegalValueException {
+            ValueTable<Name> names = newTable(Name::isValidName, Name::new, Name.MESSAGE_CONSTRAINTS);
+            ValueTable<Phone> phones = newTable(Phone::isValidPhone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
+            ValueTable<Email> emails = newTable(Email::isValidEmail, Email::new, Email.MESSAGE_CONSTRAINTS);
+            ValueTable<Address> addresses =
+                    newTable(Address::isValidAddress, Address::new, Address.MESSAGE_CONSTRAINTS);
+            ValueTable<ClientRoles> roles = newTable(ClientRoles::isValidRole, ClientRoles::new,
+                    ClientRoles.NO_SUCH_CLIENT_ROLE);
+            ValueTable<Document> documents =
+                    newTable(Document::isValidUrl, Document::new, Document.MESSAGE_CONSTRAINTS);
+
+            int count = readVarInt();
+            List<Client> clients = new ArrayList<>(count);
+            Set<String> seenNames = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                Name name = names.get(readVarInt());
+                Phone phone = phones.get(readVarInt());
+                Email email = emails.get(readVarInt());
+                Address address = addresses.get(readVarInt());
+                ClientRoles role = roles.get(readVarInt());
+                Name organisation = names.get(readVarInt());
+                Document document = documents.get(readVarInt());
+                Set<String> projects = new HashSet<>(readStrings());
+                if (!seenNames.add(name.fullName.toLowerCase())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+                }
+                clients.add(new Client(name, phone, email, address, role, projects, organisation, document));
+            }
+            return clients;
+        }
+
+        private List<Project> readProjects() throws IOException, IllegalValueException {
+            ValueTable<Name> names = newTable(Name::isValidName, Name::new, Name.MESSAGE_CONSTRAINTS);
+            ValueTable<Description> descriptions = newTable(Description::isValidDescription, Description::new,
+                    Description.MESSAGE_CONSTRAINTS);
+
+            int count = readVarInt();
+            List<Project> projects = new ArrayList<>(count);
+            Set<String> seenNames = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                Name name = names.get(readVarInt());
+                Description description = descriptions.get(readVarInt());
+                List<Deadline> deadlines = new ArrayList<>();
+                for (String deadline : readStrings()) {
+                    if (!Deadline.isValidDeadline(deadline)) {
+                        throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
+                    }
+                    deadlines.add(new Deadline(deadline, deadlines.size() + 1));
+                }
+                if (!seenNames.add(name.fullName.toLowerCase())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROJECT);
+                }
+                projects.add(new Project(name, description, deadlines));
+            }
+            return projects;
+        }
+
+        private <T> ValueTable<T> newTable(Predicate<String> isValid, Function<String, T> factory,
+                                           String constraintsMessage) {
+            return new ValueTable<>(strings, isValid, factory, constraintsMessage);
+        }
+
+        private List<String> readStrings() throws IOException {
+            int count = readVarInt();
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(stringAt(readVarInt()));
+            }
+            return result;
+        }
+
+        private String stringAt(int index) throws IOException {
+            if (index < 0 || index >= strings.length) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "string index out of range"));
+            }
+            return strings[index];
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = in.readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "malformed integer"));
+        }
+    }
+
+    /**
+     * Lazily converts entries of the string table into model values of one type.
+     * Each entry is validated and converted at most once.
+     */
+    private static class ValueTable<T> {
+        private final String[] strings;
+        private final Object[] values;
+        private final Predicate<String> isValid;
+        private final Function<String, T> factory;
+        private final String constraintsMessage;
+
+        ValueTable(String[] strings, Predicate<String> isValid, Function<String, T> factory,
+                   String constraintsMessage) {
+            this.strings = strings;
+            this.values = new Object[strings.length];
+            this.isValid = isValid;
+            this.factory = factory;
+            this.constraintsMessage = constraintsMessage;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) throws IOException, IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "string index out of range"));
+            }
+            if (values[index] == null) {
+                if (!isValid.test(strings[index])) {
+                    throw new IllegalValueException(constraintsMessage);
+                }
+                values[index] = factory.apply(strings[index]);
+            }
+            return (T) values[index];
+        }
+    }
+}
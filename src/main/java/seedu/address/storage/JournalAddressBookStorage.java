@@ -0,0 +1,612 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.commons.Name;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only journal of changes.
+ * <p>
+ * The snapshot is read and written through another {@link AddressBookStorage}. Each save only appends a
+ * compact record for every developer, client or project that changed since the previous save, instead of
+ * rewriting the whole snapshot. The changed entities are taken from the changes passed to
+ * {@link #saveAddressBookChanges(ReadOnlyAddressBook, List)}, or found by comparing the whole address book with
+ * the persisted state when it is saved without them. Reading replays the journal on top of the snapshot. Once
+ * the journal holds too many records or grows too old, it is folded into a fresh snapshot on a background thread.
+ * <p>
+ * Entities are identified by their case-insensitive name, as in {@code Developer#isSameDeveloper(Developer)}.
+ * Renaming an entity is journalled as a removal followed by an addition, so the renamed entity is placed
+ * at the end of its list when the journal is replayed.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_FILE_SUFFIX = ".compacting";
+    public static final int DEFAULT_COMPACTION_ENTRY_THRESHOLD = 500;
+    public static final Duration DEFAULT_COMPACTION_AGE_THRESHOLD = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionEntryThreshold;
+    private final Duration compactionAgeThreshold;
+    private final Executor compactionExecutor;
+    private final Object stateLock = new Object();
+    private final Object compactionLock = new Object();
+
+    // The state that is currently persisted in the snapshot and journal, keyed by identity.
+    private final Map<String, Developer> persistedDevelopers = new LinkedHashMap<>();
+    private final Map<String, Client> persistedClients = new LinkedHashMap<>();
+    private final Map<String, Project> persistedProjects = new LinkedHashMap<>();
+    private boolean isPersistedStateKnown = false;
+    private int journalEntryCount = 0;
+    private Instant journalStartTime = null;
+    private boolean isCompactionScheduled = false;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot in {@code snapshotStorage},
+     * using the default compaction thresholds.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_ENTRY_THRESHOLD, DEFAULT_COMPACTION_AGE_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot in {@code snapshotStorage}.
+     *
+     * @param compactionEntryThreshold number of journal records after which the journal is compacted.
+     * @param compactionAgeThreshold   age of the oldest journal record after which the journal is compacted.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage, int compactionEntryThreshold,
+                                     Duration compactionAgeThreshold) {
+        this(snapshotStorage, compactionEntryThreshold, compactionAgeThreshold,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "addressbook-journal-compaction");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * Similar to {@link #JournalAddressBookStorage(AddressBookStorage, int, Duration)}, running background
+     * compactions on {@code compactionExecutor}.
+     */
+    JournalAddressBookStorage(AddressBookStorage snapshotStorage, int compactionEntryThreshold,
+                              Duration compactionAgeThreshold, Executor compactionExecutor) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(compactionAgeThreshold);
+        requireNonNull(compactionExecutor);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionEntryThreshold = compactionEntryThreshold;
+        this.compactionAgeThreshold = compactionAgeThreshold;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return Paths.get(snapshotFilePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the key used to identify an entity with the given name in the journal.
+     */
+    static String identityKeyOf(Name name) {
+        return name.getIdentityKey();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, replaying the journal that belongs to {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path compactingFilePath = getCompactingFilePath(journalFilePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath) && !Files.exists(compactingFilePath)) {
+            return Optional.empty();
+        }
+
+        Map<String, Developer> developers = new LinkedHashMap<>();
+        Map<String, Client> clients = new LinkedHashMap<>();
+        Map<String, Project> projects = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> putAll(addressBook, developers, clients, projects));
+
+        // Records in an interrupted compaction precede those in the live journal.
+        int replayedEntryCount = replayJournal(compactingFilePath, developers, clients, projects)
+                + replayJournal(journalFilePath, developers, clients, projects);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            synchronized (stateLock) {
+                replacePersistedState(developers, clients, projects);
+                journalEntryCount = replayedEntryCount;
+                journalStartTime = replayedEntryCount > 0 ? Instant.now() : null;
+            }
+        }
+        return Optional.of(toAddressBook(developers, clients, projects));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        synchronized (stateLock) {
+            if (!isPersistedStateKnown) {
+                // Nothing has been read or written yet, so no compaction can be running either.
+                saveSnapshot(addressBook);
+                return;
+            }
+
+            List<JsonAdaptedJournalEntry> entries = computeChanges(addressBook);
+            if (entries.isEmpty()) {
+                return;
+            }
+            appendToJournal(entries);
+            replacePersistedState(addressBook);
+            journalEntryCount += entries.size();
+            if (journalStartTime == null) {
+                journalStartTime = Instant.now();
+            }
+            scheduleCompactionIfNeeded();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, only looking at the entities added or removed by
+     * {@code changes}, so a save takes time proportional to the changes rather than to the address book.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange<?>> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        synchronized (stateLock) {
+            if (!isPersistedStateKnown) {
+                saveSnapshot(addressBook);
+                return;
+            }
+
+            // The entity each changed name now belongs to, or null if it was removed
+            Map<String, Developer> changedDevelopers = new LinkedHashMap<>();
+            Map<String, Client> changedClients = new LinkedHashMap<>();
+            Map<String, Project> changedProjects = new LinkedHashMap<>();
+            for (AddressBookChange<?> change : changes) {
+                switch (change.getList()) {
+                case DEVELOPERS:
+                    collectChanges(change, changedDevelopers, Developer::getName);
+                    break;
+                case CLIENTS:
+                    collectChanges(change, changedClients, Client::getName);
+                    break;
+                case PROJECTS:
+                    collectChanges(change, changedProjects, Project::getProjectName);
+                    break;
+                default:
+                    throw new AssertionError(change.getList());
+                }
+            }
+
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+            addChanges(entries, JsonAdaptedJournalEntry.TYPE_DEVELOPER, changedDevelopers, persistedDevelopers,
+                    JsonAdaptedJournalEntry::put);
+            addChanges(entries, JsonAdaptedJournalEntry.TYPE_CLIENT, changedClients, persistedClients,
+                    JsonAdaptedJournalEntry::put);
+            addChanges(entries, JsonAdaptedJournalEntry.TYPE_PROJECT, changedProjects, persistedProjects,
+                    JsonAdaptedJournalEntry::put);
+            if (entries.isEmpty()) {
+                return;
+            }
+            appendToJournal(entries);
+            applyChanges(changedDevelopers, persistedDevelopers);
+            applyChanges(changedClients, persistedClients);
+            applyChanges(changedProjects, persistedProjects);
+            journalEntryCount += entries.size();
+            if (journalStartTime == null) {
+                journalStartTime = Instant.now();
+            }
+            scheduleCompactionIfNeeded();
+        }
+    }
+
+    /**
+     * Saves a full snapshot of {@code addressBook} to {@code filePath}, bypassing the journal.
+     * If {@code filePath} is this storage's own snapshot location, its journal is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        synchronized (compactionLock) {
+            synchronized (stateLock) {
+                saveSnapshot(addressBook);
+            }
+        }
+    }
+
+    /**
+     * Folds the journal into a fresh snapshot. Saves made while the snapshot is being written are
+     * appended to a new journal and are not lost.
+     *
+     * @throws IOException if the snapshot could not be written. The journal is kept intact in that case.
+     */
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+            Path compactingFilePath = getCompactingFilePath(journalFilePath);
+            ReadOnlyAddressBook snapshot;
+
+            synchronized (stateLock) {
+                if (!isPersistedStateKnown || journalEntryCount == 0) {
+                    return;
+                }
+                snapshot = new AddressBookSnapshot(persistedDevelopers.values(), persistedClients.values(),
+                        persistedProjects.values());
+                if (Files.exists(journalFilePath)) {
+                    appendFile(journalFilePath, compactingFilePath);
+                    Files.delete(journalFilePath);
+                }
+                journalEntryCount = 0;
+                journalStartTime = null;
+            }
+
+            try {
+                writeSnapshotAtomically(snapshot);
+                Files.deleteIfExists(compactingFilePath);
+            } catch (IOException ioe) {
+                restoreJournal(journalFilePath, compactingFilePath);
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records currently held in the journal.
+     */
+    public int getJournalEntryCount() {
+        synchronized (stateLock) {
+            return journalEntryCount;
+        }
+    }
+
+    // ================ Internal helpers ==============================
+
+    private static Path getCompactingFilePath(Path journalFilePath) {
+        return Paths.get(journalFilePath.toString() + COMPACTING_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes a full snapshot and discards any journal. Must be called while holding {@code stateLock}.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        writeSnapshotAtomically(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        Files.deleteIfExists(getCompactingFilePath(journalFilePath));
+        replacePersistedState(addressBook);
+        journalEntryCount = 0;
+        journalStartTime = null;
+    }
+
+    /**
+     * Writes {@code addressBook} to a temporary file next to the snapshot and then moves it into place,
+     * so that a crash never leaves a half-written snapshot behind.
+     */
+    private void writeSnapshotAtomically(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path tempFilePath = Paths.get(filePath.toString() + ".tmp");
+        FileUtil.createParentDirsOfFile(filePath);
+        snapshotStorage.saveAddressBook(addressBook, tempFilePath);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the journal records that turn the persisted state into {@code addressBook}.
+     */
+    private List<JsonAdaptedJournalEntry> computeChanges(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        Set<String> seen = new HashSet<>();
+        for (Developer developer : addressBook.getDeveloperList()) {
+            String key = identityKeyOf(developer.getName());
+            seen.add(key);
+            if (!isUnchanged(persistedDevelopers.get(key), developer)) {
+                entries.add(JsonAdaptedJournalEntry.put(developer));
+            }
+        }
+        addRemovals(entries, JsonAdaptedJournalEntry.TYPE_DEVELOPER, persistedDevelopers.keySet(), seen);
+
+        seen.clear();
+        for (Client client : addressBook.getClientList()) {
+            String key = identityKeyOf(client.getName());
+            seen.add(key);
+            if (!isUnchanged(persistedClients.get(key), client)) {
+                entries.add(JsonAdaptedJournalEntry.put(client));
+            }
+        }
+        addRemovals(entries, JsonAdaptedJournalEntry.TYPE_CLIENT, persistedClients.keySet(), seen);
+
+        seen.clear();
+        for (Project project : addressBook.getProjectList()) {
+            String key = identityKeyOf(project.getProjectName());
+            seen.add(key);
+            if (!isUnchanged(persistedProjects.get(key), project)) {
+                entries.add(JsonAdaptedJournalEntry.put(project));
+            }
+        }
+        addRemovals(entries, JsonAdaptedJournalEntry.TYPE_PROJECT, persistedProjects.keySet(), seen);
+
+        return entries;
+    }
+
+    /**
+     * Records in {@code changed} the entity that each name removed or added by {@code change} now belongs to, or
+     * null if the name was removed.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void collectChanges(AddressBookChange<?> change, Map<String, T> changed,
+                                           Function<T, Name> nameOf) {
+        for (Object entity : change.getRemoved()) {
+            changed.put(identityKeyOf(nameOf.apply((T) entity)), null);
+        }
+        for (Object entity : change.getAdded()) {
+            changed.put(identityKeyOf(nameOf.apply((T) entity)), (T) entity);
+        }
+    }
+
+    /**
+     * Adds the journal records that turn the {@code persisted} entities into the {@code changed} ones.
+     */
+    private static <T> void addChanges(List<JsonAdaptedJournalEntry> entries, String type, Map<String, T> changed,
+                                       Map<String, T> persisted, Function<T, JsonAdaptedJournalEntry> toPutEntry) {
+        changed.forEach((key, entity) -> {
+            if (entity == null && persisted.containsKey(key)) {
+                entries.add(JsonAdaptedJournalEntry.remove(type, key));
+            } else if (entity != null && !isUnchanged(persisted.get(key), entity)) {
+                entries.add(toPutEntry.apply(entity));
+            }
+        });
+    }
+
+    private static <T> void applyChanges(Map<String, T> changed, Map<String, T> persisted) {
+        changed.forEach((key, entity) -> {
+            if (entity == null) {
+                persisted.remove(key);
+            } else {
+                persisted.put(key, entity);
+            }
+        });
+    }
+
+    private static boolean isUnchanged(Object persisted, Object current) {
+        // Entities are immutable, so an identical reference is by far the most common case.
+        return persisted == current || current.equals(persisted);
+    }
+
+    private static void addRemovals(List<JsonAdaptedJournalEntry> entries, String type,
+                                    Set<String> persistedKeys, Set<String> currentKeys) {
+        for (String key : persistedKeys) {
+            if (!currentKeys.contains(key)) {
+                entries.add(JsonAdaptedJournalEntry.remove(type, key));
+            }
+        }
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Applies every record in the journal at {@code journalFilePath} to the given maps.
+     * A malformed final line is treated as a write that was interrupted by a crash and is skipped.
+     *
+     * @return the number of records applied.
+     */
+    private static int replayJournal(Path journalFilePath, Map<String, Developer> developers,
+                                     Map<String, Client> clients, Map<String, Project> projects)
+            throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int appliedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record in journal " + journalFilePath);
+                    break;
+                }
+                logger.warning("Malformed record in journal " + journalFilePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            try {
+                entry.applyTo(developers, clients, projects);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            appliedCount++;
+        }
+        return appliedCount;
+    }
+
+    /**
+     * Puts back the records of a failed compaction in front of any records journalled since it started.
+     */
+    private void restoreJournal(Path journalFilePath, Path compactingFilePath) {
+        synchronized (stateLock) {
+            try {
+                if (Files.exists(journalFilePath)) {
+                    appendFile(journalFilePath, compactingFilePath);
+                }
+                Files.move(compactingFilePath, journalFilePath, StandardCopyOption.REPLACE_EXISTING);
+                journalEntryCount += countLines(journalFilePath);
+                journalStartTime = Instant.now();
+            } catch (IOException ioe) {
+                logger.severe("Failed to restore journal after an unsuccessful compaction: "
+                        + StringUtil.getDetails(ioe));
+            }
+        }
+    }
+
+    private static void appendFile(Path source, Path destination) throws IOException {
+        Files.write(destination, Files.readAllBytes(source), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static int countLines(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return (int) reader.lines().filter(line -> !line.trim().isEmpty()).count();
+        }
+    }
+
+    /**
+     * Schedules a background compaction if the journal has passed either threshold.
+     * Must be called while holding {@code stateLock}.
+     */
+    private void scheduleCompactionIfNeeded() {
+        boolean isJournalTooLarge = journalEntryCount >= compactionEntryThreshold;
+        boolean isJournalTooOld = journalStartTime != null
+                && Duration.between(journalStartTime, Instant.now()).compareTo(compactionAgeThreshold) >= 0;
+        if (isCompactionScheduled || !(isJournalTooLarge || isJournalTooOld)) {
+            return;
+        }
+
+        isCompactionScheduled = true;
+        compactionExecutor.execute(() -> {
+            synchronized (stateLock) {
+                isCompactionScheduled = false;
+            }
+            try {
+                compact();
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal, will retry on a later save: "
+                        + StringUtil.getDetails(ioe));
+            }
+        });
+    }
+
+    private void replacePersistedState(ReadOnlyAddressBook addressBook) {
+        persistedDevelopers.clear();
+        persistedClients.clear();
+        persistedProjects.clear();
+        putAll(addressBook, persistedDevelopers, persistedClients, persistedProjects);
+        isPersistedStateKnown = true;
+    }
+
+    private void replacePersistedState(Map<String, Developer> developers, Map<String, Client> clients,
+                                       Map<String, Project> projects) {
+        persistedDevelopers.clear();
+        persistedDevelopers.putAll(developers);
+        persistedClients.clear();
+        persistedClients.putAll(clients);
+        persistedProjects.clear();
+        persistedProjects.putAll(projects);
+        isPersistedStateKnown = true;
+    }
+
+    private static void putAll(ReadOnlyAddressBook addressBook, Map<String, Developer> developers,
+                               Map<String, Client> clients, Map<String, Project> projects) {
+        addressBook.getDeveloperList().forEach(developer ->
+                developers.put(identityKeyOf(developer.getName()), developer));
+        addressBook.getClientList().forEach(client ->
+                clients.put(identityKeyOf(client.getName()), client));
+        addressBook.getProjectList().forEach(project ->
+                projects.put(identityKeyOf(project.getProjectName()), project));
+    }
+
+    private static AddressBook toAddressBook(Map<String, Developer> developers, Map<String, Client> clients,
+                                             Map<String, Project> projects) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setDevelopers(new ArrayList<>(developers.values()));
+        addressBook.setClients(new ArrayList<>(clients.values()));
+        addressBook.setProjects(new ArrayList<>(projects.values()));
+        return addressBook;
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.client.Client;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ * Only the entity lists matching the type of list that was changed are present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedAddressBookChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Undo history change is invalid: %s";
+
+    private final AddressBookChange.EntityList list;
+    private final int from;
+    private final List<JsonAdaptedDeveloper> removedDevelopers;
+    private final List<JsonAdaptedDeveloper> addedDevelopers;
+    private final List<JsonAdaptedClient> removedClients;
+    private final List<JsonAdaptedClient> addedClients;
+    private final List<JsonAdaptedProject> removedProjects;
+    private final List<JsonAdaptedProject> addedProjects;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("list") AddressBookChange.EntityList list,
+                                        @JsonProperty("from") int from,
+                                        @JsonProperty("removedDevelopers") List<JsonAdaptedDeveloper> removedDevelopers,
+                                        @JsonProperty("addedDevelopers") List<JsonAdaptedDeveloper> addedDevelopers,
+                                        @JsonProperty("removedClients") List<JsonAdaptedClient> removedClients,
+                                        @JsonProperty("addedClients") List<JsonAdaptedClient> addedClients,
+                                        @JsonProperty("removedProjects") List<JsonAdaptedProject> removedProjects,
+                                        @JsonProperty("addedProjects") List<JsonAdaptedProject> addedProjects) {
+        this.list = list;
+        this.from = from;
+        this.removedDevelopers = removedDevelopers;
+        this.addedDevelopers = addedDevelopers;
+        this.removedClients = removedClients;
+        this.addedClients = addedClients;
+        this.removedProjects = removedProjects;
+        this.addedProjects = addedProjects;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonAdaptedAddressBookChange(AddressBookChange<?> source) {
+        list = source.getList();
+        from = source.getFrom();
+        List<JsonAdaptedDeveloper> removedDevelopers = null;
+        List<JsonAdaptedDeveloper> addedDevelopers = null;
+        List<JsonAdaptedClient> removedClients = null;
+        List<JsonAdaptedClient> addedClients = null;
+        List<JsonAdaptedProject> removedProjects = null;
+        List<JsonAdaptedProject> addedProjects = null;
+        switch (list) {
+        case DEVELOPERS:
+            removedDevelopers = adaptDevelopers((List<Developer>) source.getRemoved());
+            addedDevelopers = adaptDevelopers((List<Developer>) source.getAdded());
+            break;
+        case CLIENTS:
+            removedClients = adaptClients((List<Client>) source.getRemoved());
+            addedClients = adaptClients((List<Client>) source.getAdded());
+            break;
+        case PROJECTS:
+            removedProjects = adaptProjects((List<Project>) source.getRemoved());
+            addedProjects = adaptProjects((List<Project>) source.getAdded());
+            break;
+        default:
+            throw new AssertionError("Unknown list: " + list);
+        }
+        this.removedDevelopers = removedDevelopers;
+        this.addedDevelopers = addedDevelopers;
+        this.removedClients = removedClients;
+        this.addedClients = addedClients;
+        this.removedProjects = removedProjects;
+        this.addedProjects = addedProjects;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if the change is malformed or an entity violates any data constraints.
+     */
+    public AddressBookChange<?> toModelType() throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "missing list"));
+        }
+        switch (list) {
+        case DEVELOPERS:
+            return AddressBookChange.ofDevelopers(from, toDevelopers(removedDevelopers),
+                    toDevelopers(addedDevelopers));
+        case CLIENTS:
+            return AddressBookChange.ofClients(from, toClients(removedClients), toClients(addedClients));
+        case PROJECTS:
+            return AddressBookChange.ofProjects(from, toProjects(removedProjects), toProjects(addedProjects));
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "unknown list " + list));
+        }
+    }
+
+    private static List<JsonAdaptedDeveloper> adaptDevelopers(List<Developer> developers) {
+        List<JsonAdaptedDeveloper> adapted = new ArrayList<>(developers.size());
+        for (Developer developer : developers) {
+            adapted.add(new JsonAdaptedDeveloper(developer));
+        }
+        return adapted;
+    }
+
+    private static List<JsonAdaptedClient> adaptClients(List<Client> clients) {
+        List<JsonAdaptedClient> adapted = new ArrayList<>(clients.size());
+        for (Client client : clients) {
+            adapted.add(new JsonAdaptedClient(client));
+        }
+        return adapted;
+    }
+
+    private static List<JsonAdaptedProject> adaptProjects(List<Project> projects) {
+        List<JsonAdaptedProject> adapted = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            adapted.add(new JsonAdaptedProject(project));
+        }
+        return adapted;
+    }
+
+    private static List<Developer> toDevelopers(List<JsonAdaptedDeveloper> adapted) throws IllegalValueException {
+        if (adapted == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "missing developers"));
+        }
+        List<Developer> developers = new ArrayList<>(adapted.size());
+        for (JsonAdaptedDeveloper developer : adapted) {
+            developers.add(developer.toModelType());
+        }
+        return developers;
+    }
+
+    private static List<Client> toClients(List<JsonAdaptedClient> adapted) throws IllegalValueException {
+        if (adapted == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "missing clients"));
+        }
+        List<Client> clients = new ArrayList<>(adapted.size());
+        for (JsonAdaptedClient client : adapted) {
+            clients.add(client.toModelType());
+        }
+        return clients;
+    }
+
+    private static List<Project> toProjects(List<JsonAdaptedProject> adapted) throws IllegalValueException {
+        if (adapted == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "missing projects"));
+        }
+        List<Project> projects = new ArrayList<>(adapted.size());
+        for (JsonAdaptedProject project : adapted) {
+            projects.add(project.toModelType());
+        }
+        return projects;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.TabIndex;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookCommit;
+
+/**
+ * Jackson-friendly version of {@link AddressBookCommit}.
+ */
+class JsonAdaptedAddressBookCommit {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo history step's %s field is missing!";
+
+    private final String message;
+    private final TabIndex tabIndex;
+    private final List<JsonAdaptedAddressBookChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookCommit} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookCommit(@JsonProperty("message") String message,
+                                        @JsonProperty("tabIndex") TabIndex tabIndex,
+                                        @JsonProperty("changes") List<JsonAdaptedAddressBookChange> changes) {
+        this.message = message;
+        this.tabIndex = tabIndex;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookCommit} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookCommit(AddressBookCommit source) {
+        message = source.getMessage();
+        tabIndex = source.getTabIndex();
+        for (AddressBookChange<?> change : source.getChanges()) {
+            changes.add(new JsonAdaptedAddressBookChange(change));
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted commit object into the model's {@code AddressBookCommit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted commit.
+     */
+    public AddressBookCommit toModelType() throws IllegalValueException {
+        if (message == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "message"));
+        }
+        if (tabIndex == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "tabIndex"));
+        }
+        List<AddressBookChange<?>> modelChanges = new ArrayList<>(changes.size());
+        for (JsonAdaptedAddressBookChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new AddressBookCommit(message, tabIndex, modelChanges);
+    }
+}
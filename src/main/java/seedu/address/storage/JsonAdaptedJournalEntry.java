@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
+
+/**
+ * Jackson-friendly version of a single change record in the address book journal.
+ * A record either puts (adds or replaces) one entity, or removes the entity with the given identity key.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String TYPE_DEVELOPER = "developer";
+    public static final String TYPE_CLIENT = "client";
+    public static final String TYPE_PROJECT = "project";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    private final String operation;
+    private final String type;
+    private final String key;
+    private final JsonAdaptedDeveloper developer;
+    private final JsonAdaptedClient client;
+    private final JsonAdaptedProject project;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("type") String type,
+                                   @JsonProperty("key") String key,
+                                   @JsonProperty("developer") JsonAdaptedDeveloper developer,
+                                   @JsonProperty("client") JsonAdaptedClient client,
+                                   @JsonProperty("project") JsonAdaptedProject project) {
+        this.operation = operation;
+        this.type = type;
+        this.key = key;
+        this.developer = developer;
+        this.client = client;
+        this.project = project;
+    }
+
+    /**
+     * Returns an entry that adds or replaces {@code developer}.
+     */
+    public static JsonAdaptedJournalEntry put(Developer developer) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, TYPE_DEVELOPER, null,
+                new JsonAdaptedDeveloper(developer), null, null);
+    }
+
+    /**
+     * Returns an entry that adds or replaces {@code client}.
+     */
+    public static JsonAdaptedJournalEntry put(Client client) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, TYPE_CLIENT, null,
+                null, new JsonAdaptedClient(client), null);
+    }
+
+    /**
+     * Returns an entry that adds or replaces {@code project}.
+     */
+    public static JsonAdaptedJournalEntry put(Project project) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, TYPE_PROJECT, null,
+                null, null, new JsonAdaptedProject(project));
+    }
+
+    /**
+     * Returns an entry that removes the entity of the given {@code type} identified by {@code key}.
+     */
+    public static JsonAdaptedJournalEntry remove(String type, String key) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, type, key, null, null, null);
+    }
+
+    /**
+     * Applies this entry to the given identity-keyed maps of entities.
+     *
+     * @throws IllegalValueException if the entry is malformed or its payload violates any data constraints.
+     */
+    public void applyTo(Map<String, Developer> developers, Map<String, Client> clients,
+                        Map<String, Project> projects) throws IllegalValueException {
+        if (OPERATION_REMOVE.equals(operation)) {
+            if (key == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing key"));
+            }
+            selectMap(developers, clients, projects).remove(key);
+            return;
+        }
+        if (!OPERATION_PUT.equals(operation)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unknown operation " + operation));
+        }
+
+        if (TYPE_DEVELOPER.equals(type) && developer != null) {
+            Developer modelDeveloper = developer.toModelType();
+            developers.put(JournalAddressBookStorage.identityKeyOf(modelDeveloper.getName()), modelDeveloper);
+        } else if (TYPE_CLIENT.equals(type) && client != null) {
+            Client modelClient = client.toModelType();
+            clients.put(JournalAddressBookStorage.identityKeyOf(modelClient.getName()), modelClient);
+        } else if (TYPE_PROJECT.equals(type) && project != null) {
+            Project modelProject = project.toModelType();
+            projects.put(JournalAddressBookStorage.identityKeyOf(modelProject.getProjectName()), modelProject);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing " + type + " payload"));
+        }
+    }
+
+    private Map<String, ?> selectMap(Map<String, Developer> developers, Map<String, Client> clients,
+                                     Map<String, Project> projects) throws IllegalValueException {
+        if (TYPE_DEVELOPER.equals(type)) {
+            return developers;
+        } else if (TYPE_CLIENT.equals(type)) {
+            return clients;
+        } else if (TYPE_PROJECT.equals(type)) {
+            return projects;
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unknown type " + type));
+    }
+}
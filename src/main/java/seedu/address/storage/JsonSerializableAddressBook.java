@@ -1,18 +1,26 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,6 +32,10 @@ public class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_CLIENT = "Persons list contains duplicate client(s).";
     public static final String MESSAGE_DUPLICATE_PROJECT = "Persons list contains duplicate project(s).";
 
+    private static final String FIELD_DEVELOPERS = "developers";
+    private static final String FIELD_CLIENTS = "clients";
+    private static final String FIELD_PROJECTS = "projects";
+
     private final List<JsonAdaptedDeveloper> developers = new ArrayList<>();
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedProject> projects = new ArrayList<>();
@@ -58,30 +70,136 @@ public class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Developer> modelDevelopers = new ArrayList<>(developers.size());
+        Set<String> developerNames = new HashSet<>();
         for (JsonAdaptedDeveloper jsonAdaptedDeveloper : developers) {
-            Developer developer = jsonAdaptedDeveloper.toModelType();
-            if (addressBook.hasDeveloper(developer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DEVELOPER);
-            }
-            addressBook.addDeveloper(developer);
+            addDeveloper(modelDevelopers, developerNames, jsonAdaptedDeveloper.toModelType());
         }
+        List<Client> modelClients = new ArrayList<>(clients.size());
+        Set<String> clientNames = new HashSet<>();
         for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (addressBook.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            addressBook.addClient(client);
+            addClient(modelClients, clientNames, jsonAdaptedClient.toModelType());
         }
+        List<Project> modelProjects = new ArrayList<>(projects.size());
+        Set<String> projectNames = new HashSet<>();
         for (JsonAdaptedProject jsonAdaptedProject : projects) {
-            seedu.address.model.project.Project project = jsonAdaptedProject.toModelType();
-            if (addressBook.hasProject(project)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PROJECT);
+            addProject(modelProjects, projectNames, jsonAdaptedProject.toModelType());
+        }
+
+        return toAddressBook(modelDevelopers, modelClients, modelProjects);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one
+     * developer, client or project at a time instead of building the whole serializable address book first.
+     */
+    public static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(FIELD_DEVELOPERS);
+        for (Developer developer : source.getDeveloperList()) {
+            generator.writeObject(new JsonAdaptedDeveloper(developer));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(FIELD_CLIENTS);
+        for (Client client : source.getClientList()) {
+            generator.writeObject(new JsonAdaptedClient(client));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(FIELD_PROJECTS);
+        for (Project project : source.getProjectList()) {
+            generator.writeObject(new JsonAdaptedProject(project));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written in the format of this class from {@code parser}, converting each
+     * developer, client or project into the model's type as soon as it is read.
+     *
+     * @throws IOException if the content is not valid JSON or not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Developer> modelDevelopers = new ArrayList<>();
+        Set<String> developerNames = new HashSet<>();
+        List<Client> modelClients = new ArrayList<>();
+        Set<String> clientNames = new HashSet<>();
+        List<Project> modelProjects = new ArrayList<>();
+        Set<String> projectNames = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (fieldName) {
+            case FIELD_DEVELOPERS:
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addDeveloper(modelDevelopers, developerNames,
+                            parser.readValueAs(JsonAdaptedDeveloper.class).toModelType());
+                }
+                break;
+            case FIELD_CLIENTS:
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addClient(modelClients, clientNames,
+                            parser.readValueAs(JsonAdaptedClient.class).toModelType());
+                }
+                break;
+            case FIELD_PROJECTS:
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addProject(modelProjects, projectNames,
+                            parser.readValueAs(JsonAdaptedProject.class).toModelType());
+                }
+                break;
+            default:
+                parser.skipChildren();
             }
-            addressBook.addProject(project);
         }
 
+        return toAddressBook(modelDevelopers, modelClients, modelProjects);
+    }
+
+    /**
+     * Returns an address book holding the given entities, which must already be free of duplicates.
+     * Each list is set in a single step, so loading stays linear in the number of entities.
+     */
+    private static AddressBook toAddressBook(List<Developer> developers, List<Client> clients,
+                                             List<Project> projects) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setDevelopers(developers);
+        addressBook.setClients(clients);
+        addressBook.setProjects(projects);
         return addressBook;
     }
 
+    private static void addDeveloper(List<Developer> developers, Set<String> names, Developer developer)
+            throws IllegalValueException {
+        if (!names.add(developer.getName().fullName.toLowerCase())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DEVELOPER);
+        }
+        developers.add(developer);
+    }
+
+    private static void addClient(List<Client> clients, Set<String> names, Client client)
+            throws IllegalValueException {
+        if (!names.add(client.getName().fullName.toLowerCase())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+        }
+        clients.add(client);
+    }
+
+    private static void addProject(List<Project> projects, Set<String> names, Project project)
+            throws IllegalValueException {
+        if (!names.add(project.getName().toLowerCase())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PROJECT);
+        }
+        projects.add(project);
+    }
+
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookCommit;
+import seedu.address.model.UndoHistoryStore;
+
+/**
+ * Keeps undo history steps that no longer fit in memory in a scratch file next to the address book.
+ * <p>
+ * Each step is written as a compact JSON record preceded by its length in bytes, and is read back by seeking
+ * to its position. Records of steps that are freed leave gaps, which are filled by later records that fit in them,
+ * and the file is cut short whenever its end is free, so it only grows as large as the steps it still holds. The
+ * file only lives as long as the application: it is emptied the first time a step is written and deleted when the
+ * storage is closed, or when the application exits if it never is.
+ */
+public class JsonUndoHistoryStorage implements UndoHistoryStore {
+
+    public static final String HISTORY_FILE_SUFFIX = ".history";
+
+    private final Path filePath;
+    private RandomAccessFile file = null;
+    // The size in bytes, including the length, of the record at each position that has not been freed
+    private final Map<Long, Integer> recordSizes = new HashMap<>();
+    // The length in bytes of each free gap between records, by position; adjacent gaps are merged
+    private final TreeMap<Long, Long> freeGaps = new TreeMap<>();
+
+    public JsonUndoHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the undo history file that belongs to the address book at {@code addressBookFilePath}.
+     */
+    public static Path getHistoryFilePath(Path addressBookFilePath) {
+        return Paths.get(addressBookFilePath.toString() + HISTORY_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized long write(AddressBookCommit commit) throws IOException {
+        requireNonNull(commit);
+        byte[] record = JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookCommit(commit))
+                .getBytes(StandardCharsets.UTF_8);
+
+        RandomAccessFile historyFile = openFile();
+        int recordSize = Integer.BYTES + record.length;
+        long position = takeFreeSpace(recordSize);
+        historyFile.seek(position);
+        historyFile.writeInt(record.length);
+        historyFile.write(record);
+        recordSizes.put(position, recordSize);
+        return position;
+    }
+
+    @Override
+    public synchronized AddressBookCommit read(long position) throws DataLoadingException {
+        try {
+            if (file == null || !recordSizes.containsKey(position)) {
+                throw new IOException("No undo history step at position " + position + " of " + filePath);
+            }
+            file.seek(position);
+            byte[] record = new byte[file.readInt()];
+            file.readFully(record);
+            return JsonUtil.fromJsonString(new String(record, StandardCharsets.UTF_8),
+                    JsonAdaptedAddressBookCommit.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public synchronized void free(long position) throws IOException {
+        Integer recordSize = recordSizes.remove(position);
+        if (recordSize == null) {
+            return;
+        }
+
+        long gapStart = position;
+        long gapEnd = position + recordSize;
+        Map.Entry<Long, Long> gapBefore = freeGaps.lowerEntry(position);
+        if (gapBefore != null && gapBefore.getKey() + gapBefore.getValue() == gapStart) {
+            gapStart = gapBefore.getKey();
+            freeGaps.remove(gapStart);
+        }
+        Long gapAfterLength = freeGaps.remove(gapEnd);
+        if (gapAfterLength != null) {
+            gapEnd += gapAfterLength;
+        }
+
+        if (gapEnd == file.length()) {
+            file.setLength(gapStart);
+        } else {
+            freeGaps.put(gapStart, gapEnd - gapStart);
+        }
+    }
+
+    /**
+     * Closes the undo history file and deletes it. A step written afterwards starts a new file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        recordSizes.clear();
+        freeGaps.clear();
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } finally {
+            file = null;
+            // An open file cannot be deleted on some platforms, so it is only deleted once closed
+            Files.deleteIfExists(filePath);
+        }
+    }
+
+    /**
+     * Returns the position of the first free gap that {@code size} bytes fit in, or of the end of the file if there
+     * is none, and marks the space as taken.
+     */
+    private long takeFreeSpace(int size) throws IOException {
+        for (Map.Entry<Long, Long> gap : freeGaps.entrySet()) {
+            long gapLength = gap.getValue();
+            if (gapLength < size) {
+                continue;
+            }
+            long position = gap.getKey();
+            freeGaps.remove(position);
+            if (gapLength > size) {
+                freeGaps.put(position + size, gapLength - size);
+            }
+            return position;
+        }
+        return file.length();
+    }
+
+    private RandomAccessFile openFile() throws IOException {
+        if (file == null) {
+            FileUtil.createIfMissing(filePath);
+            filePath.toFile().deleteOnExit();
+            file = new RandomAccessFile(filePath.toFile(), "rw");
+            // Steps left behind by an earlier run can no longer be undone
+            file.setLength(0);
+        }
+        return file;
+    }
+}
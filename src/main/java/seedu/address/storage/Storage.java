@@ -3,7 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -12,7 +14,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, AddressBookConverter {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +31,20 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void convertAddressBook(ReadOnlyAddressBook addressBook, StorageFormat format, Path filePath) throws IOException;
+
+    /**
+     * Blocks until every address book save that was requested so far has been written.
+     *
+     * @throws IOException if the most recent write failed.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler that is notified when an address book save that was deferred fails.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
@@ -1,18 +1,40 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChangeLog;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * In write-behind mode, saving the address book only takes a snapshot of the data and returns immediately.
+ * The snapshot is written by a single background thread. Snapshots that are saved while an earlier one is
+ * still waiting to be written replace it, so a burst of saves results in a single write of the latest data.
+ * <p>
+ * The changes made to the address book between saves are recorded with an {@link AddressBookChangeLog} and passed
+ * on with each save, so that a storage that only writes what changed does not have to find the changes itself.
+ * After a save fails, the next one is made without changes, so that the changes that were not saved are found.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +42,50 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookWriter;
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+    private volatile IOException lastSaveFailure = null;
+    // Only used on the thread saving the address book
+    private AddressBookChangeLog changeLog = null;
+    // Only used on the thread writing the address book
+    private boolean isLastWriteFailed = false;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * The address book is saved synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     *
+     * @param isWriteBehind true if the address book should be saved on a background thread.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookWriter = isWriteBehind ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "addressbook-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} that keeps the address book at {@code filePath} in the given format.
+     * Changes are journalled between full snapshots, as described in {@link JournalAddressBookStorage}.
+     */
+    public static AddressBookStorage createAddressBookStorage(StorageFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        AddressBookStorage snapshotStorage = format == StorageFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+        return new JournalAddressBookStorage(snapshotStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,18 +121,169 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitPendingWrites();
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves the address book to its default location.
+     * In write-behind mode, this only schedules the save, and failures are reported to the
+     * handler set by {@link #setSaveFailureHandler(Consumer)} instead of being thrown.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        requireNonNull(addressBook);
+        Optional<List<AddressBookChange<?>>> changes = takeChanges(addressBook);
+        if (addressBookWriter == null) {
+            logger.fine("Attempting to write to data file: " + getAddressBookFilePath());
+            write(new PendingSave(addressBook, changes));
+            return;
+        }
+
+        // The model keeps changing after this call returns, so the writer needs its own copy
+        PendingSave save = new PendingSave(new AddressBookSnapshot(addressBook), changes);
+        if (pendingSave.getAndUpdate(pending -> pending == null ? save : pending.followedBy(save)) == null) {
+            addressBookWriter.execute(this::writePendingAddressBook);
+        } else {
+            logger.fine("Coalescing with a pending write to data file: " + getAddressBookFilePath());
+        }
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitPendingWrites();
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void convertAddressBook(ReadOnlyAddressBook addressBook, StorageFormat format, Path filePath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(format);
+        requireNonNull(filePath);
+        awaitPendingWrites();
+        if (filePath.equals(getAddressBookFilePath())) {
+            // A second storage on the same file would rewrite the journal that this storage appends to
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        logger.fine("Attempting to write " + format.getKeyword() + " data file: " + filePath);
+        createAddressBookStorage(format, filePath).saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitPendingWrites();
+        IOException failure = lastSaveFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Writes the latest pending snapshot, if any. Runs on the writer thread.
+     */
+    private void writePendingAddressBook() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        logger.fine("Attempting to write to data file: " + getAddressBookFilePath());
+        try {
+            write(save);
+            lastSaveFailure = null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data file " + getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(ioe));
+            lastSaveFailure = ioe;
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Writes the address book of {@code save}, with its changes unless the last write failed.
+     */
+    private void write(PendingSave save) throws IOException {
+        try {
+            if (save.changes.isPresent() && !isLastWriteFailed) {
+                addressBookStorage.saveAddressBookChanges(save.addressBook, save.changes.get());
+            } else {
+                addressBookStorage.saveAddressBook(save.addressBook);
+            }
+            isLastWriteFailed = false;
+        } catch (IOException ioe) {
+            isLastWriteFailed = true;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} since it was last saved, or {@code Optional.empty()} if they
+     * are not known.
+     */
+    private Optional<List<AddressBookChange<?>>> takeChanges(ReadOnlyAddressBook addressBook) {
+        if (changeLog != null && changeLog.isLogOf(addressBook)) {
+            return changeLog.takeChanges();
+        }
+        if (changeLog != null) {
+            changeLog.close();
+        }
+        changeLog = new AddressBookChangeLog(addressBook);
+        return Optional.empty();
+    }
+
+    /**
+     * Blocks until every write scheduled so far has completed.
+     * The writer runs tasks in order, so waiting for an empty task is enough.
+     */
+    private void awaitPendingWrites() {
+        if (addressBookWriter == null) {
+            return;
+        }
+
+        try {
+            addressBookWriter.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // An empty task cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+
+    /**
+     * An address book waiting to be written, with the changes made to it since the last save if they are known.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Optional<List<AddressBookChange<?>>> changes;
+
+        private PendingSave(ReadOnlyAddressBook addressBook, Optional<List<AddressBookChange<?>>> changes) {
+            this.addressBook = addressBook;
+            this.changes = changes;
+        }
+
+        /**
+         * Returns the save of {@code next}, with the changes of both saves.
+         */
+        private PendingSave followedBy(PendingSave next) {
+            if (!changes.isPresent() || !next.changes.isPresent()) {
+                return new PendingSave(next.addressBook, Optional.empty());
+            }
+            List<AddressBookChange<?>> allChanges = new ArrayList<>(changes.get());
+            allChanges.addAll(next.changes.get());
+            return new PendingSave(next.addressBook, Optional.of(allChanges));
+        }
+    }
 }
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,6 +14,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
@@ -21,6 +22,8 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
+    private boolean isBusy = false;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -37,15 +40,33 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (isBusy || commandText.equals("")) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Stops the user from editing or entering a command while {@code isBusy} is true, and shows that the command
+     * box is busy.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        commandTextField.setEditable(!isBusy);
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -75,11 +96,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,8 +19,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -37,6 +38,7 @@ public class MainWindow extends UiPart<Stage> {
     private ClientListPanel clientListPanel;
     private ProjectListPanel projectListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private int resultTabIndex;
 
@@ -146,7 +148,7 @@ public class MainWindow extends UiPart<Stage> {
         clientListPanel = new ClientListPanel(logic.getFilteredClientList());
         clientListPanelPlaceholder.getChildren().add(clientListPanel.getRoot());
 
-        projectListPanel = new ProjectListPanel(logic.getFilteredProjectList());
+        projectListPanel = new ProjectListPanel(logic.getFilteredProjectList(), logic::getFilteredDeadlineList);
         projectListPanelPlaceholder.getChildren().add(projectListPanel.getRoot());
 
         // Add content to the tabs (you can add any JavaFX Node)
@@ -158,16 +160,12 @@ public class MainWindow extends UiPart<Stage> {
         tabPane.getTabs().addAll(developerTab, clientTab, projectTab);
         tabPane.getSelectionModel().selectedIndexProperty().addListener((observable, oldValue, newValue) -> {
             if (newValue.intValue() != resultTabIndex) {
-                try {
-                    if (newValue.intValue() == 0) {
-                        executeCommand("list-developer");
-                    } else if (newValue.intValue() == 1) {
-                        executeCommand("list-client");
-                    } else if (newValue.intValue() == 2) {
-                        executeCommand("list-project");
-                    }
-                } catch (CommandException | ParseException e) {
-                    e.printStackTrace();
+                if (newValue.intValue() == 0) {
+                    executeCommand("list-developer");
+                } else if (newValue.intValue() == 1) {
+                    executeCommand("list-client");
+                } else if (newValue.intValue() == 2) {
+                    executeCommand("list-project");
                 }
             }
         });
@@ -175,8 +173,10 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplay.setFeedbackToUser("Welcome to CodeContact!\nUnlock to continue.");
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter.setUndoHistoryFootprint(logic.getUndoHistoryFootprint());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -236,13 +236,20 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command, and shows its result once it completes.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenComplete((commandResult, error) -> {
+            statusBarFooter.setUndoHistoryFootprint(logic.getUndoHistoryFootprint());
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
             resultTabIndex = commandResult.getIndex();
@@ -255,12 +262,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
@@ -62,9 +62,10 @@ public class ProjectCard extends UiPart<Region> {
 
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, its filtered {@code deadlines} and index to
+     * display.
      */
-    public ProjectCard(Project project, int displayedIndex) {
+    public ProjectCard(Project project, ObservableList<Deadline> deadlines, int displayedIndex) {
         super(FXML);
         this.project = project;
         id.setText(displayedIndex + ". ");
@@ -147,12 +148,12 @@ public class ProjectCard extends UiPart<Region> {
         indexCol.setCellValueFactory(
                 new PropertyValueFactory<>("index"));
         table.getColumns().addAll(indexCol, doneCol, priorityCol, dateCol, descriptionCol);
-        ObservableList<Data> data = FXCollections.observableList(project.getProjectFilteredDeadlines().stream()
+        ObservableList<Data> data = FXCollections.observableList(deadlines.stream()
                 .map(deadline -> new Data(deadline)).collect(Collectors.toList()));
-        project.getProjectFilteredDeadlines().addListener(new ListChangeListener<Deadline>() {
+        deadlines.addListener(new ListChangeListener<Deadline>() {
             @Override
             public void onChanged(Change<? extends Deadline> c) {
-                ObservableList<Data> data = FXCollections.observableList(project.getProjectFilteredDeadlines().stream()
+                ObservableList<Data> data = FXCollections.observableList(deadlines.stream()
                         .map(deadline -> new Data(deadline)).collect(Collectors.toList()));
                 progress.setProgress(data.stream().filter(t -> t.getIsDone()).count() * 1.0 / data.size());
                 table.setItems(data);
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +9,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.project.Deadline;
 import seedu.address.model.project.Project;
 
 /**
@@ -16,15 +18,19 @@ import seedu.address.model.project.Project;
 public class ProjectListPanel extends UiPart<Region> {
     private static final String FXML = "ProjectListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(ProjectListPanel.class);
+    private final Function<Project, ObservableList<Deadline>> deadlinesOf;
 
     @FXML
     private ListView<Project> projectListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, which shows the deadlines of each
+     * project returned by {@code deadlinesOf}.
      */
-    public ProjectListPanel(ObservableList<Project> projectList) {
+    public ProjectListPanel(ObservableList<Project> projectList,
+                            Function<Project, ObservableList<Deadline>> deadlinesOf) {
         super(FXML);
+        this.deadlinesOf = deadlinesOf;
         projectListView.setItems(projectList);
         projectListView.setCellFactory(listView -> new ProjectListViewCell());
     }
@@ -41,7 +47,7 @@ public class ProjectListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ProjectCard(person, getIndex() + 1).getRoot());
+                setGraphic(new ProjectCard(person, deadlinesOf.apply(person), getIndex() + 1).getRoot());
             }
         }
     }
@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.UndoHistoryFootprint;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,9 +14,12 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String HISTORY_STATUS_FORMAT = "Undo history: %1$d steps (%2$d in memory, ~%3$d KB)";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label historyStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,12 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the size of the undo history in {@code footprint}.
+     */
+    public void setUndoHistoryFootprint(UndoHistoryFootprint footprint) {
+        historyStatus.setText(String.format(HISTORY_STATUS_FORMAT, footprint.getStepCount(),
+                footprint.getInMemoryStepCount(), (footprint.getEstimatedMemoryBytes() + 1023) / 1024));
+    }
+
 }
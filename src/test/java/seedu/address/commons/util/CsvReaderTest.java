@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitsOnCommas() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\nd"));
+        assertEquals(Arrays.asList("a", "b", "", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Collections.singletonList("d"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepsSeparatorsAndQuotes() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader(
+                "\"Clementi Ave 2, #02-25\",\"say \"\"hi\"\"\",\"\"\r\n\"two\nlines\",x\r\nlast"));
+        assertEquals(Arrays.asList("Clementi Ave 2, #02-25", "say \"hi\"", ""), reader.readRecord());
+        assertEquals(Arrays.asList("two\nlines", "x"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(Collections.singletonList("last"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsIllegalValueException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\n\"b,c\nd"));
+        reader.readRecord();
+        assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_UNTERMINATED_QUOTE, 2), ()
+                -> reader.readRecord());
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -140,4 +142,68 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinLimit_exactDistance() {
+        assertEquals(0, StringUtil.getEditDistance("john", "john", 2));
+        assertEquals(1, StringUtil.getEditDistance("jon", "john", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("johnn", "john", 2)); // deletion
+        assertEquals(1, StringUtil.getEditDistance("jahn", "john", 2)); // substitution
+        assertEquals(2, StringUtil.getEditDistance("jonh", "john", 2)); // swapped letters
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 10));
+    }
+
+    @Test
+    public void getEditDistance_beyondLimit_limitPlusOne() {
+        assertEquals(3, StringUtil.getEditDistance("jonathan", "jon", 2));
+        assertEquals(2, StringUtil.getEditDistance("abcd", "dcba", 1));
+        assertEquals(1, StringUtil.getEditDistance("a", "b", 0));
+    }
+
+    @Test
+    public void getEditDistance_randomWords_matchesFullTable() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 2000; i++) {
+            String first = randomWord(random);
+            String second = randomWord(random);
+            int distance = fullEditDistance(first, second);
+            for (int limit = 0; limit <= 4; limit++) {
+                assertEquals(Math.min(distance, limit + 1), StringUtil.getEditDistance(first, second, limit),
+                        first + " " + second + " " + limit);
+            }
+        }
+    }
+
+    @Test
+    public void getEditDistance_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("a", "b", -1));
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    private static int fullEditDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    distances[i][j] = Math.min(distances[i - 1][j - 1]
+                            + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1),
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
 }
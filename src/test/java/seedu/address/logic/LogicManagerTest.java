@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_DEVELOPER_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_VALID_LOCKED_COMMANDS;
@@ -15,10 +17,15 @@ import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.SALARY_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDevelopers.AMY;
+import static seedu.address.testutil.TypicalProjects.PROJECT_A;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,18 +34,24 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.add.AddDeveloperCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.find.FindDeadlineCommand;
 import seedu.address.logic.commands.list.ListDeveloperCommand;
+import seedu.address.logic.commands.list.ListProjectCommand;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoHistoryFootprint;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.project.Project;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.DeveloperBuilder;
+import seedu.address.testutil.ProjectBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -49,6 +62,7 @@ public class LogicManagerTest {
 
     private final Model model = new ModelManager();
     private Logic logic;
+    private int saveCount = 0;
 
     @BeforeEach
     public void setUp() {
@@ -79,6 +93,29 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListDeveloperCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic = new LogicManager(model, createStorageThatCountsSaves());
+        AddressBookParser.unlock();
+        logic.execute(ListDeveloperCommand.COMMAND_WORD);
+        assertEquals(0, saveCount);
+    }
+
+    @Test
+    public void execute_modifyingCommand_savesOnce() throws Exception {
+        logic = new LogicManager(model, createStorageThatCountsSaves());
+        AddressBookParser.unlock();
+        String addCommand = AddDeveloperCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY
+                + SALARY_DESC_AMY + DATEJOINED_DESC_AMY + GITHUBID_DEC_AMY + RATING_DEC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, saveCount);
+
+        // Listing afterwards does not save again
+        logic.execute(ListDeveloperCommand.COMMAND_WORD);
+        assertEquals(1, saveCount);
+    }
+
     /*@Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         AddressBookParser.unlock();
@@ -93,6 +130,104 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }*/
 
+    @Test
+    public void executeAsync_modifyingCommand_updatesListBeforeCompleting() throws Exception {
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, createStorageThatCountsSaves(), uiTasks::add);
+        AddressBookParser.unlock();
+        String addCommand = AddDeveloperCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY
+                + SALARY_DESC_AMY + DATEJOINED_DESC_AMY + GITHUBID_DEC_AMY + RATING_DEC_AMY;
+        CompletableFuture<CommandResult> result = logic.executeAsync(addCommand);
+
+        // The add has run once its changes are given to the UI executor
+        Runnable publishedAdd = uiTasks.take();
+        assertEquals(1, saveCount);
+        assertTrue(logic.getFilteredDeveloperList().isEmpty());
+        assertFalse(result.isDone());
+
+        publishedAdd.run();
+        assertEquals(1, logic.getFilteredDeveloperList().size());
+        assertTrue(result.isDone());
+    }
+
+    @Test
+    public void execute_validCommand_returnsAfterChangesPublished() throws Exception {
+        logic = new LogicManager(model, createStorageThatCountsSaves(), task -> new Thread(task).start());
+        AddressBookParser.unlock();
+        String addCommand = AddDeveloperCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY
+                + SALARY_DESC_AMY + DATEJOINED_DESC_AMY + GITHUBID_DEC_AMY + RATING_DEC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, logic.getFilteredDeveloperList().size());
+    }
+
+    @Test
+    public void getFilteredDeadlineList_deadlinesFiltered_updatedOnlyWhenPublished() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addProject(new ProjectBuilder(PROJECT_A).build());
+        Model modelWithProject = new ModelManager(addressBook, new UserPrefs());
+        Project project = modelWithProject.getFilteredProjectList().get(0);
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(modelWithProject, createStorageThatCountsSaves(), uiTasks::add);
+        AddressBookParser.unlock();
+        logic.executeAsync(ListProjectCommand.COMMAND_WORD);
+        uiTasks.take().run();
+        assertEquals(project.getProjectDeadlines(), logic.getFilteredDeadlineList(project));
+        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredDeadlineList(project).remove(0));
+
+        logic.executeAsync(FindDeadlineCommand.COMMAND_WORD + " d/10-10-2000");
+        Runnable publishedFind = uiTasks.take();
+        assertTrue(project.getProjectFilteredDeadlines().isEmpty());
+        assertEquals(project.getProjectDeadlines(), logic.getFilteredDeadlineList(project));
+
+        publishedFind.run();
+        assertTrue(logic.getFilteredDeadlineList(project).isEmpty());
+    }
+
+    @Test
+    public void shutdown_commandsGiven_waitsForThemToComplete() {
+        logic = new LogicManager(model, createStorageThatCountsSaves());
+        AddressBookParser.unlock();
+        String addCommand = AddDeveloperCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY
+                + SALARY_DESC_AMY + DATEJOINED_DESC_AMY + GITHUBID_DEC_AMY + RATING_DEC_AMY;
+        CompletableFuture<CommandResult> result = logic.executeAsync(addCommand);
+        logic.shutdown();
+        assertTrue(result.isDone());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void getUndoHistoryFootprint_commandNotPublished_returnsFootprintBeforeCommand() throws Exception {
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, createStorageThatCountsSaves(), uiTasks::add);
+        AddressBookParser.unlock();
+        UndoHistoryFootprint footprintBefore = logic.getUndoHistoryFootprint();
+        String addCommand = AddDeveloperCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY
+                + SALARY_DESC_AMY + DATEJOINED_DESC_AMY + GITHUBID_DEC_AMY + RATING_DEC_AMY;
+        logic.executeAsync(addCommand);
+        Runnable publishedAdd = uiTasks.take();
+        assertFalse(footprintBefore.equals(model.getUndoHistoryFootprint()));
+        assertEquals(footprintBefore, logic.getUndoHistoryFootprint());
+
+        publishedAdd.run();
+        assertEquals(model.getUndoHistoryFootprint(), logic.getUndoHistoryFootprint());
+    }
+
+    @Test
+    public void executeAsync_invalidCommandFormat_completesWithParseException() throws Exception {
+        try {
+            logic.executeAsync("uicfhmowqewca").get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND + "\n" + MESSAGE_VALID_LOCKED_COMMANDS, e.getCause().getMessage());
+            return;
+        }
+        throw new AssertionError("The command was expected to fail.");
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredDeveloperList().remove(0));
@@ -156,6 +291,22 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a storage that counts the number of times the address book is saved in {@code saveCount}.
+     */
+    private StorageManager createStorageThatCountsSaves() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
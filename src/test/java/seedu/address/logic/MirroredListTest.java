@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class MirroredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final MirroredList<String> mirroredList = new MirroredList<>(source);
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, mirroredList.getCopy());
+    }
+
+    @Test
+    public void takeSnapshot_unchanged_returnsNull() {
+        assertNull(mirroredList.takeSnapshot());
+    }
+
+    @Test
+    public void takeSnapshot_changed_copyUnchangedUntilReplayed() {
+        source.add("d");
+        Runnable update = mirroredList.takeSnapshot();
+        assertEquals(Arrays.asList("a", "b", "c"), mirroredList.getCopy());
+
+        update.run();
+        assertEquals(source, mirroredList.getCopy());
+        assertNull(mirroredList.takeSnapshot());
+    }
+
+    @Test
+    public void takeSnapshot_manyChanges_replayedInOneEvent() {
+        List<ListChangeListener.Change<? extends String>> events = new ArrayList<>();
+        mirroredList.getCopy().addListener((ListChangeListener<String>) events::add);
+
+        source.remove("b");
+        source.add(0, "z");
+        source.set(2, "y");
+        source.addAll("d", "e");
+        mirroredList.takeSnapshot().run();
+
+        assertEquals(Arrays.asList("z", "a", "y", "d", "e"), mirroredList.getCopy());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void takeSnapshot_sourceReplaced_copyEqualsSource() {
+        source.setAll("x", "y");
+        source.setAll("p", "q", "r", "s");
+        mirroredList.takeSnapshot().run();
+        assertEquals(source, mirroredList.getCopy());
+    }
+
+    @Test
+    public void getCopy_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirroredList.getCopy().remove(0));
+    }
+}
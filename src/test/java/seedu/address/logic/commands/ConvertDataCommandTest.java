@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBookWithProjects;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ConvertDataCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model createModel() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        return new ModelManager(getTypicalAddressBookWithProjects(), userPrefs);
+    }
+
+    private StorageManager createStorage() {
+        return new StorageManager(
+                StorageManager.createAddressBookStorage(StorageFormat.JSON, testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+    }
+
+    @Test
+    public void execute_toBinary_writesFileAndUpdatesPrefs() throws Exception {
+        Model model = createModel();
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        UserPrefs expectedUserPrefs = new UserPrefs(model.getUserPrefs());
+        expectedUserPrefs.setAddressBookStorageFormat(StorageFormat.BINARY);
+        expectedUserPrefs.setAddressBookFilePath(binaryFilePath);
+        Model expectedModel = new ModelManager(getTypicalAddressBookWithProjects(), expectedUserPrefs);
+
+        CommandResult result = new ConvertDataCommand(StorageFormat.BINARY, createStorage()).execute(model);
+        assertEquals(String.format(ConvertDataCommand.MESSAGE_SUCCESS, "binary", binaryFilePath),
+                result.getFeedbackToUser());
+        assertEquals(expectedModel, model);
+
+        AddressBook converted = new AddressBook(
+                new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+        assertEquals(model.getAddressBook(), converted);
+    }
+
+    @Test
+    public void execute_backToStorageFile_writesThroughStorage() throws Exception {
+        Model model = createModel();
+        StorageManager storage = createStorage();
+        storage.saveAddressBook(new AddressBook());
+        new ConvertDataCommand(StorageFormat.BINARY, storage).execute(model);
+
+        new ConvertDataCommand(StorageFormat.JSON, storage).execute(model);
+        assertEquals(storage.getAddressBookFilePath(), model.getAddressBookFilePath());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        AddressBook saved = new AddressBook(
+                new JsonAddressBookStorage(storage.getAddressBookFilePath()).readAddressBook().get());
+        assertEquals(model.getAddressBook(), saved);
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        Model model = createModel();
+        Model expectedModel = createModel();
+        assertThrows(CommandException.class, String.format(ConvertDataCommand.MESSAGE_SAME_FORMAT, "json"), () ->
+                new ConvertDataCommand(StorageFormat.JSON, createStorage()).execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void isReadOnly() {
+        assertFalse(new ConvertDataCommand(StorageFormat.BINARY, createStorage()).isReadOnly());
+    }
+
+    @Test
+    public void equals() {
+        StorageManager storage = createStorage();
+        ConvertDataCommand toBinary = new ConvertDataCommand(StorageFormat.BINARY, storage);
+        assertTrue(toBinary.equals(toBinary));
+        assertTrue(toBinary.equals(new ConvertDataCommand(StorageFormat.BINARY, storage)));
+        assertFalse(toBinary.equals(new ConvertDataCommand(StorageFormat.JSON, storage)));
+        assertFalse(toBinary.equals(new ConvertDataCommand(StorageFormat.BINARY, createStorage())));
+        assertFalse(toBinary.equals(null));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.DiagnosticsCommand.MESSAGE_QUERY_CACHE;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.QueryCache;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+
+public class DiagnosticsCommandTest {
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noSearches_reportsEmptyCache() {
+        String expectedMessage = String.format(MESSAGE_QUERY_CACHE, 0, 0, 0, 0.0, 0, QueryCache.DEFAULT_CAPACITY);
+        assertCommandSuccess(new DiagnosticsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_repeatedSearch_reportsHit() {
+        for (Model m : Arrays.asList(model, expectedModel)) {
+            m.updateFilteredDeveloperList(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("alice")));
+            m.updateFilteredDeveloperList(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("alice")));
+        }
+        String expectedMessage = String.format(MESSAGE_QUERY_CACHE, 1, 1, 2, 50.0, 1, QueryCache.DEFAULT_CAPACITY);
+        assertCommandSuccess(new DiagnosticsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -1,18 +1,24 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.QueryCache;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UndoHistoryFootprint;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.QueryResult;
 import seedu.address.model.project.Deadline;
+import seedu.address.model.project.DeadlineQuery;
 import seedu.address.model.project.Project;
 
 /**
@@ -59,6 +65,16 @@ public class ModelStub implements Model {
 
     }
 
+    @Override
+    public void addDevelopers(List<Developer> developers) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addClients(List<Client> clients) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addProject(Project person) {
 
@@ -74,6 +90,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Developer> getDevelopersOnProject(String projectName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Client> getClientsOnProject(String projectName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasDeveloper(Developer developer) {
         throw new AssertionError("This method should not be called.");
@@ -149,6 +180,26 @@ public class ModelStub implements Model {
 
     }
 
+    @Override
+    public Optional<QueryResult<Developer>> getDeveloperQueryResult() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<QueryResult<Client>> getClientQueryResult() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rankFilteredDeveloperList(List<String> keywords, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rankFilteredClientList(List<String> keywords, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredProjectList(Predicate<Project> predicate) {
 
@@ -159,6 +210,27 @@ public class ModelStub implements Model {
 
     }
 
+    @Override
+    public void updateFilteredLists(Predicate<Developer> developerPredicate, Predicate<Client> clientPredicate,
+                                    Predicate<Project> projectPredicate, Predicate<Deadline> deadlinePredicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryCache.Statistics getQueryCacheStatistics() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Deadline> findDeadlines(DeadlineQuery query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Project getProjectOf(Deadline deadline) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void commitAddressBook(Model model, String message, TabIndex index) {
 
@@ -193,4 +265,9 @@ public class ModelStub implements Model {
     public TabIndex getPreviousTabIndexForRedo() {
         return null;
     }
+
+    @Override
+    public UndoHistoryFootprint getUndoHistoryFootprint() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands.find;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TabIndex;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.find.FindAllCommandParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.model.project.Project;
+import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalDevelopers;
+import seedu.address.testutil.TypicalProjects;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindAllCommand}.
+ */
+public class FindAllCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBookWithEveryList(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindAllCommand findFirstCommand = new FindAllCommand(
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("first")),
+                client -> true, project -> true, deadline -> true);
+        FindAllCommand findSecondCommand = new FindAllCommand(
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("second")),
+                client -> true, project -> true, deadline -> true);
+
+        // same object -> returns true
+        assertEquals(findFirstCommand, findFirstCommand);
+
+        // different types -> returns false
+        assertNotEquals(1, findFirstCommand);
+
+        // null -> returns false
+        assertNotEquals(null, findFirstCommand);
+
+        // different predicates -> returns false
+        assertNotEquals(findFirstCommand, findSecondCommand);
+    }
+
+    @Test
+    public void execute_keywordInDevelopersAndClients_filtersEveryList() throws Exception {
+        CommandResult result = parse("Meier").execute(model);
+
+        assertEquals(new CommandResult("Found 2 developers, 2 clients, 0 projects and 0 deadlines with matching "
+                + "information.", TabIndex.Developer), result);
+        assertEquals(Arrays.asList(TypicalDevelopers.BENSON, TypicalDevelopers.DANIEL),
+                model.getFilteredDeveloperList());
+        assertEquals(Arrays.asList(TypicalClients.BENSON, TypicalClients.DANIEL), model.getFilteredClientList());
+        assertTrue(model.getFilteredProjectList().isEmpty());
+    }
+
+    @Test
+    public void execute_keywordInDeadlines_showsProjectTab() throws Exception {
+        CommandResult result = parse("design").execute(model);
+
+        assertEquals(new CommandResult("Found 0 developers, 0 clients, 3 projects and 3 deadlines with matching "
+                + "information.", TabIndex.Project), result);
+        assertEquals(Arrays.asList(TypicalProjects.PROJECT_A, TypicalProjects.PROJECT_B,
+                TypicalProjects.PROJECT_A_NO_SPACING), model.getFilteredProjectList());
+        for (Project project : model.getFilteredProjectList()) {
+            assertEquals(1, project.getProjectFilteredDeadlines().size());
+        }
+    }
+
+    @Test
+    public void execute_noMatches_everyListEmpty() throws Exception {
+        CommandResult result = parse("zzz").execute(model);
+
+        assertEquals("There is nothing with matching information.", result.getFeedbackToUser());
+        assertTrue(model.getFilteredDeveloperList().isEmpty());
+        assertTrue(model.getFilteredClientList().isEmpty());
+        assertTrue(model.getFilteredProjectList().isEmpty());
+    }
+
+    @Test
+    public void execute_listChangedAfterSearch_newItemsTested() throws Exception {
+        parse("Meier").execute(model);
+        model.deleteDeveloper(TypicalDevelopers.BENSON);
+
+        assertEquals(Collections.singletonList(TypicalDevelopers.DANIEL), model.getFilteredDeveloperList());
+    }
+
+    private static FindAllCommand parse(String keywords) throws ParseException {
+        return new FindAllCommandParser().parse(keywords);
+    }
+
+    private static AddressBook getTypicalAddressBookWithEveryList() {
+        AddressBook addressBook = TypicalDevelopers.getTypicalAddressBookWithProjects();
+        TypicalClients.getTypicalClients().forEach(addressBook::addClient);
+        return addressBook;
+    }
+}
@@ -2,10 +2,12 @@ package seedu.address.logic.commands.find;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalDevelopers.ALICE;
 import static seedu.address.testutil.TypicalDevelopers.BENSON;
 import static seedu.address.testutil.TypicalDevelopers.CARL;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
 import static seedu.address.testutil.TypicalDevelopers.ELLE;
 import static seedu.address.testutil.TypicalDevelopers.FIONA;
 import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
@@ -13,6 +15,7 @@ import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +58,10 @@ public class FindDeveloperCommandTest {
 
         // different developer -> returns false
         assertNotEquals(findFirstCommand, findSecondCommand);
+
+        // different rank limit -> returns false
+        assertNotEquals(new FindDeveloperCommand(firstPredicate, false, OptionalInt.of(3)),
+                new FindDeveloperCommand(firstPredicate, false, OptionalInt.of(5)));
     }
 
     @Test
@@ -178,6 +185,39 @@ public class FindDeveloperCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredDeveloperList());
     }
 
+    @Test
+    public void execute_explain_showsQueryPlan() {
+        NameDeveloperContainsKeywordsPredicate predicate = prepareNamePredicate("Kurz Elle Kunz");
+        FindDeveloperCommand command = new FindDeveloperCommand(predicate, true);
+        String message = command.execute(model).getFeedbackToUser();
+        assertTrue(message.startsWith("These are the 3 developers with matching information.\nQuery plan"));
+        assertTrue(message.contains("1. index lookup NAME any of [Kurz, Elle, Kunz]"));
+    }
+
+    @Test
+    public void execute_explainSameSearchAgain_saysAnsweredFromCache() {
+        FindDeveloperCommand command = new FindDeveloperCommand(prepareNamePredicate("Kurz Elle Kunz"), true);
+        command.execute(model);
+        String message = command.execute(model).getFeedbackToUser();
+        assertTrue(message.contains("Query plan (answered from the query cache"));
+        assertTrue(message.contains("1. index lookup NAME any of [Kurz, Elle, Kunz]"));
+    }
+
+    @Test
+    public void execute_ranked_bestMatchesFirst() {
+        // Only Carl is called Kurz, so the rarer keyword counts for more than Meier
+        NameDeveloperContainsKeywordsPredicate predicate = prepareNamePredicate("Meier Kurz");
+        FindDeveloperCommand command = new FindDeveloperCommand(predicate, false, OptionalInt.of(2));
+        String message = command.execute(model).getFeedbackToUser();
+        assertEquals("These are the 2 developers with matching information.\n" + FindDeveloperCommand.MESSAGE_RANKED,
+                message);
+        assertEquals(Arrays.asList(CARL, BENSON), model.getFilteredDeveloperList());
+
+        // A new search shows the developers in the order of the address book again
+        model.updateFilteredDeveloperList(predicate);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), model.getFilteredDeveloperList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands.find;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertProjectCommandSuccess;
+import static seedu.address.testutil.TypicalProjects.PROJECT_A;
+import static seedu.address.testutil.TypicalProjects.PROJECT_C;
+import static seedu.address.testutil.TypicalProjects.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.project.DeadlineQuery;
+import seedu.address.model.project.Priority;
+
+public class UpcomingCommandTest {
+    // The typical projects have deadlines on 20, 22 and 25 December 2023, and the one on the 25th is done
+    private static final Clock DECEMBER_19 = Clock.fixed(
+            LocalDate.of(2023, 12, 19).atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_undoneDeadlinesInRange_listedSoonestFirst() {
+        UpcomingCommand command = new UpcomingCommand(7, DeadlineQuery.ALL, DECEMBER_19);
+        String expectedMessage = String.format(UpcomingCommand.MESSAGE_UPCOMING, 3, 7)
+                + "\n1. 20-12-2023 Design frontend (Project A, MEDIUM)"
+                + "\n2. 20-12-2023 Design frontend (ProjectA, MEDIUM)"
+                + "\n3. 22-12-2023 Design backend (Project B, HIGH)";
+        expectedModel.updateFilteredProjectDeadlineList(DeadlineQuery.withStatus(false)
+                .dueBetween(LocalDate.of(2023, 12, 19).toEpochDay(), LocalDate.of(2023, 12, 26).toEpochDay()));
+        assertProjectCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(1, model.getFilteredProjectList().get(0).getProjectFilteredDeadlines().size());
+        assertEquals(Collections.emptyList(), model.getFilteredProjectList().get(2).getProjectFilteredDeadlines());
+        assertEquals(PROJECT_C, model.getFilteredProjectList().get(2));
+    }
+
+    @Test
+    public void execute_priorityAndShortRange_onlyMatchingDeadlines() {
+        UpcomingCommand command = new UpcomingCommand(1, DeadlineQuery.withPriority(Priority.MEDIUM), DECEMBER_19);
+        String expectedMessage = String.format(UpcomingCommand.MESSAGE_UPCOMING, 2, 1)
+                + "\n1. 20-12-2023 Design frontend (Project A, MEDIUM)"
+                + "\n2. 20-12-2023 Design frontend (ProjectA, MEDIUM)";
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(1, model.getFilteredProjectList().get(0).getProjectFilteredDeadlines().size());
+        assertEquals(PROJECT_A, model.getFilteredProjectList().get(0));
+    }
+
+    @Test
+    public void execute_nothingDue_noUpcomingMessage() {
+        UpcomingCommand command = new UpcomingCommand(7, DeadlineQuery.withPriority(Priority.LOW), DECEMBER_19);
+        assertEquals(String.format(UpcomingCommand.MESSAGE_NO_UPCOMING, 7),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        UpcomingCommand weekCommand = new UpcomingCommand(7, DeadlineQuery.ALL);
+        assertTrue(weekCommand.equals(new UpcomingCommand(7, DeadlineQuery.ALL, DECEMBER_19)));
+        assertFalse(weekCommand.equals(new UpcomingCommand(14, DeadlineQuery.ALL)));
+        assertFalse(weekCommand.equals(new UpcomingCommand(7, DeadlineQuery.withPriority(Priority.HIGH))));
+        assertFalse(weekCommand.equals(null));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.add.AddDeveloperCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.imports.CsvImport;
+import seedu.address.logic.parser.imports.CsvImport.RowError;
+import seedu.address.logic.parser.imports.ImportDeveloperCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class ImportDeveloperCommandTest {
+
+    private static final String HEADER = "Name,Contact Number,Email,Address,Date Joined,Role,Salary,GithubId,Rating,"
+            + "Projects\n";
+    private static final String AMY_ROW = "Amy Bee,85355255,amy@gmail.com,\"123, Jurong West Ave 6, #08-111\","
+            + "01-01-2022,Developer,50000,mahidharah,5.0\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_someInvalidRows_importsValidRowsAndReportsOthers() throws Exception {
+        Model model = new ModelManager();
+        Path file = writeCsv(HEADER + AMY_ROW + AMY_ROW);
+
+        CommandResult result = new ImportDeveloperCommandParser().parse(file.toString()).execute(model);
+
+        assertTrue(model.hasDeveloper(new DeveloperBuilder().build()));
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ImportDeveloperCommand.MESSAGE_SUCCESS, 1)));
+        assertTrue(result.getFeedbackToUser().endsWith(CsvImport.formatErrors(Collections.singletonList(
+                new RowError(3, AddDeveloperCommand.MESSAGE_DUPLICATE_DEVELOPER)))));
+    }
+
+    @Test
+    public void execute_validRows_addsAllAsSingleUndoStep() throws Exception {
+        Model model = new ModelManager();
+        Path file = writeCsv(HEADER + AMY_ROW
+                + "Bob Choo,85355256,bob@gmail.com,Street,01-01-2022,Developer,50000,bobc,4.0\n");
+
+        CommandResult result = new ImportDeveloperCommandParser().parse(file.toString()).execute(model);
+        assertEquals(String.format(ImportDeveloperCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredDeveloperList().size());
+
+        model.undoAddressBook(model);
+        assertEquals(0, model.getFilteredDeveloperList().size());
+    }
+
+    @Test
+    public void execute_duplicateRowsInFile_reportsLaterRows() throws Exception {
+        Model model = new ModelManager();
+        Path file = writeCsv(HEADER + AMY_ROW + AMY_ROW.replace("Amy Bee", "amy bee"));
+
+        CommandResult result = new ImportDeveloperCommandParser().parse(file.toString()).execute(model);
+
+        assertEquals(1, model.getFilteredDeveloperList().size());
+        assertTrue(result.getFeedbackToUser().endsWith(CsvImport.formatErrors(Collections.singletonList(
+                new RowError(3, AddDeveloperCommand.MESSAGE_DUPLICATE_DEVELOPER)))));
+    }
+
+    @Test
+    public void execute_noValidRows_throwsCommandException() throws Exception {
+        Model model = new ModelManager();
+        Path file = writeCsv(HEADER + "Amy Bee,123\n");
+
+        assertThrows(CommandException.class, CsvImport.formatErrors(Collections.singletonList(
+                new RowError(2, String.format(CsvImport.MESSAGE_MISSING_COLUMNS, 9, 2)))), ()
+                -> new ImportDeveloperCommandParser().parse(file.toString()).execute(model));
+        assertEquals(0, model.getFilteredDeveloperList().size());
+    }
+
+    private Path writeCsv(String content) throws Exception {
+        Path file = testFolder.resolve("developers.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -8,22 +8,30 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertDataCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.add.AddDeveloperCommand;
 import seedu.address.logic.commands.delete.DeleteDeveloperCommand;
 import seedu.address.logic.commands.edit.EditDeveloperCommand;
+import seedu.address.logic.commands.find.UpcomingCommand;
 import seedu.address.logic.commands.list.ListClientCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.project.DeadlineQuery;
+import seedu.address.model.project.Priority;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.testutil.DeveloperBuilder;
 import seedu.address.testutil.DeveloperUtil;
 import seedu.address.testutil.EditDeveloperDescriptorBuilder;
 
 public class AddressBookParserTest {
 
-    private final AddressBookParser parser = new AddressBookParser();
+    private static final AddressBookConverter CONVERTER = (addressBook, format, filePath) -> { };
+
+    private final AddressBookParser parser = new AddressBookParser(CONVERTER);
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -40,6 +48,17 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_convertData() throws Exception {
+        AddressBookParser.unlock();
+        assertEquals(new ConvertDataCommand(StorageFormat.BINARY, CONVERTER),
+                parser.parseCommand(ConvertDataCommand.COMMAND_WORD + " binary"));
+        assertEquals(new ConvertDataCommand(StorageFormat.JSON, CONVERTER),
+                parser.parseCommand(ConvertDataCommand.COMMAND_WORD + " JSON"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ConvertDataCommand.MESSAGE_USAGE), () -> parser.parseCommand(ConvertDataCommand.COMMAND_WORD + " xml"));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         AddressBookParser.unlock();
@@ -88,6 +107,17 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListClientCommand.COMMAND_WORD + " 3") instanceof ListClientCommand);
     }
 
+    @Test
+    public void parseCommand_upcoming() throws Exception {
+        AddressBookParser.unlock();
+        assertEquals(new UpcomingCommand(UpcomingCommand.DEFAULT_DAYS, DeadlineQuery.ALL),
+                parser.parseCommand(UpcomingCommand.COMMAND_WORD));
+        assertEquals(new UpcomingCommand(14, DeadlineQuery.withPriority(Priority.HIGH)),
+                parser.parseCommand(UpcomingCommand.COMMAND_WORD + " 14 pri/HIGH"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(UpcomingCommand.COMMAND_WORD + " 0"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(UpcomingCommand.COMMAND_WORD + " pri/URGENT"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -2,11 +2,32 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.find.FindDeveloperCommand;
 import seedu.address.logic.parser.find.FindDeveloperCommandParser;
+import seedu.address.logic.parser.find.QueryParser;
+import seedu.address.model.commons.Date;
+import seedu.address.model.developer.AddressDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.DeveloperRangeField;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.RoleDeveloperContainsKeywordsPredicate;
+import seedu.address.model.person.AnyOfPredicate;
+import seedu.address.model.person.CombinedKeywordPredicate;
+import seedu.address.model.person.FuzzyKeywordPredicate;
+import seedu.address.model.person.NotPredicate;
+import seedu.address.model.person.PhoneticKeywordPredicate;
+import seedu.address.model.person.PhrasePredicate;
+import seedu.address.model.person.RangePredicate;
 
 public class FindDeveloperCommandParserTest {
 
@@ -18,6 +39,107 @@ public class FindDeveloperCommandParserTest {
                 FindDeveloperCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_ranges_returnsFindDeveloperCommand() {
+        FindDeveloperCommand expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(Arrays.asList(
+                new RangePredicate<>(DeveloperRangeField.DATE_JOINED,
+                        new Date("01-01-2022", true).toEpochDay(), Double.POSITIVE_INFINITY),
+                new RangePredicate<>(DeveloperRangeField.SALARY, 5000, 8000))));
+        assertParseSuccess(parser, " d/01-01-2022.. s/5000..8000", expectedCommand);
+
+        expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(Collections.singletonList(
+                new RangePredicate<>(DeveloperRangeField.RATING, Double.NEGATIVE_INFINITY, 4.5))));
+        assertParseSuccess(parser, " rt/ .. 4.5", expectedCommand);
+    }
+
+    @Test
+    public void parse_query_returnsFindDeveloperCommand() {
+        FindDeveloperCommand expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(Arrays.asList(
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("alex")),
+                new AnyOfPredicate<>(Arrays.asList(
+                        new RangePredicate<>(DeveloperRangeField.SALARY, 5000, Double.POSITIVE_INFINITY),
+                        new RoleDeveloperContainsKeywordsPredicate(Collections.singletonList("manager")))),
+                new NotPredicate<>(new CombinedKeywordPredicate<>(Arrays.asList(
+                        new AddressDeveloperContainsKeywordsPredicate(Collections.singletonList("jurong")),
+                        new AddressDeveloperContainsKeywordsPredicate(Collections.singletonList("west")),
+                        new PhrasePredicate<>(DeveloperField.ADDRESS, "jurong west")))))));
+        assertParseSuccess(parser, " q/n:alex (s:5000.. OR r:manager) NOT a:\"jurong west\"", expectedCommand);
+    }
+
+    @Test
+    public void parse_queryWithUnknownField_throwsParseException() {
+        assertParseFailure(parser, " q/o:google", String.format(QueryParser.MESSAGE_INVALID_QUERY,
+                String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, "o")));
+    }
+
+    @Test
+    public void parse_rank_returnsRankedFindDeveloperCommand() {
+        CombinedKeywordPredicate<Developer> predicate = new CombinedKeywordPredicate<>(Collections.singletonList(
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("alex"))));
+
+        // no limit keeps every result
+        assertParseSuccess(parser, " n/alex rk/",
+                new FindDeveloperCommand(predicate, false, OptionalInt.of(Integer.MAX_VALUE)));
+        assertParseSuccess(parser, " n/alex rk/ 5", new FindDeveloperCommand(predicate, false, OptionalInt.of(5)));
+
+        // invalid limit
+        assertParseFailure(parser, " n/alex rk/0", ParserUtil.MESSAGE_INVALID_RANK_LIMIT);
+        assertParseFailure(parser, " n/alex rk/top", ParserUtil.MESSAGE_INVALID_RANK_LIMIT);
+    }
+
+    @Test
+    public void parse_fuzzy_returnsFuzzyNameCommand() {
+        FindDeveloperCommand expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(Arrays.asList(
+                new FuzzyKeywordPredicate<>(DeveloperField.NAME, Arrays.asList("jonh", "smiht"), 2),
+                new RoleDeveloperContainsKeywordsPredicate(Collections.singletonList("developer")))));
+        assertParseSuccess(parser, " n/jonh smiht r/developer fz/2", expectedCommand);
+
+        // no distance allows one mistake
+        expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(Collections.singletonList(
+                new FuzzyKeywordPredicate<>(DeveloperField.NAME, Collections.singletonList("jonh"), 1))));
+        assertParseSuccess(parser, " n/jonh fz/", expectedCommand);
+
+        // invalid distance
+        assertParseFailure(parser, " n/jonh fz/4", ParserUtil.MESSAGE_INVALID_FUZZY_DISTANCE);
+        assertParseFailure(parser, " n/jonh fz/0", ParserUtil.MESSAGE_INVALID_FUZZY_DISTANCE);
+
+        // no name to match
+        assertParseFailure(parser, " r/developer fz/", FindDeveloperCommandParser.MESSAGE_FUZZY_WITHOUT_NAME);
+    }
+
+    @Test
+    public void parse_soundsLike_returnsPhoneticNameCommand() {
+        List<String> keywords = Arrays.asList("jon", "smyth");
+        FindDeveloperCommand expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(
+                Collections.singletonList(new PhoneticKeywordPredicate<>(DeveloperField.NAME, keywords))));
+        assertParseSuccess(parser, " n/jon smyth sl/", expectedCommand);
+
+        // with spelling mistakes, either kind of match is enough
+        expectedCommand = new FindDeveloperCommand(new CombinedKeywordPredicate<>(Collections.singletonList(
+                new AnyOfPredicate<>(Arrays.asList(
+                        new FuzzyKeywordPredicate<>(DeveloperField.NAME, keywords, 1),
+                        new PhoneticKeywordPredicate<>(DeveloperField.NAME, keywords))))));
+        assertParseSuccess(parser, " n/jon smyth sl/ fz/", expectedCommand);
+
+        assertParseFailure(parser, " n/jon sl/yes",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDeveloperCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " r/developer sl/", FindDeveloperCommandParser.MESSAGE_SOUNDS_LIKE_WITHOUT_NAME);
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        // no ends
+        assertParseFailure(parser, " s/..", String.format(FindDeveloperCommandParser.MESSAGE_INVALID_RANGE, ".."));
+
+        // invalid end
+        assertParseFailure(parser, " rt/1..9",
+                String.format(FindDeveloperCommandParser.MESSAGE_INVALID_RANGE, "1..9"));
+
+        // min above max
+        assertParseFailure(parser, " s/8000..5000",
+                String.format(FindDeveloperCommandParser.MESSAGE_INVALID_RANGE, "8000..5000"));
+    }
+
     /*@Test
     public void parse_validArgs_returnsFindDeveloperCommand() {
         AddressBookParser.unlock();
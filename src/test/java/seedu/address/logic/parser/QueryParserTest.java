@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.find.QueryNode;
+import seedu.address.logic.parser.find.QueryParser;
+
+public class QueryParserTest {
+
+    private static final QueryNode NAME_ALEX = new QueryNode.Term("n", "alex", false);
+    private static final QueryNode ROLE_DEVELOPER = new QueryNode.Term("r", "developer", false);
+    private static final QueryNode ROLE_MANAGER = new QueryNode.Term("r", "manager", false);
+
+    @Test
+    public void parse_adjacentTerms_joinedByAnd() throws Exception {
+        QueryNode expected = new QueryNode.And(Arrays.asList(NAME_ALEX, ROLE_DEVELOPER));
+        assertEquals(expected, QueryParser.parse("n:alex r:developer"));
+        assertEquals(expected, QueryParser.parse("  n:alex and   r:developer "));
+    }
+
+    @Test
+    public void parse_mixedOperators_followsPrecedence() throws Exception {
+        // AND binds tighter than OR
+        assertEquals(new QueryNode.Or(Arrays.asList(
+                        new QueryNode.And(Arrays.asList(NAME_ALEX, ROLE_DEVELOPER)), ROLE_MANAGER)),
+                QueryParser.parse("n:alex r:developer OR r:manager"));
+
+        // parentheses group first
+        assertEquals(new QueryNode.And(Arrays.asList(NAME_ALEX,
+                        new QueryNode.Or(Arrays.asList(ROLE_DEVELOPER, ROLE_MANAGER)))),
+                QueryParser.parse("n:alex (r:developer or r:manager)"));
+
+        // NOT binds tightest
+        assertEquals(new QueryNode.And(Arrays.asList(new QueryNode.Not(NAME_ALEX), ROLE_DEVELOPER)),
+                QueryParser.parse("NOT n:alex r:developer"));
+    }
+
+    @Test
+    public void parse_phrase_keepsPhraseTogether() throws Exception {
+        assertEquals(new QueryNode.Not(new QueryNode.Term("a", "jurong west", true)),
+                QueryParser.parse("not A:\"jurong west\""));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertInvalid("   ", QueryParser.MESSAGE_EMPTY_QUERY);
+        assertInvalid("n:\"alex", String.format(QueryParser.MESSAGE_UNTERMINATED_PHRASE, "n"));
+        assertInvalid("n: r:developer", String.format(QueryParser.MESSAGE_MISSING_VALUE, "n"));
+        assertInvalid("alex", String.format(QueryParser.MESSAGE_EXPECTED_TERM, "alex"));
+        assertInvalid("(n:alex OR r:manager", QueryParser.MESSAGE_MISSING_CLOSING_PARENTHESIS);
+        assertInvalid("n:alex OR", String.format(QueryParser.MESSAGE_UNEXPECTED_END, "OR"));
+        assertInvalid("n:alex )", String.format(QueryParser.MESSAGE_EXPECTED_TERM, ")"));
+    }
+
+    private void assertInvalid(String query, String detail) {
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_QUERY, detail), () ->
+                QueryParser.parse(query));
+    }
+}
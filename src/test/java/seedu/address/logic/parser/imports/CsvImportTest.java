@@ -0,0 +1,98 @@
+package seedu.address.logic.parser.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.imports.CsvImport.RowError;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class CsvImportTest {
+
+    private static final String HEADER = "Name,Contact Number,Email,Address,Date Joined,Role,Salary,GithubId,Rating,"
+            + "Projects\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void hasValidHeader() throws Exception {
+        assertTrue(developerImport(writeCsv(HEADER), 10, null).hasValidHeader());
+        assertFalse(developerImport(writeCsv("Name,Email\n"), 10, null).hasValidHeader());
+        assertFalse(developerImport(writeCsv(""), 10, null).hasValidHeader());
+    }
+
+    @Test
+    public void read_invalidRows_reportsEveryRowWithLineNumber() throws Exception {
+        Path file = writeCsv(HEADER
+                + "Amy Bee,85355255,amy@gmail.com,\"123, Jurong West Ave 6, #08-111\",01-01-2022,Developer,50000,"
+                + "mahidharah,5.0,\n"
+                + "Bob,not a phone,bob@gmail.com,Street,01-01-2022,Developer,50000,bob,5.0,\n"
+                + "\n"
+                + "Carl,123\n"
+                + "Dan Lee,85355256,dan@gmail.com,Street,01-01-2022,Developer,50000,danl,4.0,AppA, AppB\n");
+        List<Developer> developers = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+
+        developerImport(file, 2, null).read((rows, rowErrors) ->
+                rows.forEach(row -> developers.add(row.getValue())), errors);
+
+        assertEquals(Arrays.asList(new DeveloperBuilder().build(),
+                new DeveloperBuilder().withName("Dan Lee").withPhone("85355256").withEmail("dan@gmail.com")
+                        .withAddress("Street").withGithubId("danl").withRating("4.0")
+                        .withProjects("AppA", "AppB").build()), developers);
+        assertEquals(Arrays.asList(new RowError(3, Phone.MESSAGE_CONSTRAINTS),
+                new RowError(5, String.format(CsvImport.MESSAGE_MISSING_COLUMNS, 9, 2))), errors);
+    }
+
+    @Test
+    public void read_largeChunksOnWorkerPool_keepsFileOrder() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1000; i++) {
+            String phone = i % 100 == 0 ? "x" : String.valueOf(80000000 + i);
+            csv.append("Developer ").append(i).append(',').append(phone)
+                    .append(",dev@gmail.com,Street,01-01-2022,Developer,50000,dev,5.0\n");
+        }
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+        ExecutorService workerPool = Executors.newFixedThreadPool(4);
+        try {
+            developerImport(writeCsv(csv.toString()), 500, workerPool).read((rows, rowErrors) ->
+                    rows.forEach(row -> lineNumbers.add(row.getLineNumber())), errors);
+        } finally {
+            workerPool.shutdown();
+        }
+
+        assertEquals(990, lineNumbers.size());
+        for (int i = 1; i < lineNumbers.size(); i++) {
+            assertTrue(lineNumbers.get(i - 1) < lineNumbers.get(i));
+        }
+        assertEquals(10, errors.size());
+        assertEquals(2, errors.get(0).getLineNumber());
+    }
+
+    private Path writeCsv(String content) throws Exception {
+        Path file = testFolder.resolve("developers.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static CsvImport<Developer> developerImport(Path file, int chunkSize, ExecutorService workerPool) {
+        return new CsvImport<>(file, ImportDeveloperCommandParser.COLUMN_NAMES,
+                ImportDeveloperCommandParser::parseDeveloper, chunkSize, workerPool);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.HOON;
+import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.developer.Developer;
+
+public class AddressBookChangeLogTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AddressBookChangeLog changeLog = new AddressBookChangeLog(addressBook);
+
+    @Test
+    public void takeChanges_changesMade_returnsChangesInOrder() {
+        int aliceIndex = addressBook.getDeveloperList().indexOf(ALICE);
+        addressBook.addDeveloper(HOON);
+        addressBook.removeDeveloper(ALICE);
+
+        List<AddressBookChange<?>> changes = changeLog.takeChanges().get();
+        assertEquals(2, changes.size());
+        assertEquals(AddressBookChange.EntityList.DEVELOPERS, changes.get(0).getList());
+        assertEquals(Collections.singletonList(HOON), changes.get(0).getAdded());
+        assertEquals(aliceIndex, changes.get(1).getFrom());
+        assertEquals(Collections.singletonList(ALICE), changes.get(1).getRemoved());
+        assertTrue(changeLog.takeChanges().get().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_moreChangesThanEntities_returnsEmpty() {
+        addressBook.setDevelopers(Collections.<Developer>emptyList());
+        assertFalse(changeLog.takeChanges().isPresent());
+
+        addressBook.addDeveloper(HOON);
+        assertTrue(changeLog.takeChanges().isPresent());
+    }
+
+    @Test
+    public void close_changesMade_notRecorded() {
+        assertTrue(changeLog.isLogOf(addressBook));
+        changeLog.close();
+        addressBook.addDeveloper(HOON);
+        assertTrue(changeLog.takeChanges().get().isEmpty());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_addressBookChangedLater_snapshotUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        addressBook.removeDeveloper(ALICE);
+
+        assertTrue(snapshot.getDeveloperList().contains(ALICE));
+        assertFalse(addressBook.getDeveloperList().contains(ALICE));
+    }
+
+    @Test
+    public void constructor_addressBook_sameData() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        assertEquals(addressBook, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void getDeveloperList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getDeveloperList().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertTrue(snapshot.equals(snapshot));
+        assertTrue(snapshot.equals(new AddressBookSnapshot(getTypicalAddressBook())));
+        assertFalse(snapshot.equals(new AddressBookSnapshot(new AddressBook())));
+        assertFalse(snapshot.equals(null));
+    }
+}
@@ -7,12 +7,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROJECT_2_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
 import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,9 +23,12 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicateDeveloperException;
+import seedu.address.model.project.DeadlineQuery;
 import seedu.address.model.project.Project;
 import seedu.address.testutil.DeveloperBuilder;
+import seedu.address.testutil.ProjectBuilder;
 
 public class AddressBookTest {
 
@@ -85,6 +91,81 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getDeveloperList().remove(0));
     }
 
+    @Test
+    public void getDevelopersOnProject_afterEdit_returnsCurrentMembers() {
+        addressBook.addDeveloper(ALICE);
+        addressBook.addDeveloper(BENSON);
+        assertEquals(Collections.singletonList(BENSON), addressBook.getDevelopersOnProject("friends"));
+
+        Developer editedAlice = new DeveloperBuilder(ALICE).withProjects("friends").build();
+        addressBook.setDeveloper(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, editedAlice), addressBook.getDevelopersOnProject("friends"));
+        assertEquals(Collections.emptyList(), addressBook.getDevelopersOnProject("AndroidApp"));
+
+        addressBook.removeDeveloper(BENSON);
+        assertEquals(Collections.singletonList(editedAlice), addressBook.getDevelopersOnProject("friends"));
+    }
+
+    @Test
+    public void removeProject_developersOnProject_onlyMembersUpdated() {
+        Project friends = new ProjectBuilder().withName("friends").build();
+        addressBook.addProject(friends);
+        addressBook.addDeveloper(ALICE);
+        addressBook.addDeveloper(BENSON);
+        addressBook.addDeveloper(DANIEL);
+
+        addressBook.removeProject(friends);
+        Developer editedBenson = new DeveloperBuilder(BENSON).withProjects("owesMoney").build();
+        Developer editedDaniel = new DeveloperBuilder(DANIEL).withProjects().build();
+        assertEquals(Arrays.asList(ALICE, editedBenson, editedDaniel), addressBook.getDeveloperList());
+        assertEquals(Collections.emptyList(), addressBook.getDevelopersOnProject("friends"));
+        assertEquals(Collections.singletonList(editedBenson), addressBook.getDevelopersOnProject("owesMoney"));
+    }
+
+    @Test
+    public void getVersion_modifications_versionIncreases() {
+        long initialVersion = addressBook.getVersion();
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addDeveloper(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.removeDeveloper(ALICE);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void getVersion_readOperations_versionUnchanged() {
+        addressBook.addDeveloper(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasDeveloper(ALICE);
+        addressBook.getDeveloperList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void isIndexing_copy_returnsFalse() {
+        AddressBook indexedAddressBook = getTypicalAddressBook();
+        indexedAddressBook.startIndexing();
+        assertTrue(indexedAddressBook.isIndexing());
+        assertFalse(new AddressBook(indexedAddressBook).isIndexing());
+    }
+
+    @Test
+    public void findDeadlines_notIndexing_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> addressBook.findDeadlines(DeadlineQuery.ALL, 1));
+    }
+
+    @Test
+    public void startIndexing_existingData_indexesData() {
+        AddressBook indexedAddressBook = getTypicalAddressBook();
+        indexedAddressBook.startIndexing();
+        Predicate<Developer> nameIsAlice = new NameDeveloperContainsKeywordsPredicate(List.of("Alice"));
+        assertTrue(indexedAddressBook.getIndexedDeveloperPredicate(nameIsAlice).test(ALICE));
+        assertFalse(indexedAddressBook.getIndexedDeveloperPredicate(nameIsAlice).test(BENSON));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{developers=" + addressBook.getDeveloperList()
@@ -12,12 +12,16 @@ import static seedu.address.testutil.TypicalDevelopers.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.developer.Developer;
 import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.DeveloperBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +98,54 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredDeveloperList().remove(0));
     }
 
+    @Test
+    public void updateFilteredDeveloperList_sameSearchAgain_answeredFromCache() {
+        modelManager = new ModelManager(new AddressBookBuilder().withDeveloper(ALICE).withDeveloper(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredDeveloperList(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("alice")));
+        modelManager.updateFilteredDeveloperList(PREDICATE_SHOW_ALL_DEVELOPERS);
+        modelManager.updateFilteredDeveloperList(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("alice")));
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredDeveloperList());
+        QueryCache.Statistics statistics = modelManager.getQueryCacheStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void updateFilteredDeveloperList_searchFailed_notCached() {
+        modelManager = new ModelManager(new AddressBookBuilder().withDeveloper(ALICE).withDeveloper(BENSON).build(),
+                new UserPrefs());
+        AtomicBoolean hasFailed = new AtomicBoolean(false);
+        Predicate<Developer> failingOnce = developer -> {
+            if (hasFailed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Search failed");
+            }
+            return true;
+        };
+        assertThrows(IllegalStateException.class, () -> modelManager.updateFilteredDeveloperList(failingOnce));
+        assertEquals(0, modelManager.getQueryCacheStatistics().getSize());
+
+        modelManager.updateFilteredDeveloperList(failingOnce);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredDeveloperList());
+        assertEquals(0, modelManager.getQueryCacheStatistics().getHitCount());
+        assertEquals(1, modelManager.getQueryCacheStatistics().getSize());
+    }
+
+    @Test
+    public void updateFilteredDeveloperList_addressBookModified_searchesAgain() {
+        modelManager = new ModelManager(new AddressBookBuilder().withDeveloper(ALICE).build(), new UserPrefs());
+        modelManager.updateFilteredDeveloperList(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("alice")));
+        Developer otherAlice = new DeveloperBuilder(BENSON).withName("Alice Tan").build();
+        modelManager.addDeveloper(otherAlice);
+        modelManager.updateFilteredDeveloperList(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("alice")));
+
+        assertEquals(Arrays.asList(ALICE, otherAlice), modelManager.getFilteredDeveloperList());
+        assertEquals(0, modelManager.getQueryCacheStatistics().getHitCount());
+        assertEquals(2, modelManager.getQueryCacheStatistics().getMissCount());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withDeveloper(ALICE).withDeveloper(BENSON).build();
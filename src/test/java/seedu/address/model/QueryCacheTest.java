@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_sameQueryAndVersion_hit() {
+        QueryCache cache = new QueryCache(2);
+        cache.put("developers", "alice", 1, "result");
+        assertEquals(Optional.of("result"), cache.get("developers", "alice", 1));
+        assertFalse(cache.get("clients", "alice", 1).isPresent());
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(1, cache.getStatistics().getMissCount());
+        assertEquals(0.5, cache.getStatistics().getHitRate());
+    }
+
+    @Test
+    public void get_newerVersion_dropsOlderResults() {
+        QueryCache cache = new QueryCache(2);
+        cache.put("developers", "alice", 1, "result");
+        assertFalse(cache.get("developers", "alice", 2).isPresent());
+        assertEquals(0, cache.getStatistics().getSize());
+
+        // Results of an older version are never cached again
+        cache.put("developers", "alice", 1, "result");
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void put_overCapacity_dropsLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(2);
+        cache.put("developers", "alice", 1, "alice result");
+        cache.put("developers", "bob", 1, "bob result");
+        cache.get("developers", "alice", 1);
+        cache.put("developers", "carl", 1, "carl result");
+
+        assertEquals(Optional.of("alice result"), cache.get("developers", "alice", 1));
+        assertFalse(cache.get("developers", "bob", 1).isPresent());
+        assertEquals(2, cache.getStatistics().getSize());
+    }
+}
@@ -4,9 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BOB;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+
 import seedu.address.logic.commands.TabIndex;
 import seedu.address.logic.commands.exceptions.CommandException;
 
@@ -14,7 +22,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 public class VersionedAddressBookTest {
 
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-    private VersionedAddressBook versionedAddressBook = new VersionedAddressBook(model.getAddressBook());
+    private VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook((AddressBook) model.getAddressBook());
 
     @Test
     public void commit_validModelState_successfullyCommits() {
@@ -60,6 +69,55 @@ public class VersionedAddressBookTest {
         assertEquals(TabIndex.Client, versionedAddressBook.getPreviousTabIndexForRedo());
     }
 
+    @Test
+    public void undoRedo_severalCommits_restoresEachState() throws CommandException {
+        AddressBook initialState = new AddressBook(model.getAddressBook());
+        model.addDeveloper(ALICE);
+        versionedAddressBook.commit(model, "Add", TabIndex.Developer);
+        AddressBook stateAfterAdd = new AddressBook(model.getAddressBook());
+        model.setDeveloper(ALICE, BOB);
+        model.deleteClient(model.getAddressBook().getClientList().get(0));
+        versionedAddressBook.commit(model, "Edit and delete", TabIndex.Client);
+        AddressBook stateAfterEdit = new AddressBook(model.getAddressBook());
+
+        versionedAddressBook.undo(model);
+        assertEquals(stateAfterAdd, model.getAddressBook());
+        versionedAddressBook.undo(model);
+        assertEquals(initialState, model.getAddressBook());
+        assertEquals(stateAfterEdit, versionedAddressBook.getCurrentState(2));
+
+        versionedAddressBook.redo(model);
+        versionedAddressBook.redo(model);
+        assertEquals(stateAfterEdit, model.getAddressBook());
+        assertEquals(initialState, versionedAddressBook.getCurrentState(0));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThem() throws CommandException {
+        AddressBook initialState = new AddressBook(model.getAddressBook());
+        versionedAddressBook.commit(model, "Committing state", TabIndex.Client);
+        model.addDeveloper(ALICE);
+
+        versionedAddressBook.undo(model);
+        assertEquals(initialState, model.getAddressBook());
+        versionedAddressBook.redo(model);
+        assertEquals(initialState, model.getAddressBook());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() throws CommandException {
+        model.addDeveloper(ALICE);
+        versionedAddressBook.commit(model, "Add", TabIndex.Developer);
+        versionedAddressBook.undo(model);
+        model.addDeveloper(BOB);
+        versionedAddressBook.commit(model, "Add another", TabIndex.Developer);
+
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo(model);
+        assertFalse(model.hasDeveloper(ALICE));
+        assertFalse(model.hasDeveloper(BOB));
+    }
+
     @Test
     public void canUndo_noStatesToUndo_returnsFalse() {
         assertFalse(versionedAddressBook.canUndo());
@@ -82,4 +140,113 @@ public class VersionedAddressBookTest {
         versionedAddressBook.undo(model);
         assertTrue(versionedAddressBook.canRedo());
     }
+
+    @Test
+    public void undoRedo_historyOverLimit_readsBackStoredSteps() throws CommandException {
+        VersionedAddressBook boundedHistory = new VersionedAddressBook((AddressBook) model.getAddressBook(), 2,
+                Long.MAX_VALUE);
+        UndoHistoryStoreStub historyStore = new UndoHistoryStoreStub();
+        boundedHistory.setHistoryStore(historyStore);
+        AddressBook initialState = new AddressBook(model.getAddressBook());
+        for (int i = 0; i < 4; i++) {
+            model.deleteClient(model.getAddressBook().getClientList().get(0));
+            boundedHistory.commit(model, "Delete " + i, TabIndex.Client);
+        }
+        AddressBook finalState = new AddressBook(model.getAddressBook());
+
+        assertEquals(new UndoHistoryFootprint(4, 2, boundedHistory.getFootprint().getEstimatedMemoryBytes()),
+                boundedHistory.getFootprint());
+        assertEquals(2, historyStore.commits.size());
+        assertEquals(initialState, boundedHistory.getCurrentState(0));
+
+        for (int i = 3; i >= 0; i--) {
+            boundedHistory.undo(model);
+            assertEquals("Delete " + i, boundedHistory.getPreviousMessage());
+        }
+        assertEquals(initialState, model.getAddressBook());
+        assertFalse(boundedHistory.canUndo());
+        assertTrue(boundedHistory.getFootprint().getInMemoryStepCount() <= 2);
+
+        for (int i = 0; i < 4; i++) {
+            boundedHistory.redo(model);
+        }
+        assertEquals(finalState, model.getAddressBook());
+    }
+
+    @Test
+    public void undo_historyOverLimitWithoutStore_discardsOldestSteps() throws CommandException {
+        VersionedAddressBook boundedHistory = new VersionedAddressBook((AddressBook) model.getAddressBook(), 2,
+                Long.MAX_VALUE);
+        for (int i = 0; i < 4; i++) {
+            model.deleteClient(model.getAddressBook().getClientList().get(0));
+            boundedHistory.commit(model, "Delete " + i, TabIndex.Client);
+        }
+
+        assertEquals(2, boundedHistory.getFootprint().getStepCount());
+        boundedHistory.undo(model);
+        boundedHistory.undo(model);
+        assertFalse(boundedHistory.canUndo());
+    }
+
+    @Test
+    public void commit_historyOverByteLimit_keepsCurrentSteps() {
+        VersionedAddressBook boundedHistory = new VersionedAddressBook((AddressBook) model.getAddressBook(), 100, 1);
+        for (int i = 0; i < 3; i++) {
+            model.deleteClient(model.getAddressBook().getClientList().get(0));
+            boundedHistory.commit(model, "Delete " + i, TabIndex.Client);
+        }
+
+        assertEquals(1, boundedHistory.getFootprint().getStepCount());
+        assertTrue(boundedHistory.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndoingStoredSteps_freesDiscardedSteps() throws CommandException {
+        VersionedAddressBook boundedHistory = new VersionedAddressBook((AddressBook) model.getAddressBook(), 2,
+                Long.MAX_VALUE);
+        UndoHistoryStoreStub historyStore = new UndoHistoryStoreStub();
+        boundedHistory.setHistoryStore(historyStore);
+        for (int i = 0; i < 5; i++) {
+            model.deleteClient(model.getAddressBook().getClientList().get(0));
+            boundedHistory.commit(model, "Delete " + i, TabIndex.Client);
+        }
+        for (int i = 0; i < 5; i++) {
+            boundedHistory.undo(model);
+        }
+        assertTrue(historyStore.freedPositions.isEmpty());
+
+        model.deleteClient(model.getAddressBook().getClientList().get(0));
+        boundedHistory.commit(model, "Delete again", TabIndex.Client);
+        assertEquals(historyStore.commits.size(), historyStore.freedPositions.size());
+        assertFalse(boundedHistory.canRedo());
+    }
+
+    /**
+     * An {@code UndoHistoryStore} that keeps the stored commits in a list.
+     */
+    private static class UndoHistoryStoreStub implements UndoHistoryStore {
+        private final List<AddressBookCommit> commits = new ArrayList<>();
+        private final Set<Long> freedPositions = new HashSet<>();
+
+        @Override
+        public long write(AddressBookCommit commit) {
+            commits.add(commit);
+            return commits.size() - 1;
+        }
+
+        @Override
+        public AddressBookCommit read(long position) {
+            return commits.get((int) position);
+        }
+
+        @Override
+        public void free(long position) {
+            freedPositions.add(position);
+        }
+
+        @Override
+        public void close() {
+            commits.clear();
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    @Test
+    public void search_misspeltWord_findsNearbyWords() {
+        BkTree tree = new BkTree();
+        Arrays.asList("john", "joan", "jon", "jonathan", "alice", "john").forEach(tree::add);
+
+        assertEquals(5, tree.size());
+        assertEquals(new HashSet<>(Arrays.asList("john", "joan", "jon")), new HashSet<>(tree.search("jonh", 2)));
+        assertEquals(Collections.singletonList("alice"), tree.search("alice", 0));
+        assertEquals(Collections.emptyList(), tree.search("bob", 1));
+        assertEquals(Collections.emptyList(), new BkTree().search("bob", 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.search("bob", -1));
+    }
+
+    @Test
+    public void remove_word_notFoundUntilAddedAgain() {
+        BkTree tree = new BkTree();
+        Arrays.asList("john", "joan", "jon").forEach(tree::add);
+
+        tree.remove("john");
+        tree.remove("john");
+        tree.remove("bob");
+        assertEquals(2, tree.size());
+        assertEquals(new HashSet<>(Arrays.asList("joan", "jon")), new HashSet<>(tree.search("jonh", 2)));
+
+        tree.add("john");
+        assertEquals(3, tree.size());
+        assertEquals(Collections.singletonList("john"), tree.search("john", 0));
+    }
+
+    @Test
+    public void search_mostWordsRemoved_findsWordsLeft() {
+        Random random = new Random(2103);
+        Set<String> words = new HashSet<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+        List<String> removed = new ArrayList<>(words);
+        Collections.shuffle(removed, random);
+        removed = removed.subList(0, removed.size() * 9 / 10);
+        removed.forEach(tree::remove);
+        words.removeAll(removed);
+
+        // The tree was rebuilt from the words left by the removals, and searches still find them
+        for (int i = 0; i < 20; i++) {
+            String query = randomWord(random);
+            Set<String> expected = new HashSet<>();
+            for (String word : words) {
+                if (StringUtil.getEditDistance(query, word, 1) <= 1) {
+                    expected.add(word);
+                }
+            }
+            assertEquals(expected, new HashSet<>(tree.search(query, 1)));
+        }
+        assertEquals(words.size(), tree.size());
+    }
+
+    @Test
+    public void search_randomWords_matchesCheckingEveryWord() {
+        Random random = new Random(2103);
+        List<String> words = new ArrayList<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 5000; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                Set<String> expected = new HashSet<>();
+                for (String word : words) {
+                    if (StringUtil.getEditDistance(query, word, maxDistance) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, new HashSet<>(tree.search(query, maxDistance)));
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+}
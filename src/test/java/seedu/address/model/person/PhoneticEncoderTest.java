@@ -0,0 +1,37 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticEncoderTest {
+
+    @Test
+    public void encode_namesSoundingAlike_sameCode() {
+        assertEquals("S530", PhoneticEncoder.encode("Smith"));
+        assertEquals("S530", PhoneticEncoder.encode("smyth"));
+        assertEquals("J500", PhoneticEncoder.encode("Jon"));
+        assertEquals("J500", PhoneticEncoder.encode("JOHN"));
+        assertEquals("R163", PhoneticEncoder.encode("Robert"));
+        assertEquals("R163", PhoneticEncoder.encode("Rupert"));
+    }
+
+    @Test
+    public void encode_adjacentSounds_codedOnce() {
+        // letters with the same digit next to each other, or separated by h or w, count once
+        assertEquals("P236", PhoneticEncoder.encode("Pfister"));
+        assertEquals("A261", PhoneticEncoder.encode("Ashcraft"));
+        assertEquals("T522", PhoneticEncoder.encode("Tymczak"));
+
+        // vowels separate them
+        assertEquals("H555", PhoneticEncoder.encode("Honeyman"));
+    }
+
+    @Test
+    public void encode_nonLetters_ignored() {
+        assertEquals("O200", PhoneticEncoder.encode("O'Shea"));
+        assertEquals("A000", PhoneticEncoder.encode("a"));
+        assertEquals("", PhoneticEncoder.encode("123"));
+        assertEquals("", PhoneticEncoder.encode(""));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final PositionIndex positionIndex = new PositionIndex();
+
+    @Test
+    public void indexOf_keyNotInIndex_returnsMinusOne() {
+        positionIndex.add("alice");
+        assertEquals(-1, positionIndex.indexOf("bob"));
+        assertFalse(positionIndex.contains("bob"));
+    }
+
+    @Test
+    public void remove_firstKey_laterKeysMoveDown() {
+        positionIndex.setAll(Arrays.asList("alice", "benson", "bob"));
+        positionIndex.remove("alice");
+        assertEquals(0, positionIndex.indexOf("benson"));
+        assertEquals(1, positionIndex.indexOf("bob"));
+        assertEquals(2, positionIndex.size());
+    }
+
+    @Test
+    public void setAll_duplicateKeys_returnsFalseAndKeepsKeys() {
+        positionIndex.add("alice");
+        assertFalse(positionIndex.setAll(Arrays.asList("bob", "benson", "bob")));
+        assertEquals(0, positionIndex.indexOf("alice"));
+        assertEquals(1, positionIndex.size());
+    }
+
+    @Test
+    public void setAll_positionIndex_copiesKeys() {
+        PositionIndex other = new PositionIndex();
+        other.setAll(Arrays.asList("alice", "bob"));
+        other.remove("alice");
+        positionIndex.setAll(other);
+        other.add("carl");
+        assertEquals(0, positionIndex.indexOf("bob"));
+        assertFalse(positionIndex.contains("carl"));
+    }
+
+    @Test
+    public void removeAndAdd_manyKeys_reclaimsFreedSlots() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            positionIndex.add("key" + i);
+            expected.add("key" + i);
+        }
+        for (int i = 0; i < 490; i++) {
+            positionIndex.remove("key" + i);
+            expected.remove("key" + i);
+        }
+        positionIndex.add("last");
+        expected.add("last");
+        assertPositions(expected);
+    }
+
+    @Test
+    public void randomChanges_sameAsList() {
+        Random random = new Random(42);
+        List<String> expected = new ArrayList<>();
+        int nextKey = 0;
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                String key = "key" + nextKey++;
+                positionIndex.add(key);
+                expected.add(key);
+            } else if (operation < 7) {
+                String key = expected.remove(random.nextInt(expected.size()));
+                positionIndex.remove(key);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                String key = "key" + nextKey++;
+                positionIndex.set(expected.get(index), key);
+                expected.set(index, key);
+            } else {
+                int from = random.nextInt(expected.size());
+                int count = random.nextInt(Math.min(4, expected.size() - from) + 1);
+                List<String> newKeys = new ArrayList<>();
+                for (int j = random.nextInt(4); j > 0; j--) {
+                    newKeys.add("key" + nextKey++);
+                }
+                positionIndex.replaceRange(from, count, newKeys);
+                expected.subList(from, from + count).clear();
+                expected.addAll(from, newKeys);
+            }
+            assertEquals(expected.size(), positionIndex.size());
+        }
+        assertPositions(expected);
+    }
+
+    private void assertPositions(List<String> expected) {
+        assertEquals(expected.size(), positionIndex.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(positionIndex.contains(expected.get(i)));
+            assertEquals(i, positionIndex.indexOf(expected.get(i)));
+        }
+    }
+}
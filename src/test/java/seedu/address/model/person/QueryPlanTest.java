@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.CARL;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
+import static seedu.address.testutil.TypicalDevelopers.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.DeveloperRangeField;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.PhoneDeveloperContainsKeywordsPredicate;
+import seedu.address.model.person.QueryResult.AccessPath;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class QueryPlanTest {
+
+    private final ObservableList<Developer> developers =
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, ELLE);
+    private final SearchIndex<Developer> searchIndex = new SearchIndex<>(developers,
+            Arrays.asList(DeveloperField.values()), Arrays.asList(DeveloperRangeField.values()));
+
+    @Test
+    public void run_selectiveClauseGiven_runsSelectiveClauseFirst() {
+        Predicate<Developer> namePredicate = new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("e"));
+        Predicate<Developer> phonePredicate =
+                new PhoneDeveloperContainsKeywordsPredicate(Collections.singletonList(ALICE.getPhone().value));
+        QueryPlan<Developer> plan = planOf(namePredicate, phonePredicate);
+        QueryResult<Developer> result = plan.run();
+
+        List<QueryPlan.Step<Developer>> steps = plan.getSteps();
+        assertEquals(phonePredicate, steps.get(0).getClause());
+        assertEquals(AccessPath.INDEX_LOOKUP, result.getAccessPaths().get(0));
+        assertEquals(namePredicate, steps.get(1).getClause());
+        assertMatchesSameAs(result, new CombinedKeywordPredicate<>(Arrays.asList(namePredicate, phonePredicate)));
+    }
+
+    @Test
+    public void run_noIndexedClause_filtersEveryDeveloper() {
+        Predicate<Developer> blankPredicate = new NameDeveloperContainsKeywordsPredicate(Collections.emptyList());
+        QueryResult<Developer> result = planOf(blankPredicate).run();
+
+        assertEquals(Collections.singletonList(AccessPath.FILTER), result.getAccessPaths());
+        assertMatchesSameAs(result, blankPredicate);
+    }
+
+    @Test
+    public void run_listChanged_earlierResultUnchanged() {
+        Predicate<Developer> rangePredicate = new RangePredicate<>(DeveloperRangeField.SALARY, 90000, 100000);
+        QueryPlan<Developer> plan = planOf(rangePredicate);
+        QueryResult<Developer> result = plan.run();
+        assertTrue(developers.stream().noneMatch(result));
+
+        Developer richDeveloper = new DeveloperBuilder().withName("Rich").withSalary("95000").build();
+        developers.add(richDeveloper);
+        assertEquals(0, plan.getSteps().get(0).getEstimatedMatches());
+        assertEquals(0, result.getMatchCount());
+        assertEquals(1, plan.run().getMatchCount());
+    }
+
+    @Test
+    public void explain_describesEveryStep() {
+        Predicate<Developer> namePredicate =
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("zzz"));
+        Predicate<Developer> rangePredicate =
+                new RangePredicate<>(DeveloperRangeField.SALARY, 5000, Double.POSITIVE_INFINITY);
+        String explanation = planOf(namePredicate, rangePredicate).run().explain();
+
+        assertTrue(explanation.contains("1. index lookup NAME any of [zzz] (estimated 0 of 5)"));
+        assertTrue(explanation.contains("2. skipped, no candidates left SALARY 5000.. (estimated 5 of 5)"));
+    }
+
+    @Test
+    public void run_booleanClauses_matchesSameAsPredicate() {
+        Predicate<Developer> anyOfPredicate = new AnyOfPredicate<>(Arrays.asList(
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("meier")),
+                new RangePredicate<>(DeveloperRangeField.RATING, 5, 5)));
+        Predicate<Developer> notPredicate = new NotPredicate<>(new PhrasePredicate<>(DeveloperField.ADDRESS,
+                "clementi ave"));
+        QueryPlan<Developer> plan = planOf(anyOfPredicate, notPredicate);
+        QueryResult<Developer> result = plan.run();
+
+        assertEquals(anyOfPredicate, plan.getSteps().get(0).getClause());
+        assertEquals(Arrays.asList(AccessPath.INDEX_LOOKUP, AccessPath.FILTER), result.getAccessPaths());
+        assertMatchesSameAs(result, new CombinedKeywordPredicate<>(Arrays.asList(anyOfPredicate, notPredicate)));
+        assertTrue(result.test(CARL) && result.test(DANIEL) && !result.test(BENSON) && !result.test(ALICE));
+        assertTrue(result.explain().contains("(NAME any of [meier] OR RATING 5..5)"));
+        assertTrue(result.explain().contains("NOT ADDRESS \"clementi ave\""));
+    }
+
+    @SafeVarargs
+    private QueryPlan<Developer> planOf(Predicate<Developer>... clauses) {
+        return new QueryPlan<>(searchIndex, new CombinedKeywordPredicate<>(Arrays.asList(clauses)),
+                Arrays.asList(clauses));
+    }
+
+    private void assertMatchesSameAs(QueryResult<Developer> result, Predicate<Developer> predicate) {
+        for (Developer developer : developers) {
+            assertEquals(predicate.test(developer), result.test(developer));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.CARL;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
+import static seedu.address.testutil.TypicalDevelopers.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class QueryResultTest {
+
+    private final ObservableList<Developer> developers =
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, ELLE);
+    private final SearchIndex<Developer> searchIndex =
+            new SearchIndex<>(developers, Arrays.asList(DeveloperField.values()));
+    private final Predicate<Developer> namePredicate =
+            new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("zed"));
+    private final QueryResult<Developer> result =
+            new QueryPlan<>(searchIndex, namePredicate, Collections.singletonList(namePredicate)).run();
+
+    @Test
+    public void test_developerAddedAfterRun_testedAgainstQuery() {
+        Developer zed = new DeveloperBuilder().withName("Zed").build();
+        assertFalse(result.test(zed));
+
+        developers.add(zed);
+        assertTrue(result.test(zed));
+        assertFalse(result.test(ALICE));
+    }
+
+    @Test
+    public void explain_fromCache_saysAnsweredFromCache() {
+        assertFalse(result.explain().contains("query cache"));
+        assertTrue(result.fromCache().explain().startsWith("Query plan (answered from the query cache"));
+    }
+}
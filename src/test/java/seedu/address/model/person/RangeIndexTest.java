@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.CARL;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
+import static seedu.address.testutil.TypicalDevelopers.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperRangeField;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class RangeIndexTest {
+
+    private static final List<Developer> DEVELOPERS = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE,
+            new DeveloperBuilder().withName("Frank").withSalary("40000").build());
+
+    @Test
+    public void find_range_matchesSameAsScan() {
+        RangeIndex<Developer> index = indexOf(DeveloperRangeField.SALARY);
+        assertMatchesScan(index, DeveloperRangeField.SALARY, 40000, 40000);
+        assertMatchesScan(index, DeveloperRangeField.SALARY, 0, 55000);
+        assertMatchesScan(index, DeveloperRangeField.SALARY, 60000, Double.POSITIVE_INFINITY);
+        assertMatchesScan(index, DeveloperRangeField.SALARY, 1, 2);
+    }
+
+    @Test
+    public void find_dateRange_matchesSameAsScan() {
+        RangeIndex<Developer> index = indexOf(DeveloperRangeField.DATE_JOINED);
+        double day = DeveloperRangeField.DATE_JOINED.getRangeValue(ALICE);
+        assertMatchesScan(index, DeveloperRangeField.DATE_JOINED, day, Double.POSITIVE_INFINITY);
+        assertMatchesScan(index, DeveloperRangeField.DATE_JOINED, Double.NEGATIVE_INFINITY, day - 1);
+    }
+
+    @Test
+    public void remove_equalValues_removesOnlyGivenEntity() {
+        RangeIndex<Developer> index = indexOf(DeveloperRangeField.SALARY);
+        index.remove(ALICE);
+        Set<Developer> matches = index.find(40000, 40000);
+        assertTrue(matches.stream().noneMatch(developer -> developer == ALICE));
+        assertEquals(DEVELOPERS.size() - 1, index.size());
+    }
+
+    @Test
+    public void iterateInOrder_range_ascendingMatchesSameAsScan() {
+        RangeIndex<Developer> index = indexOf(DeveloperRangeField.SALARY);
+        List<Developer> inOrder = new ArrayList<>();
+        index.iterateInOrder(0, 55000).forEachRemaining(inOrder::add);
+
+        Set<Developer> matches = index.find(0, 55000);
+        assertEquals(matches.size(), inOrder.size());
+        assertTrue(inOrder.stream().allMatch(matches::contains));
+        for (int i = 1; i < inOrder.size(); i++) {
+            assertTrue(DeveloperRangeField.SALARY.getRangeValue(inOrder.get(i - 1))
+                    <= DeveloperRangeField.SALARY.getRangeValue(inOrder.get(i)));
+        }
+        assertFalse(index.iterateInOrder(1, 2).hasNext());
+    }
+
+    private RangeIndex<Developer> indexOf(DeveloperRangeField field) {
+        RangeIndex<Developer> index = new RangeIndex<>(field);
+        DEVELOPERS.forEach(index::add);
+        return index;
+    }
+
+    private void assertMatchesScan(RangeIndex<Developer> index, DeveloperRangeField field, double min, double max) {
+        RangePredicate<Developer> predicate = new RangePredicate<>(field, min, max);
+        Set<Developer> expected = DEVELOPERS.stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, Set.copyOf(index.find(min, max)));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.developer.AddressDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class RelevanceRankerTest {
+
+    private static final Developer KIM = new DeveloperBuilder().withName("Kim Lee").withAddress("5 Lee Road").build();
+    private static final Developer TAN = new DeveloperBuilder().withName("Lee Tan").withAddress("Jurong West").build();
+    private static final Developer ANN = new DeveloperBuilder().withName("Ann Ng").withAddress("Clementi").build();
+    private static final Developer BEN = new DeveloperBuilder().withName("Ben Ng").withAddress("Clementi").build();
+
+    private final ObservableList<Developer> developers = FXCollections.observableArrayList(KIM, TAN, ANN, BEN);
+    private final SearchIndex<Developer> searchIndex =
+            new SearchIndex<>(developers, Arrays.asList(DeveloperField.values()));
+
+    @Test
+    public void score_matchesInMoreFields_higherScore() {
+        RelevanceRanker<Developer> ranker = searchIndex.getRanker(Collections.singletonList("LEE"));
+        assertTrue(ranker.score(KIM) > ranker.score(TAN));
+        assertTrue(ranker.score(TAN) > 0);
+        assertEquals(0.0, ranker.score(ANN));
+    }
+
+    @Test
+    public void score_rarerKeyword_higherScore() {
+        // Both keywords are one word of the same name, but only one developer is called Tan
+        double commonScore = searchIndex.getRanker(Collections.singletonList("lee")).score(TAN);
+        double rareScore = searchIndex.getRanker(Collections.singletonList("tan")).score(TAN);
+        assertTrue(rareScore > commonScore);
+    }
+
+    @Test
+    public void score_fieldsNotRanked_zeroScore() {
+        // Emails are searchable but say nothing about what a developer is
+        assertEquals(0.0, searchIndex.getRanker(Collections.singletonList("amy")).score(KIM));
+    }
+
+    @Test
+    public void selectTop_limit_keepsMostRelevantInOrder() {
+        RelevanceRanker<Developer> ranker = searchIndex.getRanker(Arrays.asList("lee", "ben"));
+        assertEquals(Arrays.asList(KIM, TAN), ranker.selectTop(Arrays.asList(ANN, TAN, KIM), 2));
+        assertEquals(Collections.singletonList(KIM), ranker.selectTop(developers, 1));
+        assertEquals(Collections.emptyList(), ranker.selectTop(developers, 0));
+    }
+
+    @Test
+    public void selectTop_equalScores_keepsGivenOrder() {
+        RelevanceRanker<Developer> ranker = searchIndex.getRanker(Collections.singletonList("clementi"));
+        assertEquals(Arrays.asList(BEN, ANN, KIM, TAN),
+                ranker.selectTop(Arrays.asList(BEN, KIM, ANN, TAN), Integer.MAX_VALUE));
+        assertEquals(Arrays.asList(ANN, BEN), ranker.selectTop(developers, 2));
+    }
+
+    @Test
+    public void keywordsOf_excludedKeywords_leftOut() {
+        List<Predicate<Developer>> predicates = Arrays.asList(
+                new NameDeveloperContainsKeywordsPredicate(Arrays.asList("kim", "lee")),
+                new PhrasePredicate<>(DeveloperField.ADDRESS, "lee road"),
+                new NotPredicate<>(new AddressDeveloperContainsKeywordsPredicate(Collections.singletonList("west"))));
+        assertEquals(Arrays.asList("kim", "lee", "lee", "road"),
+                RelevanceRanker.keywordsOf(new CombinedKeywordPredicate<>(predicates)));
+    }
+}
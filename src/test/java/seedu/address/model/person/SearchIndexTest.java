@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.CARL;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
+import static seedu.address.testutil.TypicalDevelopers.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.RoleDeveloperContainsKeywordsPredicate;
+import seedu.address.model.developer.SalaryContainsKeywordsPredicate;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class SearchIndexTest {
+
+    private final ObservableList<Developer> developers =
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, ELLE);
+    private final SearchIndex<Developer> searchIndex =
+            new SearchIndex<>(developers, Arrays.asList(DeveloperField.values()));
+
+    @Test
+    public void getIndexedPredicate_keywordPredicate_matchesSameDevelopers() {
+        assertSameMatches(new NameDeveloperContainsKeywordsPredicate(Arrays.asList("meier", "KA")));
+        assertSameMatches(new SalaryContainsKeywordsPredicate(Arrays.asList("4000", "40000")));
+    }
+
+    @Test
+    public void getIndexedPredicate_combinedPredicate_matchesSameDevelopers() {
+        List<KeywordPredicate<Developer>> predicates = Arrays.asList(
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("e")),
+                new RoleDeveloperContainsKeywordsPredicate(Collections.singletonList("dev")));
+        assertSameMatches(new CombinedKeywordPredicate<>(predicates));
+    }
+
+    @Test
+    public void getIndexedPredicate_listChanged_matchesUpdated() {
+        NameDeveloperContainsKeywordsPredicate predicate =
+                new NameDeveloperContainsKeywordsPredicate(Collections.singletonList("zed"));
+        Predicate<Developer> indexedPredicate = searchIndex.getIndexedPredicate(predicate);
+        assertFalse(indexedPredicate.test(ALICE));
+
+        Developer editedAlice = new DeveloperBuilder(ALICE).withName("Alice Zed").build();
+        developers.set(0, editedAlice);
+        assertTrue(indexedPredicate.test(editedAlice));
+
+        developers.remove(editedAlice);
+        assertEquals(0, searchIndex.getIndex(DeveloperField.NAME).find("zed").size());
+    }
+
+    @Test
+    public void getIndexedPredicate_notKeywordPredicate_returnsSamePredicate() {
+        Predicate<Developer> predicate = developer -> true;
+        assertSame(predicate, searchIndex.getIndexedPredicate(predicate));
+    }
+
+    @Test
+    public void getIndexedPredicate_fuzzyPredicate_matchesSameDevelopers() {
+        assertSameMatches(new FuzzyKeywordPredicate<>(DeveloperField.NAME, Arrays.asList("benosn", "KURTZ"), 2));
+        assertSameMatches(new FuzzyKeywordPredicate<>(DeveloperField.NAME, Collections.singletonList("mei"), 1));
+        assertSameMatches(new FuzzyKeywordPredicate<>(DeveloperField.ROLE, Collections.singletonList("develper"), 1));
+
+        // Names that are no longer used are not found
+        Predicate<Developer> indexedPredicate = searchIndex.getIndexedPredicate(
+                new FuzzyKeywordPredicate<>(DeveloperField.NAME, Collections.singletonList("alise"), 1));
+        assertTrue(indexedPredicate.test(ALICE));
+        developers.set(0, new DeveloperBuilder(ALICE).withName("Zed Zed").build());
+        assertFalse(indexedPredicate.test(developers.get(0)));
+    }
+
+    @Test
+    public void getIndexedPredicate_phoneticPredicate_matchesSameDevelopers() {
+        assertSameMatches(new PhoneticKeywordPredicate<>(DeveloperField.NAME, Arrays.asList("Mayer", "curts")));
+        assertSameMatches(new PhoneticKeywordPredicate<>(DeveloperField.ROLE, Collections.singletonList("devloper")));
+
+        Predicate<Developer> indexedPredicate = searchIndex.getIndexedPredicate(
+                new PhoneticKeywordPredicate<>(DeveloperField.NAME, Collections.singletonList("Allice")));
+        assertTrue(indexedPredicate.test(ALICE));
+        developers.set(0, new DeveloperBuilder(ALICE).withName("Zed Zed").build());
+        assertFalse(indexedPredicate.test(developers.get(0)));
+    }
+
+    private void assertSameMatches(Predicate<Developer> predicate) {
+        Predicate<Developer> indexedPredicate = searchIndex.getIndexedPredicate(predicate);
+        for (Developer developer : developers) {
+            assertEquals(predicate.test(developer), indexedPredicate.test(developer));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.model.developer.NameDeveloperContainsKeywordsPredicate;
+import seedu.address.testutil.DeveloperBuilder;
+
+/**
+ * Compares the memory allocated by keyword searches that use the cached {@link SearchTokens} of each developer with
+ * that allocated by splitting and lowercasing every name on every test, as searches did before the tokens were
+ * cached.
+ * <p>
+ * The numbers depend on the JVM and on how much of the scan the JIT has optimised, so this is run by hand with
+ * {@code gradlew searchTokensBenchmark} rather than as part of the tests. Allocation is measured with the
+ * {@code com.sun.management} extension of {@code ThreadMXBean}, which not every JVM provides.
+ */
+public class SearchTokensBenchmark {
+
+    private static final int DEVELOPER_COUNT = 2000;
+    private static final int ROUNDS = 20;
+
+    /**
+     * Runs the benchmark and prints the bytes allocated by each way of searching.
+     */
+    public static void main(String[] args) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            System.out.println("This JVM cannot measure the memory allocated by a thread.");
+            return;
+        }
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            System.out.println("This JVM cannot measure the memory allocated by a thread.");
+            return;
+        }
+
+        List<Developer> developers = new ArrayList<>();
+        for (int i = 0; i < DEVELOPER_COUNT; i++) {
+            developers.add(new DeveloperBuilder().withName("Developer Number " + i).build());
+        }
+        List<String> keywords = Arrays.asList("Number", "99");
+        NameDeveloperContainsKeywordsPredicate predicate = new NameDeveloperContainsKeywordsPredicate(keywords);
+        long threadId = Thread.currentThread().getId();
+
+        int splittingMatches = 0;
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Developer developer : developers) {
+                if (keywords.stream().anyMatch(keyword ->
+                        StringUtil.containsPartialWordIgnoreCase(developer.getName().fullName, keyword))) {
+                    splittingMatches++;
+                }
+            }
+        }
+        long splittingBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        // Work out the tokens of every name once, as the first search does
+        developers.forEach(DeveloperField.NAME::getTokens);
+        int cachedMatches = 0;
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Developer developer : developers) {
+                if (predicate.test(developer)) {
+                    cachedMatches++;
+                }
+            }
+        }
+        long cachedBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        System.out.printf("Splitting every test: %d matches, %d bytes allocated%n", splittingMatches, splittingBytes);
+        System.out.printf("Cached tokens:        %d matches, %d bytes allocated%n", cachedMatches, cachedBytes);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class SearchTokensTest {
+
+    @Test
+    public void containsWord() {
+        SearchTokens tokens = SearchTokens.of("Alice  Pauline");
+
+        // whole words, ignoring case
+        assertTrue(tokens.containsWord("alice"));
+        assertTrue(tokens.containsWord(" PAULINE "));
+
+        // part of a word
+        assertFalse(tokens.containsWord("ali"));
+
+        // invalid words
+        assertThrows(IllegalArgumentException.class, () -> tokens.containsWord("  "));
+        assertThrows(IllegalArgumentException.class, () -> tokens.containsWord("alice pauline"));
+    }
+
+    @Test
+    public void containsPartialWord() {
+        SearchTokens tokens = SearchTokens.of("Alice Pauline");
+        assertTrue(tokens.containsPartialWord("LIC"));
+        assertTrue(tokens.containsPartialWord("pauline"));
+        assertFalse(tokens.containsPartialWord("alicepauline"));
+        assertThrows(IllegalArgumentException.class, () -> tokens.containsPartialWord(""));
+    }
+
+    @Test
+    public void containsPhrase() {
+        SearchTokens tokens = SearchTokens.of("123, Jurong West Ave 6");
+
+        assertTrue(tokens.containsPhrase(SearchTokens.of("jurong WEST"), false));
+        assertFalse(tokens.containsPhrase(SearchTokens.of("rong west av"), false));
+        assertFalse(tokens.containsPhrase(SearchTokens.of("west jurong"), false));
+
+        // the ends of the phrase may be parts of words
+        assertTrue(tokens.containsPhrase(SearchTokens.of("rong west av"), true));
+        assertTrue(tokens.containsPhrase(SearchTokens.of("ron"), true));
+        assertFalse(tokens.containsPhrase(SearchTokens.of("jurong est"), true));
+    }
+
+    @Test
+    public void getTokens_developerSearchedAgain_returnsCachedTokens() {
+        Developer developer = new DeveloperBuilder().withName("Alice Pauline").build();
+        SearchTokens tokens = DeveloperField.NAME.getTokens(developer);
+        assertEquals(SearchTokens.of("Alice Pauline"), tokens);
+        assertTrue(tokens == DeveloperField.NAME.getTokens(developer));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.DANIEL;
+import static seedu.address.testutil.TypicalDevelopers.HOON;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.developer.Developer;
+import seedu.address.model.developer.DeveloperField;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class TokenIndexTest {
+
+    private static final List<Developer> DEVELOPERS = Arrays.asList(ALICE, BENSON, DANIEL, HOON);
+
+    @Test
+    public void find_trigramIndexedField_matchesPartialWords() {
+        TokenIndex<Developer> index = indexOf(DeveloperField.NAME);
+        assertMatchesScan(index, DeveloperField.NAME, "eie");
+        assertMatchesScan(index, DeveloperField.NAME, "MEIER");
+        assertMatchesScan(index, DeveloperField.NAME, "alice");
+        assertMatchesScan(index, DeveloperField.NAME, "xyz");
+    }
+
+    @Test
+    public void find_trigramsInWrongOrder_noMatch() {
+        TokenIndex<Developer> index = new TokenIndex<>(DeveloperField.NAME);
+        index.add(new DeveloperBuilder().withName("abcxbcd").build());
+        // "abcd" shares every trigram with "abcxbcd" but is not part of it
+        assertTrue(index.find("abcd").isEmpty());
+    }
+
+    @Test
+    public void find_shortKeyword_fallsBackToScan() {
+        TokenIndex<Developer> index = indexOf(DeveloperField.NAME);
+        assertMatchesScan(index, DeveloperField.NAME, "ei");
+        assertMatchesScan(index, DeveloperField.NAME, "a");
+    }
+
+    @Test
+    public void find_afterRemove_noStaleMatches() {
+        TokenIndex<Developer> index = indexOf(DeveloperField.EMAIL);
+        index.remove(ALICE);
+        assertTrue(index.find("alice").isEmpty());
+        assertEquals(DEVELOPERS.size() - 1, index.getTokenCount());
+    }
+
+    private TokenIndex<Developer> indexOf(DeveloperField field) {
+        TokenIndex<Developer> index = new TokenIndex<>(field);
+        DEVELOPERS.forEach(index::add);
+        return index;
+    }
+
+    private void assertMatchesScan(TokenIndex<Developer> index, DeveloperField field, String keyword) {
+        Set<Developer> expected = DEVELOPERS.stream()
+                .filter(developer -> Arrays.stream(field.getValue(developer).split("\\s+"))
+                        .anyMatch(word -> word.toLowerCase().contains(keyword.toLowerCase())))
+                .collect(Collectors.toSet());
+        assertEquals(expected, Set.copyOf(index.find(keyword)));
+    }
+}
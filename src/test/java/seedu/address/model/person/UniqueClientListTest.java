@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.BOB;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.person.exceptions.ClientNotFoundException;
+import seedu.address.model.person.exceptions.DuplicateClientException;
+import seedu.address.testutil.ClientBuilder;
+
+public class UniqueClientListTest {
+
+    private final UniqueClientList uniqueClientList = new UniqueClientList();
+
+    @Test
+    public void contains_clientInList_returnsTrue() {
+        uniqueClientList.add(ALICE);
+        assertTrue(uniqueClientList.contains(ALICE));
+        assertFalse(uniqueClientList.contains(BOB));
+    }
+
+    @Test
+    public void add_duplicateClient_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.add(ALICE));
+    }
+
+    @Test
+    public void setClient_editedClientHasNonUniqueIdentity_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(ALICE, BOB));
+    }
+
+    @Test
+    public void remove_clientBeforeOthers_laterClientsStillFound() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BENSON);
+        uniqueClientList.add(BOB);
+        uniqueClientList.remove(ALICE);
+
+        Client editedBob = new ClientBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueClientList.setClient(BOB, editedBob);
+        uniqueClientList.remove(BENSON);
+        UniqueClientList expectedUniqueClientList = new UniqueClientList();
+        expectedUniqueClientList.add(editedBob);
+        assertEquals(expectedUniqueClientList, uniqueClientList);
+    }
+
+    @Test
+    public void remove_clientWithSameIdentityButDifferentFields_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.remove(editedAlice));
+    }
+
+    @Test
+    public void setClients_list_replacesOwnListWithProvidedList() {
+        uniqueClientList.add(ALICE);
+        List<Client> clientList = Collections.singletonList(BOB);
+        uniqueClientList.setClients(clientList);
+        UniqueClientList expectedUniqueClientList = new UniqueClientList();
+        expectedUniqueClientList.add(BOB);
+        assertEquals(expectedUniqueClientList, uniqueClientList);
+    }
+
+    @Test
+    public void setClients_listWithSameNameInDifferentCase_throwsDuplicateClientException() {
+        Client aliceInUpperCase = new ClientBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, BOB, aliceInUpperCase);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PROJECT_1_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROJECT_2_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
 import static seedu.address.testutil.TypicalDevelopers.BOB;
 
 import java.util.Arrays;
@@ -61,6 +62,22 @@ public class UniqueDeveloperListTest {
         assertThrows(DuplicateDeveloperException.class, () -> uniqueDeveloperList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsInOrder() {
+        uniqueDeveloperList.add(ALICE);
+        uniqueDeveloperList.addAll(Arrays.asList(BENSON, BOB));
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), uniqueDeveloperList.asUnmodifiableObservableList());
+        assertTrue(uniqueDeveloperList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniqueDeveloperList.add(ALICE);
+        assertThrows(DuplicateDeveloperException.class, () -> uniqueDeveloperList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicateDeveloperException.class, () -> uniqueDeveloperList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniqueDeveloperList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDeveloperList.setDeveloper(null, ALICE));
@@ -131,6 +148,28 @@ public class UniqueDeveloperListTest {
         assertEquals(expectedUniquePersonList, uniqueDeveloperList);
     }
 
+    @Test
+    public void remove_developerBeforeOthers_laterDevelopersStillFound() {
+        uniqueDeveloperList.add(ALICE);
+        uniqueDeveloperList.add(BENSON);
+        uniqueDeveloperList.add(BOB);
+        uniqueDeveloperList.remove(ALICE);
+
+        Developer editedBob = new DeveloperBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueDeveloperList.setDeveloper(BOB, editedBob);
+        uniqueDeveloperList.remove(BENSON);
+        UniqueDeveloperList expectedUniqueDeveloperList = new UniqueDeveloperList();
+        expectedUniqueDeveloperList.add(editedBob);
+        assertEquals(expectedUniqueDeveloperList, uniqueDeveloperList);
+    }
+
+    @Test
+    public void remove_developerWithSameIdentityButDifferentFields_throwsDeveloperNotFoundException() {
+        uniqueDeveloperList.add(ALICE);
+        Developer editedAlice = new DeveloperBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DeveloperNotFoundException.class, () -> uniqueDeveloperList.remove(editedAlice));
+    }
+
     @Test
     public void setDevelopers_nullUniqueDeveloperList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDeveloperList.setDevelopers((UniqueDeveloperList) null));
@@ -167,6 +206,15 @@ public class UniqueDeveloperListTest {
                 -> uniqueDeveloperList.setDevelopers(listWithDuplicateDevelopers));
     }
 
+    @Test
+    public void setDevelopers_listWithSameNameInDifferentCase_throwsDuplicateDeveloperException() {
+        Developer aliceInUpperCase = new DeveloperBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .build();
+        List<Developer> listWithDuplicateDevelopers = Arrays.asList(ALICE, BOB, aliceInUpperCase);
+        assertThrows(DuplicateDeveloperException.class, ()
+                -> uniqueDeveloperList.setDevelopers(listWithDuplicateDevelopers));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
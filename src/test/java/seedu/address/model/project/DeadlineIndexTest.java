@@ -0,0 +1,66 @@
+package seedu.address.model.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.commons.Date;
+import seedu.address.testutil.ProjectBuilder;
+
+public class DeadlineIndexTest {
+
+    private static final Project APP = new ProjectBuilder().withName("App").withDeadlinesString(Arrays.asList(
+            "10-01-2024,Launch,HIGH,0", "03-01-2024,Design,LOW,0", "05-01-2024,Review,HIGH,1")).build();
+    private static final Project SITE = new ProjectBuilder().withName("Site").withDeadlinesString(Arrays.asList(
+            "03-01-2024,Mockups,HIGH,0", "20-01-2024,Deploy,MEDIUM,0")).build();
+
+    private final ObservableList<Project> projects = FXCollections.observableArrayList(APP, SITE);
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex(projects);
+
+    @Test
+    public void find_allDeadlines_orderedByDayThenPriority() {
+        assertEquals(Arrays.asList("Mockups", "Design", "Review", "Launch", "Deploy"),
+                descriptionsOf(deadlineIndex.find(DeadlineQuery.ALL, Integer.MAX_VALUE)));
+        assertEquals(Arrays.asList("Mockups", "Design"), descriptionsOf(deadlineIndex.find(DeadlineQuery.ALL, 2)));
+    }
+
+    @Test
+    public void find_priorityStatusAndRange_onlyMatchingDeadlines() {
+        DeadlineQuery query = DeadlineQuery.withPriority(Priority.HIGH)
+                .and(DeadlineQuery.withStatus(false))
+                .and(DeadlineQuery.dueBy(new Date("10-01-2024", true)));
+        assertEquals(Arrays.asList("Mockups", "Launch"), descriptionsOf(deadlineIndex.find(query, Integer.MAX_VALUE)));
+        assertEquals(2, deadlineIndex.countMatches(query));
+
+        long firstDay = new Date("04-01-2024", true).toEpochDay();
+        assertEquals(Arrays.asList("Launch"),
+                descriptionsOf(deadlineIndex.find(query.dueBetween(firstDay, firstDay + 7), Integer.MAX_VALUE)));
+        assertEquals(Collections.emptyList(), deadlineIndex.find(query.dueBetween(firstDay, firstDay - 1), 5));
+    }
+
+    @Test
+    public void find_projectsChanged_followsList() {
+        Project editedSite = new ProjectBuilder(SITE).withDeadlinesString(
+                Collections.singletonList("04-01-2024,Mockups,HIGH,1")).build();
+        Deadline oldMockups = SITE.getProjectDeadlines().get(0);
+        projects.set(1, editedSite);
+        projects.remove(APP);
+
+        List<Deadline> found = deadlineIndex.find(DeadlineQuery.ALL, Integer.MAX_VALUE);
+        assertEquals(editedSite.getProjectDeadlines(), found);
+        assertEquals(editedSite, deadlineIndex.getProject(found.get(0)));
+        assertNull(deadlineIndex.getProject(oldMockups));
+    }
+
+    private static List<String> descriptionsOf(List<Deadline> deadlines) {
+        return deadlines.stream().map(deadline -> deadline.getDescription().toString()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProjects.PROJECT_A;
+import static seedu.address.testutil.TypicalProjects.PROJECT_B;
+import static seedu.address.testutil.TypicalProjects.PROJECT_C;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.project.exceptions.DuplicateProjectException;
+import seedu.address.model.project.exceptions.ProjectNotFoundException;
+import seedu.address.testutil.ProjectBuilder;
+
+public class UniqueProjectListTest {
+
+    private final UniqueProjectList uniqueProjectList = new UniqueProjectList();
+
+    @Test
+    public void contains_projectInList_returnsTrue() {
+        uniqueProjectList.add(PROJECT_A);
+        assertTrue(uniqueProjectList.contains(PROJECT_A));
+        assertTrue(uniqueProjectList.contains("Project A"));
+        assertFalse(uniqueProjectList.contains("project a"));
+        assertFalse(uniqueProjectList.contains(PROJECT_B));
+    }
+
+    @Test
+    public void add_duplicateProject_throwsDuplicateProjectException() {
+        uniqueProjectList.add(PROJECT_A);
+        assertThrows(DuplicateProjectException.class, () -> uniqueProjectList.add(PROJECT_A));
+    }
+
+    @Test
+    public void setProject_editedProjectHasNonUniqueIdentity_throwsDuplicateProjectException() {
+        uniqueProjectList.add(PROJECT_A);
+        uniqueProjectList.add(PROJECT_B);
+        assertThrows(DuplicateProjectException.class, () -> uniqueProjectList.setProject(PROJECT_A, PROJECT_B));
+    }
+
+    @Test
+    public void remove_projectBeforeOthers_laterProjectsStillFound() {
+        uniqueProjectList.add(PROJECT_A);
+        uniqueProjectList.add(PROJECT_B);
+        uniqueProjectList.add(PROJECT_C);
+        uniqueProjectList.remove(PROJECT_A);
+
+        Project editedProjectC = new ProjectBuilder(PROJECT_C).withDescription("Edited Project C").build();
+        uniqueProjectList.setProject(PROJECT_C, editedProjectC);
+        uniqueProjectList.remove(PROJECT_B);
+        UniqueProjectList expectedUniqueProjectList = new UniqueProjectList();
+        expectedUniqueProjectList.add(editedProjectC);
+        assertEquals(expectedUniqueProjectList, uniqueProjectList);
+        assertTrue(uniqueProjectList.contains("Project C"));
+    }
+
+    @Test
+    public void remove_projectWithSameIdentityButDifferentFields_throwsProjectNotFoundException() {
+        uniqueProjectList.add(PROJECT_A);
+        Project editedProjectA = new ProjectBuilder(PROJECT_A).withDescription("Edited Project A").build();
+        assertThrows(ProjectNotFoundException.class, () -> uniqueProjectList.remove(editedProjectA));
+    }
+
+    @Test
+    public void setProjects_list_replacesOwnListWithProvidedList() {
+        uniqueProjectList.add(PROJECT_A);
+        List<Project> projectList = Collections.singletonList(PROJECT_B);
+        uniqueProjectList.setProjects(projectList);
+        UniqueProjectList expectedUniqueProjectList = new UniqueProjectList();
+        expectedUniqueProjectList.add(PROJECT_B);
+        assertEquals(expectedUniqueProjectList, uniqueProjectList);
+    }
+
+    @Test
+    public void setProjects_listWithSameNameInDifferentCase_throwsDuplicateProjectException() {
+        Project projectAInUpperCase = new ProjectBuilder(PROJECT_A).withName("PROJECT A").build();
+        List<Project> listWithDuplicateProjects = Arrays.asList(PROJECT_A, PROJECT_B, projectAInUpperCase);
+        assertThrows(DuplicateProjectException.class, () -> uniqueProjectList.setProjects(listWithDuplicateProjects));
+    }
+}
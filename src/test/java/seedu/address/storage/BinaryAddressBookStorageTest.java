@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.HOON;
+import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBookWithProjects;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.TypicalClients;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.write(filePath, "{ \"developers\": [] }".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithProjects());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithProjects();
+        TypicalClients.getTypicalClients().forEach(original::addClient);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addDeveloper(HOON);
+        original.removeDeveloper(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBookWithProjects();
+        TypicalClients.getTypicalClients().forEach(original::addClient);
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalDevelopers.HOON;
+import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBookWithProjects;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.DeveloperBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalAddressBookStorage createStorage(Path filePath) {
+        return new JournalAddressBookStorage(new JsonAddressBookStorage(filePath), Integer.MAX_VALUE,
+                Duration.ofDays(1));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void save_afterFirstSave_appendsOnlyChangedRecords() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithProjects();
+
+        // First save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertEquals(0, storage.getJournalEntryCount());
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        // Unchanged data is not journalled
+        storage.saveAddressBook(original);
+        assertEquals(0, storage.getJournalEntryCount());
+
+        // One addition, one removal and one edit
+        original.addDeveloper(HOON);
+        original.removeDeveloper(ALICE);
+        original.setDeveloper(BENSON, new DeveloperBuilder(BENSON).withSalary("99999").build());
+        storage.saveAddressBook(original);
+        assertEquals(3, storage.getJournalEntryCount());
+
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBookChanges_changes_appendsOnlyChangedRecords() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithProjects();
+        storage.saveAddressBook(original);
+        AddressBookChangeLog changeLog = new AddressBookChangeLog(original);
+
+        // Changes that cancel out are not journalled
+        original.addDeveloper(HOON);
+        original.removeDeveloper(HOON);
+        storage.saveAddressBookChanges(original, changeLog.takeChanges().get());
+        assertEquals(0, storage.getJournalEntryCount());
+
+        // One addition, one removal and one edit
+        original.addDeveloper(HOON);
+        original.removeDeveloper(ALICE);
+        original.setDeveloper(BENSON, new DeveloperBuilder(BENSON).withSalary("99999").build());
+        storage.saveAddressBookChanges(original, changeLog.takeChanges().get());
+        assertEquals(3, storage.getJournalEntryCount());
+
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void compact_foldsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithProjects();
+        storage.saveAddressBook(original);
+        original.addDeveloper(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compact();
+        assertEquals(0, storage.getJournalEntryCount());
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        // The snapshot alone now holds the latest data
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_skipsRecord() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithProjects();
+        storage.saveAddressBook(original);
+        original.addDeveloper(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulate a crash in the middle of appending a record
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"put\",\"type\":\"devel".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = createStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+        assertEquals(1, reopened.getJournalEntryCount());
+    }
+
+    @Test
+    public void save_pastEntryThreshold_compactsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        List<Runnable> compactions = new ArrayList<>();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(new JsonAddressBookStorage(filePath), 1,
+                Duration.ofDays(1), compactions::add);
+        AddressBook original = getTypicalAddressBookWithProjects();
+        storage.saveAddressBook(original);
+        original.addDeveloper(HOON);
+        storage.saveAddressBook(original);
+
+        // The save only schedules the compaction
+        assertEquals(1, compactions.size());
+        assertEquals(1, storage.getJournalEntryCount());
+
+        compactions.get(0).run();
+        assertEquals(0, storage.getJournalEntryCount());
+        assertFalse(Files.exists(Paths.get(JournalAddressBookStorage.getJournalFilePath(filePath)
+                + JournalAddressBookStorage.COMPACTING_FILE_SUFFIX)));
+        assertTrue(new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get())
+                .hasDeveloper(HOON));
+    }
+}
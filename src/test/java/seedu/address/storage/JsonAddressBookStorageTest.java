@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalDevelopers.ALICE;
 import static seedu.address.testutil.TypicalDevelopers.HOON;
 import static seedu.address.testutil.TypicalDevelopers.IDA;
 import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBookWithProjects;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +62,11 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidDeveloperAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicateDeveloperAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicateDeveloperAddressBook.json"));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +93,17 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_incrementalWrite_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithProjects();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook dataFromFile =
+                JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
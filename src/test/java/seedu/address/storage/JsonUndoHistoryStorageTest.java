@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDevelopers.ALICE;
+import static seedu.address.testutil.TypicalDevelopers.BENSON;
+import static seedu.address.testutil.TypicalProjects.PROJECT_A;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.TabIndex;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookCommit;
+import seedu.address.testutil.TypicalClients;
+
+public class JsonUndoHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getHistoryFilePath_addressBookFilePath_appendsSuffix() {
+        assertEquals(testFolder.resolve("addressbook.json.history"),
+                JsonUndoHistoryStorage.getHistoryFilePath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void writeAndRead_allLists_success() throws Exception {
+        JsonUndoHistoryStorage storage = new JsonUndoHistoryStorage(testFolder.resolve("history"));
+        AddressBookCommit developerCommit = new AddressBookCommit("Edited developer", TabIndex.Developer,
+                Collections.singletonList(AddressBookChange.ofDevelopers(2, Collections.singletonList(ALICE),
+                        Collections.singletonList(BENSON))));
+        AddressBookCommit mixedCommit = new AddressBookCommit("Deleted project", TabIndex.Project, Arrays.asList(
+                AddressBookChange.ofProjects(0, Collections.singletonList(PROJECT_A), Collections.emptyList()),
+                AddressBookChange.ofClients(1, Collections.emptyList(),
+                        Collections.singletonList(TypicalClients.ALICE))));
+
+        long developerPosition = storage.write(developerCommit);
+        long mixedPosition = storage.write(mixedCommit);
+
+        assertEquals(mixedCommit, storage.read(mixedPosition));
+        assertEquals(developerCommit, storage.read(developerPosition));
+    }
+
+    @Test
+    public void read_invalidPosition_throwsDataLoadingException() throws Exception {
+        JsonUndoHistoryStorage storage = new JsonUndoHistoryStorage(testFolder.resolve("history"));
+        assertThrows(DataLoadingException.class, () -> storage.read(0));
+
+        storage.write(new AddressBookCommit("Nothing", TabIndex.Client, Collections.emptyList()));
+        assertThrows(DataLoadingException.class, () -> storage.read(1000));
+    }
+
+    @Test
+    public void write_afterFree_reusesFreedSpace() throws Exception {
+        Path filePath = testFolder.resolve("history");
+        JsonUndoHistoryStorage storage = new JsonUndoHistoryStorage(filePath);
+        AddressBookCommit commit = new AddressBookCommit("Deleted developer", TabIndex.Developer,
+                Collections.singletonList(AddressBookChange.ofDevelopers(0, Collections.singletonList(ALICE),
+                        Collections.emptyList())));
+        AddressBookCommit smallCommit = new AddressBookCommit("Nothing", TabIndex.Client, Collections.emptyList());
+        long firstPosition = storage.write(commit);
+        long secondPosition = storage.write(commit);
+        long fileSize = Files.size(filePath);
+
+        storage.free(firstPosition);
+        assertThrows(DataLoadingException.class, () -> storage.read(firstPosition));
+        assertEquals(firstPosition, storage.write(smallCommit));
+        // The rest of the freed record is still free, so a second small commit also fits in it
+        long smallPosition = storage.write(smallCommit);
+        assertTrue(smallPosition < secondPosition);
+
+        assertEquals(smallCommit, storage.read(smallPosition));
+        assertEquals(commit, storage.read(secondPosition));
+        assertEquals(fileSize, Files.size(filePath));
+    }
+
+    @Test
+    public void free_recordsAtEnd_shrinksFile() throws Exception {
+        Path filePath = testFolder.resolve("history");
+        JsonUndoHistoryStorage storage = new JsonUndoHistoryStorage(filePath);
+        AddressBookCommit commit = new AddressBookCommit("Nothing", TabIndex.Client, Collections.emptyList());
+        long firstPosition = storage.write(commit);
+        long secondPosition = storage.write(commit);
+        long thirdPosition = storage.write(commit);
+
+        storage.free(secondPosition);
+        assertEquals(thirdPosition + thirdPosition - secondPosition, Files.size(filePath));
+        // Freeing the last record also frees the gap before it
+        storage.free(thirdPosition);
+        assertEquals(secondPosition, Files.size(filePath));
+        storage.free(firstPosition);
+        assertEquals(0, Files.size(filePath));
+        assertEquals(0, storage.write(commit));
+    }
+
+    @Test
+    public void close_stepsWritten_deletesFile() throws Exception {
+        Path filePath = testFolder.resolve("history");
+        JsonUndoHistoryStorage storage = new JsonUndoHistoryStorage(filePath);
+        AddressBookCommit commit = new AddressBookCommit("Nothing", TabIndex.Client, Collections.emptyList());
+        long position = storage.write(commit);
+        assertTrue(Files.exists(filePath));
+
+        storage.close();
+        assertFalse(Files.exists(filePath));
+        assertThrows(DataLoadingException.class, () -> storage.read(position));
+        // Closing again, or before anything is written, does nothing
+        storage.close();
+    }
+}
@@ -2,15 +2,27 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDevelopers.HOON;
+import static seedu.address.testutil.TypicalDevelopers.IDA;
 import static seedu.address.testutil.TypicalDevelopers.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 public class StorageManagerTest {
@@ -59,6 +71,105 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind_savesLatestData() throws Exception {
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook();
+        for (int i = 0; i < 20; i++) {
+            writeBehindStorage.saveAddressBook(original);
+        }
+        // Changes made after saving must not leak into the pending write
+        AddressBook saved = new AddressBook(original);
+        original.addDeveloper(HOON);
+
+        writeBehindStorage.flushAddressBook();
+        assertEquals(saved, new AddressBook(writeBehindStorage.readAddressBook().get()));
+        assertTrue(writeCount.get() >= 1 && writeCount.get() <= 20);
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFailure_reportedToHandler() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        writeBehindStorage.setSaveFailureHandler(reported::set);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, writeBehindStorage::flushAddressBook);
+        assertSame(failure, reported.get());
+    }
+
+    @Test
+    public void saveAddressBook_sameAddressBookAgain_savesOnlyChanges() throws Exception {
+        AtomicInteger changeSaveCount = new AtomicInteger();
+        AtomicBoolean isFailing = new AtomicBoolean(false);
+        JournalAddressBookStorage addressBookStorage = new JournalAddressBookStorage(
+                new JsonAddressBookStorage(getTempFilePath("ab"))) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook,
+                                               List<AddressBookChange<?>> changes) throws IOException {
+                changeSaveCount.incrementAndGet();
+                if (isFailing.get()) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBookChanges(addressBook, changes);
+            }
+        };
+        StorageManager journalStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        assertEquals(0, changeSaveCount.get());
+
+        original.addDeveloper(HOON);
+        journalStorage.saveAddressBook(original);
+        assertEquals(1, changeSaveCount.get());
+        assertEquals(1, addressBookStorage.getJournalEntryCount());
+
+        // The changes of a failed save are found by comparing the whole address book on the next save
+        isFailing.set(true);
+        original.removeDeveloper(HOON);
+        assertThrows(IOException.class, () -> journalStorage.saveAddressBook(original));
+        isFailing.set(false);
+        original.addDeveloper(IDA);
+        journalStorage.saveAddressBook(original);
+        assertEquals(2, changeSaveCount.get());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(
+                new JsonAddressBookStorage(getTempFilePath("ab"))).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertAddressBook_pendingWrite_writesPendingDataFirst() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+
+        Path convertedFilePath = getTempFilePath("ab.bin");
+        writeBehindStorage.convertAddressBook(original, StorageFormat.BINARY, convertedFilePath);
+        assertEquals(original, new AddressBook(
+                new JsonAddressBookStorage(getTempFilePath("ab")).readAddressBook().get()));
+        assertEquals(original, new AddressBook(
+                new BinaryAddressBookStorage(convertedFilePath).readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());